@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.access;
+
+import java.io.Serializable;
+import static org.opentcs.util.Assertions.checkArgument;
+
+/**
+ * Instances of this class are emitted to a client in place of events that had to be discarded
+ * because the client did not fetch its events in time.
+ * <p>
+ * As the client has missed an unknown number of changes, it cannot rely on its current state of
+ * the kernel's data any more and is expected to retrieve the data it is interested in again.
+ * </p>
+ *
+ * @author agent
+ */
+public class EventBufferOverflowEvent
+    implements Serializable {
+
+  /**
+   * The number of events that were discarded.
+   */
+  private final int discardedEventCount;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param discardedEventCount The number of events that were discarded.
+   */
+  public EventBufferOverflowEvent(int discardedEventCount) {
+    checkArgument(discardedEventCount >= 0,
+                  "discardedEventCount < 0: %s",
+                  discardedEventCount);
+    this.discardedEventCount = discardedEventCount;
+  }
+
+  /**
+   * Returns the number of events that were discarded.
+   *
+   * @return The number of events that were discarded.
+   */
+  public int getDiscardedEventCount() {
+    return discardedEventCount;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName()
+        + '{'
+        + "discardedEventCount=" + discardedEventCount
+        + '}';
+  }
+}
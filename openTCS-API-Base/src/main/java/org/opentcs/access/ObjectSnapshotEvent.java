@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.access;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import org.opentcs.data.TCSObject;
+
+/**
+ * Instances of this class are emitted to a client that requested a snapshot of the kernel's
+ * objects of some classes.
+ * <p>
+ * The snapshot is emitted in the client's stream of events at the point at which it was taken,
+ * i.e. it reflects all object events emitted before it and none of the object events emitted after
+ * it.
+ * This allows a client to keep a replica of these objects by applying all object events it
+ * receives after the snapshot.
+ * </p>
+ *
+ * @author agent
+ */
+public class ObjectSnapshotEvent
+    implements Serializable {
+
+  /**
+   * The sequence number the client requested the snapshot with.
+   */
+  private final long sequenceNumber;
+  /**
+   * The classes of the objects in the snapshot.
+   */
+  private final Set<Class<? extends TCSObject<?>>> objectClasses;
+  /**
+   * The objects in the snapshot.
+   */
+  private final List<TCSObject<?>> objects;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param sequenceNumber The sequence number the client requested the snapshot with.
+   * @param objectClasses The classes of the objects in the snapshot.
+   * @param objects The objects in the snapshot, i.e. all existing objects of the given classes.
+   */
+  public ObjectSnapshotEvent(long sequenceNumber,
+                             @Nonnull Set<Class<? extends TCSObject<?>>> objectClasses,
+                             @Nonnull Collection<TCSObject<?>> objects) {
+    this.sequenceNumber = sequenceNumber;
+    this.objectClasses = new HashSet<>(requireNonNull(objectClasses, "objectClasses"));
+    this.objects = new ArrayList<>(requireNonNull(objects, "objects"));
+  }
+
+  /**
+   * Returns the sequence number the client requested the snapshot with.
+   *
+   * @return The sequence number the client requested the snapshot with.
+   */
+  public long getSequenceNumber() {
+    return sequenceNumber;
+  }
+
+  /**
+   * Returns the classes of the objects in the snapshot.
+   *
+   * @return The classes of the objects in the snapshot.
+   */
+  @Nonnull
+  public Set<Class<? extends TCSObject<?>>> getObjectClasses() {
+    return Collections.unmodifiableSet(objectClasses);
+  }
+
+  /**
+   * Returns the objects in the snapshot.
+   *
+   * @return The objects in the snapshot.
+   */
+  @Nonnull
+  public List<TCSObject<?>> getObjects() {
+    return Collections.unmodifiableList(objects);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName()
+        + '{'
+        + "sequenceNumber=" + sequenceNumber
+        + ", objectClasses=" + objectClasses
+        + ", objectCount=" + objects.size()
+        + '}';
+  }
+}
@@ -7,7 +7,9 @@
  */
 package org.opentcs.access.rmi;
 
+import java.util.HashSet;
 import static java.util.Objects.requireNonNull;
+import java.util.Set;
 import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import org.opentcs.access.CredentialsException;
@@ -16,6 +18,7 @@ import org.opentcs.access.rmi.factories.NullSocketFactoryProvider;
 import org.opentcs.access.rmi.factories.SocketFactoryProvider;
 import org.opentcs.access.rmi.services.RemoteKernelServicePortalProxy;
 import org.opentcs.components.kernel.services.ServiceUnavailableException;
+import org.opentcs.data.TCSObject;
 import org.opentcs.util.ClassMatcher;
 
 /**
@@ -41,6 +44,10 @@ public class KernelServicePortalBuilder {
    * The event filter to be applied for the built portal.
    */
   private Predicate<Object> eventFilter = new ClassMatcher(Object.class);
+  /**
+   * The classes of the kernel's objects to be replicated on the client side.
+   */
+  private Set<Class<? extends TCSObject<?>>> replicatedObjectClasses = new HashSet<>();
 
   /**
    * Creates a new instance.
@@ -112,6 +119,35 @@ public class KernelServicePortalBuilder {
     return this;
   }
 
+  /**
+   * Returns the classes of the kernel's objects to be replicated on the client side.
+   *
+   * @return The classes of the kernel's objects to be replicated on the client side.
+   */
+  public Set<Class<? extends TCSObject<?>>> getReplicatedObjectClasses() {
+    return replicatedObjectClasses;
+  }
+
+  /**
+   * Sets the classes of the kernel's objects to be replicated on the client side.
+   * <p>
+   * Queries for objects of these classes are answered from the replica instead of being delegated
+   * to the kernel.
+   * The replica is kept up to date with the events fetched from the portal, so the client is
+   * expected to fetch events continuously.
+   * By default, no objects are replicated.
+   * </p>
+   *
+   * @param replicatedObjectClasses The classes of the objects to be replicated.
+   * @return This instance.
+   */
+  public KernelServicePortalBuilder setReplicatedObjectClasses(
+      @Nonnull Set<Class<? extends TCSObject<?>>> replicatedObjectClasses) {
+    this.replicatedObjectClasses = requireNonNull(replicatedObjectClasses,
+                                                  "replicatedObjectClasses");
+    return this;
+  }
+
   /**
    * Builds and returns a {@link KernelServicePortal} with the configured parameters.
    *
@@ -126,7 +162,8 @@ public class KernelServicePortalBuilder {
         userName,
         password,
         socketFactoryProvider,
-        eventFilter);
+        eventFilter,
+        replicatedObjectClasses);
     return portal;
   }
 }
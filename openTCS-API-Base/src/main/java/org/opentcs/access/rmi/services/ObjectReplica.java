@@ -0,0 +1,279 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.access.rmi.services;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import java.util.function.Predicate;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opentcs.access.EventBufferOverflowEvent;
+import org.opentcs.access.ObjectSnapshotEvent;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A client-side replica of the kernel's objects of some classes.
+ * <p>
+ * The replica is seeded with an {@link ObjectSnapshotEvent} and kept up to date by applying the
+ * object events fetched after it.
+ * Only the snapshot with the sequence number of the latest request is accepted, so snapshots that
+ * were requested before are ignored.
+ * If events were discarded for the client or an event does not match the replica's content, the
+ * replica is out of sync and a new snapshot needs to be requested.
+ * Until a snapshot has been applied, the replica cannot be used to answer queries.
+ * </p>
+ *
+ * @author agent
+ */
+class ObjectReplica {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(ObjectReplica.class);
+  /**
+   * The classes of the replicated objects.
+   */
+  private final Set<Class<? extends TCSObject<?>>> objectClasses;
+  /**
+   * The replicated objects, mapped by their classes and names.
+   */
+  private final Map<Class<?>, Map<String, TCSObject<?>>> objects = new HashMap<>();
+  /**
+   * This replica's state.
+   */
+  private State state = State.OUT_OF_SYNC;
+  /**
+   * The sequence number of the latest requested snapshot.
+   */
+  private long sequenceNumber;
+  /**
+   * The number of times the replica went out of sync after a snapshot had been applied.
+   */
+  private long resyncCount;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param objectClasses The classes of the objects to be replicated.
+   */
+  ObjectReplica(@Nonnull Set<Class<? extends TCSObject<?>>> objectClasses) {
+    this.objectClasses = new HashSet<>(requireNonNull(objectClasses, "objectClasses"));
+  }
+
+  /**
+   * Returns the classes of the replicated objects.
+   *
+   * @return The classes of the replicated objects.
+   */
+  @Nonnull
+  public Set<Class<? extends TCSObject<?>>> getObjectClasses() {
+    return Collections.unmodifiableSet(objectClasses);
+  }
+
+  /**
+   * Checks whether this replica currently has the objects of the given class.
+   *
+   * @param clazz The class of the objects.
+   * @return {@code true} if, and only if, objects of the given class are replicated and the replica
+   * is in sync.
+   */
+  public synchronized boolean isAvailableFor(@Nonnull Class<?> clazz) {
+    return state == State.IN_SYNC && objectClasses.contains(clazz);
+  }
+
+  /**
+   * Checks whether a new snapshot needs to be requested for this replica.
+   *
+   * @return {@code true} if, and only if, the replica is out of sync and no snapshot has been
+   * requested for it, yet.
+   */
+  public synchronized boolean isSnapshotRequired() {
+    return state == State.OUT_OF_SYNC;
+  }
+
+  /**
+   * Discards the replicated objects and returns the sequence number for a new snapshot to be
+   * requested.
+   * Only a snapshot with the returned sequence number will be accepted afterwards.
+   *
+   * @return The sequence number for the new snapshot.
+   */
+  public synchronized long requestSnapshot() {
+    objects.clear();
+    state = State.AWAITING_SNAPSHOT;
+    return ++sequenceNumber;
+  }
+
+  /**
+   * Discards the replicated objects and marks this replica as out of sync.
+   */
+  public synchronized void invalidate() {
+    objects.clear();
+    state = State.OUT_OF_SYNC;
+  }
+
+  /**
+   * Applies the given fetched event to this replica.
+   *
+   * @param event The event.
+   * @return {@code false} if, and only if, the event revealed that this replica is out of sync.
+   */
+  public synchronized boolean apply(@Nonnull Object event) {
+    requireNonNull(event, "event");
+
+    if (event instanceof ObjectSnapshotEvent) {
+      applySnapshot((ObjectSnapshotEvent) event);
+    }
+    else if (event instanceof EventBufferOverflowEvent) {
+      // The discarded events may include events for replicated objects or the requested snapshot.
+      outOfSync(event);
+      return false;
+    }
+    else if (event instanceof TCSObjectEvent && state == State.IN_SYNC) {
+      if (!applyObjectEvent((TCSObjectEvent) event)) {
+        outOfSync(event);
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the replicated object of the given class with the given name.
+   *
+   * @param <T> The object's type.
+   * @param clazz The class of the object.
+   * @param name The name of the object.
+   * @return The object, or {@code null}, if there is no such object in this replica.
+   */
+  @Nullable
+  public synchronized <T extends TCSObject<T>> T getObject(@Nonnull Class<T> clazz,
+                                                           @Nonnull String name) {
+    requireNonNull(clazz, "clazz");
+    requireNonNull(name, "name");
+
+    Map<String, TCSObject<?>> objectsByName = objects.get(clazz);
+    return objectsByName == null ? null : clazz.cast(objectsByName.get(name));
+  }
+
+  /**
+   * Returns the replicated objects of the given class satisfying the given predicate.
+   *
+   * @param <T> The objects' type.
+   * @param clazz The class of the objects.
+   * @param predicate The predicate the objects must satisfy.
+   * @return The objects.
+   */
+  @Nonnull
+  public synchronized <T extends TCSObject<T>> Set<T> getObjects(
+      @Nonnull Class<T> clazz,
+      @Nonnull Predicate<? super T> predicate) {
+    requireNonNull(clazz, "clazz");
+    requireNonNull(predicate, "predicate");
+
+    Set<T> result = new HashSet<>();
+    Map<String, TCSObject<?>> objectsByName = objects.get(clazz);
+    if (objectsByName != null) {
+      for (TCSObject<?> object : objectsByName.values()) {
+        T typedObject = clazz.cast(object);
+        if (predicate.test(typedObject)) {
+          result.add(typedObject);
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the number of times this replica went out of sync after a snapshot had been
+   * applied.
+   *
+   * @return The number of times this replica went out of sync.
+   */
+  public synchronized long getResyncCount() {
+    return resyncCount;
+  }
+
+  private void applySnapshot(ObjectSnapshotEvent snapshot) {
+    if (state != State.AWAITING_SNAPSHOT || snapshot.getSequenceNumber() != sequenceNumber) {
+      LOG.debug("Ignoring outdated snapshot: {}", snapshot);
+      return;
+    }
+
+    objects.clear();
+    for (Class<?> clazz : objectClasses) {
+      objects.put(clazz, new HashMap<>());
+    }
+    for (TCSObject<?> object : snapshot.getObjects()) {
+      Map<String, TCSObject<?>> objectsByName = objects.get(object.getClass());
+      if (objectsByName != null) {
+        objectsByName.put(object.getName(), object);
+      }
+    }
+    state = State.IN_SYNC;
+    LOG.debug("Applied snapshot: {}", snapshot);
+  }
+
+  private boolean applyObjectEvent(TCSObjectEvent event) {
+    TCSObject<?> object = event.getCurrentOrPreviousObjectState();
+    Map<String, TCSObject<?>> objectsByName = objects.get(object.getClass());
+    if (objectsByName == null) {
+      return true;
+    }
+
+    switch (event.getType()) {
+      case OBJECT_CREATED:
+        objectsByName.put(object.getName(), object);
+        return true;
+      case OBJECT_MODIFIED:
+        // A modified object we do not know about means we missed its creation.
+        return objectsByName.put(object.getName(), object) != null;
+      case OBJECT_REMOVED:
+        objectsByName.remove(object.getName());
+        return true;
+      default:
+        return true;
+    }
+  }
+
+  private void outOfSync(Object event) {
+    if (state == State.IN_SYNC) {
+      resyncCount++;
+    }
+    LOG.info("Object replica out of sync after {}, resyncs so far: {}",
+             event.getClass().getSimpleName(),
+             resyncCount);
+    invalidate();
+  }
+
+  /**
+   * The states of a replica.
+   */
+  private enum State {
+    /**
+     * The replica is out of sync and a snapshot needs to be requested.
+     */
+    OUT_OF_SYNC,
+    /**
+     * A snapshot has been requested and the replica is waiting for it.
+     */
+    AWAITING_SNAPSHOT,
+    /**
+     * The replica is in sync with the kernel.
+     */
+    IN_SYNC;
+  }
+}
@@ -10,11 +10,14 @@ package org.opentcs.access.rmi.services;
 import java.rmi.Remote;
 import java.rmi.RemoteException;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import org.opentcs.access.CredentialsException;
 import org.opentcs.access.Kernel;
 import org.opentcs.access.KernelServicePortal;
+import org.opentcs.access.ObjectSnapshotEvent;
 import org.opentcs.access.rmi.ClientID;
+import org.opentcs.data.TCSObject;
 
 /**
  * Declares the methods provided by the {@link KernelServicePortal} via RMI.
@@ -48,4 +51,23 @@ public interface RemoteKernelServicePortal
 
   void publishEvent(ClientID clientId, Object event)
       throws RemoteException;
+
+  /**
+   * Requests a snapshot of all objects of the given classes.
+   * <p>
+   * The snapshot is delivered to the client as an {@link ObjectSnapshotEvent} with its next
+   * fetched events.
+   * From then on, the client receives all object events for objects of the given classes,
+   * regardless of its event filter.
+   * </p>
+   *
+   * @param clientId The client requesting the snapshot.
+   * @param sequenceNumber The sequence number to be included in the snapshot.
+   * @param objectClasses The classes of the objects to be included in the snapshot.
+   * @throws RemoteException If there was an RMI-related problem.
+   */
+  void requestObjectSnapshot(ClientID clientId,
+                             long sequenceNumber,
+                             Set<Class<? extends TCSObject<?>>> objectClasses)
+      throws RemoteException;
 }
@@ -11,14 +11,18 @@ import java.rmi.NotBoundException;
 import java.rmi.RemoteException;
 import java.rmi.registry.LocateRegistry;
 import java.rmi.registry.Registry;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import static java.util.Objects.requireNonNull;
+import java.util.Set;
 import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import org.opentcs.access.CredentialsException;
 import org.opentcs.access.Kernel;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.KernelServicePortal;
+import org.opentcs.access.ObjectSnapshotEvent;
 import org.opentcs.access.rmi.factories.SocketFactoryProvider;
 import static org.opentcs.access.rmi.services.RegistrationName.REMOTE_DISPATCHER_SERVICE;
 import static org.opentcs.access.rmi.services.RegistrationName.REMOTE_KERNEL_CLIENT_PORTAL;
@@ -44,11 +48,23 @@ import org.opentcs.components.kernel.services.SchedulerService;
 import org.opentcs.components.kernel.services.ServiceUnavailableException;
 import org.opentcs.components.kernel.services.TransportOrderService;
 import org.opentcs.components.kernel.services.VehicleService;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * The default implementation for the {@link KernelServicePortal}.
+ * <p>
+ * Optionally, the kernel's objects of some classes are replicated on the client side:
+ * Upon login, a snapshot of these objects is requested from the kernel, which is then delivered
+ * with the fetched events and kept up to date by applying the object events fetched after it.
+ * While the replica is in sync, the services answer queries for these objects from it instead of
+ * delegating them to the kernel.
+ * If the replica goes out of sync (e.g. because events were discarded for the client), a new
+ * snapshot is requested.
+ * Note that this requires the client to continuously fetch events.
+ * </p>
  *
  * @author Martin Grzenia (Fraunhofer IML)
  */
@@ -77,6 +93,10 @@ public class RemoteKernelServicePortalProxy
    * The event filter to be applied to events on the server side (before polling).
    */
   private final Predicate<Object> eventFilter;
+  /**
+   * The replica of the kernel's objects, or {@code null}, if objects are not replicated.
+   */
+  private final ObjectReplica objectReplica;
   /**
    * The plant model service.
    */
@@ -141,10 +161,39 @@ public class RemoteKernelServicePortalProxy
       @Nonnull String password,
       @Nonnull SocketFactoryProvider socketFactoryProvider,
       @Nonnull Predicate<Object> eventFilter) {
+    this(userName, password, socketFactoryProvider, eventFilter, new HashSet<>());
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param userName The user name used with the remote portal.
+   * @param password The password used with the remote portal.
+   * @param socketFactoryProvider Provides socket factories used for RMI.
+   * @param eventFilter The event filter to be applied to events on the server side.
+   * @param replicatedObjectClasses The classes of the kernel's objects to be replicated on the
+   * client side. If empty, no objects are replicated.
+   */
+  public RemoteKernelServicePortalProxy(
+      @Nonnull String userName,
+      @Nonnull String password,
+      @Nonnull SocketFactoryProvider socketFactoryProvider,
+      @Nonnull Predicate<Object> eventFilter,
+      @Nonnull Set<Class<? extends TCSObject<?>>> replicatedObjectClasses) {
     this.userName = requireNonNull(userName, "userName");
     this.password = requireNonNull(password, "password");
     this.socketFactoryProvider = requireNonNull(socketFactoryProvider, "socketFactoryProvider");
     this.eventFilter = requireNonNull(eventFilter, "eventFilter");
+    requireNonNull(replicatedObjectClasses, "replicatedObjectClasses");
+    this.objectReplica = replicatedObjectClasses.isEmpty()
+        ? null
+        : new ObjectReplica(replicatedObjectClasses);
+
+    plantModelService.setObjectReplica(objectReplica);
+    transportOrderService.setObjectReplica(objectReplica);
+    vehicleService.setObjectReplica(objectReplica);
+    peripheralService.setObjectReplica(objectReplica);
+    peripheralJobService.setObjectReplica(objectReplica);
   }
 
   @Override
@@ -181,6 +230,10 @@ public class RemoteKernelServicePortalProxy
 
       // Look up the remote services with the RMI registry and update the other service logins.
       updateServiceLogins(registry);
+
+      if (objectReplica != null) {
+        requestObjectSnapshot();
+      }
     }
     catch (RemoteException | NotBoundException exc) {
       resetServiceLogins();
@@ -224,12 +277,35 @@ public class RemoteKernelServicePortalProxy
       throws KernelRuntimeException {
     checkServiceAvailability();
 
+    List<Object> events;
     try {
-      return getRemoteService().fetchEvents(getClientId(), timeout);
+      events = getRemoteService().fetchEvents(getClientId(), timeout);
     }
     catch (RemoteException ex) {
       throw findSuitableExceptionFor(ex);
     }
+
+    if (objectReplica == null) {
+      return events;
+    }
+
+    List<Object> result = new ArrayList<>(events.size());
+    for (Object event : events) {
+      objectReplica.apply(event);
+      if (event instanceof ObjectSnapshotEvent) {
+        continue;
+      }
+      // With objects being replicated, the kernel delivers object events for them regardless of
+      // the event filter, so apply it here.
+      if (event instanceof TCSObjectEvent && !eventFilter.test(event)) {
+        continue;
+      }
+      result.add(event);
+    }
+    if (objectReplica.isSnapshotRequired()) {
+      requestObjectSnapshot();
+    }
+    return result;
   }
 
   @Override
@@ -311,6 +387,19 @@ public class RemoteKernelServicePortalProxy
     return peripheralDispatcherService;
   }
 
+  private void requestObjectSnapshot()
+      throws KernelRuntimeException {
+    try {
+      getRemoteService().requestObjectSnapshot(getClientId(),
+                                               objectReplica.requestSnapshot(),
+                                               objectReplica.getObjectClasses());
+    }
+    catch (RemoteException ex) {
+      objectReplica.invalidate();
+      throw findSuitableExceptionFor(ex);
+    }
+  }
+
   private void updateServiceLogins(Registry registry)
       throws RemoteException, NotBoundException {
     plantModelService
@@ -370,6 +459,9 @@ public class RemoteKernelServicePortalProxy
   }
 
   private void resetServiceLogins() {
+    if (objectReplica != null) {
+      objectReplica.invalidate();
+    }
     this.setClientId(null).setRemoteService(null).setServiceListener(null);
     plantModelService.setClientId(null).setRemoteService(null).setServiceListener(null);
     transportOrderService.setClientId(null).setRemoteService(null).setServiceListener(null);
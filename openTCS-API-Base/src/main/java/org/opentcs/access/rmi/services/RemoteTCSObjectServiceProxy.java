@@ -10,6 +10,7 @@ package org.opentcs.access.rmi.services;
 import java.rmi.RemoteException;
 import java.util.Set;
 import java.util.function.Predicate;
+import javax.annotation.Nullable;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.ObjectHistory;
@@ -20,6 +21,12 @@ import org.opentcs.data.TCSObjectReference;
 /**
  * The default implementation of the tcs object service.
  * Delegates method invocations to the corresponding remote service.
+ * <p>
+ * If an object replica is set and currently in sync, queries for replicated objects are answered
+ * from it instead.
+ * As the replica only learns about changes with the client's fetched events, queries for single
+ * objects not found in it are still delegated to the remote service.
+ * </p>
  *
  * @author Martin Grzenia (Fraunhofer IML)
  * @param <R> The remote service's type.
@@ -28,11 +35,35 @@ abstract class RemoteTCSObjectServiceProxy<R extends RemoteTCSObjectService>
     extends AbstractRemoteServiceProxy<R>
     implements TCSObjectService {
 
+  /**
+   * The replica of the kernel's objects to answer queries from, or {@code null}.
+   */
+  private ObjectReplica objectReplica;
+
+  /**
+   * Sets the replica of the kernel's objects to answer queries from.
+   *
+   * @param objectReplica The replica, or {@code null}, if all queries are to be delegated to the
+   * remote service.
+   * @return This remote service proxy.
+   */
+  RemoteTCSObjectServiceProxy<R> setObjectReplica(@Nullable ObjectReplica objectReplica) {
+    this.objectReplica = objectReplica;
+    return this;
+  }
+
   @Override
   public <T extends TCSObject<T>> T fetchObject(Class<T> clazz, TCSObjectReference<T> ref)
       throws KernelRuntimeException {
     checkServiceAvailability();
 
+    if (isReplicated(clazz)) {
+      T object = objectReplica.getObject(clazz, ref.getName());
+      if (object != null) {
+        return object;
+      }
+    }
+
     try {
       return getRemoteService().fetchObject(getClientId(), clazz, ref);
     }
@@ -46,6 +77,13 @@ abstract class RemoteTCSObjectServiceProxy<R extends RemoteTCSObjectService>
       throws KernelRuntimeException {
     checkServiceAvailability();
 
+    if (isReplicated(clazz)) {
+      T object = objectReplica.getObject(clazz, name);
+      if (object != null) {
+        return object;
+      }
+    }
+
     try {
       return getRemoteService().fetchObject(getClientId(), clazz, name);
     }
@@ -59,6 +97,10 @@ abstract class RemoteTCSObjectServiceProxy<R extends RemoteTCSObjectService>
       throws KernelRuntimeException {
     checkServiceAvailability();
 
+    if (isReplicated(clazz)) {
+      return objectReplica.getObjects(clazz, object -> true);
+    }
+
     try {
       return getRemoteService().fetchObjects(getClientId(), clazz);
     }
@@ -73,6 +115,10 @@ abstract class RemoteTCSObjectServiceProxy<R extends RemoteTCSObjectService>
       throws KernelRuntimeException {
     checkServiceAvailability();
 
+    if (isReplicated(clazz)) {
+      return objectReplica.getObjects(clazz, predicate);
+    }
+
     try {
       return getRemoteService().fetchObjects(getClientId(), clazz, predicate);
     }
@@ -107,4 +153,7 @@ abstract class RemoteTCSObjectServiceProxy<R extends RemoteTCSObjectService>
     }
   }
 
+  private boolean isReplicated(Class<?> clazz) {
+    return objectReplica != null && objectReplica.isAvailableFor(clazz);
+  }
 }
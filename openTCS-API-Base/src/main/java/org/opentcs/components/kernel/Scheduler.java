@@ -320,6 +320,13 @@ public interface Scheduler
     /**
      * Checks if the resulting system state is safe if the given set of resources
      * would be allocated by the given resource user.
+     * <p>
+     * Note that allocations refused by a module are not necessarily retried whenever any resources
+     * are released, but possibly only when the requested resources (or resources sharing a block
+     * with them) are released.
+     * A module refusing allocations for other reasons should call {@link Scheduler#reschedule()}
+     * as soon as these reasons no longer apply.
+     * </p>
      *
      * @param client The <code>ResourceUser</code> requesting resources set.
      * @param resources The requested resources.
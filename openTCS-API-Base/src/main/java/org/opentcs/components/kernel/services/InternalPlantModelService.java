@@ -12,6 +12,7 @@ import javax.annotation.Nullable;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Block;
 import org.opentcs.data.model.Location;
 import org.opentcs.data.model.TCSResource;
 import org.opentcs.data.model.TCSResourceReference;
@@ -38,6 +39,19 @@ public interface InternalPlantModelService
   Set<TCSResource<?>> expandResources(Set<TCSResourceReference<?>> resources)
       throws ObjectUnknownException;
 
+  /**
+   * Returns the blocks containing any of the given resources.
+   *
+   * @param resources The resources.
+   * @return The blocks containing any of the given resources.
+   */
+  @ScheduledApiChange(details = "Default implementation will be removed.", when = "6.0")
+  default Set<Block> fetchBlocksContaining(Set<TCSResourceReference<?>> resources) {
+    return fetchObjects(Block.class,
+                        block -> resources.stream()
+                            .anyMatch(resource -> block.getMembers().contains(resource)));
+  }
+
   /**
    * Loads the saved model into the kernel.
    * If there is no saved model, a new empty model will be loaded.
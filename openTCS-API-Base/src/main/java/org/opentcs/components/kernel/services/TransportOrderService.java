@@ -7,6 +7,8 @@
  */
 package org.opentcs.components.kernel.services;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
@@ -15,6 +17,7 @@ import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.annotations.ScheduledApiChange;
 
 /**
  * Provides methods concerning {@link TransportOrder}s and {@link OrderSequence}s.
@@ -55,6 +58,34 @@ public interface TransportOrderService
   TransportOrder createTransportOrder(TransportOrderCreationTO to)
       throws ObjectUnknownException, ObjectExistsException, KernelRuntimeException;
 
+  /**
+   * Creates new transport orders.
+   * Each transport order is created as described for {@link #createTransportOrder}.
+   * All transport orders are validated before any of them is created, i.e. if creating any of
+   * them would fail, none of them is created.
+   * Transport orders may depend on transport orders preceding them in the given list.
+   * <p>
+   * Note that the default implementation creates the transport orders one by one and does not
+   * guarantee that none of them is created in case of a failure.
+   * </p>
+   *
+   * @param tos Describe the transport orders to be created.
+   * @return Copies of the newly created transport orders, in the order of the given TOs.
+   * @throws ObjectUnknownException If any referenced object does not exist.
+   * @throws ObjectExistsException If an object with the same name as any of the transport orders
+   * already exists in the model or if multiple TOs have the same name.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  @ScheduledApiChange(when = "6.0", details = "Default implementation will be removed.")
+  default List<TransportOrder> createTransportOrders(List<TransportOrderCreationTO> tos)
+      throws ObjectUnknownException, ObjectExistsException, KernelRuntimeException {
+    List<TransportOrder> result = new ArrayList<>(tos.size());
+    for (TransportOrderCreationTO to : tos) {
+      result.add(createTransportOrder(to));
+    }
+    return result;
+  }
+
   /**
    * Marks an order sequence as complete by setting its complete flag.
    *
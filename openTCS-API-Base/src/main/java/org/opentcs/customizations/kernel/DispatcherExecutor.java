@@ -0,0 +1,30 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.customizations.kernel;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import javax.inject.Qualifier;
+
+/**
+ * Annotation type to mark an injectable {@code ScheduledExecutorService} for dispatching tasks.
+ * <p>
+ * Depending on the kernel's configuration, this is either a separate, single-threaded executor
+ * (so that dispatching tasks are executed in the order they were submitted, but independently of
+ * other kernel tasks) or the one marked with {@link KernelExecutor}.
+ * </p>
+ *
+ * @author agent
+ */
+@Qualifier
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DispatcherExecutor {
+}
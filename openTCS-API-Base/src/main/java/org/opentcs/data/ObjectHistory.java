@@ -7,17 +7,31 @@
  */
 package org.opentcs.data;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import static java.util.Objects.requireNonNull;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import static org.opentcs.util.Assertions.checkArgument;
+import static org.opentcs.util.Assertions.checkInRange;
 
 /**
  * A history of events related to an object.
+ * <p>
+ * Histories are immutable, but copies with entries appended share their entries with the original
+ * history, so appending an entry does not require all previous entries to be copied.
+ * The most recent entry for every event code is indexed and can be looked up directly.
+ * A history may be limited to a maximum number of entries, in which case the oldest entries are
+ * discarded when new ones are appended.
+ * </p>
  *
  * @author Stefan Walter (Fraunhofer IML)
  */
@@ -25,24 +39,64 @@ public class ObjectHistory
     implements Serializable {
 
   /**
-   * The actual history entries.
+   * The initial capacity of the storage for entries.
    */
-  private final List<Entry> entries;
+  private static final int INITIAL_CAPACITY = 8;
+  /**
+   * The storage containing this history's entries, possibly shared with other histories.
+   */
+  private final transient Storage storage;
+  /**
+   * The index of this history's first entry in the storage.
+   */
+  private final transient int start;
+  /**
+   * The index after this history's last entry in the storage.
+   */
+  private final transient int end;
+  /**
+   * The storage indices of the most recent entries, mapped by their event codes.
+   * May contain indices of entries discarded from this history (i.e. smaller than {@link #start}).
+   */
+  private final transient Map<String, Integer> latestIndices;
+  /**
+   * The maximum number of entries in this history, or 0, if the number is not limited.
+   */
+  private final transient int maxEntries;
 
   /**
    * Creates a new instance.
    */
   public ObjectHistory() {
-    this(new ArrayList<>());
+    this(new Storage(INITIAL_CAPACITY), 0, 0, new HashMap<>(), 0);
   }
 
   /**
    * Creates a new instance with the given list of entries.
    *
-   * @param entries
+   * @param entries The entries, oldest first. Only the most recent ones are kept if there are more
+   * than {@code maxEntries}.
+   * @param maxEntries The maximum number of entries, or 0, if the number is not limited.
    */
-  private ObjectHistory(List<Entry> entries) {
-    this.entries = Collections.unmodifiableList(requireNonNull(entries, "entries"));
+  private ObjectHistory(List<Entry> entries, int maxEntries) {
+    this(Storage.of(retainedEntries(requireNonNull(entries, "entries"), maxEntries)),
+         maxEntries);
+  }
+
+  private ObjectHistory(Storage storage, int maxEntries) {
+    this(storage, 0, storage.size, indexLatestEntries(storage, 0, storage.size), maxEntries);
+  }
+
+  private ObjectHistory(Storage storage,
+                        int start,
+                        int end,
+                        Map<String, Integer> latestIndices,
+                        int maxEntries) {
+    this.storage = storage;
+    this.start = start;
+    this.end = end;
+    this.latestIndices = latestIndices;
+    this.maxEntries = maxEntries;
   }
 
   /**
@@ -51,21 +105,25 @@ public class ObjectHistory
    * @return This history's entries.
    */
   public List<Entry> getEntries() {
-    return entries;
+    return Collections.unmodifiableList(Arrays.asList(storage.entries).subList(start, end));
   }
 
   /**
    * Returns a copy of this object, with the given entries.
+   * If the number of entries in this history is limited, only the most recent ones of the given
+   * entries are retained.
    *
    * @param entries The entries.
    * @return A copy of this object, with the given entries.
    */
   public ObjectHistory withEntries(List<Entry> entries) {
-    return new ObjectHistory(entries);
+    return new ObjectHistory(entries, maxEntries);
   }
 
   /**
    * Returns a copy of this object, with the given entry appended.
+   * If the number of entries in this history is limited and already reached, the oldest entry is
+   * discarded.
    *
    * @param entry The entry.
    * @return A copy of this object, with the given entry appended.
@@ -73,15 +131,176 @@ public class ObjectHistory
   public ObjectHistory withEntryAppended(Entry entry) {
     requireNonNull(entry, "entry");
 
-    List<Entry> newEntries = new ArrayList<>(entries.size() + 1);
-    newEntries.addAll(entries);
-    newEntries.add(entry);
-    return new ObjectHistory(newEntries);
+    int newStart = (maxEntries > 0 && end - start >= maxEntries) ? start + 1 : start;
+    if (storage.tryAppend(end, entry)) {
+      Map<String, Integer> newLatestIndices = new HashMap<>(latestIndices);
+      newLatestIndices.put(entry.getEventCode(), end);
+      return new ObjectHistory(storage, newStart, end + 1, newLatestIndices, maxEntries);
+    }
+
+    // The storage is full or already used by another history with other entries appended, so the
+    // retained entries need to be copied to a new storage.
+    int retainedCount = end - newStart;
+    int capacity = maxEntries > 0
+        ? Math.max(INITIAL_CAPACITY, Math.min(2 * maxEntries, 2 * (retainedCount + 1)))
+        : Math.max(INITIAL_CAPACITY, 2 * (retainedCount + 1));
+    Storage newStorage = new Storage(capacity);
+    System.arraycopy(storage.entries, newStart, newStorage.entries, 0, retainedCount);
+    newStorage.size = retainedCount;
+    newStorage.tryAppend(retainedCount, entry);
+
+    Map<String, Integer> newLatestIndices = new HashMap<>();
+    for (Map.Entry<String, Integer> latest : latestIndices.entrySet()) {
+      if (latest.getValue() >= newStart) {
+        newLatestIndices.put(latest.getKey(), latest.getValue() - newStart);
+      }
+    }
+    newLatestIndices.put(entry.getEventCode(), retainedCount);
+    return new ObjectHistory(newStorage, 0, retainedCount + 1, newLatestIndices, maxEntries);
+  }
+
+  /**
+   * Returns the most recent entry with any of the given event codes.
+   *
+   * @param eventCodes The event codes.
+   * @return The most recent entry with any of the given event codes, or <code>null</code>, if this
+   * history does not contain such an entry.
+   */
+  @Nullable
+  public Entry getLatestEntry(@Nonnull String... eventCodes) {
+    requireNonNull(eventCodes, "eventCodes");
+
+    int latestIndex = -1;
+    for (String eventCode : eventCodes) {
+      Integer index = latestIndices.get(eventCode);
+      if (index != null && index >= start && index > latestIndex) {
+        latestIndex = index;
+      }
+    }
+    return latestIndex < 0 ? null : storage.entries[latestIndex];
+  }
+
+  /**
+   * Returns the maximum number of entries in this history.
+   *
+   * @return The maximum number of entries in this history, or 0, if the number is not limited.
+   */
+  public int getMaxEntries() {
+    return maxEntries;
+  }
+
+  /**
+   * Returns a copy of this object, with the given maximum number of entries.
+   * If this history contains more entries, only the most recent ones are retained.
+   *
+   * @param maxEntries The maximum number of entries, or 0, if the number is not to be limited.
+   * @return A copy of this object, with the given maximum number of entries.
+   */
+  public ObjectHistory withMaxEntries(int maxEntries) {
+    checkInRange(maxEntries, 0, Integer.MAX_VALUE, "maxEntries");
+
+    return new ObjectHistory(getEntries(), maxEntries);
   }
 
   @Override
   public String toString() {
-    return "ObjectHistory{" + "entries=" + entries + '}';
+    return "ObjectHistory{" + "entries=" + getEntries() + '}';
+  }
+
+  private Object writeReplace() {
+    return new SerializedForm(new ArrayList<>(getEntries()), maxEntries);
+  }
+
+  private void readObject(ObjectInputStream stream)
+      throws InvalidObjectException {
+    throw new InvalidObjectException("Serialized form required");
+  }
+
+  private static List<Entry> retainedEntries(List<Entry> entries, int maxEntries) {
+    return (maxEntries > 0 && entries.size() > maxEntries)
+        ? entries.subList(entries.size() - maxEntries, entries.size())
+        : entries;
+  }
+
+  private static Map<String, Integer> indexLatestEntries(Storage storage, int start, int end) {
+    Map<String, Integer> result = new HashMap<>();
+    for (int i = start; i < end; i++) {
+      result.put(storage.entries[i].getEventCode(), i);
+    }
+    return result;
+  }
+
+  /**
+   * The storage for the entries of one or more histories.
+   * <p>
+   * Entries in the storage are never modified once they have been added.
+   * Histories sharing a storage contain a (sub)range of its entries.
+   * Only a history containing the storage's last entry may append entries to it.
+   * </p>
+   */
+  private static class Storage {
+
+    /**
+     * The stored entries.
+     */
+    private final Entry[] entries;
+    /**
+     * The number of stored entries.
+     */
+    private int size;
+
+    Storage(int capacity) {
+      this.entries = new Entry[capacity];
+    }
+
+    static Storage of(List<Entry> entries) {
+      Storage storage = new Storage(Math.max(INITIAL_CAPACITY, entries.size()));
+      for (Entry entry : entries) {
+        storage.entries[storage.size++] = requireNonNull(entry, "entry");
+      }
+      return storage;
+    }
+
+    /**
+     * Appends the given entry, provided the storage has capacity left and its current size is the
+     * given one.
+     *
+     * @param expectedSize The expected size of the storage.
+     * @param entry The entry.
+     * @return Whether the entry was appended.
+     */
+    synchronized boolean tryAppend(int expectedSize, Entry entry) {
+      if (size != expectedSize || size >= entries.length) {
+        return false;
+      }
+      entries[size++] = entry;
+      return true;
+    }
+  }
+
+  /**
+   * The serialized form of a history, containing only the history's entries.
+   */
+  private static class SerializedForm
+      implements Serializable {
+
+    /**
+     * The history's entries.
+     */
+    private final List<Entry> entries;
+    /**
+     * The maximum number of entries in the history.
+     */
+    private final int maxEntries;
+
+    SerializedForm(List<Entry> entries, int maxEntries) {
+      this.entries = entries;
+      this.maxEntries = maxEntries;
+    }
+
+    private Object readResolve() {
+      return new ObjectHistory(entries, maxEntries);
+    }
   }
 
   /**
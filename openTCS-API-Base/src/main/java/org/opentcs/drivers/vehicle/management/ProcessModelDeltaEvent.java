@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.drivers.vehicle.management;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import javax.annotation.Nonnull;
+import org.opentcs.data.model.Triple;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.drivers.vehicle.LoadHandlingDevice;
+import org.opentcs.drivers.vehicle.VehicleProcessModel;
+
+/**
+ * Instances of this class represent events emitted for changes of standard attributes of
+ * {@link VehicleProcessModel}s, containing only the changed attributes' latest values instead of a
+ * complete representation of the process model (as {@link ProcessModelEvent} does).
+ * <p>
+ * The attributes are identified by the names of {@link VehicleProcessModel.Attribute} elements.
+ * The values' types are those of the corresponding attributes in {@link VehicleProcessModelTO}.
+ * Clients interested in complete process models are expected to retrieve a complete representation
+ * once (e.g. when subscribing to events) and to apply all subsequent changes to it, e.g. via
+ * {@link #applyTo(org.opentcs.drivers.vehicle.management.VehicleProcessModelTO)}.
+ * </p>
+ *
+ * @author agent
+ */
+public class ProcessModelDeltaEvent
+    extends CommAdapterEvent
+    implements Serializable {
+
+  /**
+   * The name of the vehicle whose process model changed.
+   */
+  private final String vehicleName;
+  /**
+   * The changed attributes' latest values, mapped by the attributes' names.
+   */
+  private final Map<String, Serializable> changedAttributes;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param vehicleName The name of the vehicle whose process model changed.
+   * @param changedAttributes The changed attributes' latest values, mapped by the attributes'
+   * names.
+   */
+  public ProcessModelDeltaEvent(@Nonnull String vehicleName,
+                                @Nonnull Map<String, Serializable> changedAttributes) {
+    this.vehicleName = requireNonNull(vehicleName, "vehicleName");
+    this.changedAttributes = new LinkedHashMap<>(requireNonNull(changedAttributes,
+                                                                "changedAttributes"));
+  }
+
+  /**
+   * Returns the name of the vehicle whose process model changed.
+   *
+   * @return The name of the vehicle whose process model changed.
+   */
+  @Nonnull
+  public String getVehicleName() {
+    return vehicleName;
+  }
+
+  /**
+   * Returns the changed attributes' latest values, mapped by the attributes' names.
+   *
+   * @return The changed attributes' latest values, mapped by the attributes' names.
+   */
+  @Nonnull
+  public Map<String, Serializable> getChangedAttributes() {
+    return Collections.unmodifiableMap(changedAttributes);
+  }
+
+  /**
+   * Applies the changes of this event to the given process model representation.
+   *
+   * @param processModel The process model representation.
+   * @return The given process model representation.
+   */
+  @SuppressWarnings("unchecked")
+  public VehicleProcessModelTO applyTo(@Nonnull VehicleProcessModelTO processModel) {
+    requireNonNull(processModel, "processModel");
+
+    for (Map.Entry<String, Serializable> entry : changedAttributes.entrySet()) {
+      Serializable value = entry.getValue();
+      switch (VehicleProcessModel.Attribute.valueOf(entry.getKey())) {
+        case COMM_ADAPTER_ENABLED:
+          processModel.setCommAdapterEnabled((Boolean) value);
+          break;
+        case COMM_ADAPTER_CONNECTED:
+          processModel.setCommAdapterConnected((Boolean) value);
+          break;
+        case POSITION:
+          processModel.setVehiclePosition((String) value);
+          break;
+        case PRECISE_POSITION:
+          processModel.setPrecisePosition((Triple) value);
+          break;
+        case ORIENTATION_ANGLE:
+          processModel.setOrientationAngle((Double) value);
+          break;
+        case ENERGY_LEVEL:
+          processModel.setEnergyLevel((Integer) value);
+          break;
+        case LOAD_HANDLING_DEVICES:
+          processModel.setLoadHandlingDevices((List<LoadHandlingDevice>) value);
+          break;
+        case STATE:
+          processModel.setVehicleState((Vehicle.State) value);
+          break;
+        default:
+        // Other attributes are not part of the transferable process model.
+      }
+    }
+
+    return processModel;
+  }
+
+  @Override
+  public String toString() {
+    return "ProcessModelDeltaEvent{"
+        + "vehicleName=" + vehicleName
+        + ", changedAttributes=" + changedAttributes
+        + '}';
+  }
+}
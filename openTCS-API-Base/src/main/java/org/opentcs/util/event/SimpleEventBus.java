@@ -32,13 +32,14 @@ public class SimpleEventBus
 
   @Override
   public void onEvent(Object event) {
-    try {
-      for (EventHandler listener : listeners) {
+    for (EventHandler listener : listeners) {
+      try {
         listener.onEvent(event);
       }
-    }
-    catch (Exception exc) {
-      LOG.warn("Exception thrown by event handler", exc);
+      catch (Exception exc) {
+        // Do not let a failing listener keep the remaining ones from receiving the event.
+        LOG.warn("Exception thrown by event handler", exc);
+      }
     }
   }
 
@@ -0,0 +1,24 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.util.event;
+
+/**
+ * A handler for events that needs to process events on the thread emitting them, before the
+ * emitting code proceeds.
+ * <p>
+ * Event buses delivering events to handlers asynchronously are expected to deliver events to
+ * handlers implementing this interface synchronously, instead.
+ * Implementing this interface has no effect for event buses that deliver all events synchronously.
+ * </p>
+ *
+ * @author agent
+ */
+public interface SynchronousEventHandler
+    extends EventHandler {
+
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.access.rmi.services;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.access.EventBufferOverflowEvent;
+import org.opentcs.access.ObjectSnapshotEvent;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+
+/**
+ * Unit tests for {@link ObjectReplica}.
+ *
+ * @author agent
+ */
+public class ObjectReplicaTest {
+
+  private Set<Class<? extends TCSObject<?>>> objectClasses;
+
+  private ObjectReplica replica;
+
+  private Vehicle vehicle1;
+
+  private Vehicle vehicle2;
+
+  @BeforeEach
+  public void setUp() {
+    objectClasses = new HashSet<>(Arrays.asList(Vehicle.class));
+    replica = new ObjectReplica(objectClasses);
+    vehicle1 = new Vehicle("Vehicle-01");
+    vehicle2 = new Vehicle("Vehicle-02");
+  }
+
+  @Test
+  public void becomeAvailableOnlyWithRequestedSnapshot() {
+    assertThat(replica.isSnapshotRequired(), is(true));
+
+    long outdatedSequenceNumber = replica.requestSnapshot();
+    long sequenceNumber = replica.requestSnapshot();
+    assertThat(replica.isSnapshotRequired(), is(false));
+
+    replica.apply(snapshot(outdatedSequenceNumber, vehicle1));
+    assertThat(replica.isAvailableFor(Vehicle.class), is(false));
+
+    replica.apply(snapshot(sequenceNumber, vehicle1, vehicle2));
+    assertThat(replica.isAvailableFor(Vehicle.class), is(true));
+    assertThat(replica.isAvailableFor(Point.class), is(false));
+    assertThat(replica.getObjects(Vehicle.class, vehicle -> true),
+               containsInAnyOrder(vehicle1, vehicle2));
+  }
+
+  @Test
+  public void applyObjectEventsAfterSnapshot() {
+    replica.apply(snapshot(replica.requestSnapshot(), vehicle1));
+
+    Vehicle modifiedVehicle1 = vehicle1.withEnergyLevel(50);
+    assertThat(replica.apply(new TCSObjectEvent(vehicle2,
+                                                null,
+                                                TCSObjectEvent.Type.OBJECT_CREATED)),
+               is(true));
+    assertThat(replica.apply(new TCSObjectEvent(modifiedVehicle1,
+                                                vehicle1,
+                                                TCSObjectEvent.Type.OBJECT_MODIFIED)),
+               is(true));
+    assertThat(replica.getObject(Vehicle.class, vehicle1.getName()), is(modifiedVehicle1));
+    assertThat(replica.getObjects(Vehicle.class, vehicle -> vehicle.getEnergyLevel() == 50),
+               containsInAnyOrder(modifiedVehicle1));
+
+    assertThat(replica.apply(new TCSObjectEvent(null,
+                                                vehicle2,
+                                                TCSObjectEvent.Type.OBJECT_REMOVED)),
+               is(true));
+    assertThat(replica.getObject(Vehicle.class, vehicle2.getName()), is(nullValue()));
+  }
+
+  @Test
+  public void goOutOfSyncWhenEventsWereDiscarded() {
+    replica.apply(snapshot(replica.requestSnapshot(), vehicle1));
+
+    assertThat(replica.apply(new EventBufferOverflowEvent(5)), is(false));
+    assertThat(replica.isAvailableFor(Vehicle.class), is(false));
+    assertThat(replica.isSnapshotRequired(), is(true));
+    assertThat(replica.getResyncCount(), is(1L));
+  }
+
+  @Test
+  public void goOutOfSyncOnModificationOfUnknownObject() {
+    replica.apply(snapshot(replica.requestSnapshot(), vehicle1));
+
+    assertThat(replica.apply(new TCSObjectEvent(vehicle2.withEnergyLevel(50),
+                                                vehicle2,
+                                                TCSObjectEvent.Type.OBJECT_MODIFIED)),
+               is(false));
+    assertThat(replica.isSnapshotRequired(), is(true));
+  }
+
+  private ObjectSnapshotEvent snapshot(long sequenceNumber, TCSObject<?>... objects) {
+    return new ObjectSnapshotEvent(sequenceNumber,
+                                   objectClasses,
+                                   new HashSet<>(Arrays.asList(objects)));
+  }
+}
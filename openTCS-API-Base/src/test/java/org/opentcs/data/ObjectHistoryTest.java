@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.data;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ObjectHistory}.
+ *
+ * @author agent
+ */
+public class ObjectHistoryTest {
+
+  @Test
+  public void appendEntriesWithoutModifyingOriginal() {
+    ObjectHistory history = new ObjectHistory()
+        .withEntryAppended(new ObjectHistory.Entry("A"))
+        .withEntryAppended(new ObjectHistory.Entry("B"));
+    ObjectHistory appended = history.withEntryAppended(new ObjectHistory.Entry("C"));
+
+    assertThat(eventCodes(history), contains("A", "B"));
+    assertThat(eventCodes(appended), contains("A", "B", "C"));
+  }
+
+  @Test
+  public void keepBranchesIndependent() {
+    ObjectHistory history = new ObjectHistory()
+        .withEntryAppended(new ObjectHistory.Entry("A"));
+    ObjectHistory branch1 = history.withEntryAppended(new ObjectHistory.Entry("B"));
+    ObjectHistory branch2 = history.withEntryAppended(new ObjectHistory.Entry("C"));
+
+    assertThat(eventCodes(branch1), contains("A", "B"));
+    assertThat(eventCodes(branch2), contains("A", "C"));
+    assertThat(branch1.getLatestEntry("C"), is(nullValue()));
+    assertThat(branch2.getLatestEntry("C").getEventCode(), is("C"));
+  }
+
+  @Test
+  public void keepEntriesBeyondInitialCapacity() {
+    ObjectHistory history = new ObjectHistory();
+    for (int i = 0; i < 100; i++) {
+      history = history.withEntryAppended(new ObjectHistory.Entry("code" + (i % 3), i));
+    }
+
+    assertThat(history.getEntries().size(), is(100));
+    assertThat(history.getEntries().get(42).getSupplement(), is(42));
+  }
+
+  @Test
+  public void returnLatestEntryForEventCodes() {
+    ObjectHistory history = new ObjectHistory()
+        .withEntryAppended(new ObjectHistory.Entry("A", 1))
+        .withEntryAppended(new ObjectHistory.Entry("B", 2))
+        .withEntryAppended(new ObjectHistory.Entry("A", 3))
+        .withEntryAppended(new ObjectHistory.Entry("C", 4));
+
+    assertThat(history.getLatestEntry("A").getSupplement(), is(3));
+    assertThat(history.getLatestEntry("A", "B").getSupplement(), is(3));
+    assertThat(history.getLatestEntry("B", "C").getSupplement(), is(4));
+    assertThat(history.getLatestEntry("D"), is(nullValue()));
+  }
+
+  @Test
+  public void discardOldestEntriesWhenLimited() {
+    ObjectHistory history = new ObjectHistory()
+        .withEntryAppended(new ObjectHistory.Entry("A"))
+        .withEntryAppended(new ObjectHistory.Entry("B"))
+        .withEntryAppended(new ObjectHistory.Entry("C"))
+        .withMaxEntries(2);
+
+    assertThat(eventCodes(history), contains("B", "C"));
+
+    for (int i = 0; i < 20; i++) {
+      history = history.withEntryAppended(new ObjectHistory.Entry("D"));
+    }
+    history = history.withEntryAppended(new ObjectHistory.Entry("E"));
+
+    assertThat(eventCodes(history), contains("D", "E"));
+    assertThat(history.getMaxEntries(), is(2));
+    assertThat(history.getLatestEntry("A", "B", "C"), is(nullValue()));
+    assertThat(history.getLatestEntry("D").getEventCode(), is("D"));
+  }
+
+  @Test
+  public void limitEntriesSetExplicitly() {
+    ObjectHistory history = new ObjectHistory()
+        .withMaxEntries(2)
+        .withEntries(Arrays.asList(new ObjectHistory.Entry("A"),
+                                   new ObjectHistory.Entry("B"),
+                                   new ObjectHistory.Entry("C")));
+
+    assertThat(eventCodes(history), contains("B", "C"));
+  }
+
+  @Test
+  public void serializeAndDeserialize()
+      throws Exception {
+    ObjectHistory history = new ObjectHistory()
+        .withMaxEntries(5)
+        .withEntryAppended(new ObjectHistory.Entry("A"))
+        .withEntryAppended(new ObjectHistory.Entry("B"));
+
+    ObjectHistory deserialized = deserialize(serialize(history));
+
+    assertThat(eventCodes(deserialized), contains("A", "B"));
+    assertThat(deserialized.getMaxEntries(), is(5));
+    assertThat(deserialized.getLatestEntry("A").getEventCode(), is("A"));
+  }
+
+  private List<String> eventCodes(ObjectHistory history) {
+    return history.getEntries().stream()
+        .map(ObjectHistory.Entry::getEventCode)
+        .collect(Collectors.toList());
+  }
+
+  private byte[] serialize(ObjectHistory history)
+      throws IOException {
+    ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytesOut)) {
+      out.writeObject(history);
+    }
+    return bytesOut.toByteArray();
+  }
+
+  private ObjectHistory deserialize(byte[] bytes)
+      throws IOException, ClassNotFoundException {
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return (ObjectHistory) in.readObject();
+    }
+  }
+}
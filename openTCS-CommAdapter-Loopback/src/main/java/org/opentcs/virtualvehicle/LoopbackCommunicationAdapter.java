@@ -20,6 +20,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
 import org.opentcs.common.LoopbackAdapterConstants;
+import org.opentcs.common.VirtualTimeScheduler;
 import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.Route.Step;
@@ -76,6 +77,10 @@ public class LoopbackCommunicationAdapter
    * This instance's configuration.
    */
   private final VirtualVehicleConfiguration configuration;
+  /**
+   * The scheduler for simulation tasks in virtual time.
+   */
+  private final VirtualTimeScheduler virtualTimeScheduler;
   /**
    * Indicates whether the vehicle simulation is running or not.
    */
@@ -103,11 +108,13 @@ public class LoopbackCommunicationAdapter
    * @param configuration This class's configuration.
    * @param vehicle The vehicle this adapter is associated with.
    * @param kernelExecutor The kernel's executor.
+   * @param virtualTimeScheduler The scheduler for simulation tasks in virtual time.
    */
   @Inject
   public LoopbackCommunicationAdapter(VirtualVehicleConfiguration configuration,
                                       @Assisted Vehicle vehicle,
-                                      @KernelExecutor ScheduledExecutorService kernelExecutor) {
+                                      @KernelExecutor ScheduledExecutorService kernelExecutor,
+                                      VirtualTimeScheduler virtualTimeScheduler) {
     super(new LoopbackVehicleModel(vehicle),
           configuration.commandQueueCapacity(),
           1,
@@ -115,6 +122,7 @@ public class LoopbackCommunicationAdapter
           kernelExecutor);
     this.vehicle = requireNonNull(vehicle, "vehicle");
     this.configuration = requireNonNull(configuration, "configuration");
+    this.virtualTimeScheduler = requireNonNull(virtualTimeScheduler, "virtualTimeScheduler");
   }
 
   @Override
@@ -313,9 +321,7 @@ public class LoopbackCommunicationAdapter
 
     if (step.getPath() == null) {
       LOG.debug("Starting operation simulation...");
-      ((ScheduledExecutorService) getExecutor()).schedule(() -> operationSimulation(command),
-                                                          SIMULATION_TASKS_DELAY,
-                                                          TimeUnit.MILLISECONDS);
+      scheduleSimulationTask(() -> operationSimulation(command));
     }
     else {
       getProcessModel().getVelocityController().addWayEntry(
@@ -326,9 +332,7 @@ public class LoopbackCommunicationAdapter
       );
 
       LOG.debug("Starting movement simulation...");
-      ((ScheduledExecutorService) getExecutor()).schedule(() -> movementSimulation(command),
-                                                          SIMULATION_TASKS_DELAY,
-                                                          TimeUnit.MILLISECONDS);
+      scheduleSimulationTask(() -> movementSimulation(command));
     }
   }
 
@@ -348,9 +352,7 @@ public class LoopbackCommunicationAdapter
     WayEntry currentWayEntry = getProcessModel().getVelocityController().getCurrentWayEntry();
     //if we are still on the same way entry then reschedule to do it again
     if (prevWayEntry == currentWayEntry) {
-      ((ScheduledExecutorService) getExecutor()).schedule(() -> movementSimulation(command),
-                                                          SIMULATION_TASKS_DELAY,
-                                                          TimeUnit.MILLISECONDS);
+      scheduleSimulationTask(() -> movementSimulation(command));
     }
     else {
       //if the way enties are different then we have finished this step
@@ -359,9 +361,7 @@ public class LoopbackCommunicationAdapter
       LOG.debug("Movement simulation finished.");
       if (!command.isWithoutOperation()) {
         LOG.debug("Starting operation simulation...");
-        ((ScheduledExecutorService) getExecutor()).schedule(() -> operationSimulation(command),
-                                                            SIMULATION_TASKS_DELAY,
-                                                            TimeUnit.MILLISECONDS);
+        scheduleSimulationTask(() -> operationSimulation(command));
       }
       else {
         finishVehicleSimulation(command);
@@ -374,9 +374,7 @@ public class LoopbackCommunicationAdapter
 
     if (operationSimulationTimePassed < getProcessModel().getOperatingTime()) {
       getProcessModel().getVelocityController().advanceTime(getSimulationTimeStep());
-      ((ScheduledExecutorService) getExecutor()).schedule(() -> operationSimulation(command),
-                                                          SIMULATION_TASKS_DELAY,
-                                                          TimeUnit.MILLISECONDS);
+      scheduleSimulationTask(() -> operationSimulation(command));
     }
     else {
       LOG.debug("Operation simulation finished.");
@@ -414,7 +412,22 @@ public class LoopbackCommunicationAdapter
     isSimulationRunning = false;
   }
 
+  private void scheduleSimulationTask(Runnable task) {
+    if (configuration.virtualTime()) {
+      virtualTimeScheduler.schedule(task, SIMULATION_TASKS_DELAY, TimeUnit.MILLISECONDS);
+    }
+    else {
+      ((ScheduledExecutorService) getExecutor()).schedule(task,
+                                                          SIMULATION_TASKS_DELAY,
+                                                          TimeUnit.MILLISECONDS);
+    }
+  }
+
   private int getSimulationTimeStep() {
+    if (configuration.virtualTime()) {
+      // In virtual time, each step takes exactly as long as the delay between the steps.
+      return SIMULATION_TASKS_DELAY;
+    }
     return (int) (ADVANCE_TIME * configuration.simulationTimeFactor());
   }
 
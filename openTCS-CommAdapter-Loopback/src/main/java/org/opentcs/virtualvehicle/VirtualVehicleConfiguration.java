@@ -47,4 +47,14 @@ public interface VirtualVehicleConfiguration {
                      "1.0 is real time, greater values speed up simulation."},
       orderKey = "1_behaviour_3")
   double simulationTimeFactor();
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {"Whether to simulate vehicles in virtual time shared by all loopback drivers.",
+                     "Instead of waiting in real time, the virtual time jumps from one simulation "
+                     + "step to the next, which makes simulation runs as fast as the kernel can "
+                     + "process them and reproducible.",
+                     "If enabled, the simulation time factor is ignored."},
+      orderKey = "1_behaviour_4")
+  boolean virtualTime();
 }
@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.common;
+
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Extends the {@link LoggingScheduledThreadPoolExecutor} by keeping track of the number of tasks
+ * waiting for execution and the time tasks had to wait for execution after becoming due.
+ *
+ * @author agent
+ */
+public class MonitoredScheduledThreadPoolExecutor
+    extends LoggingScheduledThreadPoolExecutor {
+
+  /**
+   * A name identifying this executor in metrics.
+   */
+  private final String name;
+  /**
+   * The number of tasks whose wait times have been recorded.
+   */
+  private long startedTaskCount;
+  /**
+   * The accumulated time (in ns) tasks had to wait for execution after becoming due.
+   */
+  private long totalWaitTime;
+  /**
+   * The maximum time (in ns) a task had to wait for execution after becoming due.
+   */
+  private long maxWaitTime;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param name A name identifying this executor in metrics.
+   * @param corePoolSize The number of threads to keep in the pool.
+   * @param threadFactory The factory to use when the executor creates a new thread.
+   * @throws IllegalArgumentException If {@code corePoolSize < 0}
+   * @throws NullPointerException If {@code name} or {@code threadFactory} is null
+   */
+  public MonitoredScheduledThreadPoolExecutor(String name,
+                                              int corePoolSize,
+                                              ThreadFactory threadFactory) {
+    super(corePoolSize, threadFactory);
+    this.name = requireNonNull(name, "name");
+  }
+
+  /**
+   * Returns the name identifying this executor in metrics.
+   *
+   * @return The name identifying this executor in metrics.
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the number of tasks that are due but still waiting for execution.
+   * <p>
+   * Tasks scheduled for a point of time in the future (including the next executions of periodic
+   * tasks) are not counted.
+   * </p>
+   *
+   * @return The number of tasks that are due but still waiting for execution.
+   */
+  public int getQueueDepth() {
+    int result = 0;
+    for (Runnable task : getQueue()) {
+      if (!(task instanceof Delayed) || ((Delayed) task).getDelay(TimeUnit.NANOSECONDS) <= 0) {
+        result++;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the average time (in ms) tasks had to wait for execution after becoming due.
+   *
+   * @return The average wait time, or 0, if no task has been executed, yet.
+   */
+  public synchronized double getAverageWaitTime() {
+    return startedTaskCount == 0
+        ? 0.0
+        : (totalWaitTime / (double) startedTaskCount) / 1_000_000.0;
+  }
+
+  /**
+   * Returns the maximum time (in ms) a task had to wait for execution after becoming due.
+   *
+   * @return The maximum wait time, or 0, if no task has been executed, yet.
+   */
+  public synchronized double getMaxWaitTime() {
+    return maxWaitTime / 1_000_000.0;
+  }
+
+  /**
+   * Returns a short summary of this executor's metrics, suitable for logging.
+   *
+   * @return A short summary of this executor's metrics.
+   */
+  public String getMetricsSummary() {
+    return String.format("%s: queue depth: %d, executed tasks: %d, "
+        + "average wait time: %.2f ms, max wait time: %.2f ms",
+                         name,
+                         getQueueDepth(),
+                         getCompletedTaskCount(),
+                         getAverageWaitTime(),
+                         getMaxWaitTime());
+  }
+
+  @Override
+  protected void beforeExecute(Thread t, Runnable r) {
+    super.beforeExecute(t, r);
+    if (r instanceof Delayed) {
+      // A task that is due has a delay <= 0, the negated delay being the time it had to wait.
+      long waitTime = Math.max(0, -((Delayed) r).getDelay(TimeUnit.NANOSECONDS));
+      synchronized (this) {
+        startedTaskCount++;
+        totalWaitTime += waitTime;
+        maxWaitTime = Math.max(maxWaitTime, waitTime);
+      }
+    }
+  }
+}
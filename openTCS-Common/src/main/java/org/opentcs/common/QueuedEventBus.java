@@ -0,0 +1,371 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.common;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.opentcs.access.EventBufferOverflowEvent;
+import static org.opentcs.util.Assertions.checkInRange;
+import org.opentcs.util.event.EventBus;
+import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.SynchronousEventHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An implementation of {@link EventBus} that delivers events to each subscribed handler
+ * asynchronously, via a bounded queue and a thread dedicated to the handler.
+ * <p>
+ * Each handler receives events in the order they were emitted, but independently of other
+ * handlers, so that a slow handler does not delay the thread emitting events or other handlers.
+ * If a handler's queue is full, the thread emitting an event waits for space in it for a limited
+ * time only.
+ * If there is still no space in it after that, the event is discarded, and the handler receives
+ * an {@link EventBufferOverflowEvent} before any further events, indicating that it missed events.
+ * Events that a handler emits itself while processing an event are never discarded, but they are
+ * still delivered to it after the events already waiting in its queue.
+ * Handlers implementing {@link SynchronousEventHandler} receive events on the thread emitting
+ * them, as with the {@link org.opentcs.util.event.SimpleEventBus}.
+ * </p>
+ * <p>
+ * As threads emitting events may hold locks (e.g. the kernel's lock for its working set), handlers
+ * receiving events asynchronously must not wait for such locks exclusively, e.g. by calling
+ * services modifying the kernel's working set.
+ * Code holding such locks can reject calls from these handlers by checking
+ * {@link #isDeliveryThread()}.
+ * </p>
+ * <p>
+ * An exception thrown by a handler is logged and does not affect the delivery of events to other
+ * handlers.
+ * </p>
+ *
+ * @author agent
+ */
+public class QueuedEventBus
+    implements EventBus {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(QueuedEventBus.class);
+  /**
+   * The maximum time (in ms) a thread emitting an event waits for space in a handler's queue.
+   */
+  private static final long MAX_OFFER_WAIT = 100;
+  /**
+   * A name identifying this event bus in thread names and metrics.
+   */
+  private final String name;
+  /**
+   * The maximum number of events waiting for delivery to a single handler.
+   */
+  private final int queueCapacity;
+  /**
+   * The subscriptions of handlers.
+   */
+  private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param name A name identifying this event bus in thread names and metrics.
+   * @param queueCapacity The maximum number of events waiting for delivery to a single handler.
+   */
+  public QueuedEventBus(String name, int queueCapacity) {
+    this.name = requireNonNull(name, "name");
+    this.queueCapacity = checkInRange(queueCapacity, 1, Integer.MAX_VALUE, "queueCapacity");
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    for (Subscription subscription : subscriptions) {
+      subscription.deliver(event);
+    }
+  }
+
+  @Override
+  public synchronized void subscribe(EventHandler listener) {
+    requireNonNull(listener, "listener");
+
+    if (findSubscription(listener) != null) {
+      return;
+    }
+
+    Subscription subscription = new Subscription(listener);
+    subscription.start();
+    subscriptions.add(subscription);
+  }
+
+  @Override
+  public synchronized void unsubscribe(EventHandler listener) {
+    requireNonNull(listener, "listener");
+
+    Subscription subscription = findSubscription(listener);
+    if (subscription == null) {
+      return;
+    }
+
+    subscriptions.remove(subscription);
+    subscription.stop();
+  }
+
+  /**
+   * Returns short summaries of the metrics of all subscribed handlers, suitable for logging.
+   *
+   * @return Short summaries of the metrics of all subscribed handlers.
+   */
+  public List<String> getMetricsSummaries() {
+    List<String> result = new ArrayList<>();
+    for (Subscription subscription : subscriptions) {
+      result.add(subscription.getMetricsSummary());
+    }
+    return result;
+  }
+
+  /**
+   * Checks whether the current thread is one delivering events to a handler asynchronously.
+   *
+   * @return {@code true} if, and only if, the current thread is one delivering events to a handler
+   * asynchronously.
+   */
+  public static boolean isDeliveryThread() {
+    return Thread.currentThread() instanceof DeliveryThread;
+  }
+
+  private Subscription findSubscription(EventHandler listener) {
+    for (Subscription subscription : subscriptions) {
+      if (subscription.handler.equals(listener)) {
+        return subscription;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * A handler's subscription, delivering events to it.
+   */
+  private class Subscription
+      implements Runnable {
+
+    /**
+     * The handler.
+     */
+    private final EventHandler handler;
+    /**
+     * The events waiting for delivery, or {@code null}, if events are delivered synchronously.
+     */
+    private final BlockingQueue<QueuedEvent> queue;
+    /**
+     * Events waiting for delivery that the handler emitted itself while its queue was full,
+     * preceded by the events taken from the queue at that time.
+     * Only accessed by the delivery thread.
+     */
+    private final Deque<QueuedEvent> overflow = new ArrayDeque<>();
+    /**
+     * The number of events discarded since the handler was last notified about discarded events.
+     */
+    private final AtomicInteger pendingDiscardedEventCount = new AtomicInteger();
+    /**
+     * The thread delivering events, or {@code null}, if events are delivered synchronously.
+     */
+    private final Thread thread;
+    /**
+     * Whether the handler unsubscribed and delivery of events to it has been stopped.
+     */
+    private volatile boolean stopped;
+    /**
+     * The number of events delivered.
+     */
+    private long deliveredEventCount;
+    /**
+     * The accumulated time (in ns) the handler took for processing events.
+     */
+    private long totalDeliveryTime;
+    /**
+     * The maximum time (in ns) the handler took for processing an event.
+     */
+    private long maxDeliveryTime;
+    /**
+     * The maximum time (in ns) an event waited for delivery after being emitted.
+     */
+    private long maxLag;
+    /**
+     * The number of events discarded because the handler's queue was full.
+     */
+    private long discardedEventCount;
+
+    Subscription(EventHandler handler) {
+      this.handler = handler;
+      if (handler instanceof SynchronousEventHandler) {
+        queue = null;
+        thread = null;
+      }
+      else {
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+        thread = new DeliveryThread(this, name + "-" + handler.getClass().getSimpleName());
+        thread.setDaemon(true);
+      }
+    }
+
+    boolean isAsynchronous() {
+      return queue != null;
+    }
+
+    void start() {
+      if (isAsynchronous()) {
+        thread.start();
+      }
+    }
+
+    void stop() {
+      if (!isAsynchronous()) {
+        return;
+      }
+      // Set the flag before interrupting, so the thread sees it even if the handler swallows the
+      // interrupt.
+      stopped = true;
+      thread.interrupt();
+      // Events still waiting are not of interest to a handler that unsubscribed.
+      queue.clear();
+    }
+
+    void deliver(Object event) {
+      if (!isAsynchronous()) {
+        process(event);
+        return;
+      }
+
+      QueuedEvent queuedEvent = new QueuedEvent(event, System.nanoTime());
+      if (Thread.currentThread() == thread) {
+        // The handler emits an event itself. Waiting for space in its own queue would block
+        // forever, so move the waiting events to the (unbounded) overflow if the queue is full,
+        // preserving their order.
+        if (!overflow.isEmpty() || !queue.offer(queuedEvent)) {
+          queue.drainTo(overflow);
+          overflow.add(queuedEvent);
+        }
+        return;
+      }
+
+      try {
+        // Once events have been discarded, do not wait for the handler to catch up before it has
+        // been notified about them.
+        long maxWait = pendingDiscardedEventCount.get() == 0 ? MAX_OFFER_WAIT : 0;
+        if (!stopped && !queue.offer(queuedEvent, maxWait, TimeUnit.MILLISECONDS)) {
+          discard();
+        }
+      }
+      catch (InterruptedException exc) {
+        Thread.currentThread().interrupt();
+        LOG.warn("Interrupted while waiting to deliver event to {}, dropping it", handler);
+        discard();
+      }
+    }
+
+    private void discard() {
+      if (pendingDiscardedEventCount.getAndIncrement() == 0) {
+        LOG.warn("Queue of {} is full, discarding events", handler);
+      }
+      synchronized (this) {
+        discardedEventCount++;
+      }
+    }
+
+    @Override
+    public void run() {
+      try {
+        while (!stopped) {
+          int discardedCount = pendingDiscardedEventCount.getAndSet(0);
+          if (discardedCount > 0) {
+            process(new EventBufferOverflowEvent(discardedCount));
+          }
+
+          QueuedEvent queuedEvent = overflow.isEmpty() ? queue.take() : overflow.poll();
+          synchronized (this) {
+            maxLag = Math.max(maxLag, System.nanoTime() - queuedEvent.emissionTime);
+          }
+          process(queuedEvent.event);
+        }
+      }
+      catch (InterruptedException exc) {
+        LOG.debug("Interrupted, terminating delivery of events to {}", handler);
+      }
+    }
+
+    private void process(Object event) {
+      long startTime = System.nanoTime();
+      try {
+        handler.onEvent(event);
+      }
+      catch (Exception exc) {
+        LOG.warn("Exception thrown by event handler {}", handler, exc);
+      }
+      long deliveryTime = System.nanoTime() - startTime;
+      synchronized (this) {
+        deliveredEventCount++;
+        totalDeliveryTime += deliveryTime;
+        maxDeliveryTime = Math.max(maxDeliveryTime, deliveryTime);
+      }
+    }
+
+    synchronized String getMetricsSummary() {
+      return String.format("%s: queue depth: %d, delivered events: %d, discarded events: %d, "
+          + "max lag: %.2f ms, average delivery time: %.2f ms, max delivery time: %.2f ms",
+                           isAsynchronous()
+                               ? thread.getName()
+                               : name + "-" + handler.getClass().getSimpleName() + " (synchronous)",
+                           isAsynchronous() ? queue.size() : 0,
+                           deliveredEventCount,
+                           discardedEventCount,
+                           maxLag / 1_000_000.0,
+                           deliveredEventCount == 0
+                               ? 0.0
+                               : (totalDeliveryTime / (double) deliveredEventCount) / 1_000_000.0,
+                           maxDeliveryTime / 1_000_000.0);
+    }
+  }
+
+  /**
+   * A thread delivering events to a handler asynchronously.
+   */
+  private static class DeliveryThread
+      extends Thread {
+
+    DeliveryThread(Runnable target, String name) {
+      super(target, name);
+    }
+  }
+
+  /**
+   * An event waiting for delivery.
+   */
+  private static class QueuedEvent {
+
+    /**
+     * The event.
+     */
+    private final Object event;
+    /**
+     * The time (from {@link System#nanoTime()}) at which the event was emitted.
+     */
+    private final long emissionTime;
+
+    QueuedEvent(Object event, long emissionTime) {
+      this.event = event;
+      this.emissionTime = emissionTime;
+    }
+  }
+}
@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.common;
+
+import static java.util.Objects.requireNonNull;
+import java.util.PriorityQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import static org.opentcs.util.Assertions.checkArgument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes simulation tasks (e.g. of loopback drivers) according to a virtual clock that is shared
+ * by all of them.
+ * <p>
+ * Instead of waiting for the wall-clock time at which a task is due, the virtual clock jumps
+ * straight to the due time of the next task, which is then executed.
+ * Tasks are executed one after another via the given executor, with each task being submitted only
+ * after the previous one has been executed.
+ * Tasks submitted to the executor as a result of a simulation task (e.g. the kernel's reaction to a
+ * vehicle reaching a point) are thus executed before the virtual clock jumps to the next task, as
+ * long as the executor executes tasks in the order they were submitted.
+ * </p>
+ *
+ * @author agent
+ */
+public class VirtualTimeScheduler {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(VirtualTimeScheduler.class);
+  /**
+   * The executor executing the simulation tasks.
+   */
+  private final Executor executor;
+  /**
+   * The scheduled tasks, ordered by their due times.
+   */
+  private final PriorityQueue<ScheduledTask> tasks = new PriorityQueue<>();
+  /**
+   * The current virtual time (in ms).
+   */
+  private long currentTime;
+  /**
+   * The number of tasks scheduled so far, keeping tasks with the same due time in order.
+   */
+  private long scheduledTaskCount;
+  /**
+   * Whether the execution of the next task is already submitted to the executor.
+   */
+  private boolean stepSubmitted;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param executor The executor executing the simulation tasks.
+   */
+  public VirtualTimeScheduler(Executor executor) {
+    this.executor = requireNonNull(executor, "executor");
+  }
+
+  /**
+   * Returns the current virtual time.
+   *
+   * @return The current virtual time (in ms).
+   */
+  public synchronized long getCurrentTime() {
+    return currentTime;
+  }
+
+  /**
+   * Schedules the given task for execution after the given virtual delay.
+   *
+   * @param task The task.
+   * @param delay The virtual delay.
+   * @param unit The delay's time unit.
+   * @return A future for the task's execution.
+   */
+  public synchronized Future<?> schedule(Runnable task, long delay, TimeUnit unit) {
+    requireNonNull(task, "task");
+    requireNonNull(unit, "unit");
+    checkArgument(delay >= 0, "delay < 0: %s", delay);
+
+    ScheduledTask scheduledTask = new ScheduledTask(task,
+                                                    currentTime + unit.toMillis(delay),
+                                                    scheduledTaskCount++);
+    tasks.add(scheduledTask);
+    submitStep();
+    return scheduledTask;
+  }
+
+  private void submitStep() {
+    if (stepSubmitted) {
+      return;
+    }
+    stepSubmitted = true;
+    executor.execute(this::step);
+  }
+
+  private void step() {
+    ScheduledTask task;
+    synchronized (this) {
+      stepSubmitted = false;
+      task = tasks.poll();
+      if (task == null) {
+        return;
+      }
+      currentTime = Math.max(currentTime, task.dueTime);
+    }
+
+    task.run();
+    logFailure(task);
+
+    synchronized (this) {
+      if (!tasks.isEmpty()) {
+        submitStep();
+      }
+    }
+  }
+
+  private void logFailure(ScheduledTask task) {
+    try {
+      task.get();
+    }
+    catch (CancellationException exc) {
+      // Cancelled tasks are not executed, which is fine.
+    }
+    catch (ExecutionException exc) {
+      LOG.warn("Exception thrown by simulation task", exc.getCause());
+    }
+    catch (InterruptedException exc) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * A task scheduled for a virtual point of time.
+   */
+  private static class ScheduledTask
+      extends FutureTask<Object>
+      implements Comparable<ScheduledTask> {
+
+    /**
+     * The virtual time (in ms) at which the task is due.
+     */
+    private final long dueTime;
+    /**
+     * The task's sequence number.
+     */
+    private final long sequenceNumber;
+
+    ScheduledTask(Runnable task, long dueTime, long sequenceNumber) {
+      super(task, null);
+      this.dueTime = dueTime;
+      this.sequenceNumber = sequenceNumber;
+    }
+
+    @Override
+    public int compareTo(ScheduledTask other) {
+      int result = Long.compare(dueTime, other.dueTime);
+      return result != 0 ? result : Long.compare(sequenceNumber, other.sequenceNumber);
+    }
+  }
+}
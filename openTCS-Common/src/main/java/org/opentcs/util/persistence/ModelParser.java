@@ -18,9 +18,11 @@ import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
 import java.nio.charset.Charset;
+import java.util.Objects;
 import org.opentcs.access.to.model.PlantModelCreationTO;
 import org.opentcs.util.persistence.v004.V004ModelParser;
 import org.opentcs.util.persistence.v004.V004PlantModelTO;
+import org.opentcs.util.persistence.v004.V004StreamingModelParser;
 import org.opentcs.util.persistence.v004.V004TOMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,16 +53,32 @@ public class ModelParser {
    */
   public PlantModelCreationTO readModel(File file)
       throws IOException {
-    String modelVersion = peekModelVersion(file);
+    String modelVersion = probeModel(file).getVersion();
 
     LOG.debug("File '{}' contains a model version '{}'.", file.getAbsolutePath(), modelVersion);
 
     try (Reader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file),
                                                                   CHARSET))) {
+      if (Objects.equals(modelVersion, V004TOMapper.VERSION_STRING)) {
+        return new V004StreamingModelParser().read(reader);
+      }
       return new V004ModelParser().read(reader, modelVersion);
     }
   }
 
+  /**
+   * Reads the name of the model in the given file.
+   * Only the model file's root element is read for this.
+   *
+   * @param file The model file to read.
+   * @return The model's name, or an empty string, if the model does not have a name.
+   * @throws IOException If there was an error reading the model file.
+   */
+  public String readModelName(File file)
+      throws IOException {
+    return probeModel(file).getName();
+  }
+
   /**
    * Writes the given {@link PlantModelCreationTO} to the given file.
    *
@@ -78,11 +96,11 @@ public class ModelParser {
     }
   }
 
-  private String peekModelVersion(File file)
+  private ProbePlantModelTO probeModel(File file)
       throws IOException {
     try (Reader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file),
                                                                   CHARSET))) {
-      return ProbePlantModelTO.fromXml(reader).getVersion();
+      return ProbePlantModelTO.fromXml(reader);
     }
   }
 }
@@ -11,18 +11,22 @@ import java.io.IOException;
 import java.io.Reader;
 import static java.util.Objects.requireNonNull;
 import javax.annotation.Nonnull;
-import javax.xml.bind.JAXBContext;
-import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlRootElement;
-import org.xml.sax.SAXException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 /**
  * Allows reading a model file to access basic information (such as the model version) for
  * validation purposes.
- * 
+ * <p>
+ * Only the model's root element is read, so the rest of the model file does not have to be parsed.
+ * </p>
+ *
  * @author Martin Grzenia (Fraunhofer IML)
  */
 @XmlRootElement(name = "model")
@@ -30,33 +34,59 @@ import org.xml.sax.SAXException;
 public class ProbePlantModelTO
     extends BasePlantModelTO {
 
+  private String name = "";
+
+  @XmlAttribute
+  public String getName() {
+    return name;
+  }
+
+  public ProbePlantModelTO setName(@Nonnull String name) {
+    requireNonNull(name, "name");
+    this.name = name;
+    return this;
+  }
+
   /**
-   * Unmarshals an instance of this class from the given XML representation.
+   * Reads an instance of this class from the root element of the given XML representation.
    *
    * @param reader Provides the XML representation to parse to an instance.
-   * @return The instance unmarshalled from the given reader.
-   * @throws IOException If there was a problem unmarshalling the given string.
+   * @return The instance read from the given reader.
+   * @throws IOException If there was a problem reading the given XML representation.
    */
   public static ProbePlantModelTO fromXml(@Nonnull Reader reader)
       throws IOException {
     requireNonNull(reader, "reader");
 
     try {
-      return (ProbePlantModelTO) createUnmarshaller().unmarshal(reader);
+      XMLStreamReader xmlReader = createInputFactory().createXMLStreamReader(reader);
+      try {
+        xmlReader.nextTag();
+        xmlReader.require(XMLStreamConstants.START_ELEMENT, null, "model");
+
+        ProbePlantModelTO result = new ProbePlantModelTO();
+        result.setVersion(attributeValue(xmlReader, "version"));
+        result.setName(attributeValue(xmlReader, "name"));
+        return result;
+      }
+      finally {
+        xmlReader.close();
+      }
     }
-    catch (JAXBException | SAXException exc) {
-      throw new IOException("Exception unmarshalling data", exc);
+    catch (XMLStreamException exc) {
+      throw new IOException("Exception reading model header", exc);
     }
   }
 
-  private static Unmarshaller createUnmarshaller()
-      throws JAXBException, SAXException {
-    Unmarshaller unmarshaller = createContext().createUnmarshaller();
-    return unmarshaller;
+  private static XMLInputFactory createInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return factory;
   }
 
-  private static JAXBContext createContext()
-      throws JAXBException {
-    return JAXBContext.newInstance(ProbePlantModelTO.class);
+  private static String attributeValue(XMLStreamReader xmlReader, String attributeName) {
+    String value = xmlReader.getAttributeValue(null, attributeName);
+    return value == null ? "" : value;
   }
 }
@@ -207,7 +207,13 @@ public class V004PlantModelTO
     return JAXBContext.newInstance(V004PlantModelTO.class);
   }
 
-  private static Schema createSchema()
+  /**
+   * Creates the schema for models of this version.
+   *
+   * @return The schema.
+   * @throws SAXException If the schema could not be created.
+   */
+  static Schema createSchema()
       throws SAXException {
     URL schemaUrl = V004PlantModelTO.class.getResource("/org/opentcs/util/persistence/model-0.0.4.xsd");
     SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
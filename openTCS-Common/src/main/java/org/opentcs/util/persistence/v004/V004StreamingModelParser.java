@@ -0,0 +1,192 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.util.persistence.v004;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import javax.annotation.Nonnull;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.validation.Schema;
+import org.opentcs.access.to.model.BlockCreationTO;
+import org.opentcs.access.to.model.LocationCreationTO;
+import org.opentcs.access.to.model.LocationTypeCreationTO;
+import org.opentcs.access.to.model.PathCreationTO;
+import org.opentcs.access.to.model.PlantModelCreationTO;
+import org.opentcs.access.to.model.PointCreationTO;
+import org.opentcs.access.to.model.VehicleCreationTO;
+import org.opentcs.access.to.model.VisualLayoutCreationTO;
+import org.xml.sax.SAXException;
+
+/**
+ * A parser for V004 models that reads a model in a single pass.
+ * <p>
+ * In contrast to {@link V004ModelParser}, this parser does not unmarshal the whole model to a
+ * {@link V004PlantModelTO} first.
+ * Instead, the model's elements (points, paths etc.) are unmarshalled one at a time while
+ * streaming through the model and are mapped to their creation TOs right away, so only the
+ * resulting {@link PlantModelCreationTO} is kept in memory.
+ * The model is validated against the schema in the same pass.
+ * </p>
+ *
+ * @author agent
+ */
+public class V004StreamingModelParser {
+
+  /**
+   * Maps the unmarshalled elements to creation TOs.
+   */
+  private final V004TOMapper mapper = new V004TOMapper();
+
+  /**
+   * Creates a new instance.
+   */
+  public V004StreamingModelParser() {
+  }
+
+  /**
+   * Reads a model with the given reader and parses it to a {@link PlantModelCreationTO} instance.
+   *
+   * @param reader The reader to use.
+   * @return The parsed {@link PlantModelCreationTO}.
+   * @throws IOException If there was an error reading the model, e.g. because it is not a V004
+   * model or does not conform to the schema.
+   */
+  public PlantModelCreationTO read(@Nonnull Reader reader)
+      throws IOException {
+    requireNonNull(reader, "reader");
+
+    try {
+      Unmarshaller unmarshaller = JAXBContext.newInstance(V004PlantModelTO.class)
+          .createUnmarshaller();
+      Schema schema = V004PlantModelTO.createSchema();
+      ValidatingXMLStreamReader xmlReader
+          = new ValidatingXMLStreamReader(createInputFactory().createXMLStreamReader(reader),
+                                          schema.newValidatorHandler());
+      try {
+        return read(xmlReader, unmarshaller);
+      }
+      catch (JAXBException | XMLStreamException | RuntimeException exc) {
+        // The unmarshaller may wrap the validation error, so report it explicitly.
+        SAXException validationError = xmlReader.getValidationError();
+        if (validationError != null) {
+          throw new IOException("Model does not conform to schema: "
+              + validationError.getMessage(), validationError);
+        }
+        throw exc;
+      }
+      finally {
+        xmlReader.close();
+      }
+    }
+    catch (JAXBException | XMLStreamException | SAXException exc) {
+      throw new IOException("Exception reading model", exc);
+    }
+    catch (RuntimeException exc) {
+      throw new IOException("Exception mapping model", exc);
+    }
+  }
+
+  private PlantModelCreationTO read(XMLStreamReader xmlReader, Unmarshaller unmarshaller)
+      throws JAXBException, XMLStreamException {
+    xmlReader.nextTag();
+    xmlReader.require(XMLStreamConstants.START_ELEMENT, null, "model");
+    String version = xmlReader.getAttributeValue(null, "version");
+    if (!V004TOMapper.VERSION_STRING.equals(version)) {
+      throw new XMLStreamException("Unsupported model version: " + version,
+                                   xmlReader.getLocation());
+    }
+    String name = xmlReader.getAttributeValue(null, "name");
+
+    List<PointCreationTO> points = new ArrayList<>();
+    List<PathCreationTO> paths = new ArrayList<>();
+    List<VehicleCreationTO> vehicles = new ArrayList<>();
+    List<LocationTypeCreationTO> locationTypes = new ArrayList<>();
+    List<LocationCreationTO> locations = new ArrayList<>();
+    List<BlockCreationTO> blocks = new ArrayList<>();
+    VisualLayoutCreationTO visualLayout = mapper.toVisualLayoutCreationTO(new VisualLayoutTO());
+    List<PropertyTO> properties = new ArrayList<>();
+
+    xmlReader.nextTag();
+    while (xmlReader.isStartElement()) {
+      switch (xmlReader.getLocalName()) {
+        case "point":
+          points.add(mapper.toPointCreationTO(unmarshal(xmlReader, unmarshaller, PointTO.class)));
+          break;
+        case "path":
+          paths.add(mapper.toPathCreationTO(unmarshal(xmlReader, unmarshaller, PathTO.class)));
+          break;
+        case "vehicle":
+          vehicles.add(
+              mapper.toVehicleCreationTO(unmarshal(xmlReader, unmarshaller, VehicleTO.class))
+          );
+          break;
+        case "locationType":
+          locationTypes.add(mapper.toLocationTypeCreationTO(
+              unmarshal(xmlReader, unmarshaller, LocationTypeTO.class)
+          ));
+          break;
+        case "location":
+          locations.add(
+              mapper.toLocationCreationTO(unmarshal(xmlReader, unmarshaller, LocationTO.class))
+          );
+          break;
+        case "block":
+          blocks.add(mapper.toBlockCreationTO(unmarshal(xmlReader, unmarshaller, BlockTO.class)));
+          break;
+        case "visualLayout":
+          visualLayout = mapper.toVisualLayoutCreationTO(
+              unmarshal(xmlReader, unmarshaller, VisualLayoutTO.class)
+          );
+          break;
+        case "property":
+          properties.add(unmarshal(xmlReader, unmarshaller, PropertyTO.class));
+          break;
+        default:
+          throw new XMLStreamException("Unexpected element: " + xmlReader.getLocalName(),
+                                       xmlReader.getLocation());
+      }
+      // Unmarshalling leaves the reader at the event following the element, which may be
+      // whitespace preceding the next one.
+      if (!xmlReader.isStartElement() && !xmlReader.isEndElement()) {
+        xmlReader.nextTag();
+      }
+    }
+    xmlReader.require(XMLStreamConstants.END_ELEMENT, null, "model");
+
+    return new PlantModelCreationTO(name == null ? "" : name)
+        .withPoints(points)
+        .withVehicles(vehicles)
+        .withPaths(paths)
+        .withLocationTypes(locationTypes)
+        .withLocations(locations)
+        .withBlocks(blocks)
+        .withVisualLayout(visualLayout)
+        .withProperties(mapper.convertProperties(properties));
+  }
+
+  private <T> T unmarshal(XMLStreamReader xmlReader, Unmarshaller unmarshaller, Class<T> clazz)
+      throws JAXBException {
+    return unmarshaller.unmarshal(xmlReader, clazz).getValue();
+  }
+
+  private XMLInputFactory createInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return factory;
+  }
+}
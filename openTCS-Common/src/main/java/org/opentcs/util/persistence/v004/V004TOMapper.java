@@ -99,77 +99,83 @@ public class V004TOMapper {
     List<PointCreationTO> result = new ArrayList<>();
 
     for (PointTO point : points) {
-      result.add(
-          new PointCreationTO(point.getName())
-              .withPosition(new Triple(point.getxPosition(),
-                                       point.getyPosition(),
-                                       point.getzPosition()))
-              .withVehicleOrientationAngle(point.getVehicleOrientationAngle().doubleValue())
-              .withType(Point.Type.valueOf(point.getType()))
-              .withProperties(convertProperties(point.getProperties()))
-              .withLayout(new PointCreationTO.Layout(new Couple(point.getPointLayout().getxPosition(),
-                                                                point.getPointLayout().getyPosition()),
-                                                     new Couple(point.getPointLayout().getxLabelOffset(),
-                                                                point.getPointLayout().getyLabelOffset()),
-                                                     point.getPointLayout().getLayerId()))
-      );
+      result.add(toPointCreationTO(point));
     }
 
     return result;
   }
 
+  PointCreationTO toPointCreationTO(PointTO point) {
+    return new PointCreationTO(point.getName())
+        .withPosition(new Triple(point.getxPosition(),
+                                 point.getyPosition(),
+                                 point.getzPosition()))
+        .withVehicleOrientationAngle(point.getVehicleOrientationAngle().doubleValue())
+        .withType(Point.Type.valueOf(point.getType()))
+        .withProperties(convertProperties(point.getProperties()))
+        .withLayout(new PointCreationTO.Layout(new Couple(point.getPointLayout().getxPosition(),
+                                                          point.getPointLayout().getyPosition()),
+                                               new Couple(point.getPointLayout().getxLabelOffset(),
+                                                          point.getPointLayout().getyLabelOffset()),
+                                               point.getPointLayout().getLayerId()));
+  }
+
   private List<VehicleCreationTO> toVehicleCreationTO(List<VehicleTO> vehicles) {
     List<VehicleCreationTO> result = new ArrayList<>();
 
     for (VehicleTO vehicle : vehicles) {
-      result.add(
-          new VehicleCreationTO(vehicle.getName())
-              .withLength(vehicle.getLength().intValue())
-              .withEnergyLevelCritical(vehicle.getEnergyLevelCritical().intValue())
-              .withEnergyLevelGood(vehicle.getEnergyLevelGood().intValue())
-              .withEnergyLevelFullyRecharged(vehicle.getEnergyLevelFullyRecharged().intValue())
-              .withEnergyLevelSufficientlyRecharged(vehicle.getEnergyLevelSufficientlyRecharged().intValue())
-              .withMaxReverseVelocity(vehicle.getMaxReverseVelocity())
-              .withMaxVelocity(vehicle.getMaxVelocity())
-              .withProperties(convertProperties(vehicle.getProperties()))
-              .withLayout(new VehicleCreationTO.Layout(
-                  Colors.decodeFromHexRGB(vehicle.getVehicleLayout().getColor())
-              ))
-      );
+      result.add(toVehicleCreationTO(vehicle));
     }
 
     return result;
   }
 
+  VehicleCreationTO toVehicleCreationTO(VehicleTO vehicle) {
+    return new VehicleCreationTO(vehicle.getName())
+        .withLength(vehicle.getLength().intValue())
+        .withEnergyLevelCritical(vehicle.getEnergyLevelCritical().intValue())
+        .withEnergyLevelGood(vehicle.getEnergyLevelGood().intValue())
+        .withEnergyLevelFullyRecharged(vehicle.getEnergyLevelFullyRecharged().intValue())
+        .withEnergyLevelSufficientlyRecharged(vehicle.getEnergyLevelSufficientlyRecharged().intValue())
+        .withMaxReverseVelocity(vehicle.getMaxReverseVelocity())
+        .withMaxVelocity(vehicle.getMaxVelocity())
+        .withProperties(convertProperties(vehicle.getProperties()))
+        .withLayout(new VehicleCreationTO.Layout(
+            Colors.decodeFromHexRGB(vehicle.getVehicleLayout().getColor())
+        ));
+  }
+
   private List<PathCreationTO> toPathCreationTO(List<PathTO> paths) {
     List<PathCreationTO> result = new ArrayList<>();
 
     for (PathTO path : paths) {
-      result.add(
-          new PathCreationTO(path.getName(),
-                             path.getSourcePoint(),
-                             path.getDestinationPoint())
-              .withLength(path.getLength())
-              .withLocked(path.isLocked())
-              .withMaxVelocity(path.getMaxVelocity().intValue())
-              .withMaxReverseVelocity(path.getMaxReverseVelocity().intValue())
-              .withPeripheralOperations(
-                  toPeripheralOperationCreationTOs(path.getPeripheralOperations())
-              )
-              .withProperties(convertProperties(path.getProperties()))
-              .withLayout(new PathCreationTO.Layout(
-                  Path.Layout.ConnectionType.valueOf(path.getPathLayout().getConnectionType()),
-                  path.getPathLayout().getControlPoints().stream()
-                      .map(controlPoint -> new Couple(controlPoint.getX(), controlPoint.getY()))
-                      .collect(Collectors.toList()),
-                  path.getPathLayout().getLayerId()
-              ))
-      );
+      result.add(toPathCreationTO(path));
     }
 
     return result;
   }
 
+  PathCreationTO toPathCreationTO(PathTO path) {
+    return new PathCreationTO(path.getName(),
+                              path.getSourcePoint(),
+                              path.getDestinationPoint())
+        .withLength(path.getLength())
+        .withLocked(path.isLocked())
+        .withMaxVelocity(path.getMaxVelocity().intValue())
+        .withMaxReverseVelocity(path.getMaxReverseVelocity().intValue())
+        .withPeripheralOperations(
+            toPeripheralOperationCreationTOs(path.getPeripheralOperations())
+        )
+        .withProperties(convertProperties(path.getProperties()))
+        .withLayout(new PathCreationTO.Layout(
+            Path.Layout.ConnectionType.valueOf(path.getPathLayout().getConnectionType()),
+            path.getPathLayout().getControlPoints().stream()
+                .map(controlPoint -> new Couple(controlPoint.getX(), controlPoint.getY()))
+                .collect(Collectors.toList()),
+            path.getPathLayout().getLayerId()
+        ));
+  }
+
   private List<PeripheralOperationCreationTO> toPeripheralOperationCreationTOs(
       List<PeripheralOperationTO> tos) {
     return tos.stream()
@@ -188,68 +194,74 @@ public class V004TOMapper {
     List<LocationTypeCreationTO> result = new ArrayList<>();
 
     for (LocationTypeTO locationType : locationTypes) {
-      result.add(
-          new LocationTypeCreationTO(locationType.getName())
-              .withAllowedOperations(getOperationNames(locationType.getAllowedOperations()))
-              .withAllowedPeripheralOperations(getPeripheralOperationNames(
-                  locationType.getAllowedPeripheralOperations())
-              )
-              .withProperties(convertProperties(locationType.getProperties()))
-              .withLayout(new LocationTypeCreationTO.Layout(
-                  LocationRepresentation.valueOf(locationType.getLocationTypeLayout().getLocationRepresentation())
-              ))
-      );
+      result.add(toLocationTypeCreationTO(locationType));
     }
 
     return result;
   }
 
+  LocationTypeCreationTO toLocationTypeCreationTO(LocationTypeTO locationType) {
+    return new LocationTypeCreationTO(locationType.getName())
+        .withAllowedOperations(getOperationNames(locationType.getAllowedOperations()))
+        .withAllowedPeripheralOperations(getPeripheralOperationNames(
+            locationType.getAllowedPeripheralOperations())
+        )
+        .withProperties(convertProperties(locationType.getProperties()))
+        .withLayout(new LocationTypeCreationTO.Layout(
+            LocationRepresentation.valueOf(locationType.getLocationTypeLayout().getLocationRepresentation())
+        ));
+  }
+
   private List<LocationCreationTO> toLocationCreationTO(List<LocationTO> locations) {
     List<LocationCreationTO> result = new ArrayList<>();
 
     for (LocationTO location : locations) {
-      result.add(
-          new LocationCreationTO(location.getName(),
-                                 location.getType(),
-                                 new Triple(location.getxPosition(),
-                                            location.getyPosition(),
-                                            location.getzPosition()))
-              .withLinks(getLinks(location))
-              .withLocked(location.isLocked())
-              .withProperties(convertProperties(location.getProperties()))
-              .withLayout(new LocationCreationTO.Layout(new Couple(location.getLocationLayout().getxPosition(),
-                                                                   location.getLocationLayout().getyPosition()),
-                                                        new Couple(location.getLocationLayout().getxLabelOffset(),
-                                                                   location.getLocationLayout().getyLabelOffset()),
-                                                        LocationRepresentation.valueOf(location.getLocationLayout().getLocationRepresentation()),
-                                                        location.getLocationLayout().getLayerId()))
-      );
+      result.add(toLocationCreationTO(location));
     }
 
     return result;
   }
 
+  LocationCreationTO toLocationCreationTO(LocationTO location) {
+    return new LocationCreationTO(location.getName(),
+                                  location.getType(),
+                                  new Triple(location.getxPosition(),
+                                             location.getyPosition(),
+                                             location.getzPosition()))
+        .withLinks(getLinks(location))
+        .withLocked(location.isLocked())
+        .withProperties(convertProperties(location.getProperties()))
+        .withLayout(new LocationCreationTO.Layout(new Couple(location.getLocationLayout().getxPosition(),
+                                                             location.getLocationLayout().getyPosition()),
+                                                  new Couple(location.getLocationLayout().getxLabelOffset(),
+                                                             location.getLocationLayout().getyLabelOffset()),
+                                                  LocationRepresentation.valueOf(location.getLocationLayout().getLocationRepresentation()),
+                                                  location.getLocationLayout().getLayerId()));
+  }
+
   private List<BlockCreationTO> toBlockCreationTO(List<BlockTO> blocks) {
     List<BlockCreationTO> result = new ArrayList<>();
 
     for (BlockTO block : blocks) {
-      result.add(
-          new BlockCreationTO(block.getName())
-              .withType(Block.Type.valueOf(block.getType()))
-              .withMemberNames(block.getMembers().stream()
-                  .map(member -> member.getName())
-                  .collect(Collectors.toSet()))
-              .withProperties(convertProperties(block.getProperties()))
-              .withLayout(new BlockCreationTO.Layout(
-                  Colors.decodeFromHexRGB(block.getBlockLayout().getColor())
-              ))
-      );
+      result.add(toBlockCreationTO(block));
     }
 
     return result;
   }
 
-  private VisualLayoutCreationTO toVisualLayoutCreationTO(VisualLayoutTO visualLayout) {
+  BlockCreationTO toBlockCreationTO(BlockTO block) {
+    return new BlockCreationTO(block.getName())
+        .withType(Block.Type.valueOf(block.getType()))
+        .withMemberNames(block.getMembers().stream()
+            .map(member -> member.getName())
+            .collect(Collectors.toSet()))
+        .withProperties(convertProperties(block.getProperties()))
+        .withLayout(new BlockCreationTO.Layout(
+            Colors.decodeFromHexRGB(block.getBlockLayout().getColor())
+        ));
+  }
+
+  VisualLayoutCreationTO toVisualLayoutCreationTO(VisualLayoutTO visualLayout) {
     return new VisualLayoutCreationTO(visualLayout.getName())
         .withScaleX(visualLayout.getScaleX())
         .withScaleY(visualLayout.getScaleY())
@@ -284,7 +296,7 @@ public class V004TOMapper {
     return result;
   }
 
-  private Map<String, String> convertProperties(List<PropertyTO> propsList) {
+  Map<String, String> convertProperties(List<PropertyTO> propsList) {
     Map<String, String> result = new HashMap<>();
     for (PropertyTO property : propsList) {
       String propName
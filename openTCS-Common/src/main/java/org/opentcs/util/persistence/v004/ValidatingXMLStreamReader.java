@@ -0,0 +1,188 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.util.persistence.v004;
+
+import static java.util.Objects.requireNonNull;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.util.StreamReaderDelegate;
+import javax.xml.validation.ValidatorHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+
+/**
+ * An {@link XMLStreamReader} that validates the document it reads against a schema.
+ * <p>
+ * Every event the reader advances to is passed on to a {@link ValidatorHandler}, regardless of
+ * whether it is consumed by the reader's user directly or by a JAXB unmarshaller.
+ * This way, a document can be validated in the same pass in which it is read.
+ * If the document does not conform to the schema, advancing the reader fails with an
+ * {@link XMLStreamException}, and the validation error is provided by
+ * {@link #getValidationError()}.
+ * </p>
+ *
+ * @author agent
+ */
+class ValidatingXMLStreamReader
+    extends StreamReaderDelegate {
+
+  /**
+   * Validates the events passed to it.
+   */
+  private final ValidatorHandler validatorHandler;
+  /**
+   * The first validation error, or {@code null}, if there was none.
+   */
+  private SAXException validationError;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param reader The reader to be validated, positioned at the start of the document.
+   * @param validatorHandler Validates the events passed to it.
+   * @throws XMLStreamException If the start of the document could not be validated.
+   */
+  ValidatingXMLStreamReader(@Nonnull XMLStreamReader reader,
+                            @Nonnull ValidatorHandler validatorHandler)
+      throws XMLStreamException {
+    super(requireNonNull(reader, "reader"));
+    this.validatorHandler = requireNonNull(validatorHandler, "validatorHandler");
+
+    validate(getEventType());
+  }
+
+  /**
+   * Returns the first validation error.
+   *
+   * @return The first validation error, or {@code null}, if there was none.
+   */
+  @Nullable
+  public SAXException getValidationError() {
+    return validationError;
+  }
+
+  @Override
+  public int next()
+      throws XMLStreamException {
+    int eventType = super.next();
+    validate(eventType);
+    return eventType;
+  }
+
+  @Override
+  public int nextTag()
+      throws XMLStreamException {
+    // Advance via next(), so the skipped events are validated, too.
+    int eventType = next();
+    while (eventType == XMLStreamConstants.SPACE
+        || eventType == XMLStreamConstants.COMMENT
+        || eventType == XMLStreamConstants.PROCESSING_INSTRUCTION
+        || (eventType == XMLStreamConstants.CHARACTERS && isWhiteSpace())) {
+      eventType = next();
+    }
+    if (eventType != XMLStreamConstants.START_ELEMENT
+        && eventType != XMLStreamConstants.END_ELEMENT) {
+      throw new XMLStreamException("Expected start or end tag", getLocation());
+    }
+    return eventType;
+  }
+
+  @Override
+  public String getElementText()
+      throws XMLStreamException {
+    // Advance via next(), so the text events are validated, too.
+    StringBuilder text = new StringBuilder();
+    int eventType = next();
+    while (eventType != XMLStreamConstants.END_ELEMENT) {
+      if (eventType == XMLStreamConstants.CHARACTERS
+          || eventType == XMLStreamConstants.CDATA
+          || eventType == XMLStreamConstants.SPACE) {
+        text.append(getText());
+      }
+      else if (eventType != XMLStreamConstants.COMMENT
+          && eventType != XMLStreamConstants.PROCESSING_INSTRUCTION) {
+        throw new XMLStreamException("Unexpected event in element text", getLocation());
+      }
+      eventType = next();
+    }
+    return text.toString();
+  }
+
+  private void validate(int eventType)
+      throws XMLStreamException {
+    try {
+      switch (eventType) {
+        case XMLStreamConstants.START_DOCUMENT:
+          validatorHandler.startDocument();
+          break;
+        case XMLStreamConstants.END_DOCUMENT:
+          validatorHandler.endDocument();
+          break;
+        case XMLStreamConstants.START_ELEMENT:
+          for (int i = 0; i < getNamespaceCount(); i++) {
+            validatorHandler.startPrefixMapping(nullToEmpty(getNamespacePrefix(i)),
+                                                nullToEmpty(getNamespaceURI(i)));
+          }
+          validatorHandler.startElement(nullToEmpty(getNamespaceURI()),
+                                        getLocalName(),
+                                        qualifiedName(getPrefix(), getLocalName()),
+                                        attributes());
+          break;
+        case XMLStreamConstants.END_ELEMENT:
+          validatorHandler.endElement(nullToEmpty(getNamespaceURI()),
+                                      getLocalName(),
+                                      qualifiedName(getPrefix(), getLocalName()));
+          for (int i = 0; i < getNamespaceCount(); i++) {
+            validatorHandler.endPrefixMapping(nullToEmpty(getNamespacePrefix(i)));
+          }
+          break;
+        case XMLStreamConstants.CHARACTERS:
+        case XMLStreamConstants.CDATA:
+        case XMLStreamConstants.SPACE:
+          validatorHandler.characters(getTextCharacters(), getTextStart(), getTextLength());
+          break;
+        default:
+          // Other events are irrelevant for validation.
+      }
+    }
+    catch (SAXException exc) {
+      if (validationError == null) {
+        validationError = exc;
+      }
+      throw new XMLStreamException("Model does not conform to schema: " + exc.getMessage(),
+                                   getLocation(),
+                                   exc);
+    }
+  }
+
+  private AttributesImpl attributes() {
+    AttributesImpl attributes = new AttributesImpl();
+    for (int i = 0; i < getAttributeCount(); i++) {
+      attributes.addAttribute(nullToEmpty(getAttributeNamespace(i)),
+                              getAttributeLocalName(i),
+                              qualifiedName(getAttributePrefix(i), getAttributeLocalName(i)),
+                              nullToEmpty(getAttributeType(i)),
+                              getAttributeValue(i));
+    }
+    return attributes;
+  }
+
+  private static String qualifiedName(String prefix, String localName) {
+    return prefix == null || prefix.equals(XMLConstants.DEFAULT_NS_PREFIX)
+        ? localName
+        : prefix + ":" + localName;
+  }
+
+  private static String nullToEmpty(String value) {
+    return value == null ? "" : value;
+  }
+}
@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.common;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MonitoredScheduledThreadPoolExecutor}.
+ *
+ * @author agent
+ */
+public class MonitoredScheduledThreadPoolExecutorTest {
+
+  private MonitoredScheduledThreadPoolExecutor executor;
+
+  @BeforeEach
+  public void setUp() {
+    executor = new MonitoredScheduledThreadPoolExecutor("testExecutor", 1, Thread::new);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void countDueTasksOnly()
+      throws Exception {
+    CountDownLatch blocker = new CountDownLatch(1);
+    executor.submit(() -> {
+      blocker.await();
+      return null;
+    });
+    executor.submit(() -> {
+    });
+    executor.submit(() -> {
+    });
+    executor.schedule(() -> {
+    }, 1, TimeUnit.HOURS);
+
+    // Wait for the blocking task to be started.
+    while (executor.getActiveCount() == 0) {
+      Thread.sleep(1);
+    }
+
+    assertEquals(2, executor.getQueueDepth());
+
+    blocker.countDown();
+    executor.submit(() -> null).get(1, TimeUnit.SECONDS);
+
+    assertEquals(0, executor.getQueueDepth());
+  }
+
+  @Test
+  public void recordWaitTimes()
+      throws Exception {
+    CountDownLatch blocker = new CountDownLatch(1);
+    executor.submit(() -> {
+      blocker.await();
+      return null;
+    });
+    executor.submit(() -> {
+    });
+    Thread.sleep(50);
+    blocker.countDown();
+    executor.submit(() -> null).get(1, TimeUnit.SECONDS);
+
+    assertTrue(executor.getMaxWaitTime() >= 50.0);
+    assertTrue(executor.getAverageWaitTime() > 0.0);
+    assertTrue(executor.getAverageWaitTime() <= executor.getMaxWaitTime());
+  }
+}
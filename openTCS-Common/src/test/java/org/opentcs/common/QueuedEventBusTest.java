@@ -0,0 +1,256 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.access.EventBufferOverflowEvent;
+import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.SynchronousEventHandler;
+
+/**
+ * Unit tests for {@link QueuedEventBus}.
+ *
+ * @author agent
+ */
+public class QueuedEventBusTest {
+
+  private QueuedEventBus eventBus;
+
+  private final List<EventHandler> handlers = new ArrayList<>();
+
+  @BeforeEach
+  public void setUp() {
+    eventBus = new QueuedEventBus("testEventBus", 100);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    for (EventHandler handler : handlers) {
+      eventBus.unsubscribe(handler);
+    }
+  }
+
+  @Test
+  public void deliverEventsInOrder()
+      throws Exception {
+    CountDownLatch received = new CountDownLatch(1000);
+    List<Object> events = Collections.synchronizedList(new ArrayList<>());
+    subscribe(event -> {
+      events.add(event);
+      received.countDown();
+    });
+
+    for (int i = 0; i < 1000; i++) {
+      eventBus.onEvent(i);
+    }
+
+    assertTrue(received.await(5, TimeUnit.SECONDS));
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(i, events.get(i));
+    }
+  }
+
+  @Test
+  public void doNotWaitForSlowHandlers()
+      throws Exception {
+    CountDownLatch blocker = new CountDownLatch(1);
+    CountDownLatch received = new CountDownLatch(1);
+    subscribe(event -> {
+      try {
+        blocker.await();
+      }
+      catch (InterruptedException exc) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    subscribe(event -> received.countDown());
+
+    eventBus.onEvent("event");
+
+    // The second handler receives the event while the first one is still blocked.
+    assertTrue(received.await(5, TimeUnit.SECONDS));
+    blocker.countDown();
+  }
+
+  @Test
+  public void deliverEventsToSynchronousHandlersOnEmittingThread() {
+    List<Thread> threads = new ArrayList<>();
+    subscribe((SynchronousEventHandler) event -> threads.add(Thread.currentThread()));
+
+    eventBus.onEvent("event");
+
+    assertEquals(1, threads.size());
+    assertSame(Thread.currentThread(), threads.get(0));
+  }
+
+  @Test
+  public void continueDeliveryAfterException() {
+    List<Object> events = new ArrayList<>();
+    subscribe((SynchronousEventHandler) event -> {
+      throw new IllegalStateException("Failing handler");
+    });
+    subscribe((SynchronousEventHandler) event -> events.add(event));
+
+    eventBus.onEvent("event1");
+    eventBus.onEvent("event2");
+
+    assertEquals(2, events.size());
+  }
+
+  @Test
+  public void terminateDeliveryOnUnsubscribeWhilePublishersFillQueue()
+      throws Exception {
+    eventBus = new QueuedEventBus("testEventBus", 1);
+    CountDownLatch received = new CountDownLatch(1);
+    AtomicReference<Thread> deliveryThread = new AtomicReference<>();
+    EventHandler handler = event -> {
+      deliveryThread.set(Thread.currentThread());
+      received.countDown();
+      try {
+        // Block until interrupted, keeping the queue full.
+        new CountDownLatch(1).await();
+      }
+      catch (InterruptedException exc) {
+        Thread.currentThread().interrupt();
+      }
+    };
+    eventBus.subscribe(handler);
+
+    List<Thread> publishers = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      Thread publisher = new Thread(() -> {
+        for (int j = 0; j < 100; j++) {
+          eventBus.onEvent(j);
+        }
+      });
+      publisher.start();
+      publishers.add(publisher);
+    }
+
+    assertTrue(received.await(5, TimeUnit.SECONDS));
+    eventBus.unsubscribe(handler);
+
+    deliveryThread.get().join(5000);
+    assertFalse(deliveryThread.get().isAlive());
+    for (Thread publisher : publishers) {
+      publisher.join(5000);
+      assertFalse(publisher.isAlive());
+    }
+  }
+
+  @Test
+  public void deliverEventsEmittedByHandlerAfterQueuedEvents()
+      throws Exception {
+    eventBus = new QueuedEventBus("testEventBus", 1);
+    CountDownLatch startReceived = new CountDownLatch(1);
+    CountDownLatch queueFilled = new CountDownLatch(1);
+    CountDownLatch received = new CountDownLatch(4);
+    List<Object> events = Collections.synchronizedList(new ArrayList<>());
+    subscribe(event -> {
+      events.add(event);
+      if ("start".equals(event)) {
+        startReceived.countDown();
+        try {
+          queueFilled.await();
+        }
+        catch (InterruptedException exc) {
+          Thread.currentThread().interrupt();
+        }
+        // The queue is full now, so these events must not be discarded or processed right away.
+        eventBus.onEvent("emitted1");
+        eventBus.onEvent("emitted2");
+      }
+      received.countDown();
+    });
+
+    eventBus.onEvent("start");
+    assertTrue(startReceived.await(5, TimeUnit.SECONDS));
+    eventBus.onEvent("queued");
+    queueFilled.countDown();
+
+    assertTrue(received.await(5, TimeUnit.SECONDS));
+    assertEquals(Arrays.asList("start", "queued", "emitted1", "emitted2"), events);
+  }
+
+  @Test
+  public void discardEventsForHandlerWithFullQueue()
+      throws Exception {
+    eventBus = new QueuedEventBus("testEventBus", 1);
+    CountDownLatch firstReceived = new CountDownLatch(1);
+    CountDownLatch blocker = new CountDownLatch(1);
+    CountDownLatch received = new CountDownLatch(3);
+    List<Object> events = Collections.synchronizedList(new ArrayList<>());
+    subscribe(event -> {
+      events.add(event);
+      firstReceived.countDown();
+      try {
+        blocker.await();
+      }
+      catch (InterruptedException exc) {
+        Thread.currentThread().interrupt();
+      }
+      received.countDown();
+    });
+
+    eventBus.onEvent("event1");
+    assertTrue(firstReceived.await(5, TimeUnit.SECONDS));
+    long timeBefore = System.currentTimeMillis();
+    eventBus.onEvent("event2");
+    // The queue is full now, so these events are discarded after waiting for a limited time.
+    for (int i = 0; i < 10; i++) {
+      eventBus.onEvent("discarded");
+    }
+    assertTrue(System.currentTimeMillis() - timeBefore < 1000);
+    blocker.countDown();
+
+    assertTrue(received.await(5, TimeUnit.SECONDS));
+    assertEquals(3, events.size());
+    assertEquals("event1", events.get(0));
+    assertTrue(events.get(1) instanceof EventBufferOverflowEvent);
+    assertEquals(10, ((EventBufferOverflowEvent) events.get(1)).getDiscardedEventCount());
+    assertEquals("event2", events.get(2));
+  }
+
+  @Test
+  public void identifyDeliveryThreads()
+      throws Exception {
+    CountDownLatch received = new CountDownLatch(1);
+    List<Boolean> deliveryThreadFlags = Collections.synchronizedList(new ArrayList<>());
+    subscribe((SynchronousEventHandler) event -> {
+      deliveryThreadFlags.add(QueuedEventBus.isDeliveryThread());
+    });
+    subscribe(event -> {
+      deliveryThreadFlags.add(QueuedEventBus.isDeliveryThread());
+      received.countDown();
+    });
+
+    eventBus.onEvent("event");
+
+    assertTrue(received.await(5, TimeUnit.SECONDS));
+    assertEquals(Arrays.asList(false, true), deliveryThreadFlags);
+    assertFalse(QueuedEventBus.isDeliveryThread());
+  }
+
+  private void subscribe(EventHandler handler) {
+    handlers.add(handler);
+    eventBus.subscribe(handler);
+  }
+}
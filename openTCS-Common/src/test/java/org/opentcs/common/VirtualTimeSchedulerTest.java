@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.common;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link VirtualTimeScheduler}.
+ *
+ * @author agent
+ */
+public class VirtualTimeSchedulerTest {
+
+  private Queue<Runnable> executorQueue;
+
+  private VirtualTimeScheduler scheduler;
+
+  @BeforeEach
+  public void setUp() {
+    executorQueue = new ArrayDeque<>();
+    scheduler = new VirtualTimeScheduler(executorQueue::add);
+  }
+
+  @Test
+  public void executeTasksInOrderOfDueTimes() {
+    List<String> executed = new ArrayList<>();
+    scheduler.schedule(() -> executed.add("C"), 5, TimeUnit.SECONDS);
+    scheduler.schedule(() -> executed.add("A"), 100, TimeUnit.MILLISECONDS);
+    scheduler.schedule(() -> executed.add("B"), 100, TimeUnit.MILLISECONDS);
+
+    runExecutor();
+
+    assertEquals(Arrays.asList("A", "B", "C"), executed);
+    assertEquals(5000, scheduler.getCurrentTime());
+  }
+
+  @Test
+  public void scheduleRelativeToCurrentVirtualTime() {
+    List<Long> executionTimes = new ArrayList<>();
+    scheduler.schedule(() -> {
+      executionTimes.add(scheduler.getCurrentTime());
+      scheduler.schedule(() -> executionTimes.add(scheduler.getCurrentTime()),
+                         100,
+                         TimeUnit.MILLISECONDS);
+    }, 1, TimeUnit.SECONDS);
+
+    runExecutor();
+
+    assertEquals(Arrays.asList(1000L, 1100L), executionTimes);
+  }
+
+  @Test
+  public void executeTasksSubmittedByTasksBeforeAdvancingTime() {
+    List<String> executed = new ArrayList<>();
+    scheduler.schedule(() -> {
+      executed.add("A");
+      executorQueue.add(() -> executed.add("reaction to A"));
+    }, 100, TimeUnit.MILLISECONDS);
+    scheduler.schedule(() -> executed.add("B"), 200, TimeUnit.MILLISECONDS);
+
+    runExecutor();
+
+    assertEquals(Arrays.asList("A", "reaction to A", "B"), executed);
+  }
+
+  @Test
+  public void skipCancelledTasks() {
+    List<String> executed = new ArrayList<>();
+    Future<?> future = scheduler.schedule(() -> executed.add("A"), 100, TimeUnit.MILLISECONDS);
+    scheduler.schedule(() -> executed.add("B"), 200, TimeUnit.MILLISECONDS);
+    future.cancel(false);
+
+    runExecutor();
+
+    assertEquals(Arrays.asList("B"), executed);
+    assertTrue(future.isCancelled());
+  }
+
+  private void runExecutor() {
+    while (!executorQueue.isEmpty()) {
+      executorQueue.poll().run();
+    }
+  }
+}
@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.util.persistence;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.stream.Collectors;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opentcs.access.to.model.BlockCreationTO;
+import org.opentcs.access.to.model.LocationCreationTO;
+import org.opentcs.access.to.model.LocationTypeCreationTO;
+import org.opentcs.access.to.model.PathCreationTO;
+import org.opentcs.access.to.model.PlantModelCreationTO;
+import org.opentcs.access.to.model.PointCreationTO;
+import org.opentcs.access.to.model.VehicleCreationTO;
+import org.opentcs.access.to.model.VisualLayoutCreationTO;
+import org.opentcs.data.model.Triple;
+import org.opentcs.data.model.visualization.Layer;
+import org.opentcs.data.model.visualization.LayerGroup;
+
+/**
+ * Unit tests for {@link ModelParser}.
+ *
+ * @author agent
+ */
+public class ModelParserTest {
+
+  @TempDir
+  File tempDir;
+
+  private ModelParser parser;
+
+  private File modelFile;
+
+  @BeforeEach
+  public void setUp()
+      throws IOException {
+    parser = new ModelParser();
+    modelFile = new File(tempDir, "model.xml");
+    parser.writeModel(createModel(), modelFile);
+  }
+
+  @Test
+  public void readModelNameFromHeader()
+      throws IOException {
+    assertThat(parser.readModelName(modelFile), is("Demo"));
+  }
+
+  @Test
+  public void readAllModelElements()
+      throws IOException {
+    PlantModelCreationTO model = parser.readModel(modelFile);
+
+    assertThat(model.getName(), is("Demo"));
+    assertThat(model.getProperties(), hasEntry("modelKey", "modelValue"));
+    assertThat(model.getPoints().stream()
+        .map(point -> point.getName())
+        .collect(Collectors.toList()), contains("Point1", "Point2"));
+    assertThat(model.getPoints().get(1).getPosition().getX(), is(4L));
+    assertThat(model.getPoints().get(1).getProperties(), hasEntry("pointKey", "pointValue"));
+    assertThat(model.getPaths(), hasSize(1));
+    assertThat(model.getPaths().get(0).getSrcPointName(), is("Point1"));
+    assertThat(model.getPaths().get(0).getDestPointName(), is("Point2"));
+    assertThat(model.getVehicles(), hasSize(1));
+    assertThat(model.getVehicles().get(0).getName(), is("Vehicle1"));
+    assertThat(model.getLocationTypes(), hasSize(1));
+    assertThat(model.getLocationTypes().get(0).getAllowedOperations(), contains("Load"));
+    assertThat(model.getLocations(), hasSize(1));
+    assertThat(model.getLocations().get(0).getLinks().keySet(), contains("Point1"));
+    assertThat(model.getBlocks(), hasSize(1));
+    assertThat(model.getBlocks().get(0).getMemberNames(), containsInAnyOrder("Point1", "Point2"));
+    assertThat(model.getVisualLayout().getName(), is("VLayout"));
+    assertThat(model.getVisualLayout().getLayers(), hasSize(1));
+  }
+
+  @Test
+  public void rejectModelNotConformingToSchema()
+      throws IOException {
+    // The point lacks the required attributes yPosition and type.
+    Files.write(modelFile.toPath(),
+                ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                 + "<model version=\"0.0.4\" name=\"Invalid\">\n"
+                 + "  <point name=\"Point1\" xPosition=\"1\"/>\n"
+                 + "</model>\n").getBytes(StandardCharsets.UTF_8));
+
+    IOException exc = assertThrows(IOException.class, () -> parser.readModel(modelFile));
+    assertThat(exc.getMessage(), containsString("does not conform to schema"));
+  }
+
+  private PlantModelCreationTO createModel() {
+    return new PlantModelCreationTO("Demo")
+        .withProperty("modelKey", "modelValue")
+        .withPoint(new PointCreationTO("Point1"))
+        .withPoint(new PointCreationTO("Point2")
+            .withPosition(new Triple(4, 5, 6))
+            .withProperty("pointKey", "pointValue"))
+        .withPath(new PathCreationTO("Path1", "Point1", "Point2"))
+        .withVehicle(new VehicleCreationTO("Vehicle1"))
+        .withLocationType(new LocationTypeCreationTO("LType1")
+            .withAllowedOperations(Arrays.asList("Load")))
+        .withLocation(new LocationCreationTO("Location1", "LType1", new Triple(1, 2, 3))
+            .withLink("Point1", new HashSet<>(Arrays.asList("Load"))))
+        .withBlock(new BlockCreationTO("Block1")
+            .withMemberNames(new HashSet<>(Arrays.asList("Point1", "Point2"))))
+        .withVisualLayout(new VisualLayoutCreationTO("VLayout")
+            .withLayer(new Layer(0, 0, true, "Layer1", 0))
+            .withLayerGroup(new LayerGroup(0, "Group1", true)));
+  }
+}
@@ -55,4 +55,14 @@ public interface ServiceWebApiConfiguration {
       description = "Whether to use SSL to encrypt connections.",
       orderKey = "5")
   boolean useSsl();
+
+  @ConfigurationEntry(
+      type = "Long",
+      description = {
+        "The maximum time (in ms) for which status events are streamed to a client requesting them "
+        + "as server-sent events, after which the client is expected to reconnect.",
+        "This limits the time for which a server thread is bound to a single client."
+      },
+      orderKey = "6")
+  long statusEventsStreamDuration();
 }
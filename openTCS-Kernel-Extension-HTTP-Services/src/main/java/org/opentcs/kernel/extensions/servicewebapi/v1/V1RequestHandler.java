@@ -12,18 +12,29 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import static java.util.Objects.requireNonNull;
+import java.util.stream.Collectors;
 import javax.inject.Inject;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.kernel.extensions.servicewebapi.HttpConstants;
 import org.opentcs.kernel.extensions.servicewebapi.RequestHandler;
+import org.opentcs.kernel.extensions.servicewebapi.ServiceWebApiConfiguration;
 import org.opentcs.kernel.extensions.servicewebapi.v1.order.OrderHandler;
+import org.opentcs.kernel.extensions.servicewebapi.v1.order.binding.NamedTransport;
 import org.opentcs.kernel.extensions.servicewebapi.v1.order.binding.Transport;
 import org.opentcs.kernel.extensions.servicewebapi.v1.status.RequestStatusHandler;
 import org.opentcs.kernel.extensions.servicewebapi.v1.status.StatusEventDispatcher;
+import org.opentcs.kernel.extensions.servicewebapi.v1.status.binding.StatusMessage;
+import org.opentcs.kernel.extensions.servicewebapi.v1.status.binding.StatusMessageList;
 import org.opentcs.kernel.extensions.servicewebapi.v1.status.binding.TransportOrderState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import spark.QueryParamsMap;
 import spark.Request;
 import spark.Response;
@@ -37,6 +48,18 @@ import spark.Service;
 public class V1RequestHandler
     implements RequestHandler {
 
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(V1RequestHandler.class);
+  /**
+   * The maximum time (in ms) between two messages sent to a client in an event stream.
+   */
+  private static final long EVENT_STREAM_KEEP_ALIVE_INTERVAL = 10000;
+  /**
+   * The interface configuration.
+   */
+  private final ServiceWebApiConfiguration configuration;
   /**
    * Maps between objects and their JSON representations.
    */
@@ -60,9 +83,11 @@ public class V1RequestHandler
   private boolean initialized;
 
   @Inject
-  public V1RequestHandler(StatusEventDispatcher statusEventDispatcher,
+  public V1RequestHandler(ServiceWebApiConfiguration configuration,
+                          StatusEventDispatcher statusEventDispatcher,
                           OrderHandler orderHandler,
                           RequestStatusHandler requestHandler) {
+    this.configuration = requireNonNull(configuration, "configuration");
     this.statusEventDispatcher = requireNonNull(statusEventDispatcher, "statusEventDispatcher");
     this.orderHandler = requireNonNull(orderHandler, "orderHandler");
     this.statusInformationProvider = requireNonNull(requestHandler, "requestHandler");
@@ -119,6 +144,8 @@ public class V1RequestHandler
                 this::handleGetTransportOrderByName);
     service.get("/transportOrders",
                 this::handleGetTransportOrders);
+    service.post("/transportOrders",
+                 this::handlePostTransportOrders);
     service.post("/dispatcher/trigger",
                  this::handlePostDispatcherTrigger);
   }
@@ -132,12 +159,64 @@ public class V1RequestHandler
 
   private Object handleGetEvents(Request request, Response response)
       throws IllegalArgumentException, IllegalStateException {
+    if (acceptsEventStream(request)) {
+      streamEvents(request, response);
+      return "";
+    }
+
     response.type(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
     return toJson(statusEventDispatcher.fetchEvents(minSequenceNo(request),
                                                     maxSequenceNo(request),
                                                     timeout(request)));
   }
 
+  private void streamEvents(Request request, Response response)
+      throws IllegalArgumentException, IllegalStateException {
+    long nextSequenceNo = lastEventId(request) + 1;
+    if (nextSequenceNo == 0) {
+      nextSequenceNo = minSequenceNo(request);
+    }
+    long maxSequenceNo = maxSequenceNo(request);
+    long endTime = System.currentTimeMillis() + configuration.statusEventsStreamDuration();
+
+    response.type(HttpConstants.CONTENT_TYPE_TEXT_EVENT_STREAM_UTF8);
+    response.header("Cache-Control", "no-cache");
+
+    try {
+      Writer writer = new OutputStreamWriter(response.raw().getOutputStream(),
+                                             StandardCharsets.UTF_8);
+      // Send a comment first to let the client know the stream is open.
+      writer.write(":\n\n");
+      writer.flush();
+
+      long remainingTime = endTime - System.currentTimeMillis();
+      while (remainingTime > 0
+          && nextSequenceNo < maxSequenceNo
+          && statusEventDispatcher.isInitialized()) {
+        StatusMessageList messages
+            = statusEventDispatcher.fetchEvents(nextSequenceNo,
+                                                maxSequenceNo,
+                                                Math.min(remainingTime,
+                                                         EVENT_STREAM_KEEP_ALIVE_INTERVAL));
+        if (messages.getStatusMessages().isEmpty()) {
+          // Keep the connection alive (and find out if the client closed it).
+          writer.write(":\n\n");
+        }
+        for (StatusMessage message : messages.getStatusMessages()) {
+          writer.write("id: " + message.getSequenceNumber() + "\n");
+          writer.write("data: " + objectMapper.writeValueAsString(message) + "\n\n");
+          nextSequenceNo = message.getSequenceNumber() + 1;
+        }
+        writer.flush();
+
+        remainingTime = endTime - System.currentTimeMillis();
+      }
+    }
+    catch (IOException exc) {
+      LOG.debug("Event stream closed: {}", exc.getMessage());
+    }
+  }
+
   private Object handlePostTransportOrder(Request request, Response response)
       throws ObjectUnknownException,
              ObjectExistsException,
@@ -152,6 +231,20 @@ public class V1RequestHandler
     );
   }
 
+  private Object handlePostTransportOrders(Request request, Response response)
+      throws ObjectUnknownException,
+             ObjectExistsException,
+             IllegalArgumentException,
+             IllegalStateException {
+    response.type(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
+    return toJson(
+        orderHandler.createOrders(Arrays.asList(fromJson(request.body(), NamedTransport[].class)))
+            .stream()
+            .map(order -> TransportOrderState.fromTransportOrder(order))
+            .collect(Collectors.toList())
+    );
+  }
+
   private Object handlePostWithdrawalByOrder(Request request, Response response)
       throws ObjectUnknownException {
     orderHandler.withdrawByTransportOrder(request.params(":NAME"),
@@ -272,6 +365,25 @@ public class V1RequestHandler
     }
   }
 
+  private boolean acceptsEventStream(Request request) {
+    String accept = request.headers("Accept");
+    return accept != null && accept.contains("text/event-stream");
+  }
+
+  private long lastEventId(Request request)
+      throws IllegalArgumentException {
+    String header = request.headers("Last-Event-ID");
+    if (header == null) {
+      return -1;
+    }
+    try {
+      return Long.parseLong(header.trim());
+    }
+    catch (NumberFormatException exc) {
+      throw new IllegalArgumentException("Malformed Last-Event-ID: " + header);
+    }
+  }
+
   private long timeout(Request request)
       throws IllegalArgumentException {
     String param = request.queryParamOrDefault("timeout", "1000");
@@ -29,6 +29,7 @@ import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.kernel.extensions.servicewebapi.v1.order.binding.Destination;
+import org.opentcs.kernel.extensions.servicewebapi.v1.order.binding.NamedTransport;
 import org.opentcs.kernel.extensions.servicewebapi.v1.order.binding.Property;
 import org.opentcs.kernel.extensions.servicewebapi.v1.order.binding.Transport;
 
@@ -83,13 +84,7 @@ public class OrderHandler {
     requireNonNull(name, "name");
     requireNonNull(order, "order");
 
-    TransportOrderCreationTO to
-        = new TransportOrderCreationTO(name, destinations(order))
-            .withIncompleteName(order.hasIncompleteName())
-            .withIntendedVehicleName(order.getIntendedVehicle())
-            .withDependencyNames(new HashSet<>(order.getDependencies()))
-            .withDeadline(deadline(order))
-            .withProperties(properties(order.getProperties()));
+    TransportOrderCreationTO to = toCreationTO(name, order);
 
     try {
       return kernelExecutor.submit(
@@ -110,6 +105,51 @@ public class OrderHandler {
     }
   }
 
+  /**
+   * Creates the given transport orders in a single kernel task and triggers the dispatcher once
+   * for all of them.
+   * If any of the transport orders cannot be created, none of them is.
+   *
+   * @param orders The transport orders to be created.
+   * @return The created transport orders, in the order of the given ones.
+   * @throws ObjectUnknownException If any referenced object does not exist.
+   * @throws ObjectExistsException If an object with the same name as any of the transport orders
+   * already exists.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   * @throws IllegalStateException If the kernel task was unexpectedly interrupted.
+   */
+  public List<TransportOrder> createOrders(List<NamedTransport> orders)
+      throws ObjectUnknownException,
+             ObjectExistsException,
+             KernelRuntimeException,
+             IllegalStateException {
+    requireNonNull(orders, "orders");
+
+    List<TransportOrderCreationTO> tos = new ArrayList<>(orders.size());
+    for (NamedTransport order : orders) {
+      tos.add(toCreationTO(requireNonNull(order.getName(), "name"), order));
+    }
+
+    try {
+      return kernelExecutor.submit(
+          () -> {
+            List<TransportOrder> result = orderService.createTransportOrders(tos);
+            dispatcherService.dispatch();
+            return result;
+          }
+      ).get();
+    }
+    catch (InterruptedException exc) {
+      throw new IllegalStateException("Unexpectedly interrupted");
+    }
+    catch (ExecutionException exc) {
+      if (exc.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) exc.getCause();
+      }
+      throw new KernelRuntimeException(exc.getCause());
+    }
+  }
+
   public void triggerDispatcher() {
     kernelExecutor.submit(() -> dispatcherService.dispatch());
   }
@@ -152,6 +192,15 @@ public class OrderHandler {
     });
   }
 
+  private TransportOrderCreationTO toCreationTO(String name, Transport order) {
+    return new TransportOrderCreationTO(name, destinations(order))
+        .withIncompleteName(order.hasIncompleteName())
+        .withIntendedVehicleName(order.getIntendedVehicle())
+        .withDependencyNames(new HashSet<>(order.getDependencies()))
+        .withDeadline(deadline(order))
+        .withProperties(properties(order.getProperties()));
+  }
+
   private List<DestinationCreationTO> destinations(Transport order) {
     List<DestinationCreationTO> result = new ArrayList<>(order.getDestinations().size());
 
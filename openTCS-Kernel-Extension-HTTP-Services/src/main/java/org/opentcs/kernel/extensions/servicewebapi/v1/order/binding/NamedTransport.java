@@ -0,0 +1,39 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.servicewebapi.v1.order.binding;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+
+/**
+ * A transport order to be processed by the kernel, including its name.
+ * Used for creating multiple transport orders with a single request.
+ *
+ * @author agent
+ */
+public class NamedTransport
+    extends Transport {
+
+  @JsonPropertyDescription("The name of the transport order")
+  @JsonProperty(required = true)
+  private String name;
+
+  /**
+   * Creates a new instance.
+   */
+  public NamedTransport() {
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+}
@@ -7,10 +7,10 @@
  */
 package org.opentcs.kernel.extensions.servicewebapi.v1.status;
 
-import java.util.Collection;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import static java.util.Objects.requireNonNull;
-import java.util.SortedMap;
-import java.util.TreeMap;
 import javax.inject.Inject;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.customizations.ApplicationEventBus;
@@ -51,17 +51,21 @@ public class StatusEventDispatcher
    */
   private final EventSource eventSource;
   /**
-   * The events collected.
+   * The events collected, in a ring buffer indexed by their sequence numbers.
    */
-  private final SortedMap<Long, StatusMessage> events = new TreeMap<>();
+  private Event[] events = new Event[0];
   /**
-   * The number of events collected so far.
+   * The number of events collected so far, which is also the sequence number of the next event.
    */
   private long eventCount;
+  /**
+   * The number of threads currently waiting for new events.
+   */
+  private int waitingThreads;
   /**
    * Whether this instance is initialized.
    */
-  private boolean initialized;
+  private volatile boolean initialized;
 
   @Inject
   public StatusEventDispatcher(ServiceWebApiConfiguration configuration,
@@ -76,9 +80,9 @@ public class StatusEventDispatcher
       return;
     }
 
-    synchronized (events) {
+    synchronized (this) {
       eventCount = 0;
-      events.clear();
+      events = new Event[Math.max(0, configuration.statusEventsCapacity())];
     }
 
     eventSource.subscribe(this);
@@ -108,21 +112,10 @@ public class StatusEventDispatcher
       return;
     }
     TCSObject<?> object = ((TCSObjectEvent) event).getCurrentOrPreviousObjectState();
-    if (object instanceof TransportOrder) {
-      synchronized (events) {
-        addOrderStatusMessage((TransportOrder) object, eventCount);
-        eventCount++;
-        cleanUpEvents();
-        events.notifyAll();
-      }
-    }
-    else if (object instanceof Vehicle) {
-      synchronized (events) {
-        addVehicleStatusMessage((Vehicle) object, eventCount);
-        eventCount++;
-        cleanUpEvents();
-        events.notifyAll();
-      }
+    if (object instanceof TransportOrder || object instanceof Vehicle) {
+      // Only remember the (immutable) object here - the status message is created when the event
+      // is actually fetched, so the publishing thread does not have to do it.
+      addEvent(object, Instant.now());
     }
   }
 
@@ -141,36 +134,103 @@ public class StatusEventDispatcher
     checkInRange(maxSequenceNo, minSequenceNo, Long.MAX_VALUE, "maxSequenceNo");
     checkInRange(timeout, 0, Long.MAX_VALUE, "timeout");
 
-    StatusMessageList result = new StatusMessageList();
-    synchronized (events) {
-      Collection<StatusMessage> messages = events.subMap(minSequenceNo, maxSequenceNo).values();
-      if (messages.isEmpty()) {
+    List<Event> selectedEvents;
+    synchronized (this) {
+      selectedEvents = selectEvents(minSequenceNo, maxSequenceNo);
+      if (selectedEvents.isEmpty() && timeout > 0) {
+        waitingThreads++;
         try {
-          events.wait(timeout);
+          wait(timeout);
         }
         catch (InterruptedException exc) {
           LOG.warn("Unexpectedly interrupted", exc);
         }
+        finally {
+          waitingThreads--;
+        }
+        selectedEvents = selectEvents(minSequenceNo, maxSequenceNo);
       }
-      messages = events.subMap(minSequenceNo, maxSequenceNo).values();
-      result.getStatusMessages().addAll(messages);
+    }
+
+    // Create the status messages outside of the lock, so publishing threads are not blocked by it.
+    StatusMessageList result = new StatusMessageList();
+    for (Event event : selectedEvents) {
+      result.getStatusMessages().add(event.toStatusMessage());
     }
     return result;
   }
 
-  private void addOrderStatusMessage(TransportOrder order, long sequenceNumber) {
-    events.put(sequenceNumber, OrderStatusMessage.fromTransportOrder(order, sequenceNumber));
+  private synchronized void addEvent(TCSObject<?> object, Instant creationTimeStamp) {
+    if (events.length > 0) {
+      events[(int) (eventCount % events.length)] = new Event(object, eventCount, creationTimeStamp);
+    }
+    eventCount++;
+
+    if (waitingThreads > 0) {
+      notifyAll();
+    }
   }
 
-  private void addVehicleStatusMessage(Vehicle vehicle, long sequenceNumber) {
-    events.put(sequenceNumber, VehicleStatusMessage.fromVehicle(vehicle, sequenceNumber));
+  /**
+   * Returns the events with sequence numbers within the given range that are still in the buffer.
+   * Must be called while holding this instance's lock.
+   */
+  private List<Event> selectEvents(long minSequenceNo, long maxSequenceNo) {
+    long firstSequenceNo = Math.max(minSequenceNo, Math.max(0, eventCount - events.length));
+    long lastSequenceNo = Math.min(maxSequenceNo, eventCount);
+
+    List<Event> result = new ArrayList<>();
+    for (long sequenceNo = firstSequenceNo; sequenceNo < lastSequenceNo; sequenceNo++) {
+      result.add(events[(int) (sequenceNo % events.length)]);
+    }
+    return result;
   }
 
-  private void cleanUpEvents() {
-    // XXX Sanitize maxEventCount
-    int maxEventCount = configuration.statusEventsCapacity();
-    while (events.size() > maxEventCount) {
-      events.remove(events.firstKey());
+  /**
+   * An event in the buffer.
+   */
+  private static class Event {
+
+    /**
+     * The object that was modified.
+     */
+    private final TCSObject<?> object;
+    /**
+     * The event's sequence number.
+     */
+    private final long sequenceNumber;
+    /**
+     * When the event occurred.
+     */
+    private final Instant creationTimeStamp;
+    /**
+     * The status message for this event, once it was created.
+     */
+    private volatile StatusMessage statusMessage;
+
+    Event(TCSObject<?> object, long sequenceNumber, Instant creationTimeStamp) {
+      this.object = object;
+      this.sequenceNumber = sequenceNumber;
+      this.creationTimeStamp = creationTimeStamp;
+    }
+
+    StatusMessage toStatusMessage() {
+      // Concurrent fetches may create the status message multiple times, which is harmless.
+      StatusMessage message = statusMessage;
+      if (message == null) {
+        if (object instanceof TransportOrder) {
+          message = OrderStatusMessage.fromTransportOrder((TransportOrder) object,
+                                                          sequenceNumber,
+                                                          creationTimeStamp);
+        }
+        else {
+          message = VehicleStatusMessage.fromVehicle((Vehicle) object,
+                                                     sequenceNumber,
+                                                     creationTimeStamp);
+        }
+        statusMessage = message;
+      }
+      return message;
     }
   }
 }
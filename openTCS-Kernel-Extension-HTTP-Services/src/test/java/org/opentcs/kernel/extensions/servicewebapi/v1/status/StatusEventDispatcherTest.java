@@ -8,16 +8,23 @@
 package org.opentcs.kernel.extensions.servicewebapi.v1.status;
 
 import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import org.junit.*;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.kernel.extensions.servicewebapi.ServiceWebApiConfiguration;
 import org.opentcs.kernel.extensions.servicewebapi.v1.status.binding.StatusMessageList;
+import org.opentcs.kernel.extensions.servicewebapi.v1.status.binding.VehicleStatusMessage;
 import org.opentcs.util.event.EventSource;
 import org.opentcs.util.event.SimpleEventBus;
 
@@ -87,4 +94,48 @@ public class StatusEventDispatcherTest {
     assertThat(list.getStatusMessages().get(eventCount - 1).getSequenceNumber(),
                is((long) eventCount - 1));
   }
+
+  @Test
+  public void returnEventsWithinRequestedRange() {
+    when(configuration.statusEventsCapacity()).thenReturn(10);
+    statusEventDispatcher.initialize();
+
+    Vehicle vehicle = new Vehicle("SomeVehicle");
+    for (int i = 0; i < 8; i++) {
+      statusEventDispatcher.onEvent(
+          new TCSObjectEvent(vehicle, vehicle, TCSObjectEvent.Type.OBJECT_MODIFIED)
+      );
+    }
+
+    StatusMessageList list = statusEventDispatcher.fetchEvents(3, 6, 1);
+    assertThat(list.getStatusMessages().size(), is(3));
+    assertThat(list.getStatusMessages().get(0).getSequenceNumber(), is(3L));
+    assertThat(list.getStatusMessages().get(2).getSequenceNumber(), is(5L));
+  }
+
+  @Test
+  public void returnEventArrivingWhileWaiting()
+      throws Exception {
+    when(configuration.statusEventsCapacity()).thenReturn(10);
+    statusEventDispatcher.initialize();
+
+    Vehicle vehicle = new Vehicle("SomeVehicle");
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<StatusMessageList> result
+          = executor.submit(() -> statusEventDispatcher.fetchEvents(0, Long.MAX_VALUE, 10000));
+      // Give the fetching thread some time to start waiting.
+      Thread.sleep(100);
+      statusEventDispatcher.onEvent(
+          new TCSObjectEvent(vehicle, vehicle, TCSObjectEvent.Type.OBJECT_MODIFIED)
+      );
+
+      StatusMessageList list = result.get(5, TimeUnit.SECONDS);
+      assertThat(list.getStatusMessages().size(), is(1));
+      assertThat(list.getStatusMessages().get(0), is(instanceOf(VehicleStatusMessage.class)));
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
 }
@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.rmi;
+
+import static java.util.Objects.requireNonNull;
+import javax.annotation.Nonnull;
+import org.opentcs.access.ObjectSnapshotEvent;
+import org.opentcs.access.rmi.ClientID;
+
+/**
+ * An object snapshot addressed to a single client.
+ * <p>
+ * Instances of this class are emitted via the kernel's event bus, so the snapshot takes its place
+ * among the object events in the order in which they were emitted, even if events are delivered
+ * asynchronously.
+ * </p>
+ *
+ * @author agent
+ */
+class ClientObjectSnapshot {
+
+  /**
+   * The client the snapshot is addressed to.
+   */
+  private final ClientID clientId;
+  /**
+   * The snapshot.
+   */
+  private final ObjectSnapshotEvent snapshot;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param clientId The client the snapshot is addressed to.
+   * @param snapshot The snapshot.
+   */
+  ClientObjectSnapshot(@Nonnull ClientID clientId, @Nonnull ObjectSnapshotEvent snapshot) {
+    this.clientId = requireNonNull(clientId, "clientId");
+    this.snapshot = requireNonNull(snapshot, "snapshot");
+  }
+
+  /**
+   * Returns the client the snapshot is addressed to.
+   *
+   * @return The client the snapshot is addressed to.
+   */
+  @Nonnull
+  public ClientID getClientId() {
+    return clientId;
+  }
+
+  /**
+   * Returns the snapshot.
+   *
+   * @return The snapshot.
+   */
+  @Nonnull
+  public ObjectSnapshotEvent getSnapshot() {
+    return snapshot;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName()
+        + '{'
+        + "clientId=" + clientId
+        + ", snapshot=" + snapshot
+        + '}';
+  }
+}
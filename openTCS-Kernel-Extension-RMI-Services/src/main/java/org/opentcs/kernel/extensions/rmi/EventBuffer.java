@@ -7,16 +7,51 @@
  */
 package org.opentcs.kernel.extensions.rmi;
 
-import java.util.LinkedList;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import static java.util.Objects.requireNonNull;
+import java.util.Set;
 import java.util.function.Predicate;
 import javax.annotation.Nonnull;
+import org.opentcs.access.EventBufferOverflowEvent;
+import org.opentcs.access.ObjectSnapshotEvent;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.drivers.vehicle.management.ProcessModelDeltaEvent;
+import org.opentcs.drivers.vehicle.management.ProcessModelEvent;
 import static org.opentcs.util.Assertions.checkArgument;
+import static org.opentcs.util.Assertions.checkInRange;
 import org.opentcs.util.event.EventHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Stores events and keeps them until a client fetches them.
+ * <p>
+ * Events that merely supersede an event still waiting in the buffer are conflated with it:
+ * </p>
+ * <ul>
+ * <li>A {@link TCSObjectEvent} for an object that was created or modified replaces a waiting one
+ * for the same object, keeping the waiting event's previous object state (and its type, if the
+ * object was created).</li>
+ * <li>A {@link ProcessModelEvent} replaces a waiting one for the same vehicle and attribute.</li>
+ * <li>A {@link ProcessModelDeltaEvent} is merged into a waiting one for the same vehicle.</li>
+ * </ul>
+ * <p>
+ * A conflated event takes the place of the latest event it replaces in the order of events.
+ * If the number of events in the buffer would exceed the buffer's capacity, all events in the
+ * buffer are discarded and the client will receive an {@link EventBufferOverflowEvent} instead,
+ * asking it to retrieve the data it is interested in again.
+ * </p>
+ * <p>
+ * Once an {@link ObjectSnapshotEvent} has been added to the buffer, object events for objects of
+ * the classes in the snapshot are buffered regardless of the event filter, as the client replicates
+ * these objects.
+ * </p>
  *
  * @author Stefan Walter (Fraunhofer IML)
  */
@@ -24,17 +59,47 @@ public class EventBuffer
     implements EventHandler {
 
   /**
-   * The buffered events.
+   * This class's logger.
    */
-  private final List<Object> events = new LinkedList<>();
+  private static final Logger LOG = LoggerFactory.getLogger(EventBuffer.class);
+  /**
+   * The buffered events, mapped by the keys they can be conflated by (or by unique keys if they
+   * cannot be conflated).
+   */
+  private final Map<Object, Object> events = new LinkedHashMap<>();
+  /**
+   * The maximum number of events in this buffer.
+   */
+  private final int capacity;
   /**
    * This buffer's event filter.
    */
   private Predicate<Object> eventFilter;
+  /**
+   * The classes of the objects replicated by the client.
+   */
+  private Set<Class<?>> replicatedObjectClasses = new HashSet<>();
   /**
    * A flag indicating whether this event buffer's client is currently waiting for an event.
    */
   private boolean waitingClient;
+  /**
+   * The number of events discarded since the client last fetched events, or -1, if none were
+   * discarded.
+   */
+  private int discardedEventCount = -1;
+  /**
+   * The maximum number of events that were in this buffer at the same time.
+   */
+  private int maxDepth;
+  /**
+   * The number of events that were conflated with waiting events.
+   */
+  private long conflatedEventCount;
+  /**
+   * The number of times this buffer overflowed.
+   */
+  private long overflowCount;
 
   /**
    * Creates a new instance
@@ -42,7 +107,18 @@ public class EventBuffer
    * @param eventFilter This buffer's initial event filter.
    */
   public EventBuffer(@Nonnull Predicate<Object> eventFilter) {
+    this(eventFilter, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Creates a new instance
+   *
+   * @param eventFilter This buffer's initial event filter.
+   * @param capacity The maximum number of events in this buffer.
+   */
+  public EventBuffer(@Nonnull Predicate<Object> eventFilter, int capacity) {
     this.eventFilter = requireNonNull(eventFilter, "eventFilter");
+    this.capacity = checkInRange(capacity, 1, Integer.MAX_VALUE, "capacity");
   }
 
   // Methods declared in interface EventListener start here
@@ -50,8 +126,8 @@ public class EventBuffer
   public void onEvent(Object event) {
     requireNonNull(event, "event");
     synchronized (events) {
-      if (eventFilter.test(event)) {
-        events.add(event);
+      if (eventFilter.test(event) || isReplicated(event)) {
+        addEvent(event);
         // If the client is waiting for an event, wake it up, since there is one
         // now.
         if (waitingClient) {
@@ -61,6 +137,24 @@ public class EventBuffer
     }
   }
 
+  /**
+   * Adds the given object snapshot to this buffer, regardless of the event filter.
+   * From now on, object events for objects of the classes in the snapshot are buffered regardless
+   * of the event filter, too.
+   *
+   * @param snapshot The object snapshot.
+   */
+  public void addObjectSnapshot(@Nonnull ObjectSnapshotEvent snapshot) {
+    requireNonNull(snapshot, "snapshot");
+    synchronized (events) {
+      replicatedObjectClasses = new HashSet<>(snapshot.getObjectClasses());
+      addEvent(snapshot);
+      if (waitingClient) {
+        events.notify();
+      }
+    }
+  }
+
   // Methods not declared in any interface start here
   /**
    * Returns a list of events that are currently stored in this buffer and
@@ -78,7 +172,7 @@ public class EventBuffer
       throws IllegalArgumentException {
     checkArgument(timeout >= 0, "timeout < 0: %s", timeout);
     synchronized (events) {
-      if (timeout > 0 && events.isEmpty()) {
+      if (timeout > 0 && events.isEmpty() && discardedEventCount < 0) {
         waitingClient = true;
         try {
           events.wait(timeout);
@@ -90,7 +184,12 @@ public class EventBuffer
           waitingClient = false;
         }
       }
-      List<Object> result = new LinkedList<>(events);
+      List<Object> result = new ArrayList<>(events.size() + 1);
+      if (discardedEventCount >= 0) {
+        result.add(new EventBufferOverflowEvent(discardedEventCount));
+        discardedEventCount = -1;
+      }
+      result.addAll(events.values());
       events.clear();
       return result;
     }
@@ -119,4 +218,205 @@ public class EventBuffer
       this.eventFilter = requireNonNull(eventFilter);
     }
   }
+
+  /**
+   * Returns the maximum number of events in this buffer.
+   *
+   * @return The maximum number of events in this buffer.
+   */
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * Returns the number of events currently in this buffer.
+   *
+   * @return The number of events currently in this buffer.
+   */
+  public int getDepth() {
+    synchronized (events) {
+      return events.size();
+    }
+  }
+
+  /**
+   * Returns the maximum number of events that were in this buffer at the same time.
+   *
+   * @return The maximum number of events that were in this buffer at the same time.
+   */
+  public int getMaxDepth() {
+    synchronized (events) {
+      return maxDepth;
+    }
+  }
+
+  /**
+   * Returns the number of events that were conflated with events waiting in this buffer.
+   *
+   * @return The number of events that were conflated with events waiting in this buffer.
+   */
+  public long getConflatedEventCount() {
+    synchronized (events) {
+      return conflatedEventCount;
+    }
+  }
+
+  /**
+   * Returns the number of times this buffer overflowed.
+   *
+   * @return The number of times this buffer overflowed.
+   */
+  public long getOverflowCount() {
+    synchronized (events) {
+      return overflowCount;
+    }
+  }
+
+  private boolean isReplicated(Object event) {
+    return event instanceof TCSObjectEvent
+        && replicatedObjectClasses.contains(
+            ((TCSObjectEvent) event).getCurrentOrPreviousObjectState().getClass()
+        );
+  }
+
+  private void addEvent(Object event) {
+    Object key = conflationKey(event);
+    Object waitingEvent = key == null ? null : events.remove(key);
+
+    if (waitingEvent != null) {
+      conflatedEventCount++;
+      events.put(key, conflate(waitingEvent, event));
+      return;
+    }
+
+    if (event instanceof TCSObjectEvent
+        && ((TCSObjectEvent) event).getType() == TCSObjectEvent.Type.OBJECT_REMOVED) {
+      retireKeyFor((TCSObjectEvent) event);
+    }
+
+    if (events.size() >= capacity) {
+      overflow();
+    }
+
+    events.put(key == null ? new Object() : key, event);
+    maxDepth = Math.max(maxDepth, events.size());
+  }
+
+  private void overflow() {
+    overflowCount++;
+    LOG.info("Event buffer overflowed with {} events, discarding them.", events.size());
+    discardedEventCount = Math.max(discardedEventCount, 0) + events.size();
+    events.clear();
+  }
+
+  /**
+   * Ensures events for an object that is removed are not conflated with events for a new object
+   * with the same name.
+   *
+   * @param event The event for the removed object.
+   */
+  private void retireKeyFor(TCSObjectEvent event) {
+    Object key = new ConflationKey(event.getPreviousObjectState().getClass(),
+                                   event.getPreviousObjectState().getName(),
+                                   null);
+    Object waitingEvent = events.remove(key);
+    if (waitingEvent != null) {
+      events.put(new Object(), waitingEvent);
+    }
+  }
+
+  private Object conflationKey(Object event) {
+    if (event instanceof TCSObjectEvent) {
+      TCSObjectEvent objectEvent = (TCSObjectEvent) event;
+      if (objectEvent.getType() == TCSObjectEvent.Type.OBJECT_REMOVED) {
+        return null;
+      }
+      return new ConflationKey(objectEvent.getCurrentObjectState().getClass(),
+                               objectEvent.getCurrentObjectState().getName(),
+                               null);
+    }
+    else if (event instanceof ProcessModelEvent) {
+      ProcessModelEvent processModelEvent = (ProcessModelEvent) event;
+      return new ConflationKey(ProcessModelEvent.class,
+                               processModelEvent.getUpdatedProcessModel().getVehicleName(),
+                               processModelEvent.getAttributeChanged());
+    }
+    else if (event instanceof ProcessModelDeltaEvent) {
+      return new ConflationKey(ProcessModelDeltaEvent.class,
+                               ((ProcessModelDeltaEvent) event).getVehicleName(),
+                               null);
+    }
+    return null;
+  }
+
+  private Object conflate(Object waitingEvent, Object event) {
+    if (event instanceof TCSObjectEvent) {
+      TCSObjectEvent waitingObjectEvent = (TCSObjectEvent) waitingEvent;
+      TCSObjectEvent objectEvent = (TCSObjectEvent) event;
+      if (objectEvent.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED) {
+        // Should not happen, as a removed object's key is retired, but be safe.
+        return event;
+      }
+      return new TCSObjectEvent(objectEvent.getCurrentObjectState(),
+                                waitingObjectEvent.getPreviousObjectState(),
+                                waitingObjectEvent.getType());
+    }
+    else if (event instanceof ProcessModelDeltaEvent) {
+      Map<String, Serializable> changedAttributes
+          = new LinkedHashMap<>(((ProcessModelDeltaEvent) waitingEvent).getChangedAttributes());
+      for (Map.Entry<String, Serializable> entry
+               : ((ProcessModelDeltaEvent) event).getChangedAttributes().entrySet()) {
+        // Remove the attribute first so the attributes stay in the order they were changed in.
+        changedAttributes.remove(entry.getKey());
+        changedAttributes.put(entry.getKey(), entry.getValue());
+      }
+      return new ProcessModelDeltaEvent(((ProcessModelDeltaEvent) event).getVehicleName(),
+                                        changedAttributes);
+    }
+    return event;
+  }
+
+  /**
+   * Identifies events that can be conflated with each other.
+   */
+  private static class ConflationKey {
+
+    /**
+     * The type of the object the events are about.
+     */
+    private final Class<?> type;
+    /**
+     * The name of the object the events are about.
+     */
+    private final String name;
+    /**
+     * Further details discriminating events about the same object, may be {@code null}.
+     */
+    private final String detail;
+
+    ConflationKey(Class<?> type, String name, String detail) {
+      this.type = type;
+      this.name = name;
+      this.detail = detail;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof ConflationKey)) {
+        return false;
+      }
+      ConflationKey other = (ConflationKey) obj;
+      return type == other.type
+          && Objects.equals(name, other.name)
+          && Objects.equals(detail, other.detail);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(type, name, detail);
+    }
+  }
 }
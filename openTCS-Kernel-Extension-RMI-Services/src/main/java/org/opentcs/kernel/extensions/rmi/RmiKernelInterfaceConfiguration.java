@@ -109,6 +109,16 @@ public interface RmiKernelInterfaceConfiguration {
       orderKey = "2_sweeping")
   long clientSweepInterval();
 
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+        "The maximum number of events kept for a client until it fetches them.",
+        "If the client's events exceed this number, they are discarded and the client is asked to "
+        + "retrieve the kernel's data again."
+      },
+      orderKey = "3_events")
+  int eventBufferCapacity();
+
   @ConfigurationEntry(
       type = "Boolean",
       description = "Whether to use SSL to encrypt connections.",
@@ -11,6 +11,7 @@ import java.rmi.NotBoundException;
 import java.rmi.RemoteException;
 import java.rmi.registry.Registry;
 import java.rmi.server.UnicastRemoteObject;
+import java.util.ArrayList;
 import java.util.List;
 import static java.util.Objects.requireNonNull;
 import java.util.Set;
@@ -20,12 +21,16 @@ import org.opentcs.access.CredentialsException;
 import org.opentcs.access.Kernel;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.LocalKernel;
+import org.opentcs.access.ObjectSnapshotEvent;
 import org.opentcs.access.rmi.ClientID;
 import org.opentcs.access.rmi.factories.SocketFactoryProvider;
 import org.opentcs.access.rmi.services.RegistrationName;
 import org.opentcs.access.rmi.services.RemoteKernelServicePortal;
 import org.opentcs.components.kernel.KernelExtension;
+import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.customizations.kernel.GlobalSyncObject;
+import org.opentcs.data.TCSObject;
 import org.opentcs.kernel.extensions.rmi.UserManager.ClientEntry;
 import org.opentcs.util.event.EventHandler;
 import org.slf4j.Logger;
@@ -76,6 +81,14 @@ public class StandardRemoteKernelClientPortal
    * The event handler to publish events to.
    */
   private final EventHandler eventHandler;
+  /**
+   * The object service.
+   */
+  private final TCSObjectService objectService;
+  /**
+   * The kernel threads' global synchronization object.
+   */
+  private final Object globalSyncObject;
   /**
    * The registry with which this remote portal registers.
    */
@@ -95,6 +108,8 @@ public class StandardRemoteKernelClientPortal
    * @param socketFactoryProvider The socket factory provider used for RMI.
    * @param registryProvider The provider for the registry with which this remote portal registers.
    * @param eventHandler The event handler to publish events to.
+   * @param objectService The object service.
+   * @param globalSyncObject The kernel threads' global synchronization object.
    */
   @Inject
   public StandardRemoteKernelClientPortal(LocalKernel kernel,
@@ -103,7 +118,9 @@ public class StandardRemoteKernelClientPortal
                                           RmiKernelInterfaceConfiguration configuration,
                                           SocketFactoryProvider socketFactoryProvider,
                                           RegistryProvider registryProvider,
-                                          @ApplicationEventBus EventHandler eventHandler) {
+                                          @ApplicationEventBus EventHandler eventHandler,
+                                          TCSObjectService objectService,
+                                          @GlobalSyncObject Object globalSyncObject) {
     this.kernel = requireNonNull(kernel, "kernel");
     this.remoteServices = requireNonNull(remoteServices, "remoteServices");
     this.userManager = requireNonNull(userManager, "userManager");
@@ -111,6 +128,8 @@ public class StandardRemoteKernelClientPortal
     this.socketFactoryProvider = requireNonNull(socketFactoryProvider, "socketFactoryProvider");
     this.registryProvider = requireNonNull(registryProvider, "registryProvider");
     this.eventHandler = requireNonNull(eventHandler, "eventHandler");
+    this.objectService = requireNonNull(objectService, "objectService");
+    this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
   }
 
   @Override
@@ -192,7 +211,9 @@ public class StandardRemoteKernelClientPortal
       // Generate a new ID for the client.
       ClientID clientId = new ClientID(userName);
       // Add an entry for the newly connected client.
-      ClientEntry clientEntry = new ClientEntry(userName, account.getPermissions());
+      ClientEntry clientEntry = new ClientEntry(userName,
+                                                account.getPermissions(),
+                                                configuration.eventBufferCapacity());
       clientEntry.getEventBuffer().setEventFilter(eventFilter);
       userManager.getKnownClients().put(clientId, clientEntry);
       LOG.debug("New client named {} logged in", clientId.getClientName());
@@ -234,4 +255,32 @@ public class StandardRemoteKernelClientPortal
 
     eventHandler.onEvent(event);
   }
+
+  @Override
+  public void requestObjectSnapshot(ClientID clientId,
+                                    long sequenceNumber,
+                                    Set<Class<? extends TCSObject<?>>> objectClasses)
+      throws KernelRuntimeException {
+    userManager.verifyCredentials(clientId, UserPermission.READ_DATA);
+    requireNonNull(objectClasses, "objectClasses");
+
+    // Modifications of the kernel's objects are synchronized on the global synchronization object.
+    // Holding it while taking the snapshot and emitting it ensures that no object event is emitted
+    // in between, i.e. that the snapshot's position among the object events matches its content.
+    synchronized (globalSyncObject) {
+      List<TCSObject<?>> objects = new ArrayList<>();
+      for (Class<? extends TCSObject<?>> clazz : objectClasses) {
+        objects.addAll(fetchObjects(clazz));
+      }
+      eventHandler.onEvent(
+          new ClientObjectSnapshot(clientId,
+                                   new ObjectSnapshotEvent(sequenceNumber, objectClasses, objects))
+      );
+    }
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private Set<TCSObject<?>> fetchObjects(Class<? extends TCSObject<?>> clazz) {
+    return (Set<TCSObject<?>>) objectService.fetchObjects((Class) clazz);
+  }
 }
@@ -152,6 +152,11 @@ public class UserManager
 
   @Override
   public void onEvent(Object event) {
+    if (event instanceof ClientObjectSnapshot) {
+      deliverObjectSnapshot((ClientObjectSnapshot) event);
+      return;
+    }
+
     // Forward the event to all clients' event buffers.
     synchronized (getKnownClients()) {
       for (ClientEntry curEntry : getKnownClients().values()) {
@@ -273,6 +278,18 @@ public class UserManager
     }
   }
 
+  private void deliverObjectSnapshot(ClientObjectSnapshot clientSnapshot) {
+    synchronized (getKnownClients()) {
+      ClientEntry clientEntry = getClient(clientSnapshot.getClientId());
+      if (clientEntry == null) {
+        LOG.debug("Client {} not known (any more), discarding object snapshot.",
+                  clientSnapshot.getClientId().getClientName());
+        return;
+      }
+      clientEntry.getEventBuffer().addObjectSnapshot(clientSnapshot.getSnapshot());
+    }
+  }
+
   /**
    * Instances of this class are used as containers for data kept about known clients.
    */
@@ -289,7 +306,7 @@ public class UserManager
     /**
      * The client's event buffer.
      */
-    private final EventBuffer eventBuffer = new EventBuffer(event -> false);
+    private final EventBuffer eventBuffer;
     /**
      * The client's alive flag.
      */
@@ -302,8 +319,20 @@ public class UserManager
      * @param perms The client's permissions.
      */
     public ClientEntry(String name, Set<UserPermission> perms) {
+      this(name, perms, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a new ClientEntry.
+     *
+     * @param name The client's name.
+     * @param perms The client's permissions.
+     * @param eventBufferCapacity The maximum number of events kept for the client.
+     */
+    public ClientEntry(String name, Set<UserPermission> perms, int eventBufferCapacity) {
       userName = requireNonNull(name, "name");
       permissions = requireNonNull(perms, "perms");
+      eventBuffer = new EventBuffer(event -> false, eventBufferCapacity);
     }
 
     /**
@@ -357,9 +386,17 @@ public class UserManager
         while (clientIter.hasNext()) {
           Map.Entry<ClientID, ClientEntry> curEntry = clientIter.next();
           ClientEntry clientEntry = curEntry.getValue();
+          EventBuffer eventBuffer = clientEntry.getEventBuffer();
+          LOG.debug("Event buffer of {}: depth={}/{}, maxDepth={}, conflated={}, overflows={}",
+                    curEntry.getKey().getClientName(),
+                    eventBuffer.getDepth(),
+                    eventBuffer.getCapacity(),
+                    eventBuffer.getMaxDepth(),
+                    eventBuffer.getConflatedEventCount(),
+                    eventBuffer.getOverflowCount());
           // Only touch the entry if the buffer not currently in use by a
           // client.
-          if (!clientEntry.getEventBuffer().hasWaitingClient()) {
+          if (!eventBuffer.hasWaitingClient()) {
             // If the client has been seen since the last run, reset the
             // 'alive' flag.
             if (clientEntry.isAlive()) {
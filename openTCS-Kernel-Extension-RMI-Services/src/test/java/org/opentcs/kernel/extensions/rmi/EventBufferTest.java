@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.rmi;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.access.EventBufferOverflowEvent;
+import org.opentcs.data.TCSObjectEvent;
+import static org.opentcs.data.TCSObjectEvent.Type.OBJECT_CREATED;
+import static org.opentcs.data.TCSObjectEvent.Type.OBJECT_MODIFIED;
+import static org.opentcs.data.TCSObjectEvent.Type.OBJECT_REMOVED;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.drivers.vehicle.management.ProcessModelDeltaEvent;
+import org.opentcs.drivers.vehicle.management.ProcessModelEvent;
+import org.opentcs.drivers.vehicle.management.VehicleProcessModelTO;
+
+/**
+ * Unit tests for {@link EventBuffer}.
+ *
+ * @author agent
+ */
+public class EventBufferTest {
+
+  private EventBuffer eventBuffer;
+
+  @BeforeEach
+  public void setUp() {
+    eventBuffer = new EventBuffer(event -> true, 3);
+  }
+
+  @Test
+  public void conflateObjectEventsKeepingFirstPreviousAndLatestCurrentState() {
+    Vehicle vehicle0 = new Vehicle("Vehicle-1");
+    Vehicle vehicle1 = vehicle0.withEnergyLevel(50);
+    Vehicle vehicle2 = vehicle1.withEnergyLevel(40);
+
+    eventBuffer.onEvent(new TCSObjectEvent(vehicle1, vehicle0, OBJECT_MODIFIED));
+    eventBuffer.onEvent(new TCSObjectEvent(vehicle2, vehicle1, OBJECT_MODIFIED));
+
+    List<Object> events = eventBuffer.getEvents(0);
+    assertThat(events, hasSize(1));
+    TCSObjectEvent event = (TCSObjectEvent) events.get(0);
+    assertThat(event.getType(), is(OBJECT_MODIFIED));
+    assertThat(event.getPreviousObjectState(), is(vehicle0));
+    assertThat(event.getCurrentObjectState(), is(vehicle2));
+    assertThat(eventBuffer.getConflatedEventCount(), is(1L));
+  }
+
+  @Test
+  public void keepCreationWhenConflatingObjectEvents() {
+    Vehicle vehicle0 = new Vehicle("Vehicle-1");
+    Vehicle vehicle1 = vehicle0.withEnergyLevel(50);
+
+    eventBuffer.onEvent(new TCSObjectEvent(vehicle0, null, OBJECT_CREATED));
+    eventBuffer.onEvent(new TCSObjectEvent(vehicle1, vehicle0, OBJECT_MODIFIED));
+
+    List<Object> events = eventBuffer.getEvents(0);
+    assertThat(events, hasSize(1));
+    TCSObjectEvent event = (TCSObjectEvent) events.get(0);
+    assertThat(event.getType(), is(OBJECT_CREATED));
+    assertThat(event.getPreviousObjectState(), is(nullValue()));
+    assertThat(event.getCurrentObjectState(), is(vehicle1));
+  }
+
+  @Test
+  public void doNotConflateObjectEventsAcrossRemoval() {
+    Point point0 = new Point("Point-1");
+    Point point1 = new Point("Point-1");
+
+    eventBuffer.onEvent(new TCSObjectEvent(point0, null, OBJECT_CREATED));
+    eventBuffer.onEvent(new TCSObjectEvent(null, point0, OBJECT_REMOVED));
+    eventBuffer.onEvent(new TCSObjectEvent(point1, null, OBJECT_CREATED));
+
+    List<Object> events = eventBuffer.getEvents(0);
+    assertThat(events, hasSize(3));
+    assertThat(((TCSObjectEvent) events.get(0)).getType(), is(OBJECT_CREATED));
+    assertThat(((TCSObjectEvent) events.get(1)).getType(), is(OBJECT_REMOVED));
+    assertThat(((TCSObjectEvent) events.get(2)).getType(), is(OBJECT_CREATED));
+  }
+
+  @Test
+  public void replaceProcessModelEventsPerVehicleAndAttribute() {
+    ProcessModelEvent event1 = processModelEvent("Vehicle-1", "ENERGY_LEVEL", 50);
+    ProcessModelEvent event2 = processModelEvent("Vehicle-1", "STATE", 50);
+    ProcessModelEvent event3 = processModelEvent("Vehicle-1", "ENERGY_LEVEL", 40);
+    ProcessModelEvent event4 = processModelEvent("Vehicle-2", "ENERGY_LEVEL", 30);
+
+    eventBuffer.onEvent(event1);
+    eventBuffer.onEvent(event2);
+    eventBuffer.onEvent(event3);
+    eventBuffer.onEvent(event4);
+
+    // The replacing event is moved to the end, so the latest process model is delivered last.
+    assertThat(eventBuffer.getEvents(0), contains(event2, event3, event4));
+  }
+
+  @Test
+  public void mergeProcessModelDeltaEventsPerVehicle() {
+    Map<String, Serializable> changes1 = new HashMap<>();
+    changes1.put("ENERGY_LEVEL", 50);
+    changes1.put("POSITION", "Point-1");
+    Map<String, Serializable> changes2 = new HashMap<>();
+    changes2.put("ENERGY_LEVEL", 40);
+
+    eventBuffer.onEvent(new ProcessModelDeltaEvent("Vehicle-1", changes1));
+    eventBuffer.onEvent(new ProcessModelDeltaEvent("Vehicle-1", changes2));
+
+    List<Object> events = eventBuffer.getEvents(0);
+    assertThat(events, hasSize(1));
+    Map<String, Serializable> changes = ((ProcessModelDeltaEvent) events.get(0))
+        .getChangedAttributes();
+    assertThat(changes.get("ENERGY_LEVEL"), is(40));
+    assertThat(changes.get("POSITION"), is("Point-1"));
+  }
+
+  @Test
+  public void discardEventsAndEmitMarkerOnOverflow() {
+    for (int i = 0; i < 5; i++) {
+      eventBuffer.onEvent("Event-" + i);
+    }
+
+    List<Object> events = eventBuffer.getEvents(0);
+    assertThat(events, hasSize(3));
+    assertThat(events.get(0), is(instanceOf(EventBufferOverflowEvent.class)));
+    assertThat(((EventBufferOverflowEvent) events.get(0)).getDiscardedEventCount(), is(3));
+    assertThat(events.get(1), is("Event-3"));
+    assertThat(events.get(2), is("Event-4"));
+    assertThat(eventBuffer.getOverflowCount(), is(1L));
+    assertThat(eventBuffer.getMaxDepth(), is(3));
+
+    assertThat(eventBuffer.getEvents(0), hasSize(0));
+  }
+
+  private ProcessModelEvent processModelEvent(String vehicleName,
+                                              String attribute,
+                                              int energyLevel) {
+    return new ProcessModelEvent(attribute,
+                                 new VehicleProcessModelTO()
+                                     .setVehicleName(vehicleName)
+                                     .setEnergyLevel(energyLevel));
+  }
+}
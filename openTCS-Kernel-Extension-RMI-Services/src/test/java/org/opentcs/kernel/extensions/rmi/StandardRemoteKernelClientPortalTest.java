@@ -0,0 +1,247 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.rmi;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.opentcs.access.EventBufferOverflowEvent;
+import org.opentcs.access.LocalKernel;
+import org.opentcs.access.ObjectSnapshotEvent;
+import org.opentcs.access.rmi.ClientID;
+import org.opentcs.access.rmi.factories.SocketFactoryProvider;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.util.event.SimpleEventBus;
+
+/**
+ * Tests for {@link StandardRemoteKernelClientPortal#fetchEvents(ClientID, long)}.
+ *
+ * @author agent
+ */
+public class StandardRemoteKernelClientPortalTest {
+
+  private static final String USER_NAME = "user";
+
+  private static final String PASSWORD = "password";
+
+  private static final int CLIENT_COUNT = 50;
+
+  private static final int VEHICLE_COUNT = 100;
+
+  private static final int UPDATE_ROUNDS = 100;
+
+  private SimpleEventBus eventBus;
+
+  private RmiKernelInterfaceConfiguration configuration;
+
+  private UserManager userManager;
+
+  private TCSObjectService objectService;
+
+  private StandardRemoteKernelClientPortal portal;
+
+  private ExecutorService clientExecutor;
+
+  @BeforeEach
+  public void setUp() {
+    eventBus = new SimpleEventBus();
+    configuration = mock(RmiKernelInterfaceConfiguration.class);
+    when(configuration.clientSweepInterval()).thenReturn(300000L);
+    UserAccountProvider userAccountProvider = mock(UserAccountProvider.class);
+    when(userAccountProvider.getUserAccounts()).thenReturn(
+        Collections.singleton(new UserAccount(USER_NAME,
+                                              PASSWORD,
+                                              EnumSet.allOf(UserPermission.class)))
+    );
+    userManager = new UserManager(new File("."),
+                                  eventBus,
+                                  mock(ScheduledExecutorService.class),
+                                  configuration,
+                                  userAccountProvider);
+    userManager.initialize();
+    objectService = mock(TCSObjectService.class);
+    portal = new StandardRemoteKernelClientPortal(mock(LocalKernel.class),
+                                                  new HashSet<>(),
+                                                  userManager,
+                                                  configuration,
+                                                  mock(SocketFactoryProvider.class),
+                                                  mock(RegistryProvider.class),
+                                                  eventBus,
+                                                  objectService,
+                                                  new Object());
+    clientExecutor = Executors.newFixedThreadPool(CLIENT_COUNT);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    clientExecutor.shutdownNow();
+    userManager.terminate();
+  }
+
+  @Test
+  public void deliverLatestVehicleStatesToAllClients()
+      throws Exception {
+    when(configuration.eventBufferCapacity()).thenReturn(VEHICLE_COUNT);
+    List<ClientID> clientIds = loginClients();
+
+    List<Future<Map<String, Integer>>> results = new ArrayList<>();
+    for (ClientID clientId : clientIds) {
+      results.add(clientExecutor.submit(new EnergyLevelCollector(clientId)));
+    }
+
+    publishVehicleUpdates();
+
+    for (Future<Map<String, Integer>> result : results) {
+      Map<String, Integer> energyLevels = result.get(30, TimeUnit.SECONDS);
+      assertThat(energyLevels.size(), is(VEHICLE_COUNT));
+      for (Integer energyLevel : energyLevels.values()) {
+        assertThat(energyLevel, is(UPDATE_ROUNDS));
+      }
+    }
+    for (ClientID clientId : clientIds) {
+      EventBuffer eventBuffer = userManager.getClient(clientId).getEventBuffer();
+      // With all events for a vehicle being conflated, the buffers never overflow.
+      assertThat(eventBuffer.getMaxDepth(), is(lessThanOrEqualTo(VEHICLE_COUNT)));
+      assertThat(eventBuffer.getOverflowCount(), is(0L));
+    }
+  }
+
+  @Test
+  public void signalOverflowToClientsNotFetchingEvents()
+      throws Exception {
+    when(configuration.eventBufferCapacity()).thenReturn(VEHICLE_COUNT / 2);
+    List<ClientID> clientIds = loginClients();
+
+    publishVehicleUpdates();
+
+    for (ClientID clientId : clientIds) {
+      List<Object> events = portal.fetchEvents(clientId, 0);
+      assertThat(events.get(0) instanceof EventBufferOverflowEvent, is(true));
+      assertThat(events.size(), is(lessThanOrEqualTo(VEHICLE_COUNT / 2 + 1)));
+      assertThat(userManager.getClient(clientId).getEventBuffer().getOverflowCount(),
+                 is(greaterThan(0L)));
+    }
+  }
+
+  @Test
+  public void deliverObjectSnapshotAndEventsForReplicatedObjects()
+      throws Exception {
+    when(configuration.eventBufferCapacity()).thenReturn(VEHICLE_COUNT);
+    Vehicle vehicle = new Vehicle("Vehicle-001");
+    when(objectService.fetchObjects(Vehicle.class)).thenReturn(Collections.singleton(vehicle));
+    ClientID clientId = portal.login(USER_NAME, PASSWORD, event -> false);
+    Point point = new Point("Point-001");
+
+    // Object events before the snapshot are still subject to the client's event filter.
+    eventBus.onEvent(new TCSObjectEvent(vehicle, null, TCSObjectEvent.Type.OBJECT_CREATED));
+    portal.requestObjectSnapshot(clientId, 1, Collections.singleton(Vehicle.class));
+    Vehicle modifiedVehicle = vehicle.withEnergyLevel(50);
+    eventBus.onEvent(new TCSObjectEvent(modifiedVehicle,
+                                        vehicle,
+                                        TCSObjectEvent.Type.OBJECT_MODIFIED));
+    eventBus.onEvent(new TCSObjectEvent(point, null, TCSObjectEvent.Type.OBJECT_CREATED));
+
+    List<Object> events = portal.fetchEvents(clientId, 0);
+    assertThat(events, hasSize(2));
+    ObjectSnapshotEvent snapshot = (ObjectSnapshotEvent) events.get(0);
+    assertThat(snapshot.getSequenceNumber(), is(1L));
+    assertThat(snapshot.getObjects(), contains(vehicle));
+    assertThat(((TCSObjectEvent) events.get(1)).getCurrentObjectState(), is(modifiedVehicle));
+  }
+
+  private List<ClientID> loginClients()
+      throws Exception {
+    List<ClientID> clientIds = new ArrayList<>();
+    for (int i = 0; i < CLIENT_COUNT; i++) {
+      clientIds.add(portal.login(USER_NAME, PASSWORD, event -> true));
+    }
+    return clientIds;
+  }
+
+  private void publishVehicleUpdates() {
+    List<Vehicle> vehicles = new ArrayList<>();
+    for (int i = 0; i < VEHICLE_COUNT; i++) {
+      vehicles.add(new Vehicle(String.format("Vehicle-%03d", i)).withEnergyLevel(0));
+    }
+
+    for (int round = 1; round <= UPDATE_ROUNDS; round++) {
+      for (int i = 0; i < VEHICLE_COUNT; i++) {
+        Vehicle previousState = vehicles.get(i);
+        Vehicle currentState = previousState.withEnergyLevel(round);
+        vehicles.set(i, currentState);
+        eventBus.onEvent(new TCSObjectEvent(currentState,
+                                            previousState,
+                                            TCSObjectEvent.Type.OBJECT_MODIFIED));
+      }
+    }
+  }
+
+  /**
+   * Fetches events via the portal until the last round of updates was received for all vehicles,
+   * checking that no intermediate state is skipped over in the conflated events.
+   */
+  private class EnergyLevelCollector
+      implements Callable<Map<String, Integer>> {
+
+    private final ClientID clientId;
+
+    private final Map<String, Integer> energyLevels = new HashMap<>();
+
+    EnergyLevelCollector(ClientID clientId) {
+      this.clientId = clientId;
+    }
+
+    @Override
+    public Map<String, Integer> call()
+        throws Exception {
+      while (!receivedLastRound()) {
+        for (Object event : portal.fetchEvents(clientId, 100)) {
+          TCSObjectEvent objectEvent = (TCSObjectEvent) event;
+          Vehicle previousState = (Vehicle) objectEvent.getPreviousObjectState();
+          Vehicle currentState = (Vehicle) objectEvent.getCurrentObjectState();
+          assertThat(previousState.getEnergyLevel(),
+                     is(energyLevels.getOrDefault(currentState.getName(), 0)));
+          assertThat(currentState.getEnergyLevel(),
+                     is(greaterThan(previousState.getEnergyLevel())));
+          energyLevels.put(currentState.getName(), currentState.getEnergyLevel());
+        }
+      }
+      return energyLevels;
+    }
+
+    private boolean receivedLastRound() {
+      return energyLevels.size() == VEHICLE_COUNT
+          && energyLevels.values().stream().allMatch(level -> level == UPDATE_ROUNDS);
+    }
+  }
+}
@@ -10,14 +10,19 @@ package org.opentcs.kernel;
 import com.google.inject.assistedinject.FactoryModuleBuilder;
 import com.google.inject.multibindings.MapBinder;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import javax.inject.Singleton;
 import org.opentcs.access.Kernel;
 import org.opentcs.access.LocalKernel;
 import org.opentcs.access.SslParameterSet;
-import org.opentcs.common.LoggingScheduledThreadPoolExecutor;
+import org.opentcs.common.MonitoredScheduledThreadPoolExecutor;
+import org.opentcs.common.QueuedEventBus;
+import org.opentcs.common.VirtualTimeScheduler;
 import org.opentcs.components.kernel.ObjectNameProvider;
 import org.opentcs.components.kernel.services.DispatcherService;
 import org.opentcs.components.kernel.services.InternalPeripheralJobService;
@@ -39,13 +44,17 @@ import org.opentcs.components.kernel.services.TransportOrderService;
 import org.opentcs.components.kernel.services.VehicleService;
 import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.customizations.ApplicationHome;
+import org.opentcs.customizations.kernel.DispatcherExecutor;
 import org.opentcs.customizations.kernel.GlobalSyncObject;
 import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.customizations.kernel.KernelInjectionModule;
+import org.opentcs.customizations.kernel.SchedulerExecutor;
 import org.opentcs.drivers.peripherals.PeripheralControllerPool;
 import org.opentcs.drivers.vehicle.VehicleControllerPool;
 import org.opentcs.kernel.extensions.controlcenter.vehicles.AttachmentManager;
 import org.opentcs.kernel.extensions.controlcenter.vehicles.VehicleEntryPool;
+import org.opentcs.kernel.extensions.loadgenerator.LoadGenerator;
+import org.opentcs.kernel.extensions.loadgenerator.LoadGeneratorConfiguration;
 import org.opentcs.kernel.peripherals.DefaultPeripheralControllerPool;
 import org.opentcs.kernel.peripherals.LocalPeripheralControllerPool;
 import org.opentcs.kernel.peripherals.PeripheralAttachmentManager;
@@ -66,10 +75,12 @@ import org.opentcs.kernel.services.StandardSchedulerService;
 import org.opentcs.kernel.services.StandardTCSObjectService;
 import org.opentcs.kernel.services.StandardTransportOrderService;
 import org.opentcs.kernel.services.StandardVehicleService;
+import org.opentcs.kernel.vehicles.AllocationMetrics;
 import org.opentcs.kernel.vehicles.DefaultVehicleControllerPool;
 import org.opentcs.kernel.vehicles.LocalVehicleControllerPool;
 import org.opentcs.kernel.vehicles.VehicleCommAdapterRegistry;
 import org.opentcs.kernel.vehicles.VehicleControllerComponentsFactory;
+import org.opentcs.kernel.vehicles.VehicleControllerConfiguration;
 import org.opentcs.kernel.vehicles.VehicleControllerFactory;
 import org.opentcs.kernel.workingset.Model;
 import org.opentcs.kernel.workingset.NotificationBuffer;
@@ -77,6 +88,7 @@ import org.opentcs.kernel.workingset.PeripheralJobPool;
 import org.opentcs.kernel.workingset.PrefixedUlidObjectNameProvider;
 import org.opentcs.kernel.workingset.TCSObjectPool;
 import org.opentcs.kernel.workingset.TransportOrderPool;
+import org.opentcs.kernel.workingset.WorkingSetLock;
 import org.opentcs.util.event.EventBus;
 import org.opentcs.util.event.EventHandler;
 import org.opentcs.util.event.SimpleEventBus;
@@ -92,8 +104,8 @@ public class DefaultKernelInjectionModule
 
   @Override
   protected void configure() {
-    configureEventHub();
-    configureKernelExecutor();
+    EventBus eventBus = configureEventHub();
+    configureKernelExecutor(eventBus);
 
     // Ensure that the application's home directory can be used everywhere.
     File applicationHome = new File(System.getProperty("opentcs.home", "."));
@@ -108,11 +120,16 @@ public class DefaultKernelInjectionModule
         .in(Singleton.class);
 
     // The kernel's data pool structures.
-    bind(TCSObjectPool.class).in(Singleton.class);
+    KernelApplicationConfiguration configuration
+        = getConfigBindingProvider().get(KernelApplicationConfiguration.PREFIX,
+                                         KernelApplicationConfiguration.class);
+    bind(TCSObjectPool.class)
+        .toInstance(new TCSObjectPool(eventBus, configuration.maxHistoryEntries()));
     bind(Model.class).in(Singleton.class);
     bind(TransportOrderPool.class).in(Singleton.class);
     bind(PeripheralJobPool.class).in(Singleton.class);
     bind(NotificationBuffer.class).in(Singleton.class);
+    bind(WorkingSetLock.class).in(Singleton.class);
 
     bind(ObjectNameProvider.class)
         .to(PrefixedUlidObjectNameProvider.class)
@@ -149,6 +166,8 @@ public class DefaultKernelInjectionModule
     configureSslParameters();
     configureKernelServicesDependencies();
 
+    configureLoadGenerator();
+
     // Ensure all of these binders are initialized.
     extensionsBinderAllModes();
     extensionsBinderModelling();
@@ -205,6 +224,13 @@ public class DefaultKernelInjectionModule
     install(new FactoryModuleBuilder().build(VehicleControllerFactory.class));
     install(new FactoryModuleBuilder().build(VehicleControllerComponentsFactory.class));
 
+    bind(VehicleControllerConfiguration.class)
+        .toInstance(getConfigBindingProvider().get(VehicleControllerConfiguration.PREFIX,
+                                                   VehicleControllerConfiguration.class));
+
+    bind(AllocationMetrics.class)
+        .in(Singleton.class);
+
     bind(DefaultVehicleControllerPool.class)
         .in(Singleton.class);
     bind(VehicleControllerPool.class)
@@ -213,6 +239,23 @@ public class DefaultKernelInjectionModule
         .to(DefaultVehicleControllerPool.class);
   }
 
+  private void configureLoadGenerator() {
+    LoadGeneratorConfiguration configuration
+        = getConfigBindingProvider().get(LoadGeneratorConfiguration.PREFIX,
+                                         LoadGeneratorConfiguration.class);
+
+    if (!configuration.enable()) {
+      return;
+    }
+
+    bind(LoadGeneratorConfiguration.class)
+        .toInstance(configuration);
+
+    extensionsBinderOperating().addBinding()
+        .to(LoadGenerator.class)
+        .in(Singleton.class);
+  }
+
   private void configurePeripheralControllers() {
     install(new FactoryModuleBuilder().build(PeripheralControllerFactory.class));
 
@@ -228,8 +271,14 @@ public class DefaultKernelInjectionModule
     bind(ModelPersister.class).to(XMLFileModelPersister.class);
   }
 
-  private void configureEventHub() {
-    EventBus newEventBus = new SimpleEventBus();
+  private EventBus configureEventHub() {
+    KernelApplicationConfiguration configuration
+        = getConfigBindingProvider().get(KernelApplicationConfiguration.PREFIX,
+                                         KernelApplicationConfiguration.class);
+
+    EventBus newEventBus = configuration.asynchronousEventDelivery()
+        ? new QueuedEventBus("eventDelivery", configuration.eventQueueCapacity())
+        : new SimpleEventBus();
     bind(EventHandler.class)
         .annotatedWith(ApplicationEventBus.class)
         .toInstance(newEventBus);
@@ -239,6 +288,7 @@ public class DefaultKernelInjectionModule
     bind(EventBus.class)
         .annotatedWith(ApplicationEventBus.class)
         .toInstance(newEventBus);
+    return newEventBus;
   }
 
   private void configureKernelStatesDependencies() {
@@ -275,16 +325,23 @@ public class DefaultKernelInjectionModule
     bind(SslParameterSet.class).toInstance(sslParamSet);
   }
 
-  private void configureKernelExecutor() {
-    ScheduledExecutorService executor
-        = new LoggingScheduledThreadPoolExecutor(
-            1,
-            runnable -> {
-              Thread thread = new Thread(runnable, "kernelExecutor");
-              thread.setUncaughtExceptionHandler(new UncaughtExceptionLogger(false));
-              return thread;
-            }
-        );
+  private void configureKernelExecutor(EventBus eventBus) {
+    KernelApplicationConfiguration configuration
+        = getConfigBindingProvider().get(KernelApplicationConfiguration.PREFIX,
+                                         KernelApplicationConfiguration.class);
+
+    List<MonitoredScheduledThreadPoolExecutor> executors = new ArrayList<>();
+    MonitoredScheduledThreadPoolExecutor executor = createSingleThreadExecutor("kernelExecutor");
+    executors.add(executor);
+    MonitoredScheduledThreadPoolExecutor dispatcherExecutor = executor;
+    MonitoredScheduledThreadPoolExecutor schedulerExecutor = executor;
+    if (configuration.partitionedExecutors()) {
+      dispatcherExecutor = createSingleThreadExecutor("dispatcherExecutor");
+      executors.add(dispatcherExecutor);
+      schedulerExecutor = createSingleThreadExecutor("schedulerExecutor");
+      executors.add(schedulerExecutor);
+    }
+
     bind(ScheduledExecutorService.class)
         .annotatedWith(KernelExecutor.class)
         .toInstance(executor);
@@ -294,5 +351,33 @@ public class DefaultKernelInjectionModule
     bind(Executor.class)
         .annotatedWith(KernelExecutor.class)
         .toInstance(executor);
+    bind(ScheduledExecutorService.class)
+        .annotatedWith(DispatcherExecutor.class)
+        .toInstance(dispatcherExecutor);
+    bind(ScheduledExecutorService.class)
+        .annotatedWith(SchedulerExecutor.class)
+        .toInstance(schedulerExecutor);
+    // Simulation tasks of all loopback drivers share a single virtual clock.
+    bind(VirtualTimeScheduler.class)
+        .toInstance(new VirtualTimeScheduler(executor));
+
+    if (configuration.executorMetricsLogInterval() > 0) {
+      executor.scheduleAtFixedRate(new ExecutorMetricsLogger(executors, eventBus),
+                                   configuration.executorMetricsLogInterval(),
+                                   configuration.executorMetricsLogInterval(),
+                                   TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private MonitoredScheduledThreadPoolExecutor createSingleThreadExecutor(String name) {
+    return new MonitoredScheduledThreadPoolExecutor(
+        name,
+        1,
+        runnable -> {
+          Thread thread = new Thread(runnable, name);
+          thread.setUncaughtExceptionHandler(new UncaughtExceptionLogger(false));
+          return thread;
+        }
+    );
   }
 }
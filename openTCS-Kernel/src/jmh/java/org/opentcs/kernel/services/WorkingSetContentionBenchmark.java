@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.services;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.kernel.workingset.Model;
+import org.opentcs.kernel.workingset.TCSObjectPool;
+import org.opentcs.kernel.workingset.WorkingSetLock;
+import org.opentcs.util.event.SimpleEventBus;
+
+/**
+ * Measures queries for all vehicles by many concurrent callers (e.g. RMI clients, the web API and
+ * strategies) while vehicle positions are being updated at a high rate.
+ * <p>
+ * The queries and updates are synchronized via the {@link WorkingSetLock}, as the kernel's services
+ * do it, and via the kernel's global synchronization object only, as the services did it before the
+ * lock was introduced.
+ * </p>
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Group)
+public class WorkingSetContentionBenchmark {
+
+  /**
+   * The number of points in the pool.
+   */
+  @Param({"5000"})
+  public int pointCount;
+  /**
+   * The number of vehicles in the pool.
+   */
+  @Param({"150"})
+  public int vehicleCount;
+  /**
+   * The kernel's global synchronization object.
+   */
+  private final Object globalSyncObject = new Object();
+  /**
+   * The lock synchronizing access to the working set.
+   */
+  private final WorkingSetLock workingSetLock = new WorkingSetLock(globalSyncObject);
+  /**
+   * The object pool.
+   */
+  private TCSObjectPool pool;
+  /**
+   * The model facade to the object pool.
+   */
+  private Model model;
+  /**
+   * The object service to be queried.
+   */
+  private StandardTCSObjectService objectService;
+  /**
+   * The points in the pool.
+   */
+  private final List<Point> points = new ArrayList<>();
+  /**
+   * The vehicles in the pool.
+   */
+  private final List<Vehicle> vehicles = new ArrayList<>();
+
+  @Setup
+  public void setUp() {
+    pool = new TCSObjectPool(new SimpleEventBus());
+    model = new Model(pool);
+    objectService = new StandardTCSObjectService(workingSetLock, pool);
+
+    for (int i = 0; i < pointCount; i++) {
+      Point point = new Point(String.format("Point-%06d", i));
+      pool.addObject(point);
+      points.add(point);
+    }
+    for (int i = 0; i < vehicleCount; i++) {
+      Vehicle vehicle = new Vehicle(String.format("Vehicle-%04d", i));
+      pool.addObject(vehicle);
+      vehicles.add(vehicle);
+    }
+  }
+
+  @Benchmark
+  @Group("workingSetLock")
+  @GroupThreads(7)
+  public Set<Vehicle> fetchVehiclesWithWorkingSetLock() {
+    return objectService.fetchObjects(Vehicle.class);
+  }
+
+  @Benchmark
+  @Group("workingSetLock")
+  @GroupThreads(1)
+  public Vehicle updateVehiclePositionWithWorkingSetLock() {
+    Vehicle vehicle = randomVehicle();
+    Point point = randomPoint();
+    return workingSetLock.write(
+        () -> model.setVehiclePosition(vehicle.getReference(), point.getReference())
+    );
+  }
+
+  @Benchmark
+  @Group("globalSyncObject")
+  @GroupThreads(7)
+  public Set<Vehicle> fetchVehiclesWithGlobalSyncObject() {
+    synchronized (globalSyncObject) {
+      // Copy the result, as the object service does it.
+      return new HashSet<>(pool.getObjects(Vehicle.class));
+    }
+  }
+
+  @Benchmark
+  @Group("globalSyncObject")
+  @GroupThreads(1)
+  public Vehicle updateVehiclePositionWithGlobalSyncObject() {
+    Vehicle vehicle = randomVehicle();
+    Point point = randomPoint();
+    synchronized (globalSyncObject) {
+      return model.setVehiclePosition(vehicle.getReference(), point.getReference());
+    }
+  }
+
+  private Vehicle randomVehicle() {
+    return vehicles.get(ThreadLocalRandom.current().nextInt(vehicles.size()));
+  }
+
+  private Point randomPoint() {
+    return points.get(ThreadLocalRandom.current().nextInt(points.size()));
+  }
+}
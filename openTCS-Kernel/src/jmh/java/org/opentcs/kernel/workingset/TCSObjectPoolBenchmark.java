@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.workingset;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.event.SimpleEventBus;
+
+/**
+ * Compares typed queries on a {@link TCSObjectPool} using the per-class index with a full scan
+ * of all objects in the pool, as it was done before the index was introduced.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TCSObjectPoolBenchmark {
+
+  /**
+   * The number of points (and paths) in the pool.
+   */
+  @Param({"1000", "20000"})
+  public int pointCount;
+  /**
+   * The number of transport orders in the pool.
+   */
+  @Param({"1000", "30000"})
+  public int orderCount;
+  /**
+   * The number of vehicles in the pool.
+   */
+  @Param({"150"})
+  public int vehicleCount;
+  /**
+   * The pool to be queried.
+   */
+  private TCSObjectPool pool;
+  /**
+   * All objects in the pool, mapped by their names, for the scanning variant.
+   */
+  private final Map<String, TCSObject<?>> objectsByName = new ConcurrentHashMap<>();
+
+  @Setup
+  public void setUp() {
+    pool = new TCSObjectPool(new SimpleEventBus());
+
+    Point previousPoint = null;
+    for (int i = 0; i < pointCount; i++) {
+      Point point = new Point(String.format("Point-%06d", i));
+      pool.addObject(point);
+      if (previousPoint != null) {
+        pool.addObject(new Path(String.format("Path-%06d", i),
+                                previousPoint.getReference(),
+                                point.getReference()));
+      }
+      previousPoint = point;
+    }
+    for (int i = 0; i < orderCount; i++) {
+      pool.addObject(new TransportOrder(String.format("TOrder-%06d", i), new ArrayList<>()));
+    }
+    for (int i = 0; i < vehicleCount; i++) {
+      pool.addObject(new Vehicle(String.format("Vehicle-%04d", i)));
+    }
+    for (TCSObject<?> object : pool.getObjects((Pattern) null)) {
+      objectsByName.put(object.getName(), object);
+    }
+  }
+
+  @Benchmark
+  public Set<Vehicle> fetchVehiclesIndexed() {
+    return pool.getObjects(Vehicle.class);
+  }
+
+  @Benchmark
+  public Set<Vehicle> fetchVehiclesScanning() {
+    return scan(Vehicle.class);
+  }
+
+  @Benchmark
+  public Set<Vehicle> fetchVehiclesWithPredicateIndexed() {
+    return pool.getObjects(Vehicle.class, vehicle -> vehicle.getTransportOrder() == null);
+  }
+
+  @Benchmark
+  public Set<Point> fetchPointsIndexed() {
+    return pool.getObjects(Point.class);
+  }
+
+  @Benchmark
+  public Set<Point> fetchPointsScanning() {
+    return scan(Point.class);
+  }
+
+  private <T extends TCSObject<T>> Set<T> scan(Class<T> clazz) {
+    Set<T> result = new HashSet<>();
+    for (TCSObject<?> curObject : objectsByName.values()) {
+      if (clazz.isInstance(curObject)) {
+        result.add(clazz.cast(curObject));
+      }
+    }
+    return result;
+  }
+}
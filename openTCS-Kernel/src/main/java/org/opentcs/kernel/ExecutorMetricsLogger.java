@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel;
+
+import java.util.ArrayList;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import org.opentcs.common.MonitoredScheduledThreadPoolExecutor;
+import org.opentcs.common.QueuedEventBus;
+import org.opentcs.util.event.EventBus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logs the metrics of the kernel's executors and, if it delivers events asynchronously, of its
+ * event bus.
+ *
+ * @author agent
+ */
+public class ExecutorMetricsLogger
+    implements Runnable {
+
+  /**
+   * This class's Logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(ExecutorMetricsLogger.class);
+  /**
+   * The executors whose metrics are to be logged.
+   */
+  private final List<MonitoredScheduledThreadPoolExecutor> executors;
+  /**
+   * The kernel's event bus.
+   */
+  private final EventBus eventBus;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param executors The executors whose metrics are to be logged.
+   * @param eventBus The kernel's event bus.
+   */
+  public ExecutorMetricsLogger(List<MonitoredScheduledThreadPoolExecutor> executors,
+                               EventBus eventBus) {
+    this.executors = new ArrayList<>(requireNonNull(executors, "executors"));
+    this.eventBus = requireNonNull(eventBus, "eventBus");
+  }
+
+  @Override
+  public void run() {
+    if (!LOG.isDebugEnabled()) {
+      return;
+    }
+
+    for (MonitoredScheduledThreadPoolExecutor executor : executors) {
+      LOG.debug("Executor metrics: {}", executor.getMetricsSummary());
+    }
+    if (eventBus instanceof QueuedEventBus) {
+      for (String summary : ((QueuedEventBus) eventBus).getMetricsSummaries()) {
+        LOG.debug("Event handler metrics: {}", summary);
+      }
+    }
+  }
+}
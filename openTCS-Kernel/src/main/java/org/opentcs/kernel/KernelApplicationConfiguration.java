@@ -52,4 +52,60 @@ public interface KernelApplicationConfiguration {
       description = "Whether to implicitly update the router's topology when a path is (un)locked.",
       orderKey = "3_topologyUpdate")
   boolean updateRoutingTopologyOnPathLockChange();
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+        "Whether to execute dispatching and scheduling tasks on separate threads.",
+        "If 'true', dispatching, resource allocation and all other kernel tasks (e.g. writes by "
+        + "clients) are each executed in the order they were submitted, but independently of each "
+        + "other, so that e.g. a slow dispatch run does not delay resource allocations.",
+        "If 'false', all of these tasks are executed by a single thread."
+      },
+      orderKey = "4_executors_0")
+  boolean partitionedExecutors();
+
+  @ConfigurationEntry(
+      type = "Long",
+      description = {
+        "The interval (in ms) in which to log metrics (queue depth and wait times) of the kernel's "
+        + "executors and (if events are delivered asynchronously) of its event handlers at debug "
+        + "level.",
+        "A value of 0 disables logging of these metrics."
+      },
+      orderKey = "4_executors_1")
+  long executorMetricsLogInterval();
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+        "Whether to deliver events to event handlers asynchronously, each via a queue of its own.",
+        "If 'true', slow event handlers (e.g. those of kernel extensions) do not delay the "
+        + "kernel's threads emitting events, e.g. when the model is modified. Event handlers of "
+        + "the kernel's core components receive events synchronously, regardless of this setting. "
+        + "Event handlers receiving events asynchronously must not modify the kernel's data.",
+        "If 'false', all event handlers receive events on the threads emitting them."
+      },
+      orderKey = "5_events_0")
+  boolean asynchronousEventDelivery();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+        "The maximum number of events waiting for asynchronous delivery to a handler.",
+        "If a handler's queue is full, further events for it are discarded after a short time, and "
+        + "the handler is notified about the discarded events."
+      },
+      orderKey = "5_events_1")
+  int eventQueueCapacity();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+        "The maximum number of history entries retained for every object (e.g. transport orders "
+        + "and vehicles), with the oldest ones being discarded when new ones are added.",
+        "A value of 0 means the number of history entries is not limited."
+      },
+      orderKey = "6_history")
+  int maxHistoryEntries();
 }
@@ -16,16 +16,22 @@ import java.util.function.Predicate;
 import javax.inject.Inject;
 import org.opentcs.components.kernel.OrderSequenceCleanupApproval;
 import org.opentcs.components.kernel.TransportOrderCleanupApproval;
-import org.opentcs.customizations.kernel.GlobalSyncObject;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.kernel.workingset.TransportOrderPool;
+import org.opentcs.kernel.workingset.WorkingSetLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * A task that periodically removes orders in a final state.
+ * <p>
+ * Candidates for removal are looked up via the order pool's indexes of orders in a final state,
+ * which are ordered by creation time, so only expired orders are looked at.
+ * They are removed in batches, with the lock on the kernel's working set being released between
+ * batches.
+ * </p>
  *
  * @author Stefan Walter (Fraunhofer IML)
  */
@@ -37,9 +43,9 @@ class OrderCleanerTask
    */
   private static final Logger LOG = LoggerFactory.getLogger(OrderCleanerTask.class);
   /**
-   * A global object to be used for synchronization within the kernel.
+   * Synchronizes access to the kernel's working set.
    */
-  private final Object globalSyncObject;
+  private final WorkingSetLock workingSetLock;
   /**
    * Keeps all the transport orders.
    */
@@ -60,19 +66,19 @@ class OrderCleanerTask
   /**
    * Creates a new instance.
    *
-   * @param globalSyncObject The kernel threads' global synchronization object.
+   * @param workingSetLock Synchronizes access to the kernel's working set.
    * @param orderPool The transport order pool to be used.
    * @param orderCleanupApprovals The set of order cleanup approvals to use.
    * @param sequenceCleanupApprovals The set of sequence cleanup approvals to use.
    * @param configuration This class's configuration.
    */
   @Inject
-  public OrderCleanerTask(@GlobalSyncObject Object globalSyncObject,
+  public OrderCleanerTask(WorkingSetLock workingSetLock,
                           TransportOrderPool orderPool,
                           Set<TransportOrderCleanupApproval> orderCleanupApprovals,
                           Set<OrderSequenceCleanupApproval> sequenceCleanupApprovals,
                           OrderPoolConfiguration configuration) {
-    this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+    this.workingSetLock = requireNonNull(workingSetLock, "workingSetLock");
     this.orderPool = requireNonNull(orderPool, "orderPool");
     this.orderCleanupApprovals = requireNonNull(orderCleanupApprovals, "orderCleanupApprovals");
     this.sequenceCleanupApprovals = requireNonNull(sequenceCleanupApprovals,
@@ -86,27 +92,77 @@ class OrderCleanerTask
 
   @Override
   public void run() {
-    synchronized (globalSyncObject) {
-      LOG.debug("Sweeping order pool...");
-      // Candidates that are created before this point of time should be removed.
-      Instant creationTimeThreshold = Instant.now().minusMillis(configuration.sweepAge());
-
-      // Remove all transport orders in a final state that do NOT belong to a sequence and that are
-      // older than the threshold.
-      for (TransportOrder transportOrder
-               : orderPool.getObjectPool().getObjects(TransportOrder.class,
-                                                      new OrderApproval(creationTimeThreshold))) {
-        orderPool.removeTransportOrder(transportOrder.getReference());
-      }
+    LOG.debug("Sweeping order pool...");
+    // Candidates that are created before this point of time should be removed.
+    Instant creationTimeThreshold = Instant.now().minusMillis(configuration.sweepAge());
+
+    // Remove all transport orders in a final state that do NOT belong to a sequence and that are
+    // older than the threshold.
+    List<TCSObjectReference<TransportOrder>> orderRefs
+        = workingSetLock.read(() -> orderPool.getFinalOrdersCreatedNotAfter(creationTimeThreshold));
+    OrderApproval orderApproval = new OrderApproval(creationTimeThreshold);
+    int removedOrders
+        = removeInBatches(orderRefs, ref -> removeOrderIfApproved(ref, orderApproval));
+
+    // Remove all order sequences that have been finished, including their transport orders.
+    List<TCSObjectReference<OrderSequence>> sequenceRefs = workingSetLock.read(
+        () -> orderPool.getFinishedOrderSequencesCreatedNotAfter(creationTimeThreshold)
+    );
+    SequenceApproval sequenceApproval = new SequenceApproval(creationTimeThreshold);
+    int removedSequences
+        = removeInBatches(sequenceRefs, ref -> removeSequenceIfApproved(ref, sequenceApproval));
+
+    LOG.debug("Removed {} transport orders and {} order sequences.",
+              removedOrders,
+              removedSequences);
+  }
 
-      // Remove all order sequences that have been finished, including their transport orders.
-      for (OrderSequence orderSequence
-               : orderPool.getObjectPool().getObjects(
-              OrderSequence.class,
-              new SequenceApproval(creationTimeThreshold))) {
-        orderPool.removeFinishedOrderSequenceAndOrders(orderSequence.getReference());
-      }
+  private boolean removeOrderIfApproved(TCSObjectReference<TransportOrder> ref,
+                                        OrderApproval approval) {
+    // The order may have been removed or modified since the candidates were selected.
+    TransportOrder order = orderPool.getObjectPool().getObjectOrNull(TransportOrder.class, ref);
+    if (order == null || !approval.test(order)) {
+      return false;
+    }
+    orderPool.removeTransportOrder(ref);
+    return true;
+  }
+
+  private boolean removeSequenceIfApproved(TCSObjectReference<OrderSequence> ref,
+                                           SequenceApproval approval) {
+    OrderSequence sequence = orderPool.getObjectPool().getObjectOrNull(OrderSequence.class, ref);
+    if (sequence == null || !approval.test(sequence)) {
+      return false;
+    }
+    orderPool.removeFinishedOrderSequenceAndOrders(ref);
+    return true;
+  }
+
+  /**
+   * Applies the given removal to the given references in batches, each of them holding the lock on
+   * the working set.
+   *
+   * @param <T> The type of the referenced objects.
+   * @param refs The references.
+   * @param removal Removes the referenced object, if approved, and returns whether it did.
+   * @return The number of removed objects.
+   */
+  private <T> int removeInBatches(List<T> refs, Predicate<T> removal) {
+    int batchSize = Math.max(1, configuration.sweepBatchSize());
+    int removed = 0;
+    for (int start = 0; start < refs.size(); start += batchSize) {
+      List<T> batch = refs.subList(start, Math.min(start + batchSize, refs.size()));
+      removed += workingSetLock.write(() -> {
+        int removedInBatch = 0;
+        for (T ref : batch) {
+          if (removal.test(ref)) {
+            removedInBatch++;
+          }
+        }
+        return removedInBatch;
+      });
     }
+    return removed;
   }
 
   /**
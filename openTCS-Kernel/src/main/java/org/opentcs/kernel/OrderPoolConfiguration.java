@@ -32,4 +32,14 @@ public interface OrderPoolConfiguration {
       type = "Integer",
       description = "The minimum age of orders to remove in a sweep (in ms).")
   int sweepAge();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+        "The maximum number of orders to remove while holding the lock on the kernel's working "
+        + "set.",
+        "Larger sweeps are split into batches, giving other threads access to the working set "
+        + "between them."
+      })
+  int sweepBatchSize();
 }
@@ -0,0 +1,514 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.loadgenerator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import org.opentcs.access.KernelRuntimeException;
+import org.opentcs.common.MonitoredScheduledThreadPoolExecutor;
+import org.opentcs.components.kernel.KernelExtension;
+import org.opentcs.components.kernel.services.DispatcherService;
+import org.opentcs.components.kernel.services.PlantModelService;
+import org.opentcs.components.kernel.services.TransportOrderService;
+import org.opentcs.components.kernel.services.VehicleService;
+import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.customizations.ApplicationHome;
+import org.opentcs.customizations.kernel.KernelExecutor;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.kernel.vehicles.AllocationMetrics;
+import org.opentcs.util.event.EventSource;
+import org.opentcs.util.event.SynchronousEventHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A kernel extension generating transport orders for a configured time and reporting throughput
+ * metrics, without requiring a client application.
+ * <p>
+ * After a configured delay, batches of transport orders with random destinations are created
+ * whenever the number of generated transport orders that are not yet finished drops to or below a
+ * configured threshold.
+ * When the configured time has passed, the generation of transport orders stops and a report is
+ * written to a file.
+ * </p>
+ *
+ * @author agent
+ */
+public class LoadGenerator
+    implements KernelExtension,
+               SynchronousEventHandler {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(LoadGenerator.class);
+  /**
+   * The prefix of the names of generated transport orders.
+   */
+  private static final String ORDER_NAME_PREFIX = "LoadGen-";
+  /**
+   * The interval (in ms) in which the kernel executor's queue depth is sampled.
+   */
+  private static final long SAMPLING_INTERVAL = 1000;
+  /**
+   * This class's configuration.
+   */
+  private final LoadGeneratorConfiguration configuration;
+  /**
+   * The application's home directory.
+   */
+  private final File homeDirectory;
+  /**
+   * Where this instance registers for events.
+   */
+  private final EventSource eventSource;
+  /**
+   * The kernel's executor.
+   */
+  private final ScheduledExecutorService kernelExecutor;
+  /**
+   * The transport order service.
+   */
+  private final TransportOrderService transportOrderService;
+  /**
+   * The dispatcher service.
+   */
+  private final DispatcherService dispatcherService;
+  /**
+   * The vehicle service.
+   */
+  private final VehicleService vehicleService;
+  /**
+   * The plant model service.
+   */
+  private final PlantModelService plantModelService;
+  /**
+   * Records the times vehicles had to wait for allocations.
+   */
+  private final AllocationMetrics allocationMetrics;
+  /**
+   * Maps between the report and its JSON representation.
+   */
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  /**
+   * The generated transport orders that are not yet finished, mapped by their names.
+   */
+  private final Map<String, OrderRecord> activeOrders = new HashMap<>();
+  /**
+   * Creates the batches of transport orders.
+   */
+  private RandomOrderBatchCreator orderBatchCreator;
+  /**
+   * The future for starting the generation of transport orders.
+   */
+  private ScheduledFuture<?> startFuture;
+  /**
+   * The future for stopping the generation of transport orders.
+   */
+  private ScheduledFuture<?> stopFuture;
+  /**
+   * The future for sampling the kernel executor's queue depth.
+   */
+  private ScheduledFuture<?> samplingFuture;
+  /**
+   * Whether this instance is initialized.
+   */
+  private boolean initialized;
+  /**
+   * Whether transport orders are currently being generated.
+   */
+  private boolean running;
+  /**
+   * Whether the creation of a batch of transport orders is already submitted to the executor.
+   */
+  private boolean batchPending;
+  /**
+   * The time (from {@link System#nanoTime()}) at which the generation of transport orders started.
+   */
+  private long startTime;
+  /**
+   * The number of transport orders created.
+   */
+  private long ordersCreated;
+  /**
+   * The number of generated transport orders that were finished.
+   */
+  private long ordersFinished;
+  /**
+   * The number of generated transport orders that failed.
+   */
+  private long ordersFailed;
+  /**
+   * The number of generated transport orders assigned to vehicles.
+   */
+  private long ordersAssigned;
+  /**
+   * The accumulated time (in ms) from the creation of transport orders to their assignment.
+   */
+  private long totalAssignmentLatency;
+  /**
+   * The maximum time (in ms) from the creation of a transport order to its assignment.
+   */
+  private long maxAssignmentLatency;
+  /**
+   * The accumulated time (in ms) from the creation of transport orders to them being finished.
+   */
+  private long totalCompletionTime;
+  /**
+   * The number of samples of the kernel executor's queue depth.
+   */
+  private long queueDepthSampleCount;
+  /**
+   * The accumulated sampled queue depths of the kernel executor.
+   */
+  private long totalQueueDepth;
+  /**
+   * The maximum sampled queue depth of the kernel executor.
+   */
+  private int maxQueueDepth;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param configuration This class's configuration.
+   * @param homeDirectory The application's home directory.
+   * @param eventSource Where this instance registers for events.
+   * @param kernelExecutor The kernel's executor.
+   * @param transportOrderService The transport order service.
+   * @param dispatcherService The dispatcher service.
+   * @param vehicleService The vehicle service.
+   * @param plantModelService The plant model service.
+   * @param allocationMetrics Records the times vehicles had to wait for allocations.
+   */
+  @Inject
+  public LoadGenerator(LoadGeneratorConfiguration configuration,
+                       @ApplicationHome File homeDirectory,
+                       @ApplicationEventBus EventSource eventSource,
+                       @KernelExecutor ScheduledExecutorService kernelExecutor,
+                       TransportOrderService transportOrderService,
+                       DispatcherService dispatcherService,
+                       VehicleService vehicleService,
+                       PlantModelService plantModelService,
+                       AllocationMetrics allocationMetrics) {
+    this.configuration = requireNonNull(configuration, "configuration");
+    this.homeDirectory = requireNonNull(homeDirectory, "homeDirectory");
+    this.eventSource = requireNonNull(eventSource, "eventSource");
+    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    this.transportOrderService = requireNonNull(transportOrderService, "transportOrderService");
+    this.dispatcherService = requireNonNull(dispatcherService, "dispatcherService");
+    this.vehicleService = requireNonNull(vehicleService, "vehicleService");
+    this.plantModelService = requireNonNull(plantModelService, "plantModelService");
+    this.allocationMetrics = requireNonNull(allocationMetrics, "allocationMetrics");
+  }
+
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    eventSource.subscribe(this);
+    startFuture = kernelExecutor.schedule(this::start,
+                                          configuration.startDelay(),
+                                          TimeUnit.MILLISECONDS);
+
+    initialized = true;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    startFuture.cancel(false);
+    if (stopFuture != null) {
+      stopFuture.cancel(false);
+    }
+    stop();
+    eventSource.unsubscribe(this);
+
+    initialized = false;
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    if (!(event instanceof TCSObjectEvent)) {
+      return;
+    }
+    TCSObjectEvent objectEvent = (TCSObjectEvent) event;
+    if (!(objectEvent.getCurrentOrPreviousObjectState() instanceof TransportOrder)) {
+      return;
+    }
+    TransportOrder order = (TransportOrder) objectEvent.getCurrentOrPreviousObjectState();
+    if (!order.getName().startsWith(ORDER_NAME_PREFIX)) {
+      return;
+    }
+
+    synchronized (this) {
+      if (!running) {
+        return;
+      }
+
+      switch (objectEvent.getType()) {
+        case OBJECT_CREATED:
+          activeOrders.put(order.getName(), new OrderRecord(order.getCreationTime()));
+          break;
+        case OBJECT_MODIFIED:
+          orderModified(order);
+          break;
+        case OBJECT_REMOVED:
+          activeOrders.remove(order.getName());
+          break;
+        default:
+          LOG.warn("Unhandled event type: {}", objectEvent.getType());
+      }
+
+      if (!batchPending && activeOrders.size() <= configuration.orderThreshold()) {
+        batchPending = true;
+        kernelExecutor.submit(this::createOrderBatch);
+      }
+    }
+  }
+
+  private void orderModified(TransportOrder order) {
+    OrderRecord record = activeOrders.get(order.getName());
+    if (record == null) {
+      return;
+    }
+
+    if (!record.assigned && order.getProcessingVehicle() != null) {
+      record.assigned = true;
+      long latency = millisSince(record.creationTime);
+      ordersAssigned++;
+      totalAssignmentLatency += latency;
+      maxAssignmentLatency = Math.max(maxAssignmentLatency, latency);
+    }
+
+    if (order.hasState(TransportOrder.State.FINISHED)) {
+      activeOrders.remove(order.getName());
+      ordersFinished++;
+      totalCompletionTime += millisSince(record.creationTime);
+    }
+    else if (order.getState().isFinalState()) {
+      activeOrders.remove(order.getName());
+      ordersFailed++;
+    }
+  }
+
+  private long millisSince(Instant time) {
+    return Math.max(0, Duration.between(time, Instant.now()).toMillis());
+  }
+
+  private void start() {
+    LOG.info("Starting generation of transport orders for {} ms...", configuration.duration());
+
+    orderBatchCreator = new RandomOrderBatchCreator(transportOrderService,
+                                                    ORDER_NAME_PREFIX,
+                                                    configuration.orderBatchSize(),
+                                                    configuration.orderSize(),
+                                                    configuration.randomSeed());
+
+    if (configuration.utilizeVehicles()) {
+      for (Vehicle vehicle : vehicleService.fetchObjects(Vehicle.class)) {
+        if (vehicle.getIntegrationLevel() != Vehicle.IntegrationLevel.TO_BE_UTILIZED) {
+          vehicleService.updateVehicleIntegrationLevel(vehicle.getReference(),
+                                                       Vehicle.IntegrationLevel.TO_BE_UTILIZED);
+        }
+      }
+    }
+
+    synchronized (this) {
+      ordersCreated = 0;
+      ordersFinished = 0;
+      ordersFailed = 0;
+      ordersAssigned = 0;
+      totalAssignmentLatency = 0;
+      maxAssignmentLatency = 0;
+      totalCompletionTime = 0;
+      queueDepthSampleCount = 0;
+      totalQueueDepth = 0;
+      maxQueueDepth = 0;
+      allocationMetrics.reset();
+      startTime = System.nanoTime();
+      running = true;
+      batchPending = true;
+    }
+
+    samplingFuture = kernelExecutor.scheduleAtFixedRate(this::sampleQueueDepth,
+                                                        SAMPLING_INTERVAL,
+                                                        SAMPLING_INTERVAL,
+                                                        TimeUnit.MILLISECONDS);
+    stopFuture = kernelExecutor.schedule(this::stop,
+                                         configuration.duration(),
+                                         TimeUnit.MILLISECONDS);
+    createOrderBatch();
+  }
+
+  private void stop() {
+    // Fetch these before locking this instance: The services need the working set's read lock, and
+    // writers holding the working set's write lock may be waiting for this instance's lock to
+    // deliver events to it.
+    String modelName = plantModelService.getModelName();
+    int vehicleCount = vehicleService.fetchObjects(Vehicle.class).size();
+
+    LoadGeneratorReport report;
+    synchronized (this) {
+      if (!running) {
+        return;
+      }
+      samplingFuture.cancel(false);
+      running = false;
+      report = createReport(modelName, vehicleCount);
+      activeOrders.clear();
+    }
+
+    LOG.info("Finished generation of transport orders: {} orders created, {} finished, {} failed, "
+        + "{} orders/hour, average assignment latency: {} ms, "
+        + "average allocation wait time: {} ms",
+             report.getOrdersCreated(),
+             report.getOrdersFinished(),
+             report.getOrdersFailed(),
+             String.format("%.1f", report.getOrdersPerHour()),
+             String.format("%.2f", report.getAverageAssignmentLatency()),
+             String.format("%.2f", report.getAverageAllocationWaitTime()));
+    writeReport(report);
+  }
+
+  private void createOrderBatch() {
+    synchronized (this) {
+      if (!running) {
+        batchPending = false;
+        return;
+      }
+    }
+
+    try {
+      List<TransportOrder> orders = orderBatchCreator.createOrderBatch();
+      synchronized (this) {
+        ordersCreated += orders.size();
+        // Generated orders may have been finished in the meantime. (Unless there are no locations
+        // to create orders for, in which case there is no point in trying again.)
+        batchPending = !orders.isEmpty()
+            && activeOrders.size() <= configuration.orderThreshold();
+        if (batchPending) {
+          kernelExecutor.submit(this::createOrderBatch);
+        }
+      }
+      dispatcherService.dispatch();
+    }
+    catch (KernelRuntimeException exc) {
+      LOG.warn("Exception creating transport orders, stopping generation", exc);
+      stopFuture.cancel(false);
+      stop();
+    }
+  }
+
+  private void sampleQueueDepth() {
+    if (!(kernelExecutor instanceof MonitoredScheduledThreadPoolExecutor)) {
+      return;
+    }
+
+    int queueDepth = ((MonitoredScheduledThreadPoolExecutor) kernelExecutor).getQueueDepth();
+    synchronized (this) {
+      queueDepthSampleCount++;
+      totalQueueDepth += queueDepth;
+      maxQueueDepth = Math.max(maxQueueDepth, queueDepth);
+    }
+  }
+
+  private LoadGeneratorReport createReport(String modelName, int vehicleCount) {
+    long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+    LoadGeneratorReport report = new LoadGeneratorReport();
+    report.setModelName(modelName);
+    report.setVehicleCount(vehicleCount);
+    report.setOrderBatchSize(configuration.orderBatchSize());
+    report.setOrderSize(configuration.orderSize());
+    report.setOrderThreshold(configuration.orderThreshold());
+    report.setRandomSeed(configuration.randomSeed());
+    report.setDuration(duration);
+    report.setOrdersCreated(ordersCreated);
+    report.setOrdersFinished(ordersFinished);
+    report.setOrdersFailed(ordersFailed);
+    report.setOrdersPerHour(duration == 0 ? 0.0 : ordersFinished * 3_600_000.0 / duration);
+    report.setAverageAssignmentLatency(
+        ordersAssigned == 0 ? 0.0 : totalAssignmentLatency / (double) ordersAssigned
+    );
+    report.setMaxAssignmentLatency(maxAssignmentLatency);
+    report.setAverageCompletionTime(
+        ordersFinished == 0 ? 0.0 : totalCompletionTime / (double) ordersFinished
+    );
+    report.setAllocationCount(allocationMetrics.getAllocationCount());
+    report.setAverageAllocationWaitTime(allocationMetrics.getAverageWaitTime());
+    report.setMaxAllocationWaitTime(allocationMetrics.getMaxWaitTime());
+    report.setAverageExecutorQueueDepth(
+        queueDepthSampleCount == 0 ? 0.0 : totalQueueDepth / (double) queueDepthSampleCount
+    );
+    report.setMaxExecutorQueueDepth(maxQueueDepth);
+    if (kernelExecutor instanceof MonitoredScheduledThreadPoolExecutor) {
+      MonitoredScheduledThreadPoolExecutor executor
+          = (MonitoredScheduledThreadPoolExecutor) kernelExecutor;
+      report.setAverageExecutorWaitTime(executor.getAverageWaitTime());
+      report.setMaxExecutorWaitTime(executor.getMaxWaitTime());
+    }
+    return report;
+  }
+
+  private void writeReport(LoadGeneratorReport report) {
+    File reportFile = new File(homeDirectory, configuration.reportFile());
+    try {
+      File parentDirectory = reportFile.getAbsoluteFile().getParentFile();
+      if (!parentDirectory.isDirectory() && !parentDirectory.mkdirs()) {
+        throw new IOException("Could not create directory " + parentDirectory.getPath());
+      }
+      objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportFile, report);
+      LOG.info("Wrote load generator report to {}", reportFile.getPath());
+    }
+    catch (IOException exc) {
+      LOG.warn("Exception writing load generator report to {}", reportFile.getPath(), exc);
+    }
+  }
+
+  /**
+   * Information about a generated transport order that is not yet finished.
+   */
+  private static class OrderRecord {
+
+    /**
+     * The transport order's creation time.
+     */
+    private final Instant creationTime;
+    /**
+     * Whether the transport order has been assigned to a vehicle.
+     */
+    private boolean assigned;
+
+    OrderRecord(Instant creationTime) {
+      this.creationTime = creationTime;
+    }
+  }
+}
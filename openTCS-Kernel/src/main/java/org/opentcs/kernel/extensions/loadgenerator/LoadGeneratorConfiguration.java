@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.loadgenerator;
+
+import org.opentcs.configuration.ConfigurationEntry;
+import org.opentcs.configuration.ConfigurationPrefix;
+
+/**
+ * Configuration entries for the headless load generator.
+ *
+ * @author agent
+ */
+@ConfigurationPrefix(LoadGeneratorConfiguration.PREFIX)
+public interface LoadGeneratorConfiguration {
+
+  /**
+   * This configuration's prefix.
+   */
+  String PREFIX = "loadgenerator";
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+        "Whether to generate transport orders when the kernel is in operating mode and write a "
+        + "report with throughput metrics.",
+        "Meant for benchmarking the kernel with loopback vehicles, not for production use."
+      },
+      orderKey = "0_enable")
+  boolean enable();
+
+  @ConfigurationEntry(
+      type = "Long",
+      description = "The time (in ms) to wait after entering operating mode before generating "
+          + "transport orders, e.g. for vehicles to report their initial positions.",
+      orderKey = "1_profile_0")
+  long startDelay();
+
+  @ConfigurationEntry(
+      type = "Long",
+      description = "The time (in ms) for which to generate transport orders.",
+      orderKey = "1_profile_1")
+  long duration();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The number of transport orders to create per batch.",
+      orderKey = "1_profile_2")
+  int orderBatchSize();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The number of drive orders per transport order, with destinations selected "
+          + "randomly from all locations in the model.",
+      orderKey = "1_profile_3")
+  int orderSize();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "A new batch of transport orders is created whenever the number of generated "
+          + "transport orders that are not yet finished drops to or below this threshold.",
+      orderKey = "1_profile_4")
+  int orderThreshold();
+
+  @ConfigurationEntry(
+      type = "Long",
+      description = "The seed for selecting destinations, making generated transport orders "
+          + "reproducible for the same model.",
+      orderKey = "1_profile_5")
+  long randomSeed();
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = "Whether to set the integration level of all vehicles to 'TO_BE_UTILIZED' "
+          + "before generating transport orders.",
+      orderKey = "1_profile_6")
+  boolean utilizeVehicles();
+
+  @ConfigurationEntry(
+      type = "String",
+      description = "The path of the file (relative to the kernel's home directory) to which the "
+          + "report is written in JSON format.",
+      orderKey = "2_report_0")
+  String reportFile();
+}
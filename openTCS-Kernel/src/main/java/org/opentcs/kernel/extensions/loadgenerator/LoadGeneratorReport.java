@@ -0,0 +1,255 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.loadgenerator;
+
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+
+/**
+ * The results of a load generator run, written to a file in JSON format.
+ *
+ * @author agent
+ */
+public class LoadGeneratorReport {
+
+  @JsonPropertyDescription("The name of the plant model")
+  private String modelName;
+
+  @JsonPropertyDescription("The number of vehicles in the plant model")
+  private int vehicleCount;
+
+  @JsonPropertyDescription("The number of transport orders created per batch")
+  private int orderBatchSize;
+
+  @JsonPropertyDescription("The number of drive orders per transport order")
+  private int orderSize;
+
+  @JsonPropertyDescription("The number of unfinished transport orders triggering a new batch")
+  private int orderThreshold;
+
+  @JsonPropertyDescription("The seed used for selecting destinations")
+  private long randomSeed;
+
+  @JsonPropertyDescription("The time (in ms) for which transport orders were generated")
+  private long duration;
+
+  @JsonPropertyDescription("The number of transport orders created")
+  private long ordersCreated;
+
+  @JsonPropertyDescription("The number of created transport orders that were finished")
+  private long ordersFinished;
+
+  @JsonPropertyDescription("The number of created transport orders that failed")
+  private long ordersFailed;
+
+  @JsonPropertyDescription("The number of transport orders finished per hour")
+  private double ordersPerHour;
+
+  @JsonPropertyDescription("The average time (in ms) from an order's creation to its assignment")
+  private double averageAssignmentLatency;
+
+  @JsonPropertyDescription("The maximum time (in ms) from an order's creation to its assignment")
+  private double maxAssignmentLatency;
+
+  @JsonPropertyDescription("The average time (in ms) from an order's creation to it being finished")
+  private double averageCompletionTime;
+
+  @JsonPropertyDescription("The number of resource allocations for vehicles")
+  private long allocationCount;
+
+  @JsonPropertyDescription("The average time (in ms) vehicles had to wait for allocations")
+  private double averageAllocationWaitTime;
+
+  @JsonPropertyDescription("The maximum time (in ms) a vehicle had to wait for an allocation")
+  private double maxAllocationWaitTime;
+
+  @JsonPropertyDescription("The average number of tasks waiting for the kernel executor")
+  private double averageExecutorQueueDepth;
+
+  @JsonPropertyDescription("The maximum number of tasks waiting for the kernel executor")
+  private int maxExecutorQueueDepth;
+
+  @JsonPropertyDescription("The average time (in ms) tasks waited for the kernel executor")
+  private double averageExecutorWaitTime;
+
+  @JsonPropertyDescription("The maximum time (in ms) a task waited for the kernel executor")
+  private double maxExecutorWaitTime;
+
+  /**
+   * Creates a new instance.
+   */
+  public LoadGeneratorReport() {
+  }
+
+  public String getModelName() {
+    return modelName;
+  }
+
+  public void setModelName(String modelName) {
+    this.modelName = modelName;
+  }
+
+  public int getVehicleCount() {
+    return vehicleCount;
+  }
+
+  public void setVehicleCount(int vehicleCount) {
+    this.vehicleCount = vehicleCount;
+  }
+
+  public int getOrderBatchSize() {
+    return orderBatchSize;
+  }
+
+  public void setOrderBatchSize(int orderBatchSize) {
+    this.orderBatchSize = orderBatchSize;
+  }
+
+  public int getOrderSize() {
+    return orderSize;
+  }
+
+  public void setOrderSize(int orderSize) {
+    this.orderSize = orderSize;
+  }
+
+  public int getOrderThreshold() {
+    return orderThreshold;
+  }
+
+  public void setOrderThreshold(int orderThreshold) {
+    this.orderThreshold = orderThreshold;
+  }
+
+  public long getRandomSeed() {
+    return randomSeed;
+  }
+
+  public void setRandomSeed(long randomSeed) {
+    this.randomSeed = randomSeed;
+  }
+
+  public long getDuration() {
+    return duration;
+  }
+
+  public void setDuration(long duration) {
+    this.duration = duration;
+  }
+
+  public long getOrdersCreated() {
+    return ordersCreated;
+  }
+
+  public void setOrdersCreated(long ordersCreated) {
+    this.ordersCreated = ordersCreated;
+  }
+
+  public long getOrdersFinished() {
+    return ordersFinished;
+  }
+
+  public void setOrdersFinished(long ordersFinished) {
+    this.ordersFinished = ordersFinished;
+  }
+
+  public long getOrdersFailed() {
+    return ordersFailed;
+  }
+
+  public void setOrdersFailed(long ordersFailed) {
+    this.ordersFailed = ordersFailed;
+  }
+
+  public double getOrdersPerHour() {
+    return ordersPerHour;
+  }
+
+  public void setOrdersPerHour(double ordersPerHour) {
+    this.ordersPerHour = ordersPerHour;
+  }
+
+  public double getAverageAssignmentLatency() {
+    return averageAssignmentLatency;
+  }
+
+  public void setAverageAssignmentLatency(double averageAssignmentLatency) {
+    this.averageAssignmentLatency = averageAssignmentLatency;
+  }
+
+  public double getMaxAssignmentLatency() {
+    return maxAssignmentLatency;
+  }
+
+  public void setMaxAssignmentLatency(double maxAssignmentLatency) {
+    this.maxAssignmentLatency = maxAssignmentLatency;
+  }
+
+  public double getAverageCompletionTime() {
+    return averageCompletionTime;
+  }
+
+  public void setAverageCompletionTime(double averageCompletionTime) {
+    this.averageCompletionTime = averageCompletionTime;
+  }
+
+  public long getAllocationCount() {
+    return allocationCount;
+  }
+
+  public void setAllocationCount(long allocationCount) {
+    this.allocationCount = allocationCount;
+  }
+
+  public double getAverageAllocationWaitTime() {
+    return averageAllocationWaitTime;
+  }
+
+  public void setAverageAllocationWaitTime(double averageAllocationWaitTime) {
+    this.averageAllocationWaitTime = averageAllocationWaitTime;
+  }
+
+  public double getMaxAllocationWaitTime() {
+    return maxAllocationWaitTime;
+  }
+
+  public void setMaxAllocationWaitTime(double maxAllocationWaitTime) {
+    this.maxAllocationWaitTime = maxAllocationWaitTime;
+  }
+
+  public double getAverageExecutorQueueDepth() {
+    return averageExecutorQueueDepth;
+  }
+
+  public void setAverageExecutorQueueDepth(double averageExecutorQueueDepth) {
+    this.averageExecutorQueueDepth = averageExecutorQueueDepth;
+  }
+
+  public int getMaxExecutorQueueDepth() {
+    return maxExecutorQueueDepth;
+  }
+
+  public void setMaxExecutorQueueDepth(int maxExecutorQueueDepth) {
+    this.maxExecutorQueueDepth = maxExecutorQueueDepth;
+  }
+
+  public double getAverageExecutorWaitTime() {
+    return averageExecutorWaitTime;
+  }
+
+  public void setAverageExecutorWaitTime(double averageExecutorWaitTime) {
+    this.averageExecutorWaitTime = averageExecutorWaitTime;
+  }
+
+  public double getMaxExecutorWaitTime() {
+    return maxExecutorWaitTime;
+  }
+
+  public void setMaxExecutorWaitTime(double maxExecutorWaitTime) {
+    this.maxExecutorWaitTime = maxExecutorWaitTime;
+  }
+}
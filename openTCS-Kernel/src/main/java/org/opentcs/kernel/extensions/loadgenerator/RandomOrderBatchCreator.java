@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.loadgenerator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.opentcs.access.KernelRuntimeException;
+import org.opentcs.access.to.order.DestinationCreationTO;
+import org.opentcs.access.to.order.TransportOrderCreationTO;
+import org.opentcs.components.kernel.services.TransportOrderService;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.order.DriveOrder.Destination;
+import org.opentcs.data.order.TransportOrder;
+import static org.opentcs.util.Assertions.checkInRange;
+
+/**
+ * Creates batches of transport orders with randomly selected destinations.
+ * <p>
+ * Destinations are selected from the locations in the model in the order of their names, using a
+ * random number generator with a fixed seed, so that the same sequence of transport orders is
+ * created for the same model and seed.
+ * </p>
+ *
+ * @author agent
+ */
+public class RandomOrderBatchCreator {
+
+  /**
+   * The transport order service.
+   */
+  private final TransportOrderService transportOrderService;
+  /**
+   * The prefix of the names of created transport orders.
+   */
+  private final String orderNamePrefix;
+  /**
+   * The number of transport orders per batch.
+   */
+  private final int batchSize;
+  /**
+   * The number of drive orders per transport order.
+   */
+  private final int orderSize;
+  /**
+   * The locations in the model, sorted by their names.
+   */
+  private final List<Location> locations;
+  /**
+   * A random number generator for selecting locations.
+   */
+  private final Random random;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param transportOrderService The transport order service.
+   * @param orderNamePrefix The prefix of the names of created transport orders.
+   * @param batchSize The number of transport orders per batch.
+   * @param orderSize The number of drive orders per transport order.
+   * @param randomSeed The seed for selecting destinations.
+   */
+  public RandomOrderBatchCreator(TransportOrderService transportOrderService,
+                                 String orderNamePrefix,
+                                 int batchSize,
+                                 int orderSize,
+                                 long randomSeed) {
+    this.transportOrderService = requireNonNull(transportOrderService, "transportOrderService");
+    this.orderNamePrefix = requireNonNull(orderNamePrefix, "orderNamePrefix");
+    this.batchSize = checkInRange(batchSize, 1, Integer.MAX_VALUE, "batchSize");
+    this.orderSize = checkInRange(orderSize, 1, Integer.MAX_VALUE, "orderSize");
+    this.random = new Random(randomSeed);
+    this.locations = transportOrderService.fetchObjects(Location.class).stream()
+        .sorted(Comparator.comparing(Location::getName))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Creates a new batch of transport orders.
+   *
+   * @return The created transport orders, in the order they were created.
+   * @throws KernelRuntimeException In case the kernel threw an exception when creating the
+   * transport orders.
+   */
+  public List<TransportOrder> createOrderBatch()
+      throws KernelRuntimeException {
+    List<TransportOrder> createdOrders = new ArrayList<>();
+    if (locations.isEmpty()) {
+      return createdOrders;
+    }
+
+    for (int i = 0; i < batchSize; i++) {
+      createdOrders.add(createSingleOrder());
+    }
+    return createdOrders;
+  }
+
+  private TransportOrder createSingleOrder()
+      throws KernelRuntimeException {
+    List<DestinationCreationTO> dests = new ArrayList<>();
+    for (int j = 0; j < orderSize; j++) {
+      Location destLoc = locations.get(random.nextInt(locations.size()));
+      dests.add(new DestinationCreationTO(destLoc.getName(), Destination.OP_NOP));
+    }
+    return transportOrderService.createTransportOrder(
+        new TransportOrderCreationTO(orderNamePrefix, dests).withIncompleteName(true)
+    );
+  }
+}
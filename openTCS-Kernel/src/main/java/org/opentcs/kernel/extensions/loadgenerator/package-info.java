@@ -0,0 +1,4 @@
+/**
+ * A headless load generator, creating transport orders and reporting throughput metrics.
+ */
+package org.opentcs.kernel.extensions.loadgenerator;
@@ -201,8 +201,14 @@ public class XMLFileModelPersister
    */
   private String readXMLModelName(File modelFile)
       throws IllegalStateException {
-    return ofNullable(emptyToNull(readXMLModel(modelFile).getName()))
-        .orElse("ModelNameMissing");
+    try {
+      return ofNullable(emptyToNull(modelParser.readModelName(modelFile)))
+          .orElse("ModelNameMissing");
+    }
+    catch (IOException exc) {
+      LOG.error("Exception parsing input", exc);
+      throw new IllegalStateException("Exception parsing input", exc);
+    }
   }
 
   /**
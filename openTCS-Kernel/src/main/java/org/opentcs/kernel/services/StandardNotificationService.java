@@ -12,9 +12,9 @@ import static java.util.Objects.requireNonNull;
 import java.util.function.Predicate;
 import javax.inject.Inject;
 import org.opentcs.components.kernel.services.NotificationService;
-import org.opentcs.customizations.kernel.GlobalSyncObject;
 import org.opentcs.data.notification.UserNotification;
 import org.opentcs.kernel.workingset.NotificationBuffer;
+import org.opentcs.kernel.workingset.WorkingSetLock;
 
 /**
  * This class is the standard implementation of the {@link NotificationService} interface.
@@ -25,9 +25,9 @@ public class StandardNotificationService
     implements NotificationService {
 
   /**
-   * A global object to be used for synchronization within the kernel.
+   * Synchronizes access to the kernel's working set.
    */
-  private final Object globalSyncObject;
+  private final WorkingSetLock workingSetLock;
   /**
    * The buffer for all messages published.
    */
@@ -36,27 +36,23 @@ public class StandardNotificationService
   /**
    * Creates a new instance.
    *
-   * @param globalSyncObject The kernel threads' global synchronization object.
+   * @param workingSetLock Synchronizes access to the kernel's working set.
    * @param notificationBuffer The notification buffer to be used.
    */
   @Inject
-  public StandardNotificationService(@GlobalSyncObject Object globalSyncObject,
+  public StandardNotificationService(WorkingSetLock workingSetLock,
                                      NotificationBuffer notificationBuffer) {
-    this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+    this.workingSetLock = requireNonNull(workingSetLock, "workingSetLock");
     this.notificationBuffer = requireNonNull(notificationBuffer, "notificationBuffer");
   }
 
   @Override
   public List<UserNotification> fetchUserNotifications(Predicate<UserNotification> predicate) {
-    synchronized (globalSyncObject) {
-      return notificationBuffer.getNotifications(predicate);
-    }
+    return workingSetLock.read(() -> notificationBuffer.getNotifications(predicate));
   }
 
   @Override
   public void publishUserNotification(UserNotification notification) {
-    synchronized (globalSyncObject) {
-      notificationBuffer.addNotification(notification);
-    }
+    workingSetLock.write(() -> notificationBuffer.addNotification(notification));
   }
 }
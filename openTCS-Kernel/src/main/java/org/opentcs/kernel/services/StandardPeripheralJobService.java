@@ -14,12 +14,12 @@ import org.opentcs.access.to.peripherals.PeripheralJobCreationTO;
 import org.opentcs.components.kernel.services.InternalPeripheralJobService;
 import org.opentcs.components.kernel.services.PeripheralJobService;
 import org.opentcs.components.kernel.services.TCSObjectService;
-import org.opentcs.customizations.kernel.GlobalSyncObject;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.kernel.workingset.PeripheralJobPool;
+import org.opentcs.kernel.workingset.WorkingSetLock;
 
 /**
  * This class is the standard implementation of the {@link PeripheralJobService} interface.
@@ -31,9 +31,9 @@ public class StandardPeripheralJobService
     implements InternalPeripheralJobService {
 
   /**
-   * A global object to be used for synchronization within the kernel.
+   * Synchronizes access to the kernel's working set.
    */
-  private final Object globalSyncObject;
+  private final WorkingSetLock workingSetLock;
   /**
    * The peripheral job facade to the object pool.
    */
@@ -43,15 +43,15 @@ public class StandardPeripheralJobService
    * Creates a new instance.
    *
    * @param objectService The tcs obejct service.
-   * @param globalSyncObject The kernel threads' global synchronization object.
+   * @param workingSetLock Synchronizes access to the kernel's working set.
    * @param jobPool The peripheral job pool to be used.
    */
   @Inject
   public StandardPeripheralJobService(TCSObjectService objectService,
-                                      @GlobalSyncObject Object globalSyncObject,
+                                      WorkingSetLock workingSetLock,
                                       PeripheralJobPool jobPool) {
     super(objectService);
-    this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+    this.workingSetLock = requireNonNull(workingSetLock, "workingSetLock");
     this.jobPool = requireNonNull(jobPool, "jobPool");
   }
 
@@ -59,16 +59,12 @@ public class StandardPeripheralJobService
   public void updatePeripheralJobState(TCSObjectReference<PeripheralJob> ref,
                                        PeripheralJob.State state)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
-      jobPool.setPeripheralJobState(ref, state);
-    }
+    workingSetLock.write(() -> jobPool.setPeripheralJobState(ref, state));
   }
 
   @Override
   public PeripheralJob createPeripheralJob(PeripheralJobCreationTO to)
       throws ObjectUnknownException, ObjectExistsException, KernelRuntimeException {
-    synchronized (globalSyncObject) {
-      return jobPool.createPeripheralJob(to);
-    }
+    return workingSetLock.write(() -> jobPool.createPeripheralJob(to));
   }
 }
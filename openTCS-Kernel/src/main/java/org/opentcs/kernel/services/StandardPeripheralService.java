@@ -27,6 +27,7 @@ import org.opentcs.kernel.peripherals.PeripheralAttachmentManager;
 import org.opentcs.kernel.peripherals.PeripheralEntry;
 import org.opentcs.kernel.peripherals.PeripheralEntryPool;
 import org.opentcs.kernel.workingset.Model;
+import org.opentcs.kernel.workingset.WorkingSetLock;
 
 /**
  * This class is the standard implementation of the {@link PeripheralService} interface.
@@ -41,6 +42,10 @@ public class StandardPeripheralService
    * A global object to be used for synchronization within the kernel.
    */
   private final Object globalSyncObject;
+  /**
+   * Synchronizes access to the kernel's working set.
+   */
+  private final WorkingSetLock workingSetLock;
   /**
    * The attachment manager.
    */
@@ -59,6 +64,7 @@ public class StandardPeripheralService
    *
    * @param objectService The tcs object service.
    * @param globalSyncObject The kernel threads' global synchronization object.
+   * @param workingSetLock Synchronizes access to the kernel's working set.
    * @param attachmentManager The attachment manager.
    * @param peripheralEntryPool The pool of peripheral entries.
    * @param model The model to be used.
@@ -66,11 +72,13 @@ public class StandardPeripheralService
   @Inject
   public StandardPeripheralService(TCSObjectService objectService,
                                    @GlobalSyncObject Object globalSyncObject,
+                                   WorkingSetLock workingSetLock,
                                    PeripheralAttachmentManager attachmentManager,
                                    PeripheralEntryPool peripheralEntryPool,
                                    Model model) {
     super(objectService);
     this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+    this.workingSetLock = requireNonNull(workingSetLock, "workingSetLock");
     this.attachmentManager = requireNonNull(attachmentManager, "attachmentManager");
     this.peripheralEntryPool = requireNonNull(peripheralEntryPool, "peripheralEntryPool");
     this.model = requireNonNull(model, "model");
@@ -80,25 +88,19 @@ public class StandardPeripheralService
   public void attachCommAdapter(TCSResourceReference<Location> ref,
                                 PeripheralCommAdapterDescription description)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
-      attachmentManager.attachAdapterToLocation(ref, description);
-    }
+    workingSetLock.write(() -> attachmentManager.attachAdapterToLocation(ref, description));
   }
 
   @Override
   public void disableCommAdapter(TCSResourceReference<Location> ref)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
-      peripheralEntryPool.getEntryFor(ref).getCommAdapter().disable();
-    }
+    workingSetLock.write(() -> peripheralEntryPool.getEntryFor(ref).getCommAdapter().disable());
   }
 
   @Override
   public void enableCommAdapter(TCSResourceReference<Location> ref)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
-      peripheralEntryPool.getEntryFor(ref).getCommAdapter().enable();
-    }
+    workingSetLock.write(() -> peripheralEntryPool.getEntryFor(ref).getCommAdapter().enable());
   }
 
   @Override
@@ -122,47 +124,39 @@ public class StandardPeripheralService
   public void sendCommAdapterCommand(TCSResourceReference<Location> ref,
                                      PeripheralAdapterCommand command)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    workingSetLock.write(() -> {
       PeripheralEntry entry = peripheralEntryPool.getEntryFor(ref);
       synchronized (entry.getCommAdapter()) {
         entry.getCommAdapter().execute(command);
       }
-    }
+    });
   }
 
   @Override
   public void updatePeripheralProcState(TCSResourceReference<Location> ref,
                                         PeripheralInformation.ProcState state)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
-      model.setLocationProcState(ref, state);
-    }
+    workingSetLock.write(() -> model.setLocationProcState(ref, state));
   }
 
   @Override
   public void updatePeripheralReservationToken(TCSResourceReference<Location> ref,
                                                String reservationToken)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
-      model.setLocationReservationToken(ref, reservationToken);
-    }
+    workingSetLock.write(() -> model.setLocationReservationToken(ref, reservationToken));
   }
 
   @Override
   public void updatePeripheralState(TCSResourceReference<Location> ref,
                                     PeripheralInformation.State state)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
-      model.setLocationState(ref, state);
-    }
+    workingSetLock.write(() -> model.setLocationState(ref, state));
   }
 
   @Override
   public void updatePeripheralJob(TCSResourceReference<Location> ref,
                                   TCSObjectReference<PeripheralJob> peripheralJob)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
-      model.setLocationPeripheralJob(ref, peripheralJob);
-    }
+    workingSetLock.write(() -> model.setLocationPeripheralJob(ref, peripheralJob));
   }
 }
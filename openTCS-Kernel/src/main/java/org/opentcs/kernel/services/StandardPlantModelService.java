@@ -22,16 +22,17 @@ import org.opentcs.components.kernel.services.NotificationService;
 import org.opentcs.components.kernel.services.PlantModelService;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.customizations.ApplicationEventBus;
-import org.opentcs.customizations.kernel.GlobalSyncObject;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Block;
 import org.opentcs.data.model.Location;
 import org.opentcs.data.model.TCSResource;
 import org.opentcs.data.model.TCSResourceReference;
 import org.opentcs.data.notification.UserNotification;
 import org.opentcs.kernel.persistence.ModelPersister;
 import org.opentcs.kernel.workingset.Model;
+import org.opentcs.kernel.workingset.WorkingSetLock;
 import org.opentcs.util.event.EventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -54,9 +55,9 @@ public class StandardPlantModelService
    */
   private final Kernel kernel;
   /**
-   * A global object to be used for synchronization within the kernel.
+   * Synchronizes access to the kernel's working set.
    */
-  private final Object globalSyncObject;
+  private final WorkingSetLock workingSetLock;
   /**
    * The model facade to the object pool.
    */
@@ -79,7 +80,7 @@ public class StandardPlantModelService
    *
    * @param kernel The kernel.
    * @param objectService The tcs object service.
-   * @param globalSyncObject The kernel threads' global synchronization object.
+   * @param workingSetLock Synchronizes access to the kernel's working set.
    * @param model The model to be used.
    * @param modelPersister The model persister to be used.
    * @param eventHandler Where this instance sends events to.
@@ -88,14 +89,14 @@ public class StandardPlantModelService
   @Inject
   public StandardPlantModelService(LocalKernel kernel,
                                    TCSObjectService objectService,
-                                   @GlobalSyncObject Object globalSyncObject,
+                                   WorkingSetLock workingSetLock,
                                    Model model,
                                    ModelPersister modelPersister,
                                    @ApplicationEventBus EventHandler eventHandler,
                                    NotificationService notificationService) {
     super(objectService);
     this.kernel = requireNonNull(kernel, "kernel");
-    this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+    this.workingSetLock = requireNonNull(workingSetLock, "workingSetLock");
     this.model = requireNonNull(model, "model");
     this.modelPersister = requireNonNull(modelPersister, "modelPersister");
     this.eventHandler = requireNonNull(eventHandler, "eventHandler");
@@ -105,15 +106,20 @@ public class StandardPlantModelService
   @Override
   public Set<TCSResource<?>> expandResources(Set<TCSResourceReference<?>> resources)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
-      return model.expandResources(resources);
-    }
+    return workingSetLock.read(() -> model.expandResources(resources));
+  }
+
+  @Override
+  public Set<Block> fetchBlocksContaining(Set<TCSResourceReference<?>> resources) {
+    requireNonNull(resources, "resources");
+
+    return workingSetLock.read(() -> model.getBlocksContaining(resources));
   }
 
   @Override
   public void loadPlantModel()
       throws IllegalStateException {
-    synchronized (globalSyncObject) {
+    workingSetLock.write(() -> {
       if (!modelPersister.hasSavedModel()) {
         createPlantModel(new PlantModelCreationTO(Kernel.DEFAULT_MODEL_NAME));
         return;
@@ -133,15 +139,13 @@ public class StandardPlantModelService
       notificationService.publishUserNotification(
           new UserNotification("Kernel loaded model " + newModelName,
                                UserNotification.Level.INFORMATIONAL));
-    }
+    });
   }
 
   @Override
   public void savePlantModel()
       throws IllegalStateException {
-    synchronized (globalSyncObject) {
-      modelPersister.saveModel(model.createPlantModelCreationTO());
-    }
+    workingSetLock.write(() -> modelPersister.saveModel(model.createPlantModelCreationTO()));
   }
 
   @Override
@@ -158,9 +162,7 @@ public class StandardPlantModelService
     emitModelEvent(oldModelName, to.getName(), true, false);
 
     // Create the plant model
-    synchronized (globalSyncObject) {
-      model.createPlantModelObjects(to);
-    }
+    workingSetLock.write(() -> model.createPlantModelObjects(to));
 
     savePlantModel();
 
@@ -177,34 +179,26 @@ public class StandardPlantModelService
 
   @Override
   public String getModelName() {
-    synchronized (globalSyncObject) {
-      return model.getName();
-    }
+    return workingSetLock.read(() -> model.getName());
   }
 
   @Override
   public Map<String, String> getModelProperties()
       throws KernelRuntimeException {
-    synchronized (globalSyncObject) {
-      return model.getProperties();
-    }
+    return workingSetLock.read(() -> model.getProperties());
   }
 
   @Override
   public void updateLocationLock(TCSObjectReference<Location> ref, boolean locked)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
-      model.setLocationLocked(ref, locked);
-    }
+    workingSetLock.write(() -> model.setLocationLocked(ref, locked));
   }
 
   @Deprecated
   @Override
   public void updateLocationReservationToken(TCSObjectReference<Location> ref, String token)
       throws ObjectUnknownException, KernelRuntimeException {
-    synchronized (globalSyncObject) {
-      model.setLocationReservationToken(ref, token);
-    }
+    workingSetLock.write(() -> model.setLocationReservationToken(ref, token));
   }
 
   /**
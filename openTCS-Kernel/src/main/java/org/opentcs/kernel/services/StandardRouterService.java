@@ -20,6 +20,7 @@ import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Path;
 import org.opentcs.kernel.KernelApplicationConfiguration;
 import org.opentcs.kernel.workingset.Model;
+import org.opentcs.kernel.workingset.WorkingSetLock;
 
 /**
  * This class is the standard implementation of the {@link RouterService} interface.
@@ -33,6 +34,10 @@ public class StandardRouterService
    * A global object to be used for synchronization within the kernel.
    */
   private final Object globalSyncObject;
+  /**
+   * Synchronizes access to the kernel's working set.
+   */
+  private final WorkingSetLock workingSetLock;
   /**
    * The kernel.
    */
@@ -58,6 +63,7 @@ public class StandardRouterService
    * Creates a new instance.
    *
    * @param globalSyncObject The kernel threads' global synchronization object.
+   * @param workingSetLock Synchronizes access to the kernel's working set.
    * @param kernel The kernel.
    * @param router The scheduler.
    * @param dispatcher The dispatcher.
@@ -66,12 +72,14 @@ public class StandardRouterService
    */
   @Inject
   public StandardRouterService(@GlobalSyncObject Object globalSyncObject,
+                               WorkingSetLock workingSetLock,
                                LocalKernel kernel,
                                Router router,
                                Dispatcher dispatcher,
                                Model model,
                                KernelApplicationConfiguration configuration) {
     this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+    this.workingSetLock = requireNonNull(workingSetLock, "workingSetLock");
     this.kernel = requireNonNull(kernel, "kernel");
     this.router = requireNonNull(router, "router");
     this.dispatcher = requireNonNull(dispatcher, "dispatcher");
@@ -82,13 +90,13 @@ public class StandardRouterService
   @Override
   public void updatePathLock(TCSObjectReference<Path> ref, boolean locked)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    workingSetLock.write(() -> {
       model.setPathLocked(ref, locked);
       if (kernel.getState() == Kernel.State.OPERATING
           && configuration.updateRoutingTopologyOnPathLockChange()) {
         updateRoutingTopology();
       }
-    }
+    });
   }
 
   @Override
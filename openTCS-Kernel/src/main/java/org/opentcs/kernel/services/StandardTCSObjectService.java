@@ -15,12 +15,12 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 import org.opentcs.components.kernel.services.TCSObjectService;
-import org.opentcs.customizations.kernel.GlobalSyncObject;
 import org.opentcs.data.ObjectHistory;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObject;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.kernel.workingset.TCSObjectPool;
+import org.opentcs.kernel.workingset.WorkingSetLock;
 
 /**
  * This class is the standard implementation of the {@link TCSObjectService} interface.
@@ -31,9 +31,9 @@ public class StandardTCSObjectService
     implements TCSObjectService {
 
   /**
-   * A global object to be used for synchronization within the kernel.
+   * Synchronizes access to the kernel's working set.
    */
-  private final Object globalSyncObject;
+  private final WorkingSetLock workingSetLock;
   /**
    * The container of all course model and transport order objects.
    */
@@ -42,68 +42,58 @@ public class StandardTCSObjectService
   /**
    * Creates a new instance.
    *
-   * @param globalSyncObject The kernel threads' global synchronization object.
+   * @param workingSetLock Synchronizes access to the kernel's working set.
    * @param globalObjectPool The object pool to be used.
    */
   @Inject
-  public StandardTCSObjectService(@GlobalSyncObject Object globalSyncObject,
+  public StandardTCSObjectService(WorkingSetLock workingSetLock,
                                   TCSObjectPool globalObjectPool) {
-    this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+    this.workingSetLock = requireNonNull(workingSetLock, "workingSetLock");
     this.globalObjectPool = requireNonNull(globalObjectPool, "globalObjectPool");
   }
 
   @Override
   public <T extends TCSObject<T>> T fetchObject(Class<T> clazz, TCSObjectReference<T> ref) {
-    synchronized (getGlobalSyncObject()) {
-      return getGlobalObjectPool().getObjectOrNull(clazz, ref);
-    }
+    return getWorkingSetLock().read(() -> getGlobalObjectPool().getObjectOrNull(clazz, ref));
   }
 
   @Override
   public <T extends TCSObject<T>> T fetchObject(Class<T> clazz, String name) {
-    synchronized (getGlobalSyncObject()) {
-      return getGlobalObjectPool().getObjectOrNull(clazz, name);
-    }
+    return getWorkingSetLock().read(() -> getGlobalObjectPool().getObjectOrNull(clazz, name));
   }
 
   @Override
   public <T extends TCSObject<T>> Set<T> fetchObjects(Class<T> clazz) {
-    synchronized (getGlobalSyncObject()) {
+    return getWorkingSetLock().read(() -> {
       Set<T> objects = getGlobalObjectPool().getObjects(clazz);
       Set<T> copies = new HashSet<>();
       for (T object : objects) {
         copies.add(object);
       }
       return copies;
-    }
+    });
   }
 
   @Override
   public <T extends TCSObject<T>> Set<T> fetchObjects(@Nonnull Class<T> clazz,
                                                       @Nonnull Predicate<? super T> predicate) {
-    synchronized (getGlobalSyncObject()) {
-      return getGlobalObjectPool().getObjects(clazz, predicate);
-    }
+    return getWorkingSetLock().read(() -> getGlobalObjectPool().getObjects(clazz, predicate));
   }
 
   @Override
   public void updateObjectProperty(TCSObjectReference<?> ref, String key, @Nullable String value)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
-      getGlobalObjectPool().setObjectProperty(ref, key, value);
-    }
+    getWorkingSetLock().write(() -> getGlobalObjectPool().setObjectProperty(ref, key, value));
   }
 
   @Override
   public void appendObjectHistoryEntry(TCSObjectReference<?> ref, ObjectHistory.Entry entry)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
-      getGlobalObjectPool().appendObjectHistoryEntry(ref, entry);
-    }
+    getWorkingSetLock().write(() -> getGlobalObjectPool().appendObjectHistoryEntry(ref, entry));
   }
 
-  protected Object getGlobalSyncObject() {
-    return globalSyncObject;
+  protected WorkingSetLock getWorkingSetLock() {
+    return workingSetLock;
   }
 
   protected TCSObjectPool getGlobalObjectPool() {
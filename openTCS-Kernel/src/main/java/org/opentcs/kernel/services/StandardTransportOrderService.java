@@ -15,7 +15,6 @@ import org.opentcs.access.to.order.TransportOrderCreationTO;
 import org.opentcs.components.kernel.services.InternalTransportOrderService;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.components.kernel.services.TransportOrderService;
-import org.opentcs.customizations.kernel.GlobalSyncObject;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObjectReference;
@@ -26,6 +25,7 @@ import org.opentcs.data.order.TransportOrder;
 import org.opentcs.kernel.workingset.Model;
 import org.opentcs.kernel.workingset.TCSObjectPool;
 import org.opentcs.kernel.workingset.TransportOrderPool;
+import org.opentcs.kernel.workingset.WorkingSetLock;
 
 /**
  * This class is the standard implementation of the {@link TransportOrderService} interface.
@@ -37,9 +37,9 @@ public class StandardTransportOrderService
     implements InternalTransportOrderService {
 
   /**
-   * A global object to be used for synchronization within the kernel.
+   * Synchronizes access to the kernel's working set.
    */
-  private final Object globalSyncObject;
+  private final WorkingSetLock workingSetLock;
   /**
    * The container of all course model and transport order objects.
    */
@@ -57,19 +57,19 @@ public class StandardTransportOrderService
    * Creates a new instance.
    *
    * @param objectService The tcs obejct service.
-   * @param globalSyncObject The kernel threads' global synchronization object.
+   * @param workingSetLock Synchronizes access to the kernel's working set.
    * @param globalObjectPool The object pool to be used.
    * @param orderPool The oder pool to be used.
    * @param model The model to be used.
    */
   @Inject
   public StandardTransportOrderService(TCSObjectService objectService,
-                                       @GlobalSyncObject Object globalSyncObject,
+                                       WorkingSetLock workingSetLock,
                                        TCSObjectPool globalObjectPool,
                                        TransportOrderPool orderPool,
                                        Model model) {
     super(objectService);
-    this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+    this.workingSetLock = requireNonNull(workingSetLock, "workingSetLock");
     this.globalObjectPool = requireNonNull(globalObjectPool, "globalObjectPool");
     this.orderPool = requireNonNull(orderPool, "orderPool");
     this.model = requireNonNull(model, "model");
@@ -78,7 +78,7 @@ public class StandardTransportOrderService
   @Override
   public void markOrderSequenceFinished(TCSObjectReference<OrderSequence> ref)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    workingSetLock.write(() -> {
       OrderSequence seq = globalObjectPool.getObject(OrderSequence.class, ref);
       // Make sure we don't execute this if the sequence is already marked as finished, as that
       // would make it possible to trigger disposition of a vehicle at any given moment.
@@ -94,24 +94,20 @@ public class StandardTransportOrderService
                                                      seq.getProcessingVehicle());
         model.setVehicleOrderSequence(vehicle.getReference(), null);
       }
-    }
+    });
   }
 
   @Override
   public void updateOrderSequenceFinishedIndex(TCSObjectReference<OrderSequence> ref, int index)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
-      orderPool.setOrderSequenceFinishedIndex(ref, index);
-    }
+    workingSetLock.write(() -> orderPool.setOrderSequenceFinishedIndex(ref, index));
   }
 
   @Override
   public void updateOrderSequenceProcessingVehicle(TCSObjectReference<OrderSequence> seqRef,
                                                    TCSObjectReference<Vehicle> vehicleRef)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
-      orderPool.setOrderSequenceProcessingVehicle(seqRef, vehicleRef);
-    }
+    workingSetLock.write(() -> orderPool.setOrderSequenceProcessingVehicle(seqRef, vehicleRef));
   }
 
   @Override
@@ -119,56 +115,52 @@ public class StandardTransportOrderService
                                                     TCSObjectReference<Vehicle> vehicleRef,
                                                     List<DriveOrder> driveOrders)
       throws ObjectUnknownException, IllegalArgumentException {
-    synchronized (globalSyncObject) {
-      orderPool.setTransportOrderProcessingVehicle(orderRef, vehicleRef, driveOrders);
-    }
+    workingSetLock.write(
+        () -> orderPool.setTransportOrderProcessingVehicle(orderRef, vehicleRef, driveOrders)
+    );
   }
 
   @Override
   public void updateTransportOrderDriveOrders(TCSObjectReference<TransportOrder> ref,
                                               List<DriveOrder> driveOrders)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
-      orderPool.setTransportOrderDriveOrders(ref, driveOrders);
-    }
+    workingSetLock.write(() -> orderPool.setTransportOrderDriveOrders(ref, driveOrders));
   }
 
   @Override
   public void updateTransportOrderNextDriveOrder(TCSObjectReference<TransportOrder> ref)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
-      orderPool.setTransportOrderNextDriveOrder(ref);
-    }
+    workingSetLock.write(() -> orderPool.setTransportOrderNextDriveOrder(ref));
   }
 
   @Override
   public void updateTransportOrderState(TCSObjectReference<TransportOrder> ref,
                                         TransportOrder.State state)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
-      orderPool.setTransportOrderState(ref, state);
-    }
+    workingSetLock.write(() -> orderPool.setTransportOrderState(ref, state));
   }
 
   @Override
   public OrderSequence createOrderSequence(OrderSequenceCreationTO to) {
-    synchronized (globalSyncObject) {
-      return orderPool.createOrderSequence(to);
-    }
+    return workingSetLock.write(() -> orderPool.createOrderSequence(to));
   }
 
   @Override
   public TransportOrder createTransportOrder(TransportOrderCreationTO to)
       throws ObjectUnknownException, ObjectExistsException {
-    synchronized (globalSyncObject) {
-      return orderPool.createTransportOrder(to);
-    }
+    return workingSetLock.write(() -> orderPool.createTransportOrder(to));
+  }
+
+  @Override
+  public List<TransportOrder> createTransportOrders(List<TransportOrderCreationTO> tos)
+      throws ObjectUnknownException, ObjectExistsException {
+    return workingSetLock.write(() -> orderPool.createTransportOrders(tos));
   }
 
   @Override
   public void markOrderSequenceComplete(TCSObjectReference<OrderSequence> ref)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    workingSetLock.write(() -> {
       OrderSequence seq = globalObjectPool.getObject(OrderSequence.class, ref);
       // Make sure we don't execute this if the sequence is already marked as finished, as that
       // would make it possible to trigger disposition of a vehicle at any given moment.
@@ -188,7 +180,7 @@ public class StandardTransportOrderService
           model.setVehicleOrderSequence(vehicle.getReference(), null);
         }
       }
-    }
+    });
   }
 
 }
@@ -36,6 +36,7 @@ import org.opentcs.kernel.vehicles.LocalVehicleControllerPool;
 import org.opentcs.kernel.vehicles.VehicleCommAdapterRegistry;
 import org.opentcs.kernel.workingset.Model;
 import org.opentcs.kernel.workingset.TCSObjectPool;
+import org.opentcs.kernel.workingset.WorkingSetLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -56,6 +57,10 @@ public class StandardVehicleService
    * A global object to be used for synchronization within the kernel.
    */
   private final Object globalSyncObject;
+  /**
+   * Synchronizes access to the kernel's working set.
+   */
+  private final WorkingSetLock workingSetLock;
   /**
    * The container of all course model and transport order objects.
    */
@@ -86,6 +91,7 @@ public class StandardVehicleService
    *
    * @param objectService The tcs object service.
    * @param globalSyncObject The kernel threads' global synchronization object.
+   * @param workingSetLock Synchronizes access to the kernel's working set.
    * @param globalObjectPool The object pool to be used.
    * @param vehicleControllerPool The controller pool to be used.
    * @param vehicleEntryPool The pool of vehicle entries to be used.
@@ -96,6 +102,7 @@ public class StandardVehicleService
   @Inject
   public StandardVehicleService(TCSObjectService objectService,
                                 @GlobalSyncObject Object globalSyncObject,
+                                WorkingSetLock workingSetLock,
                                 TCSObjectPool globalObjectPool,
                                 LocalVehicleControllerPool vehicleControllerPool,
                                 VehicleEntryPool vehicleEntryPool,
@@ -104,6 +111,7 @@ public class StandardVehicleService
                                 Model model) {
     super(objectService);
     this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+    this.workingSetLock = requireNonNull(workingSetLock, "workingSetLock");
     this.globalObjectPool = requireNonNull(globalObjectPool, "globalObjectPool");
     this.vehicleControllerPool = requireNonNull(vehicleControllerPool, "vehicleControllerPool");
     this.vehicleEntryPool = requireNonNull(vehicleEntryPool, "vehicleEntryPool");
@@ -115,159 +123,135 @@ public class StandardVehicleService
   @Override
   public void updateVehicleEnergyLevel(TCSObjectReference<Vehicle> ref, int energyLevel)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
-      model.setVehicleEnergyLevel(ref, energyLevel);
-    }
+    workingSetLock.write(() -> model.setVehicleEnergyLevel(ref, energyLevel));
   }
 
   @Override
   public void updateVehicleLoadHandlingDevices(TCSObjectReference<Vehicle> ref,
                                                List<LoadHandlingDevice> devices)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
-      model.setVehicleLoadHandlingDevices(ref, devices);
-    }
+    workingSetLock.write(() -> model.setVehicleLoadHandlingDevices(ref, devices));
   }
 
   @Override
   public void updateVehicleNextPosition(TCSObjectReference<Vehicle> vehicleRef,
                                         TCSObjectReference<Point> pointRef)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
-      model.setVehicleNextPosition(vehicleRef, pointRef);
-    }
+    workingSetLock.write(() -> model.setVehicleNextPosition(vehicleRef, pointRef));
   }
 
   @Override
   public void updateVehicleOrderSequence(TCSObjectReference<Vehicle> vehicleRef,
                                          TCSObjectReference<OrderSequence> sequenceRef)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
-      model.setVehicleOrderSequence(vehicleRef, sequenceRef);
-    }
+    workingSetLock.write(() -> model.setVehicleOrderSequence(vehicleRef, sequenceRef));
   }
 
   @Override
   public void updateVehicleOrientationAngle(TCSObjectReference<Vehicle> ref, double angle)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
-      model.setVehicleOrientationAngle(ref, angle);
-    }
+    workingSetLock.write(() -> model.setVehicleOrientationAngle(ref, angle));
   }
 
   @Override
   public void updateVehiclePosition(TCSObjectReference<Vehicle> vehicleRef,
                                     TCSObjectReference<Point> pointRef)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    workingSetLock.write(() -> {
       LOG.debug("Vehicle {} has reached point {}.", vehicleRef, pointRef);
       model.setVehiclePosition(vehicleRef, pointRef);
-    }
+    });
   }
 
   @Override
   public void updateVehiclePrecisePosition(TCSObjectReference<Vehicle> ref, Triple position)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
-      model.setVehiclePrecisePosition(ref, position);
-    }
+    workingSetLock.write(() -> model.setVehiclePrecisePosition(ref, position));
   }
 
   @Override
   public void updateVehicleProcState(TCSObjectReference<Vehicle> ref, Vehicle.ProcState state)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    workingSetLock.write(() -> {
       LOG.debug("Updating procState of vehicle {} to {}...", ref.getName(), state);
       model.setVehicleProcState(ref, state);
-    }
+    });
   }
 
   @Override
   public void updateVehicleRechargeOperation(TCSObjectReference<Vehicle> ref,
                                              String rechargeOperation)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
-      model.setVehicleRechargeOperation(ref, rechargeOperation);
-    }
+    workingSetLock.write(() -> model.setVehicleRechargeOperation(ref, rechargeOperation));
   }
 
   @Override
   public void updateVehicleRouteProgressIndex(TCSObjectReference<Vehicle> ref, int index)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
-      model.setVehicleRouteProgressIndex(ref, index);
-    }
+    workingSetLock.write(() -> model.setVehicleRouteProgressIndex(ref, index));
   }
 
   @Override
   public void updateVehicleClaimedResources(TCSObjectReference<Vehicle> ref,
                                             List<Set<TCSResourceReference<?>>> resources)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
-      model.setVehicleClaimedResources(ref, resources);
-    }
+    workingSetLock.write(() -> model.setVehicleClaimedResources(ref, resources));
   }
 
   @Override
   public void updateVehicleAllocatedResources(TCSObjectReference<Vehicle> ref,
                                               List<Set<TCSResourceReference<?>>> resources)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
-      model.setVehicleAllocatedResources(ref, resources);
-    }
+    workingSetLock.write(() -> model.setVehicleAllocatedResources(ref, resources));
   }
 
   @Override
   public void updateVehicleState(TCSObjectReference<Vehicle> ref, Vehicle.State state)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
-      model.setVehicleState(ref, state);
-    }
+    workingSetLock.write(() -> model.setVehicleState(ref, state));
   }
 
   @Override
   public void updateVehicleTransportOrder(TCSObjectReference<Vehicle> vehicleRef,
                                           TCSObjectReference<TransportOrder> orderRef)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
-      model.setVehicleTransportOrder(vehicleRef, orderRef);
-    }
+    workingSetLock.write(() -> model.setVehicleTransportOrder(vehicleRef, orderRef));
   }
 
   @Override
   public void attachCommAdapter(TCSObjectReference<Vehicle> ref,
                                 VehicleCommAdapterDescription description)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    workingSetLock.write(() -> {
       attachmentManager.attachAdapterToVehicle(ref.getName(),
                                                commAdapterRegistry.findFactoryFor(description));
-    }
+    });
   }
 
   @Override
   public void disableCommAdapter(TCSObjectReference<Vehicle> ref)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    workingSetLock.write(() -> {
       VehicleEntry entry = vehicleEntryPool.getEntryFor(ref.getName());
       if (entry == null) {
         throw new IllegalArgumentException("No vehicle entry found for" + ref.getName());
       }
 
       entry.getCommAdapter().disable();
-    }
+    });
   }
 
   @Override
   public void enableCommAdapter(TCSObjectReference<Vehicle> ref)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    workingSetLock.write(() -> {
       VehicleEntry entry = vehicleEntryPool.getEntryFor(ref.getName());
       if (entry == null) {
         throw new IllegalArgumentException("No vehicle entry found for " + ref.getName());
       }
 
       entry.getCommAdapter().enable();
-    }
+    });
   }
 
   @Override
@@ -294,28 +278,28 @@ public class StandardVehicleService
   @Override
   public void sendCommAdapterCommand(TCSObjectReference<Vehicle> ref, AdapterCommand command)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    workingSetLock.write(() -> {
       vehicleControllerPool
           .getVehicleController(ref.getName())
           .sendCommAdapterCommand(command);
-    }
+    });
   }
 
   @Override
   public void sendCommAdapterMessage(TCSObjectReference<Vehicle> ref, Object message)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    workingSetLock.write(() -> {
       vehicleControllerPool
           .getVehicleController(ref.getName())
           .sendCommAdapterMessage(message);
-    }
+    });
   }
 
   @Override
   public void updateVehicleIntegrationLevel(TCSObjectReference<Vehicle> ref,
                                             Vehicle.IntegrationLevel integrationLevel)
       throws ObjectUnknownException, KernelRuntimeException {
-    synchronized (globalSyncObject) {
+    workingSetLock.write(() -> {
       Vehicle vehicle = fetchObject(Vehicle.class, ref);
 
       if (vehicle.isProcessingOrder()
@@ -329,25 +313,23 @@ public class StandardVehicleService
       }
 
       model.setVehicleIntegrationLevel(ref, integrationLevel);
-    }
+    });
   }
 
   @Override
   public void updateVehiclePaused(TCSObjectReference<Vehicle> ref, boolean paused)
       throws ObjectUnknownException, KernelRuntimeException {
-    synchronized (globalSyncObject) {
+    workingSetLock.write(() -> {
       model.setVehiclePaused(ref, paused);
 
       vehicleControllerPool.getVehicleController(ref.getName()).onVehiclePaused(paused);
-    }
+    });
   }
 
   @Override
   public void updateVehicleAllowedOrderTypes(TCSObjectReference<Vehicle> ref,
                                              Set<String> allowedOrderTypes)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
-      model.setVehicleAllowedOrderTypes(ref, allowedOrderTypes);
-    }
+    workingSetLock.write(() -> model.setVehicleAllowedOrderTypes(ref, allowedOrderTypes));
   }
 }
@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.vehicles;
+
+import static org.opentcs.util.Assertions.checkArgument;
+
+/**
+ * Records the times vehicle controllers had to wait for resources to be allocated by the scheduler.
+ *
+ * @author agent
+ */
+public class AllocationMetrics {
+
+  /**
+   * The number of allocations whose wait times have been recorded.
+   */
+  private long allocationCount;
+  /**
+   * The accumulated time (in ns) vehicle controllers had to wait for allocations.
+   */
+  private long totalWaitTime;
+  /**
+   * The maximum time (in ns) a vehicle controller had to wait for an allocation.
+   */
+  private long maxWaitTime;
+
+  /**
+   * Creates a new instance.
+   */
+  public AllocationMetrics() {
+  }
+
+  /**
+   * Records the time a vehicle controller had to wait for an allocation.
+   *
+   * @param waitTime The wait time (in ns).
+   */
+  public synchronized void recordAllocation(long waitTime) {
+    checkArgument(waitTime >= 0, "waitTime < 0: %s", waitTime);
+
+    allocationCount++;
+    totalWaitTime += waitTime;
+    maxWaitTime = Math.max(maxWaitTime, waitTime);
+  }
+
+  /**
+   * Discards all recorded wait times.
+   */
+  public synchronized void reset() {
+    allocationCount = 0;
+    totalWaitTime = 0;
+    maxWaitTime = 0;
+  }
+
+  /**
+   * Returns the number of allocations whose wait times have been recorded.
+   *
+   * @return The number of allocations whose wait times have been recorded.
+   */
+  public synchronized long getAllocationCount() {
+    return allocationCount;
+  }
+
+  /**
+   * Returns the average time (in ms) vehicle controllers had to wait for allocations.
+   *
+   * @return The average wait time, or 0, if no allocation has been recorded, yet.
+   */
+  public synchronized double getAverageWaitTime() {
+    return allocationCount == 0
+        ? 0.0
+        : (totalWaitTime / (double) allocationCount) / 1_000_000.0;
+  }
+
+  /**
+   * Returns the maximum time (in ms) a vehicle controller had to wait for an allocation.
+   *
+   * @return The maximum wait time, or 0, if no allocation has been recorded, yet.
+   */
+  public synchronized double getMaxWaitTime() {
+    return maxWaitTime / 1_000_000.0;
+  }
+}
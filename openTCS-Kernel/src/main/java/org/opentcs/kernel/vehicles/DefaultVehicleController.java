@@ -55,12 +55,11 @@ import org.opentcs.drivers.vehicle.VehicleCommAdapter;
 import org.opentcs.drivers.vehicle.VehicleCommAdapterEvent;
 import org.opentcs.drivers.vehicle.VehicleController;
 import org.opentcs.drivers.vehicle.VehicleProcessModel;
-import org.opentcs.drivers.vehicle.management.ProcessModelEvent;
 import static org.opentcs.util.Assertions.checkArgument;
 import static org.opentcs.util.Assertions.checkState;
 import org.opentcs.util.ExplainedBoolean;
 import org.opentcs.util.event.EventBus;
-import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.SynchronousEventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -73,7 +72,7 @@ import org.slf4j.LoggerFactory;
 public class DefaultVehicleController
     implements VehicleController,
                PropertyChangeListener,
-               EventHandler {
+               SynchronousEventHandler {
 
   /**
    * This class's Logger.
@@ -124,6 +123,11 @@ public class DefaultVehicleController
    * A set of resources for which allocation is pending.
    */
   private volatile Set<TCSResource<?>> pendingResources;
+  /**
+   * The time (from {@link System#nanoTime()}) at which the allocation of the pending resources was
+   * requested.
+   */
+  private volatile long pendingResourcesRequestTime;
   /**
    * A command for which the execution of peripheral operations is pending.
    */
@@ -149,6 +153,18 @@ public class DefaultVehicleController
    * execution of movement commands.
    */
   private final PeripheralInteractor peripheralInteractor;
+  /**
+   * Publishes changes of the comm adapter's process model.
+   */
+  private final ProcessModelEventPublisher processModelEventPublisher;
+  /**
+   * Applies the vehicle's precise position and orientation angle to the model.
+   */
+  private final VehicleTelemetryChannel telemetryChannel;
+  /**
+   * Records the times this controller had to wait for allocations.
+   */
+  private final AllocationMetrics allocationMetrics;
   /**
    * The transport order that the vehicle is currently processing.
    */
@@ -175,6 +191,7 @@ public class DefaultVehicleController
    * @param scheduler The scheduler managing resource allocations.
    * @param eventBus The event bus this instance should register with and send events to.
    * @param componentsFactory A factory for various components related to a vehicle controller.
+   * @param allocationMetrics Records the times this controller had to wait for allocations.
    */
   @Inject
   public DefaultVehicleController(@Assisted @Nonnull Vehicle vehicle,
@@ -184,7 +201,8 @@ public class DefaultVehicleController
                                   @Nonnull DispatcherService dispatcherService,
                                   @Nonnull Scheduler scheduler,
                                   @Nonnull @ApplicationEventBus EventBus eventBus,
-                                  @Nonnull VehicleControllerComponentsFactory componentsFactory) {
+                                  @Nonnull VehicleControllerComponentsFactory componentsFactory,
+                                  @Nonnull AllocationMetrics allocationMetrics) {
     this.vehicle = requireNonNull(vehicle, "vehicle");
     this.commAdapter = requireNonNull(adapter, "adapter");
     this.vehicleService = requireNonNull(vehicleService, "vehicleService");
@@ -195,6 +213,10 @@ public class DefaultVehicleController
     requireNonNull(componentsFactory, "componentsFactory");
     this.peripheralInteractor
         = componentsFactory.createPeripheralInteractor(vehicle.getReference());
+    this.processModelEventPublisher
+        = componentsFactory.createProcessModelEventPublisher(adapter);
+    this.telemetryChannel = componentsFactory.createTelemetryChannel(vehicle.getReference());
+    this.allocationMetrics = requireNonNull(allocationMetrics, "allocationMetrics");
   }
 
   @Override
@@ -239,6 +261,7 @@ public class DefaultVehicleController
     allocatedResources.add(null);
 
     peripheralInteractor.initialize();
+    telemetryChannel.initialize();
 
     initialized = true;
   }
@@ -250,8 +273,10 @@ public class DefaultVehicleController
     }
 
     peripheralInteractor.terminate();
+    telemetryChannel.terminate();
 
     commAdapter.getProcessModel().removePropertyChangeListener(this);
+    processModelEventPublisher.flush();
     // Reset the vehicle's position.
     updatePosition(null, null);
     vehicleService.updateVehiclePrecisePosition(vehicle.getReference(), null);
@@ -696,6 +721,9 @@ public class DefaultVehicleController
       pendingResources = null;
 
       LOG.debug("{}: Accepting allocated resources: {}", vehicle.getName(), resources);
+      allocationMetrics.recordAllocation(
+          Math.max(0, System.nanoTime() - pendingResourcesRequestTime)
+      );
       allocatedResources.add(resources);
       claimedResources.poll();
       waitingForAllocation = false;
@@ -748,20 +776,18 @@ public class DefaultVehicleController
 
   @SuppressWarnings("unchecked")
   private void handleProcessModelEvent(PropertyChangeEvent evt) {
-    eventBus.onEvent(new ProcessModelEvent(evt.getPropertyName(),
-                                           commAdapter.createTransferableProcessModel()));
+    processModelEventPublisher.processModelChanged(evt);
 
     if (Objects.equals(evt.getPropertyName(), VehicleProcessModel.Attribute.POSITION.name())) {
       updateVehiclePosition((String) evt.getNewValue());
     }
     else if (Objects.equals(evt.getPropertyName(),
                             VehicleProcessModel.Attribute.PRECISE_POSITION.name())) {
-      updateVehiclePrecisePosition((Triple) evt.getNewValue());
+      telemetryChannel.updatePrecisePosition((Triple) evt.getNewValue());
     }
     else if (Objects.equals(evt.getPropertyName(),
                             VehicleProcessModel.Attribute.ORIENTATION_ANGLE.name())) {
-      vehicleService.updateVehicleOrientationAngle(vehicle.getReference(),
-                                                   (Double) evt.getNewValue());
+      telemetryChannel.updateOrientationAngle((Double) evt.getNewValue());
     }
     else if (Objects.equals(evt.getPropertyName(),
                             VehicleProcessModel.Attribute.ENERGY_LEVEL.name())) {
@@ -811,16 +837,6 @@ public class DefaultVehicleController
     }
   }
 
-  private void updateVehiclePrecisePosition(Triple precisePosition)
-      throws ObjectUnknownException {
-    // Get an up-to-date copy of the vehicle
-    Vehicle currVehicle = vehicleService.fetchObject(Vehicle.class, vehicle.getReference());
-
-    if (currVehicle.getIntegrationLevel() != Vehicle.IntegrationLevel.TO_BE_IGNORED) {
-      vehicleService.updateVehiclePrecisePosition(vehicle.getReference(), precisePosition);
-    }
-  }
-
   private void updateVehiclePosition(String position) {
     // Get an up-to-date copy of the vehicle
     Vehicle currVehicle = vehicleService.fetchObject(Vehicle.class, vehicle.getReference());
@@ -1027,6 +1043,7 @@ public class DefaultVehicleController
     // Find out which resources are actually needed for the next command.
     MovementCommand moveCmd = futureCommands.poll();
     pendingResources = getNeededResources(moveCmd);
+    pendingResourcesRequestTime = System.nanoTime();
     LOG.debug("{}: Allocating resources: {}", vehicle.getName(), pendingResources);
     scheduler.allocate(this, pendingResources);
     // Remember that we're waiting for an allocation. This ensures that we only
@@ -0,0 +1,177 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.vehicles;
+
+import com.google.inject.assistedinject.Assisted;
+import java.beans.PropertyChangeEvent;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.customizations.kernel.KernelExecutor;
+import org.opentcs.drivers.vehicle.LoadHandlingDevice;
+import org.opentcs.drivers.vehicle.VehicleCommAdapter;
+import org.opentcs.drivers.vehicle.VehicleProcessModel.Attribute;
+import org.opentcs.drivers.vehicle.management.ProcessModelDeltaEvent;
+import org.opentcs.drivers.vehicle.management.ProcessModelEvent;
+import org.opentcs.util.event.EventHandler;
+
+/**
+ * Emits events for changes of a vehicle's process model.
+ * <p>
+ * Depending on the configuration, every change results in a {@link ProcessModelEvent} containing
+ * a complete representation of the process model, or changes of the standard attributes are
+ * collected and emitted as {@link ProcessModelDeltaEvent}s, with consecutive changes of the same
+ * attribute within the configured time window being conflated to the latest value.
+ * </p>
+ *
+ * @author agent
+ */
+public class ProcessModelEventPublisher {
+
+  /**
+   * The attributes whose changes may be emitted as deltas.
+   */
+  private static final Set<Attribute> DELTA_ATTRIBUTES
+      = EnumSet.of(Attribute.COMM_ADAPTER_ENABLED,
+                   Attribute.COMM_ADAPTER_CONNECTED,
+                   Attribute.POSITION,
+                   Attribute.PRECISE_POSITION,
+                   Attribute.ORIENTATION_ANGLE,
+                   Attribute.ENERGY_LEVEL,
+                   Attribute.LOAD_HANDLING_DEVICES,
+                   Attribute.STATE);
+  /**
+   * The comm adapter whose process model's changes are to be published.
+   */
+  private final VehicleCommAdapter commAdapter;
+  /**
+   * Where events are sent to.
+   */
+  private final EventHandler eventHandler;
+  /**
+   * Executes the delayed emission of collected changes.
+   */
+  private final ScheduledExecutorService executor;
+  /**
+   * The configuration to use.
+   */
+  private final VehicleControllerConfiguration configuration;
+  /**
+   * The collected changes' latest values, mapped by the attributes' names.
+   */
+  private final Map<String, Serializable> pendingChanges = new LinkedHashMap<>();
+  /**
+   * The future for the delayed emission of the collected changes, if any is scheduled.
+   */
+  private ScheduledFuture<?> scheduledFlush;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param commAdapter The comm adapter whose process model's changes are to be published.
+   * @param eventHandler Where events are sent to.
+   * @param executor Executes the delayed emission of collected changes.
+   * @param configuration The configuration to use.
+   */
+  @Inject
+  public ProcessModelEventPublisher(@Assisted @Nonnull VehicleCommAdapter commAdapter,
+                                    @Nonnull @ApplicationEventBus EventHandler eventHandler,
+                                    @Nonnull @KernelExecutor ScheduledExecutorService executor,
+                                    @Nonnull VehicleControllerConfiguration configuration) {
+    this.commAdapter = requireNonNull(commAdapter, "commAdapter");
+    this.eventHandler = requireNonNull(eventHandler, "eventHandler");
+    this.executor = requireNonNull(executor, "executor");
+    this.configuration = requireNonNull(configuration, "configuration");
+  }
+
+  /**
+   * Publishes the given change of the process model.
+   *
+   * @param evt The event describing the change.
+   */
+  public synchronized void processModelChanged(@Nonnull PropertyChangeEvent evt) {
+    requireNonNull(evt, "evt");
+
+    if (!configuration.deltaProcessModelEvents() || !isDeltaAttribute(evt.getPropertyName())) {
+      // Keep the order of changes intact for clients.
+      flush();
+      publishSnapshot(evt.getPropertyName());
+      return;
+    }
+
+    pendingChanges.put(evt.getPropertyName(), toSerializableValue(evt.getNewValue()));
+
+    if (configuration.processModelEventConflationWindow() <= 0) {
+      flush();
+    }
+    else if (scheduledFlush == null) {
+      scheduledFlush = executor.schedule(this::flush,
+                                         configuration.processModelEventConflationWindow(),
+                                         TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Publishes a complete representation of the process model.
+   *
+   * @param attributeChanged The name of the attribute that changed.
+   */
+  public synchronized void publishSnapshot(@Nonnull String attributeChanged) {
+    requireNonNull(attributeChanged, "attributeChanged");
+
+    eventHandler.onEvent(new ProcessModelEvent(attributeChanged,
+                                               commAdapter.createTransferableProcessModel()));
+  }
+
+  /**
+   * Immediately publishes all collected changes, if any.
+   */
+  public synchronized void flush() {
+    if (scheduledFlush != null) {
+      scheduledFlush.cancel(false);
+      scheduledFlush = null;
+    }
+
+    if (pendingChanges.isEmpty()) {
+      return;
+    }
+
+    eventHandler.onEvent(new ProcessModelDeltaEvent(commAdapter.getProcessModel().getName(),
+                                                    pendingChanges));
+    pendingChanges.clear();
+  }
+
+  private boolean isDeltaAttribute(String attributeName) {
+    for (Attribute attribute : DELTA_ATTRIBUTES) {
+      if (attribute.name().equals(attributeName)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Serializable toSerializableValue(Object value) {
+    if (value instanceof List) {
+      // The load handling devices, which are not necessarily kept in a serializable list.
+      return new ArrayList<>((List<LoadHandlingDevice>) value);
+    }
+    return (Serializable) value;
+  }
+}
@@ -9,6 +9,7 @@ package org.opentcs.kernel.vehicles;
 
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Vehicle;
+import org.opentcs.drivers.vehicle.VehicleCommAdapter;
 
 /**
  * A factory for various components related to a vehicle controller.
@@ -24,4 +25,20 @@ public interface VehicleControllerComponentsFactory {
    * @return A new peripheral interactor.
    */
   PeripheralInteractor createPeripheralInteractor(TCSObjectReference<Vehicle> vehicleRef);
+
+  /**
+   * Creates a new {@link ProcessModelEventPublisher} instance for the given comm adapter.
+   *
+   * @param commAdapter The comm adapter whose process model's changes are to be published.
+   * @return A new process model event publisher.
+   */
+  ProcessModelEventPublisher createProcessModelEventPublisher(VehicleCommAdapter commAdapter);
+
+  /**
+   * Creates a new {@link VehicleTelemetryChannel} instance for the given vehicle.
+   *
+   * @param vehicleRef The vehicle.
+   * @return A new vehicle telemetry channel.
+   */
+  VehicleTelemetryChannel createTelemetryChannel(TCSObjectReference<Vehicle> vehicleRef);
 }
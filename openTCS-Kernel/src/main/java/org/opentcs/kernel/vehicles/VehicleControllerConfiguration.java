@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.vehicles;
+
+import org.opentcs.configuration.ConfigurationEntry;
+import org.opentcs.configuration.ConfigurationPrefix;
+
+/**
+ * Provides methods to configure the {@link DefaultVehicleController}.
+ *
+ * @author agent
+ */
+@ConfigurationPrefix(VehicleControllerConfiguration.PREFIX)
+public interface VehicleControllerConfiguration {
+
+  /**
+   * This configuration's prefix.
+   */
+  String PREFIX = "vehiclecontroller";
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+        "Whether to emit only the changed attributes of vehicle process models as events.",
+        "If 'true', changes of standard attributes (e.g. position or energy level) are emitted as "
+        + "'ProcessModelDeltaEvent's containing only the changed attributes' values, and clients "
+        + "are expected to retrieve complete process models when they need them.",
+        "If 'false', a complete representation of the process model is emitted with every change."
+      },
+      orderKey = "0_processModelEvents_0")
+  boolean deltaProcessModelEvents();
+
+  @ConfigurationEntry(
+      type = "Long",
+      description = {
+        "The time window (in ms) in which changes of process model attributes are collected "
+        + "before they are emitted as a single event, with only the latest value of each "
+        + "attribute.",
+        "Only applies if 'deltaProcessModelEvents' is 'true'.",
+        "A value of 0 emits every change immediately."
+      },
+      orderKey = "0_processModelEvents_1")
+  long processModelEventConflationWindow();
+
+  @ConfigurationEntry(
+      type = "Long",
+      description = {
+        "The minimum interval (in ms) between updates of a vehicle's precise position and "
+        + "orientation angle in the kernel's model.",
+        "Changes reported by the vehicle's driver in between are collected, and only the latest "
+        + "values are applied to the model, unless they exceed one of the thresholds below.",
+        "A value of 0 applies every change to the model immediately."
+      },
+      orderKey = "1_telemetry_0")
+  long telemetryUpdateInterval();
+
+  @ConfigurationEntry(
+      type = "Long",
+      description = {
+        "The distance (in mm) from the precise position last applied to the model at which a new "
+        + "precise position is applied immediately, regardless of 'telemetryUpdateInterval'.",
+        "A value of 0 disables this threshold."
+      },
+      orderKey = "1_telemetry_1")
+  long telemetryDistanceThreshold();
+
+  @ConfigurationEntry(
+      type = "Double",
+      description = {
+        "The difference (in degrees) from the orientation angle last applied to the model at which "
+        + "a new orientation angle is applied immediately, regardless of "
+        + "'telemetryUpdateInterval'.",
+        "A value of 0 disables this threshold."
+      },
+      orderKey = "1_telemetry_2")
+  double telemetryAngleThreshold();
+}
@@ -0,0 +1,261 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.vehicles;
+
+import com.google.inject.assistedinject.Assisted;
+import java.util.Objects;
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import org.opentcs.components.Lifecycle;
+import org.opentcs.components.kernel.services.InternalVehicleService;
+import org.opentcs.customizations.kernel.KernelExecutor;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Triple;
+import org.opentcs.data.model.Vehicle;
+
+/**
+ * Applies a vehicle's precise position and orientation angle, as reported by its driver, to the
+ * kernel's model.
+ * <p>
+ * Reported values are kept in a lock-free slot, and only the latest ones are applied to the model
+ * with the configured minimum interval, unless they differ from the values last applied by more
+ * than the configured thresholds, in which case they are applied immediately.
+ * As every update of the model results in a new {@code Vehicle} instance and an event processed by
+ * all event handlers in the kernel (which do not react on these attributes, anyway), this reduces
+ * the load caused by drivers reporting these attributes at high rates.
+ * </p>
+ *
+ * @author agent
+ */
+public class VehicleTelemetryChannel
+    implements Lifecycle {
+
+  /**
+   * The vehicle whose telemetry is to be applied.
+   */
+  private final TCSObjectReference<Vehicle> vehicleRef;
+  /**
+   * The vehicle service to be used for updating the model.
+   */
+  private final InternalVehicleService vehicleService;
+  /**
+   * Executes the delayed application of telemetry to the model.
+   */
+  private final ScheduledExecutorService executor;
+  /**
+   * The configuration to use.
+   */
+  private final VehicleControllerConfiguration configuration;
+  /**
+   * The latest telemetry reported.
+   */
+  private final AtomicReference<Telemetry> latest = new AtomicReference<>(Telemetry.UNKNOWN);
+  /**
+   * Indicates whether a delayed application of the latest telemetry is scheduled.
+   */
+  private final AtomicBoolean updateScheduled = new AtomicBoolean();
+  /**
+   * The telemetry last applied to the model.
+   */
+  private volatile Telemetry applied = Telemetry.UNKNOWN;
+  /**
+   * The time (from {@link System#nanoTime()}) at which telemetry was last applied to the model.
+   */
+  private volatile long lastUpdateTime;
+  /**
+   * Indicates whether this instance is initialized.
+   */
+  private volatile boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param vehicleRef The vehicle whose telemetry is to be applied.
+   * @param vehicleService The vehicle service to be used for updating the model.
+   * @param executor Executes the delayed application of telemetry to the model.
+   * @param configuration The configuration to use.
+   */
+  @Inject
+  public VehicleTelemetryChannel(@Assisted @Nonnull TCSObjectReference<Vehicle> vehicleRef,
+                                 @Nonnull InternalVehicleService vehicleService,
+                                 @Nonnull @KernelExecutor ScheduledExecutorService executor,
+                                 @Nonnull VehicleControllerConfiguration configuration) {
+    this.vehicleRef = requireNonNull(vehicleRef, "vehicleRef");
+    this.vehicleService = requireNonNull(vehicleService, "vehicleService");
+    this.executor = requireNonNull(executor, "executor");
+    this.configuration = requireNonNull(configuration, "configuration");
+  }
+
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    // The values in the model are not known here, so the next reported ones are applied right away.
+    latest.set(Telemetry.UNKNOWN);
+    applied = Telemetry.UNKNOWN;
+
+    initialized = true;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    // Wait for an update currently being applied, and prevent any further ones.
+    synchronized (this) {
+      initialized = false;
+    }
+  }
+
+  /**
+   * Reports the vehicle's precise position.
+   *
+   * @param precisePosition The precise position.
+   */
+  public void updatePrecisePosition(@Nullable Triple precisePosition) {
+    submit(latest.updateAndGet(telemetry -> telemetry.withPrecisePosition(precisePosition)));
+  }
+
+  /**
+   * Reports the vehicle's orientation angle.
+   *
+   * @param orientationAngle The orientation angle.
+   */
+  public void updateOrientationAngle(double orientationAngle) {
+    submit(latest.updateAndGet(telemetry -> telemetry.withOrientationAngle(orientationAngle)));
+  }
+
+  private void submit(Telemetry telemetry) {
+    if (!isInitialized()) {
+      return;
+    }
+
+    if (configuration.telemetryUpdateInterval() <= 0 || exceedsThresholds(telemetry)) {
+      applyLatest();
+      return;
+    }
+
+    if (updateScheduled.compareAndSet(false, true)) {
+      long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastUpdateTime);
+      executor.schedule(this::applyScheduled,
+                        Math.max(0, configuration.telemetryUpdateInterval() - elapsed),
+                        TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private boolean exceedsThresholds(Telemetry telemetry) {
+    Telemetry lastApplied = applied;
+
+    if (lastApplied.precisePosition == null || telemetry.precisePosition == null) {
+      if (lastApplied.precisePosition != telemetry.precisePosition) {
+        return true;
+      }
+    }
+    else if (configuration.telemetryDistanceThreshold() > 0
+        && distance(lastApplied.precisePosition, telemetry.precisePosition)
+               >= configuration.telemetryDistanceThreshold()) {
+      return true;
+    }
+
+    if (Double.isNaN(lastApplied.orientationAngle) || Double.isNaN(telemetry.orientationAngle)) {
+      return Double.isNaN(lastApplied.orientationAngle) != Double.isNaN(telemetry.orientationAngle);
+    }
+    return configuration.telemetryAngleThreshold() > 0
+        && angleDifference(lastApplied.orientationAngle, telemetry.orientationAngle)
+               >= configuration.telemetryAngleThreshold();
+  }
+
+  private void applyScheduled() {
+    // Reset the flag before reading the latest telemetry, so that telemetry reported in the
+    // meantime is either applied now or leads to another scheduled update.
+    updateScheduled.set(false);
+    applyLatest();
+  }
+
+  private synchronized void applyLatest() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    Telemetry telemetry = latest.get();
+    Telemetry lastApplied = applied;
+
+    if (!Objects.equals(telemetry.precisePosition, lastApplied.precisePosition)) {
+      Vehicle vehicle = vehicleService.fetchObject(Vehicle.class, vehicleRef);
+      if (vehicle.getIntegrationLevel() != Vehicle.IntegrationLevel.TO_BE_IGNORED) {
+        vehicleService.updateVehiclePrecisePosition(vehicleRef, telemetry.precisePosition);
+      }
+    }
+    // An unknown orientation angle (NaN) is applied, too, so the kernel does not keep a stale one.
+    if (Double.compare(telemetry.orientationAngle, lastApplied.orientationAngle) != 0) {
+      vehicleService.updateVehicleOrientationAngle(vehicleRef, telemetry.orientationAngle);
+    }
+
+    applied = telemetry;
+    lastUpdateTime = System.nanoTime();
+  }
+
+  private static double distance(Triple position1, Triple position2) {
+    double deltaX = position1.getX() - position2.getX();
+    double deltaY = position1.getY() - position2.getY();
+    double deltaZ = position1.getZ() - position2.getZ();
+    return Math.sqrt(deltaX * deltaX + deltaY * deltaY + deltaZ * deltaZ);
+  }
+
+  private static double angleDifference(double angle1, double angle2) {
+    double difference = Math.abs(angle1 - angle2) % 360.0;
+    return Math.min(difference, 360.0 - difference);
+  }
+
+  /**
+   * An immutable combination of a vehicle's precise position and orientation angle.
+   */
+  private static class Telemetry {
+
+    /**
+     * Telemetry that is not known, yet.
+     */
+    private static final Telemetry UNKNOWN = new Telemetry(null, Double.NaN);
+    /**
+     * The precise position.
+     */
+    private final Triple precisePosition;
+    /**
+     * The orientation angle.
+     */
+    private final double orientationAngle;
+
+    Telemetry(Triple precisePosition, double orientationAngle) {
+      this.precisePosition = precisePosition;
+      this.orientationAngle = orientationAngle;
+    }
+
+    Telemetry withPrecisePosition(Triple precisePosition) {
+      return new Telemetry(precisePosition, orientationAngle);
+    }
+
+    Telemetry withOrientationAngle(double orientationAngle) {
+      return new Telemetry(precisePosition, orientationAngle);
+    }
+  }
+}
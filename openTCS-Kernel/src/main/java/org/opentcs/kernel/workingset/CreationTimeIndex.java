@@ -0,0 +1,142 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.workingset;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.TreeSet;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectReference;
+
+/**
+ * An index of object references, ordered by points of time associated with them.
+ * <p>
+ * Note that no synchronization is done inside this class. Concurrent access of instances of this
+ * class must be synchronized externally.
+ * </p>
+ *
+ * @param <T> The type of the referenced objects.
+ * @author agent
+ */
+class CreationTimeIndex<T extends TCSObject<T>> {
+
+  /**
+   * The entries, ordered by their points of time.
+   */
+  private final TreeSet<Entry<T>> entries = new TreeSet<>();
+  /**
+   * The entries, mapped by their references.
+   */
+  private final Map<TCSObjectReference<T>, Entry<T>> entriesByRef = new HashMap<>();
+
+  /**
+   * Creates a new instance.
+   */
+  CreationTimeIndex() {
+  }
+
+  /**
+   * Adds the given reference to this index, replacing any previous entry for it.
+   *
+   * @param ref The reference.
+   * @param time The point of time associated with the reference.
+   */
+  public void add(TCSObjectReference<T> ref, Instant time) {
+    requireNonNull(ref, "ref");
+    requireNonNull(time, "time");
+
+    remove(ref);
+    Entry<T> entry = new Entry<>(ref, time);
+    entries.add(entry);
+    entriesByRef.put(ref, entry);
+  }
+
+  /**
+   * Removes the given reference from this index.
+   *
+   * @param ref The reference.
+   */
+  public void remove(TCSObjectReference<T> ref) {
+    requireNonNull(ref, "ref");
+
+    Entry<T> entry = entriesByRef.remove(ref);
+    if (entry != null) {
+      entries.remove(entry);
+    }
+  }
+
+  /**
+   * Removes all references from this index.
+   */
+  public void clear() {
+    entries.clear();
+    entriesByRef.clear();
+  }
+
+  /**
+   * Returns the number of references in this index.
+   *
+   * @return The number of references in this index.
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Returns the references associated with a point of time not after the given one.
+   *
+   * @param threshold The point of time.
+   * @return The references associated with a point of time not after the given one, ordered by
+   * their points of time.
+   */
+  public List<TCSObjectReference<T>> getReferencesNotAfter(Instant threshold) {
+    requireNonNull(threshold, "threshold");
+
+    List<TCSObjectReference<T>> result = new ArrayList<>();
+    for (Entry<T> entry : entries) {
+      if (entry.time.isAfter(threshold)) {
+        break;
+      }
+      result.add(entry.ref);
+    }
+    return result;
+  }
+
+  /**
+   * An entry of the index.
+   *
+   * @param <T> The type of the referenced object.
+   */
+  private static class Entry<T extends TCSObject<T>>
+      implements Comparable<Entry<T>> {
+
+    /**
+     * The reference.
+     */
+    private final TCSObjectReference<T> ref;
+    /**
+     * The point of time associated with the reference.
+     */
+    private final Instant time;
+
+    Entry(TCSObjectReference<T> ref, Instant time) {
+      this.ref = ref;
+      this.time = time;
+    }
+
+    @Override
+    public int compareTo(Entry<T> other) {
+      int result = time.compareTo(other.time);
+      return result != 0 ? result : ref.getName().compareTo(other.ref.getName());
+    }
+  }
+}
@@ -80,6 +80,12 @@ public class Model {
    * The system's global object pool.
    */
   private final TCSObjectPool objectPool;
+  /**
+   * References to the blocks containing a resource, mapped by the resource's name.
+   * Block members cannot be modified, so this only needs to be updated when blocks are created or
+   * removed.
+   */
+  private final Map<String, Set<TCSObjectReference<Block>>> blocksByMemberName = new HashMap<>();
   /**
    * This model's name.
    */
@@ -170,6 +176,7 @@ public class Model {
                                    TCSObjectEvent.Type.OBJECT_REMOVED);
       }
     }
+    blocksByMemberName.clear();
   }
 
   /**
@@ -952,6 +959,10 @@ public class Model {
         .withProperties(to.getProperties())
         .withLayout(new Block.Layout(to.getLayout().getColor()));
     objectPool.addObject(newBlock);
+    for (TCSResourceReference<?> member : members) {
+      blocksByMemberName.computeIfAbsent(member.getName(), memberName -> new HashSet<>())
+          .add(newBlock.getReference());
+    }
     objectPool.emitObjectEvent(newBlock,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
@@ -1262,25 +1273,61 @@ public class Model {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     Set<TCSResource<?>> result = new HashSet<>();
-    Set<Block> blocks = getObjectPool().getObjects(Block.class);
     for (TCSResourceReference<?> curRef : resources) {
       TCSObject<?> object = objectPool.getObject(curRef);
       TCSResource<?> resource = (TCSResource<?>) object;
       result.add(resource);
-      for (Block curBlock : blocks) {
-        // If the current block contains the resource, add all of the block's
-        // members to the result.
-        if (curBlock.getMembers().contains(resource.getReference())) {
-          for (TCSResourceReference<?> curResRef : curBlock.getMembers()) {
-            TCSResource<?> member = (TCSResource<?>) objectPool.getObject(curResRef);
-            result.add(member);
-          }
+      // Add all members of the blocks containing the resource to the result.
+      for (Block curBlock : getBlocksContaining(resource.getReference())) {
+        for (TCSResourceReference<?> curResRef : curBlock.getMembers()) {
+          TCSResource<?> member = (TCSResource<?>) objectPool.getObject(curResRef);
+          result.add(member);
         }
       }
     }
     return result;
   }
 
+  /**
+   * Returns the blocks containing the given resource.
+   *
+   * @param resource A reference to the resource.
+   * @return The blocks containing the given resource. May be empty, but not {@code null}.
+   */
+  public Set<Block> getBlocksContaining(TCSResourceReference<?> resource) {
+    requireNonNull(resource, "resource");
+
+    Set<TCSObjectReference<Block>> blockRefs = blocksByMemberName.get(resource.getName());
+    if (blockRefs == null) {
+      return Collections.emptySet();
+    }
+
+    Set<Block> result = new HashSet<>();
+    for (TCSObjectReference<Block> blockRef : blockRefs) {
+      Block block = objectPool.getObjectOrNull(Block.class, blockRef);
+      if (block != null) {
+        result.add(block);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the blocks containing any of the given resources.
+   *
+   * @param resources References to the resources.
+   * @return The blocks containing any of the given resources. May be empty, but not {@code null}.
+   */
+  public Set<Block> getBlocksContaining(Set<TCSResourceReference<?>> resources) {
+    requireNonNull(resources, "resources");
+
+    Set<Block> result = new HashSet<>();
+    for (TCSResourceReference<?> resource : resources) {
+      result.addAll(getBlocksContaining(resource));
+    }
+    return result;
+  }
+
   /**
    * Overrides the layout data in {@code TCSObject}s with the data stored in their respective
    * model layout element.
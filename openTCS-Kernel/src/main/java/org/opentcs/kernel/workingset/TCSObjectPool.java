@@ -7,15 +7,16 @@
  */
 package org.opentcs.kernel.workingset;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import static java.util.Objects.requireNonNull;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
@@ -27,6 +28,7 @@ import org.opentcs.data.TCSObject;
 import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.TCSObjectReference;
 import static org.opentcs.util.Assertions.checkArgument;
+import static org.opentcs.util.Assertions.checkInRange;
 import org.opentcs.util.UniqueStringGenerator;
 import org.opentcs.util.event.EventHandler;
 import org.slf4j.Logger;
@@ -49,6 +51,11 @@ public class TCSObjectPool {
    * The objects contained in this pool, mapped by their names.
    */
   private final Map<String, TCSObject<?>> objectsByName = new ConcurrentHashMap<>();
+  /**
+   * The objects contained in this pool, mapped by their concrete classes and names.
+   * This is a secondary index for {@link #objectsByName} and must be kept consistent with it.
+   */
+  private final Map<Class<?>, Map<String, TCSObject<?>>> objectsByClass = new ConcurrentHashMap<>();
   /**
    * The generator providing unique names for objects in this pool.
    */
@@ -57,6 +64,11 @@ public class TCSObjectPool {
    * A handler we should emit object events to.
    */
   private final EventHandler eventHandler;
+  /**
+   * The maximum number of history entries retained for objects in this pool, or 0, if the number is
+   * not limited.
+   */
+  private final int maxHistoryEntries;
 
   /**
    * Creates a new instance that uses the given event handler.
@@ -65,11 +77,30 @@ public class TCSObjectPool {
    */
   @Inject
   public TCSObjectPool(@ApplicationEventBus EventHandler eventHandler) {
+    this(eventHandler, 0);
+  }
+
+  /**
+   * Creates a new instance that uses the given event handler.
+   *
+   * @param eventHandler The event handler to publish events to.
+   * @param maxHistoryEntries The maximum number of history entries retained for objects in this
+   * pool, or 0, if the number is not to be limited.
+   */
+  public TCSObjectPool(EventHandler eventHandler, int maxHistoryEntries) {
     this.eventHandler = requireNonNull(eventHandler, "eventHandler");
+    this.maxHistoryEntries = checkInRange(maxHistoryEntries,
+                                          0,
+                                          Integer.MAX_VALUE,
+                                          "maxHistoryEntries");
   }
 
   /**
    * Adds a new object to the pool.
+   * <p>
+   * If the number of history entries retained for objects in this pool is limited, the object
+   * stored in the pool is a copy of the given one with its history limited accordingly.
+   * </p>
    *
    * @param newObject The object to be added to the pool.
    * @throws ObjectExistsException If an object with the same ID or the same
@@ -82,7 +113,10 @@ public class TCSObjectPool {
     if (objectsByName.containsKey(newObject.getName())) {
       throw new ObjectExistsException("Object name " + newObject.getName() + " already exists.");
     }
-    objectsByName.put(newObject.getName(), newObject);
+    if (maxHistoryEntries > 0) {
+      newObject = newObject.withHistory(newObject.getHistory().withMaxEntries(maxHistoryEntries));
+    }
+    putObject(newObject);
     objectNameGenerator.addString(newObject.getName());
   }
 
@@ -99,7 +133,7 @@ public class TCSObjectPool {
                   "Object named '%s' does not exist",
                   object.getName());
 
-    objectsByName.put(object.getName(), object);
+    putObject(object);
     return object;
   }
 
@@ -304,11 +338,11 @@ public class TCSObjectPool {
     requireNonNull(clazz, "clazz");
 
     Set<T> result = new HashSet<>();
-    for (TCSObject<?> curObject : objectsByName.values()) {
-      if (clazz.isInstance(curObject)
-          && (regexp == null
-              || regexp.matcher(curObject.getName()).matches())) {
-        result.add(clazz.cast(curObject));
+    for (Map<String, TCSObject<?>> curObjects : objectsAssignableTo(clazz)) {
+      for (TCSObject<?> curObject : curObjects.values()) {
+        if (regexp == null || regexp.matcher(curObject.getName()).matches()) {
+          result.add(clazz.cast(curObject));
+        }
       }
     }
     return result;
@@ -328,11 +362,32 @@ public class TCSObjectPool {
     requireNonNull(clazz, "clazz");
     requireNonNull(predicate, "predicate");
 
-    return objectsByName.values().stream()
-        .filter(obj -> clazz.isInstance(obj))
-        .map(obj -> clazz.cast(obj))
-        .filter(predicate)
-        .collect(Collectors.toSet());
+    Set<T> result = new HashSet<>();
+    for (Map<String, TCSObject<?>> curObjects : objectsAssignableTo(clazz)) {
+      for (TCSObject<?> curObject : curObjects.values()) {
+        T obj = clazz.cast(curObject);
+        if (predicate.test(obj)) {
+          result.add(obj);
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the number of objects belonging to the given class.
+   *
+   * @param clazz The class of the objects to be counted.
+   * @return The number of objects belonging to the given class.
+   */
+  public int size(@Nonnull Class<?> clazz) {
+    requireNonNull(clazz, "clazz");
+
+    int result = 0;
+    for (Map<String, TCSObject<?>> curObjects : objectsAssignableTo(clazz)) {
+      result += curObjects.size();
+    }
+    return result;
   }
 
   /**
@@ -360,7 +415,7 @@ public class TCSObjectPool {
       throws ObjectUnknownException {
     requireNonNull(ref, "ref");
 
-    TCSObject<?> rmObject = objectsByName.remove(ref.getName());
+    TCSObject<?> rmObject = removeObjectByName(ref.getName());
     if (rmObject == null) {
       throw new ObjectUnknownException(ref);
     }
@@ -380,7 +435,7 @@ public class TCSObjectPool {
 
     Set<TCSObject<?>> result = new HashSet<>();
     for (String curName : objectNames) {
-      TCSObject<?> removedObject = objectsByName.remove(curName);
+      TCSObject<?> removedObject = removeObjectByName(curName);
       if (removedObject != null) {
         result.add(removedObject);
         objectNameGenerator.removeString(removedObject.getName());
@@ -412,7 +467,7 @@ public class TCSObjectPool {
               key,
               value);
     object = object.withProperty(key, value);
-    objectsByName.put(object.getName(), object);
+    putObject(object);
     emitObjectEvent(object, previousState, TCSObjectEvent.Type.OBJECT_MODIFIED);
   }
 
@@ -434,7 +489,7 @@ public class TCSObjectPool {
     TCSObject<?> previousState = object;
     LOG.debug("Appending history entry to object named '{}': {}", ref.getName(), entry);
     object = object.withHistoryEntry(entry);
-    objectsByName.put(object.getName(), object);
+    putObject(object);
     emitObjectEvent(object, previousState, TCSObjectEvent.Type.OBJECT_MODIFIED);
   }
 
@@ -454,7 +509,7 @@ public class TCSObjectPool {
     }
     TCSObject<?> previousState = object;
     object = object.withProperties(new HashMap<>());
-    objectsByName.put(object.getName(), object);
+    putObject(object);
     emitObjectEvent(object, previousState, TCSObjectEvent.Type.OBJECT_MODIFIED);
   }
 
@@ -477,6 +532,63 @@ public class TCSObjectPool {
     return objectsByName.isEmpty();
   }
 
+  /**
+   * Puts the given object into this pool, replacing any object with the same name, and updates the
+   * per-class index accordingly.
+   *
+   * @param object The object.
+   */
+  private void putObject(TCSObject<?> object) {
+    TCSObject<?> oldObject = objectsByName.put(object.getName(), object);
+    if (oldObject != null && oldObject.getClass() != object.getClass()) {
+      unindexObject(oldObject);
+    }
+    objectsByClass.computeIfAbsent(object.getClass(), clazz -> new ConcurrentHashMap<>())
+        .put(object.getName(), object);
+  }
+
+  /**
+   * Removes the object with the given name from this pool and from the per-class index.
+   *
+   * @param name The name of the object to be removed.
+   * @return The removed object, or {@code null}, if there was no object with the given name.
+   */
+  @Nullable
+  private TCSObject<?> removeObjectByName(String name) {
+    TCSObject<?> rmObject = objectsByName.remove(name);
+    if (rmObject != null) {
+      unindexObject(rmObject);
+    }
+    return rmObject;
+  }
+
+  private void unindexObject(TCSObject<?> object) {
+    Map<String, TCSObject<?>> objects = objectsByClass.get(object.getClass());
+    if (objects != null) {
+      objects.remove(object.getName());
+    }
+  }
+
+  /**
+   * Returns the per-class index entries containing objects that are instances of the given class.
+   * <p>
+   * The index is keyed by the objects' concrete classes, so this usually yields a single entry.
+   * Checking all keys keeps queries for supertypes correct, too.
+   * </p>
+   *
+   * @param clazz The class.
+   * @return The index entries containing instances of the given class.
+   */
+  private List<Map<String, TCSObject<?>>> objectsAssignableTo(Class<?> clazz) {
+    List<Map<String, TCSObject<?>>> result = new ArrayList<>();
+    for (Map.Entry<Class<?>, Map<String, TCSObject<?>>> entry : objectsByClass.entrySet()) {
+      if (clazz.isAssignableFrom(entry.getKey())) {
+        result.add(entry.getValue());
+      }
+    }
+    return result;
+  }
+
   /**
    * Emits an event for the given object with the given type.
    *
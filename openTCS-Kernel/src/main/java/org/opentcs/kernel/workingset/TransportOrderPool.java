@@ -8,9 +8,13 @@
 package org.opentcs.kernel.workingset;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import static java.util.Objects.requireNonNull;
 import java.util.Set;
@@ -61,6 +65,15 @@ public class TransportOrderPool {
    * Provides names for transport orders and order sequences.
    */
   private final ObjectNameProvider objectNameProvider;
+  /**
+   * Transport orders in a final state that do not belong to an order sequence, ordered by their
+   * creation times.
+   */
+  private final CreationTimeIndex<TransportOrder> finalOrders = new CreationTimeIndex<>();
+  /**
+   * Finished order sequences, ordered by the creation times of their last transport orders.
+   */
+  private final CreationTimeIndex<OrderSequence> finishedSequences = new CreationTimeIndex<>();
 
   /**
    * Creates a new instance.
@@ -101,6 +114,34 @@ public class TransportOrderPool {
                                    TCSObjectEvent.Type.OBJECT_REMOVED);
       }
     }
+    finalOrders.clear();
+    finishedSequences.clear();
+  }
+
+  /**
+   * Returns references to transport orders in a final state that do not belong to an order
+   * sequence and that were created at or before the given point of time.
+   *
+   * @param creationTimeThreshold The point of time.
+   * @return References to the transport orders, ordered by their creation times.
+   */
+  public List<TCSObjectReference<TransportOrder>> getFinalOrdersCreatedNotAfter(
+      Instant creationTimeThreshold) {
+    return finalOrders.getReferencesNotAfter(creationTimeThreshold);
+  }
+
+  /**
+   * Returns references to finished order sequences whose last transport orders were created at or
+   * before the given point of time.
+   * Finished order sequences without any transport orders are always included.
+   *
+   * @param creationTimeThreshold The point of time.
+   * @return References to the order sequences, ordered by the creation times of their last
+   * transport orders.
+   */
+  public List<TCSObjectReference<OrderSequence>> getFinishedOrderSequencesCreatedNotAfter(
+      Instant creationTimeThreshold) {
+    return finishedSequences.getReferencesNotAfter(creationTimeThreshold);
   }
 
   /**
@@ -117,30 +158,46 @@ public class TransportOrderPool {
    */
   public TransportOrder createTransportOrder(TransportOrderCreationTO to)
       throws ObjectUnknownException, ObjectExistsException, IllegalArgumentException {
-    TransportOrder newOrder = new TransportOrder(nameFor(to),
-                                                 toDriveOrders(to.getDestinations()))
-        .withCreationTime(Instant.now())
-        .withPeripheralReservationToken(to.getPeripheralReservationToken())
-        .withIntendedVehicle(toVehicleReference(to.getIntendedVehicleName()))
-        .withType(to.getType())
-        .withDeadline(to.getDeadline())
-        .withDispensable(to.isDispensable())
-        .withWrappingSequence(getWrappingSequence(to))
-        .withDependencies(getDependencies(to))
-        .withProperties(to.getProperties());
-    objectPool.addObject(newOrder);
-    objectPool.emitObjectEvent(newOrder, null, TCSObjectEvent.Type.OBJECT_CREATED);
+    return addTransportOrder(newTransportOrder(to, new HashMap<>()));
+  }
 
-    if (newOrder.getWrappingSequence() != null) {
-      OrderSequence sequence = objectPool.getObject(OrderSequence.class,
-                                                    newOrder.getWrappingSequence());
-      OrderSequence prevSeq = sequence;
-      sequence = objectPool.replaceObject(sequence.withOrder(newOrder.getReference()));
-      objectPool.emitObjectEvent(sequence, prevSeq, TCSObjectEvent.Type.OBJECT_MODIFIED);
+  /**
+   * Adds new transport orders to the pool.
+   * This method implicitly adds the transport orders to their wrapping sequences, if any.
+   * <p>
+   * All transport orders are validated before any of them is added, i.e. if any of the given TOs
+   * is invalid, none of the transport orders is created.
+   * Transport orders may depend on transport orders created before them in the same batch.
+   * </p>
+   *
+   * @param tos The transfer objects from which to create the new transport orders.
+   * @return The newly created transport orders, in the order of the given TOs.
+   * @throws ObjectExistsException If an object with a new object's name already exists or if the
+   * batch contains multiple transport orders with the same name.
+   * @throws ObjectUnknownException If any object referenced in any of the TOs does not exist.
+   * @throws IllegalArgumentException If any order is supposed to be part of an order sequence, but
+   * the sequence is already complete, the categories of the two differ or the intended vehicles of
+   * the two differ.
+   */
+  public List<TransportOrder> createTransportOrders(List<TransportOrderCreationTO> tos)
+      throws ObjectUnknownException, ObjectExistsException, IllegalArgumentException {
+    requireNonNull(tos, "tos");
+
+    Map<String, TransportOrder> newOrders = new LinkedHashMap<>();
+    for (TransportOrderCreationTO to : tos) {
+      TransportOrder newOrder = newTransportOrder(to, newOrders);
+      if (newOrders.containsKey(newOrder.getName())
+          || objectPool.getObjectOrNull(newOrder.getName()) != null) {
+        throw new ObjectExistsException("Object name " + newOrder.getName() + " already exists.");
+      }
+      newOrders.put(newOrder.getName(), newOrder);
     }
 
-    // Return the newly created transport order.
-    return newOrder;
+    List<TransportOrder> result = new ArrayList<>(newOrders.size());
+    for (TransportOrder newOrder : newOrders.values()) {
+      result.add(addTransportOrder(newOrder));
+    }
+    return result;
   }
 
   /**
@@ -159,6 +216,9 @@ public class TransportOrderPool {
     TransportOrder order = objectPool.getObject(TransportOrder.class, ref);
     TransportOrder previousState = order;
     order = objectPool.replaceObject(order.withState(newState));
+    if (order.getState().isFinalState() && order.getWrappingSequence() == null) {
+      finalOrders.add(order.getReference(), order.getCreationTime());
+    }
     objectPool.emitObjectEvent(order,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
@@ -302,6 +362,7 @@ public class TransportOrderPool {
                   "Transport order %s is being processed.",
                   order.getName());
     objectPool.removeObject(ref);
+    finalOrders.remove(ref);
     objectPool.emitObjectEvent(null,
                                order,
                                TCSObjectEvent.Type.OBJECT_REMOVED);
@@ -388,6 +449,7 @@ public class TransportOrderPool {
     OrderSequence sequence = objectPool.getObject(OrderSequence.class, seqRef);
     OrderSequence previousState = sequence;
     sequence = objectPool.replaceObject(sequence.withFinished(true));
+    finishedSequences.add(sequence.getReference(), lastOrderCreationTime(sequence));
     objectPool.emitObjectEvent(sequence,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
@@ -437,6 +499,7 @@ public class TransportOrderPool {
     OrderSequence previousState = sequence;
     // XXX Any sanity checks here?
     objectPool.removeObject(ref);
+    finishedSequences.remove(ref);
     objectPool.emitObjectEvent(null,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_REMOVED);
@@ -456,6 +519,7 @@ public class TransportOrderPool {
     checkArgument(sequence.isFinished(), "Order sequence %s is not finished", sequence.getName());
     OrderSequence previousState = sequence;
     objectPool.removeObject(ref);
+    finishedSequences.remove(ref);
     objectPool.emitObjectEvent(null, previousState, TCSObjectEvent.Type.OBJECT_REMOVED);
     // Also remove all orders in the sequence.
     for (TCSObjectReference<TransportOrder> orderRef : sequence.getOrders()) {
@@ -463,11 +527,57 @@ public class TransportOrderPool {
     }
   }
 
-  private Set<TCSObjectReference<TransportOrder>> getDependencies(TransportOrderCreationTO to)
+  private TransportOrder newTransportOrder(TransportOrderCreationTO to,
+                                           Map<String, TransportOrder> pendingOrders)
+      throws ObjectUnknownException, IllegalArgumentException {
+    return new TransportOrder(nameFor(to), toDriveOrders(to.getDestinations()))
+        .withCreationTime(Instant.now())
+        .withPeripheralReservationToken(to.getPeripheralReservationToken())
+        .withIntendedVehicle(toVehicleReference(to.getIntendedVehicleName()))
+        .withType(to.getType())
+        .withDeadline(to.getDeadline())
+        .withDispensable(to.isDispensable())
+        .withWrappingSequence(getWrappingSequence(to))
+        .withDependencies(getDependencies(to, pendingOrders))
+        .withProperties(to.getProperties());
+  }
+
+  private TransportOrder addTransportOrder(TransportOrder newOrder)
+      throws ObjectExistsException {
+    objectPool.addObject(newOrder);
+    objectPool.emitObjectEvent(newOrder, null, TCSObjectEvent.Type.OBJECT_CREATED);
+
+    if (newOrder.getWrappingSequence() != null) {
+      OrderSequence sequence = objectPool.getObject(OrderSequence.class,
+                                                    newOrder.getWrappingSequence());
+      OrderSequence prevSeq = sequence;
+      sequence = objectPool.replaceObject(sequence.withOrder(newOrder.getReference()));
+      objectPool.emitObjectEvent(sequence, prevSeq, TCSObjectEvent.Type.OBJECT_MODIFIED);
+    }
+
+    // Return the newly created transport order.
+    return newOrder;
+  }
+
+  private Instant lastOrderCreationTime(OrderSequence sequence) {
+    if (sequence.getOrders().isEmpty()) {
+      return Instant.EPOCH;
+    }
+    TransportOrder lastOrder
+        = objectPool.getObjectOrNull(TransportOrder.class,
+                                     sequence.getOrders().get(sequence.getOrders().size() - 1));
+    return lastOrder == null ? Instant.EPOCH : lastOrder.getCreationTime();
+  }
+
+  private Set<TCSObjectReference<TransportOrder>> getDependencies(
+      TransportOrderCreationTO to,
+      Map<String, TransportOrder> pendingOrders)
       throws ObjectUnknownException {
     Set<TCSObjectReference<TransportOrder>> result = new HashSet<>();
     for (String dependencyName : to.getDependencyNames()) {
-      TransportOrder dep = getObjectPool().getObject(TransportOrder.class, dependencyName);
+      TransportOrder dep = pendingOrders.containsKey(dependencyName)
+          ? pendingOrders.get(dependencyName)
+          : getObjectPool().getObject(TransportOrder.class, dependencyName);
       if (dep == null) {
         throw new ObjectUnknownException(dependencyName);
       }
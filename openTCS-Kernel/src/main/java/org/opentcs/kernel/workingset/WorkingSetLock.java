@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.workingset;
+
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import javax.inject.Inject;
+import org.opentcs.common.QueuedEventBus;
+import org.opentcs.customizations.kernel.GlobalSyncObject;
+import static org.opentcs.util.Assertions.checkState;
+
+/**
+ * Synchronizes access to the kernel's working set (i.e. the object pool, the model, the transport
+ * order pool, the peripheral job pool and the notification buffer).
+ * <p>
+ * Read accesses may be executed concurrently with each other.
+ * Write accesses are executed exclusively, i.e. while no other write or read access is being
+ * executed.
+ * Additionally, they are synchronized on the kernel's global synchronization object, so they are
+ * serialized with code (e.g. in the scheduler or in the dispatcher) that synchronizes on it.
+ * </p>
+ * <p>
+ * Note that a thread executing a read access must not execute a write access from within it, as
+ * the read access cannot be upgraded to a write access.
+ * The reverse (executing a read access from within a write access) is possible, though.
+ * </p>
+ * <p>
+ * Write accesses are rejected on threads delivering events asynchronously (see
+ * {@link QueuedEventBus}), as the threads emitting these events may be holding this lock while
+ * waiting for the delivery threads to take them.
+ * </p>
+ *
+ * @author agent
+ */
+public class WorkingSetLock {
+
+  /**
+   * The kernel's global synchronization object.
+   */
+  private final Object globalSyncObject;
+  /**
+   * The actual lock.
+   */
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param globalSyncObject The kernel threads' global synchronization object.
+   */
+  @Inject
+  public WorkingSetLock(@GlobalSyncObject Object globalSyncObject) {
+    this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+  }
+
+  /**
+   * Executes the given read access and returns its result.
+   *
+   * @param <T> The type of the result.
+   * @param access The read access.
+   * @return The read access' result.
+   */
+  public <T> T read(Supplier<T> access) {
+    requireNonNull(access, "access");
+
+    lock.readLock().lock();
+    try {
+      return access.get();
+    }
+    finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Executes the given write access and returns its result.
+   *
+   * @param <T> The type of the result.
+   * @param access The write access.
+   * @return The write access' result.
+   * @throws IllegalStateException If the current thread delivers events asynchronously.
+   */
+  public <T> T write(Supplier<T> access)
+      throws IllegalStateException {
+    requireNonNull(access, "access");
+    checkState(!QueuedEventBus.isDeliveryThread(),
+               "Event handlers receiving events asynchronously must not modify the working set");
+
+    synchronized (globalSyncObject) {
+      lock.writeLock().lock();
+      try {
+        return access.get();
+      }
+      finally {
+        lock.writeLock().unlock();
+      }
+    }
+  }
+
+  /**
+   * Executes the given write access.
+   *
+   * @param access The write access.
+   * @throws IllegalStateException If the current thread delivers events asynchronously.
+   */
+  public void write(Runnable access)
+      throws IllegalStateException {
+    requireNonNull(access, "access");
+
+    write(() -> {
+      access.run();
+      return null;
+    });
+  }
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.loadgenerator;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.opentcs.components.kernel.services.DispatcherService;
+import org.opentcs.components.kernel.services.PlantModelService;
+import org.opentcs.components.kernel.services.TransportOrderService;
+import org.opentcs.components.kernel.services.VehicleService;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.kernel.vehicles.AllocationMetrics;
+import org.opentcs.kernel.workingset.WorkingSetLock;
+import org.opentcs.util.event.EventSource;
+
+/**
+ * Unit tests for {@link LoadGenerator}.
+ *
+ * @author agent
+ */
+public class LoadGeneratorTest {
+
+  @TempDir
+  File tempDir;
+
+  private WorkingSetLock workingSetLock;
+
+  private ScheduledThreadPoolExecutor kernelExecutor;
+
+  private PlantModelService plantModelService;
+
+  private DispatcherService dispatcherService;
+
+  private LoadGenerator loadGenerator;
+
+  @BeforeEach
+  public void setUp() {
+    workingSetLock = new WorkingSetLock(new Object());
+    kernelExecutor = new ScheduledThreadPoolExecutor(1);
+
+    LoadGeneratorConfiguration configuration = mock(LoadGeneratorConfiguration.class);
+    when(configuration.startDelay()).thenReturn(0L);
+    when(configuration.duration()).thenReturn(TimeUnit.HOURS.toMillis(1));
+    when(configuration.orderBatchSize()).thenReturn(1);
+    when(configuration.orderSize()).thenReturn(1);
+    when(configuration.orderThreshold()).thenReturn(0);
+    when(configuration.reportFile()).thenReturn("report.json");
+
+    plantModelService = mock(PlantModelService.class);
+    VehicleService vehicleService = mock(VehicleService.class);
+    when(vehicleService.fetchObjects(Vehicle.class))
+        .thenAnswer(invocation -> workingSetLock.read(() -> Collections.emptySet()));
+    dispatcherService = mock(DispatcherService.class);
+
+    loadGenerator = new LoadGenerator(configuration,
+                                      tempDir,
+                                      mock(EventSource.class),
+                                      kernelExecutor,
+                                      mock(TransportOrderService.class),
+                                      dispatcherService,
+                                      vehicleService,
+                                      plantModelService,
+                                      new AllocationMetrics());
+  }
+
+  @AfterEach
+  public void tearDown() {
+    kernelExecutor.shutdownNow();
+  }
+
+  @Test
+  public void stopWhileEventsAreEmittedUnderWriteLock()
+      throws Exception {
+    loadGenerator.initialize();
+    // The first (empty) batch of transport orders has been created once the dispatcher is called.
+    verify(dispatcherService, timeout(5000)).dispatch();
+
+    CountDownLatch readAccessRequested = new CountDownLatch(1);
+    when(plantModelService.getModelName()).thenAnswer(invocation -> {
+      readAccessRequested.countDown();
+      return workingSetLock.read(() -> "someModel");
+    });
+
+    Thread stoppingThread = new Thread(() -> loadGenerator.terminate());
+    Thread emittingThread = new Thread(() -> workingSetLock.write(() -> {
+      stoppingThread.start();
+      try {
+        // Emit the event only when the stopping thread waits for the read lock.
+        readAccessRequested.await(5, TimeUnit.SECONDS);
+      }
+      catch (InterruptedException exc) {
+        Thread.currentThread().interrupt();
+      }
+      loadGenerator.onEvent(new TCSObjectEvent(createOrder(),
+                                               null,
+                                               TCSObjectEvent.Type.OBJECT_CREATED));
+    }));
+
+    emittingThread.start();
+    emittingThread.join(5000);
+    stoppingThread.join(5000);
+
+    assertFalse(emittingThread.isAlive());
+    assertFalse(stoppingThread.isAlive());
+    assertTrue(new File(tempDir, "report.json").isFile());
+  }
+
+  private TransportOrder createOrder() {
+    return new TransportOrder("LoadGen-1", Collections.emptyList());
+  }
+}
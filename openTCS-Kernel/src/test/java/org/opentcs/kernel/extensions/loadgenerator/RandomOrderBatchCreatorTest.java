@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.loadgenerator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.opentcs.access.to.order.DestinationCreationTO;
+import org.opentcs.access.to.order.TransportOrderCreationTO;
+import org.opentcs.components.kernel.services.TransportOrderService;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.LocationType;
+import org.opentcs.data.order.TransportOrder;
+
+/**
+ * Unit tests for {@link RandomOrderBatchCreator}.
+ *
+ * @author agent
+ */
+public class RandomOrderBatchCreatorTest {
+
+  private TransportOrderService transportOrderService;
+
+  private final List<TransportOrderCreationTO> createdOrders = new ArrayList<>();
+
+  @BeforeEach
+  public void setUp() {
+    transportOrderService = mock(TransportOrderService.class);
+    when(transportOrderService.createTransportOrder(any(TransportOrderCreationTO.class)))
+        .thenAnswer(invocation -> {
+          TransportOrderCreationTO to = invocation.getArgument(0);
+          createdOrders.add(to);
+          return new TransportOrder(to.getName() + createdOrders.size(), Collections.emptyList());
+        });
+  }
+
+  @Test
+  public void createBatchesOfConfiguredSize() {
+    givenLocations("Location-1", "Location-2", "Location-3");
+    RandomOrderBatchCreator creator
+        = new RandomOrderBatchCreator(transportOrderService, "LoadGen-", 4, 3, 42);
+
+    List<TransportOrder> orders = creator.createOrderBatch();
+
+    assertThat(orders, hasSize(4));
+    assertThat(createdOrders, hasSize(4));
+    for (TransportOrderCreationTO to : createdOrders) {
+      assertThat(to.getName(), startsWith("LoadGen-"));
+      assertThat(to.hasIncompleteName(), is(true));
+      assertThat(to.getDestinations(), hasSize(3));
+    }
+  }
+
+  @Test
+  public void selectSameDestinationsForSameSeed() {
+    givenLocations("Location-3", "Location-1", "Location-2", "Location-4");
+    new RandomOrderBatchCreator(transportOrderService, "LoadGen-", 10, 2, 42).createOrderBatch();
+    List<String> firstDestinations = destinationNames();
+
+    createdOrders.clear();
+    givenLocations("Location-4", "Location-2", "Location-1", "Location-3");
+    new RandomOrderBatchCreator(transportOrderService, "LoadGen-", 10, 2, 42).createOrderBatch();
+
+    assertThat(destinationNames(), is(firstDestinations));
+  }
+
+  @Test
+  public void createNoOrdersWithoutLocations() {
+    givenLocations();
+    RandomOrderBatchCreator creator
+        = new RandomOrderBatchCreator(transportOrderService, "LoadGen-", 4, 3, 42);
+
+    assertThat(creator.createOrderBatch(), is(empty()));
+  }
+
+  private void givenLocations(String... names) {
+    LocationType locationType = new LocationType("LocationType-1");
+    when(transportOrderService.fetchObjects(Location.class)).thenReturn(
+        Arrays.stream(names)
+            .map(name -> new Location(name, locationType.getReference()))
+            .collect(Collectors.toCollection(HashSet::new))
+    );
+  }
+
+  private List<String> destinationNames() {
+    return createdOrders.stream()
+        .flatMap(to -> to.getDestinations().stream())
+        .map(DestinationCreationTO::getDestLocationName)
+        .collect(Collectors.toList());
+  }
+}
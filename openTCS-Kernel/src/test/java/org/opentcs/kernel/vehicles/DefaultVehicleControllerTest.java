@@ -13,6 +13,7 @@ package org.opentcs.kernel.vehicles;
 
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
 import org.junit.*;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -118,6 +119,16 @@ public class DefaultVehicleControllerTest {
 
     doReturn(peripheralInteractor).when(componentsFactory)
         .createPeripheralInteractor(vehicle.getReference());
+    doReturn(new ProcessModelEventPublisher(commAdapter,
+                                            eventBus,
+                                            mock(ScheduledExecutorService.class),
+                                            mock(VehicleControllerConfiguration.class)))
+        .when(componentsFactory).createProcessModelEventPublisher(commAdapter);
+    doReturn(new VehicleTelemetryChannel(vehicle.getReference(),
+                                         vehicleService,
+                                         mock(ScheduledExecutorService.class),
+                                         mock(VehicleControllerConfiguration.class)))
+        .when(componentsFactory).createTelemetryChannel(vehicle.getReference());
 
     scheduler = spy(new DummyScheduler());
     scheduler.initialize();
@@ -128,7 +139,8 @@ public class DefaultVehicleControllerTest {
                                                         mock(DispatcherService.class),
                                                         scheduler,
                                                         eventBus,
-                                                        componentsFactory);
+                                                        componentsFactory,
+                                                        new AllocationMetrics());
     stdVehicleController.initialize();
   }
 
@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.vehicles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import org.junit.*;
+import static org.junit.Assert.assertEquals;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.drivers.vehicle.VehicleCommAdapter;
+import org.opentcs.drivers.vehicle.VehicleProcessModel;
+import org.opentcs.drivers.vehicle.management.ProcessModelDeltaEvent;
+import org.opentcs.drivers.vehicle.management.ProcessModelEvent;
+import org.opentcs.drivers.vehicle.management.VehicleProcessModelTO;
+
+/**
+ * Unit tests for {@link ProcessModelEventPublisher}.
+ *
+ * @author agent
+ */
+public class ProcessModelEventPublisherTest {
+
+  private VehicleProcessModel processModel;
+  private VehicleCommAdapter commAdapter;
+  private ScheduledExecutorService kernelExecutor;
+  private VehicleControllerConfiguration configuration;
+  private final List<Object> eventsReceived = new ArrayList<>();
+  private ProcessModelEventPublisher publisher;
+
+  @Before
+  public void setUp() {
+    processModel = new VehicleProcessModel(new Vehicle("Vehicle-01"));
+    commAdapter = mock(VehicleCommAdapter.class);
+    kernelExecutor = mock(ScheduledExecutorService.class);
+    configuration = mock(VehicleControllerConfiguration.class);
+
+    doReturn(processModel).when(commAdapter).getProcessModel();
+    doReturn(new VehicleProcessModelTO()).when(commAdapter).createTransferableProcessModel();
+    doReturn(mock(ScheduledFuture.class))
+        .when(kernelExecutor).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+
+    publisher = new ProcessModelEventPublisher(commAdapter,
+                                               eventsReceived::add,
+                                               kernelExecutor,
+                                               configuration);
+    processModel.addPropertyChangeListener(publisher::processModelChanged);
+  }
+
+  @Test
+  public void publishSnapshotForEveryChangeByDefault() {
+    processModel.setVehiclePosition("Point-01");
+    processModel.setVehicleEnergyLevel(42);
+
+    assertEquals(2, eventsReceived.size());
+    assertThat(eventsReceived.get(0), is(instanceOf(ProcessModelEvent.class)));
+    assertThat(eventsReceived.get(1), is(instanceOf(ProcessModelEvent.class)));
+  }
+
+  @Test
+  public void publishDeltaForEveryChangeWithoutConflationWindow() {
+    when(configuration.deltaProcessModelEvents()).thenReturn(true);
+    when(configuration.processModelEventConflationWindow()).thenReturn(0L);
+
+    processModel.setVehiclePosition("Point-01");
+    processModel.setVehicleEnergyLevel(42);
+
+    assertEquals(2, eventsReceived.size());
+    assertThat(((ProcessModelDeltaEvent) eventsReceived.get(0)).getChangedAttributes().keySet(),
+               contains(VehicleProcessModel.Attribute.POSITION.name()));
+    assertThat(((ProcessModelDeltaEvent) eventsReceived.get(1)).getChangedAttributes().keySet(),
+               contains(VehicleProcessModel.Attribute.ENERGY_LEVEL.name()));
+  }
+
+  @Test
+  public void conflateChangesWithinConflationWindow() {
+    when(configuration.deltaProcessModelEvents()).thenReturn(true);
+    when(configuration.processModelEventConflationWindow()).thenReturn(100L);
+
+    processModel.setVehiclePosition("Point-01");
+    processModel.setVehicleEnergyLevel(42);
+    processModel.setVehiclePosition("Point-02");
+
+    assertThat(eventsReceived.isEmpty(), is(true));
+
+    ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(kernelExecutor, times(1))
+        .schedule(flushCaptor.capture(), eq(100L), eq(TimeUnit.MILLISECONDS));
+    flushCaptor.getValue().run();
+
+    assertEquals(1, eventsReceived.size());
+    ProcessModelDeltaEvent event = (ProcessModelDeltaEvent) eventsReceived.get(0);
+    assertEquals("Vehicle-01", event.getVehicleName());
+    assertEquals(2, event.getChangedAttributes().size());
+    assertEquals("Point-02",
+                 event.getChangedAttributes().get(VehicleProcessModel.Attribute.POSITION.name()));
+    assertEquals(
+        42,
+        event.getChangedAttributes().get(VehicleProcessModel.Attribute.ENERGY_LEVEL.name())
+    );
+
+    VehicleProcessModelTO processModelTO = event.applyTo(new VehicleProcessModelTO());
+    assertEquals("Point-02", processModelTO.getVehiclePosition());
+    assertEquals(42, processModelTO.getEnergyLevel());
+  }
+
+  @Test
+  public void publishPendingChangesBeforeSnapshot() {
+    when(configuration.deltaProcessModelEvents()).thenReturn(true);
+    when(configuration.processModelEventConflationWindow()).thenReturn(100L);
+
+    processModel.setVehiclePosition("Point-01");
+    processModel.setVehicleProperty("someKey", "someValue");
+
+    assertEquals(2, eventsReceived.size());
+    assertThat(eventsReceived.get(0), is(instanceOf(ProcessModelDeltaEvent.class)));
+    assertThat(eventsReceived.get(1), is(instanceOf(ProcessModelEvent.class)));
+  }
+}
@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.vehicles;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.*;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.opentcs.components.kernel.services.InternalVehicleService;
+import org.opentcs.data.model.Triple;
+import org.opentcs.data.model.Vehicle;
+
+/**
+ * Unit tests for {@link VehicleTelemetryChannel}.
+ *
+ * @author agent
+ */
+public class VehicleTelemetryChannelTest {
+
+  private Vehicle vehicle;
+  private InternalVehicleService vehicleService;
+  private ScheduledExecutorService executor;
+  private VehicleControllerConfiguration configuration;
+  private VehicleTelemetryChannel channel;
+
+  @Before
+  public void setUp() {
+    vehicle = new Vehicle("Vehicle-01");
+    vehicleService = mock(InternalVehicleService.class);
+    executor = mock(ScheduledExecutorService.class);
+    configuration = mock(VehicleControllerConfiguration.class);
+
+    doReturn(vehicle).when(vehicleService).fetchObject(Vehicle.class, vehicle.getReference());
+    doReturn(mock(ScheduledFuture.class))
+        .when(executor).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+
+    channel = new VehicleTelemetryChannel(vehicle.getReference(),
+                                          vehicleService,
+                                          executor,
+                                          configuration);
+    channel.initialize();
+  }
+
+  @Test
+  public void applyEveryChangeWithoutUpdateInterval() {
+    channel.updatePrecisePosition(new Triple(0, 0, 0));
+    channel.updatePrecisePosition(new Triple(10, 0, 0));
+    channel.updateOrientationAngle(1.0);
+
+    verify(vehicleService).updateVehiclePrecisePosition(vehicle.getReference(),
+                                                        new Triple(0, 0, 0));
+    verify(vehicleService).updateVehiclePrecisePosition(vehicle.getReference(),
+                                                        new Triple(10, 0, 0));
+    verify(vehicleService).updateVehicleOrientationAngle(vehicle.getReference(), 1.0);
+  }
+
+  @Test
+  public void applyTransitionToUnknownOrientationAngle() {
+    channel.updateOrientationAngle(Double.NaN);
+    channel.updateOrientationAngle(90.0);
+    channel.updateOrientationAngle(Double.NaN);
+    channel.updateOrientationAngle(Double.NaN);
+
+    verify(vehicleService).updateVehicleOrientationAngle(vehicle.getReference(), 90.0);
+    verify(vehicleService, times(1)).updateVehicleOrientationAngle(vehicle.getReference(),
+                                                                   Double.NaN);
+  }
+
+  @Test
+  public void applyOnlyLatestChangeWithinUpdateInterval() {
+    when(configuration.telemetryUpdateInterval()).thenReturn(100L);
+
+    // The first position is applied immediately, as there is none to compare it with.
+    channel.updatePrecisePosition(new Triple(0, 0, 0));
+    channel.updatePrecisePosition(new Triple(10, 0, 0));
+    channel.updatePrecisePosition(new Triple(20, 0, 0));
+
+    verify(vehicleService).updateVehiclePrecisePosition(vehicle.getReference(),
+                                                        new Triple(0, 0, 0));
+    verify(vehicleService, never()).updateVehiclePrecisePosition(vehicle.getReference(),
+                                                                 new Triple(10, 0, 0));
+
+    ArgumentCaptor<Runnable> updateCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(executor, times(1))
+        .schedule(updateCaptor.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+    updateCaptor.getValue().run();
+
+    verify(vehicleService, never()).updateVehiclePrecisePosition(vehicle.getReference(),
+                                                                 new Triple(10, 0, 0));
+    verify(vehicleService).updateVehiclePrecisePosition(vehicle.getReference(),
+                                                        new Triple(20, 0, 0));
+  }
+
+  @Test
+  public void applyChangesExceedingThresholdsImmediately() {
+    when(configuration.telemetryUpdateInterval()).thenReturn(100L);
+    when(configuration.telemetryDistanceThreshold()).thenReturn(500L);
+    when(configuration.telemetryAngleThreshold()).thenReturn(10.0);
+
+    channel.updatePrecisePosition(new Triple(0, 0, 0));
+    channel.updateOrientationAngle(0.0);
+    channel.updatePrecisePosition(new Triple(300, 400, 0));
+    channel.updateOrientationAngle(355.0);
+    channel.updateOrientationAngle(-10.0);
+
+    verify(vehicleService).updateVehiclePrecisePosition(vehicle.getReference(),
+                                                        new Triple(300, 400, 0));
+    verify(vehicleService, never()).updateVehicleOrientationAngle(vehicle.getReference(), 355.0);
+    verify(vehicleService).updateVehicleOrientationAngle(vehicle.getReference(), -10.0);
+  }
+
+  @Test
+  public void applyNothingAfterTermination() {
+    when(configuration.telemetryUpdateInterval()).thenReturn(100L);
+
+    channel.updateOrientationAngle(0.0);
+    channel.updateOrientationAngle(1.0);
+
+    ArgumentCaptor<Runnable> updateCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(executor).schedule(updateCaptor.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+
+    channel.terminate();
+    updateCaptor.getValue().run();
+    channel.updateOrientationAngle(2.0);
+
+    verify(vehicleService, times(1)).updateVehicleOrientationAngle(eq(vehicle.getReference()),
+                                                                   anyDouble());
+  }
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.workingset;
+
+import java.time.Instant;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Point;
+
+/**
+ * Unit tests for {@link CreationTimeIndex}.
+ *
+ * @author agent
+ */
+public class CreationTimeIndexTest {
+
+  private CreationTimeIndex<Point> index;
+
+  private TCSObjectReference<Point> ref1;
+
+  private TCSObjectReference<Point> ref2;
+
+  private TCSObjectReference<Point> ref3;
+
+  @BeforeEach
+  public void setUp() {
+    index = new CreationTimeIndex<>();
+    ref1 = new Point("point1").getReference();
+    ref2 = new Point("point2").getReference();
+    ref3 = new Point("point3").getReference();
+  }
+
+  @Test
+  public void returnReferencesNotAfterThresholdOrderedByTime() {
+    index.add(ref3, Instant.ofEpochMilli(3000));
+    index.add(ref1, Instant.ofEpochMilli(1000));
+    index.add(ref2, Instant.ofEpochMilli(2000));
+
+    assertThat(index.getReferencesNotAfter(Instant.ofEpochMilli(999)), is(empty()));
+    assertThat(index.getReferencesNotAfter(Instant.ofEpochMilli(2000)), contains(ref1, ref2));
+    assertThat(index.getReferencesNotAfter(Instant.ofEpochMilli(5000)),
+               contains(ref1, ref2, ref3));
+  }
+
+  @Test
+  public void keepReferencesWithSameTime() {
+    index.add(ref2, Instant.ofEpochMilli(1000));
+    index.add(ref1, Instant.ofEpochMilli(1000));
+
+    assertThat(index.size(), is(2));
+    assertThat(index.getReferencesNotAfter(Instant.ofEpochMilli(1000)), contains(ref1, ref2));
+  }
+
+  @Test
+  public void replaceEntryWhenAddingReferenceAgain() {
+    index.add(ref1, Instant.ofEpochMilli(1000));
+    index.add(ref2, Instant.ofEpochMilli(2000));
+    index.add(ref1, Instant.ofEpochMilli(3000));
+
+    assertThat(index.size(), is(2));
+    assertThat(index.getReferencesNotAfter(Instant.ofEpochMilli(5000)), contains(ref2, ref1));
+  }
+
+  @Test
+  public void removeReferences() {
+    index.add(ref1, Instant.ofEpochMilli(1000));
+    index.add(ref2, Instant.ofEpochMilli(2000));
+
+    index.remove(ref1);
+    assertThat(index.getReferencesNotAfter(Instant.ofEpochMilli(5000)), contains(ref2));
+
+    index.clear();
+    assertThat(index.size(), is(0));
+    assertThat(index.getReferencesNotAfter(Instant.ofEpochMilli(5000)), is(empty()));
+  }
+}
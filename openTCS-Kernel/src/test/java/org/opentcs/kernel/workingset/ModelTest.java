@@ -11,15 +11,24 @@
  */
 package org.opentcs.kernel.workingset;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 import org.junit.*;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import org.opentcs.access.to.model.BlockCreationTO;
 import org.opentcs.access.to.model.PathCreationTO;
 import org.opentcs.access.to.model.PointCreationTO;
 import org.opentcs.data.ObjectUnknownException;
+import org.opentcs.data.model.Block;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
 import org.opentcs.util.event.SimpleEventBus;
@@ -88,4 +97,42 @@ public class ModelTest {
     assertTrue("globalPool is not empty after removing all objects",
                globalPool.isEmpty());
   }
+
+  @Test
+  public void expandResourcesToBlockMembers() {
+    Point pointA = model.createPoint(new PointCreationTO("A"));
+    Point pointB = model.createPoint(new PointCreationTO("B"));
+    Point pointC = model.createPoint(new PointCreationTO("C"));
+    Point pointD = model.createPoint(new PointCreationTO("D"));
+    Block blockAB = model.createBlock(
+        new BlockCreationTO("blockAB").withMemberNames(new HashSet<>(Arrays.asList("A", "B")))
+    );
+    Block blockBC = model.createBlock(
+        new BlockCreationTO("blockBC").withMemberNames(new HashSet<>(Arrays.asList("B", "C")))
+    );
+
+    assertThat(model.getBlocksContaining(pointA.getReference()), contains(blockAB));
+    assertThat(model.getBlocksContaining(pointB.getReference()),
+               containsInAnyOrder(blockAB, blockBC));
+    assertThat(model.getBlocksContaining(pointD.getReference()), is(empty()));
+
+    assertThat(model.expandResources(Collections.singleton(pointA.getReference())),
+               containsInAnyOrder(pointA, pointB));
+    assertThat(model.expandResources(Collections.singleton(pointB.getReference())),
+               containsInAnyOrder(pointA, pointB, pointC));
+    assertThat(model.expandResources(Collections.singleton(pointD.getReference())),
+               contains(pointD));
+  }
+
+  @Test
+  public void forgetBlockMembershipsWhenCleared() {
+    Point pointA = model.createPoint(new PointCreationTO("A"));
+    model.createBlock(
+        new BlockCreationTO("block").withMemberNames(Collections.singleton("A"))
+    );
+
+    model.clear();
+
+    assertThat(model.getBlocksContaining(pointA.getReference()), is(empty()));
+  }
 }
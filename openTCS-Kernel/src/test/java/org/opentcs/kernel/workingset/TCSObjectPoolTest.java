@@ -21,6 +21,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import org.opentcs.data.ObjectExistsException;
+import org.opentcs.data.TCSObject;
 import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
@@ -168,6 +169,53 @@ public class TCSObjectPoolTest {
     assertNull(pool.getObjectOrNull("Point-00002"));
   }
 
+  @Test
+  public void shouldReturnReplacedObjectsByClass() {
+    Point point1 = new Point("Point-00001");
+    pool.addObject(point1);
+    Point point1Modified = pool.replaceObject(point1.withProperty("key", "value"));
+
+    Set<Point> points = pool.getObjects(Point.class);
+
+    assertEquals(1, points.size());
+    assertEquals("value", points.iterator().next().getProperty("key"));
+    assertEquals(1, pool.getObjects(Point.class, point -> point == point1Modified).size());
+  }
+
+  @Test
+  public void shouldNotReturnRemovedObjectsByClass() {
+    Point point1 = new Point("Point-00001");
+    pool.addObject(point1);
+    Point point2 = new Point("Point-00002");
+    pool.addObject(point2);
+    Path path1 = new Path("Path-00001", point1.getReference(), point2.getReference());
+    pool.addObject(path1);
+
+    pool.removeObject(point1.getReference());
+    Set<String> names = new HashSet<>();
+    names.add("Path-00001");
+    pool.removeObjects(names);
+
+    assertEquals(1, pool.getObjects(Point.class).size());
+    assertTrue(pool.getObjects(Point.class).contains(point2));
+    assertTrue(pool.getObjects(Path.class).isEmpty());
+    assertEquals(1, pool.size(Point.class));
+    assertEquals(0, pool.size(Path.class));
+  }
+
+  @Test
+  public void shouldReturnObjectsBySupertype() {
+    Point point1 = new Point("Point-00001");
+    pool.addObject(point1);
+    Point point2 = new Point("Point-00002");
+    pool.addObject(point2);
+    Path path1 = new Path("Path-00001", point1.getReference(), point2.getReference());
+    pool.addObject(path1);
+
+    assertEquals(3, pool.size(TCSObject.class));
+    assertEquals(3, pool.getObjects((Pattern) null).size());
+  }
+
   @Test
   public void shouldEmitEventForCreatedObject() {
     EventBus eventBus = new SimpleEventBus();
@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.workingset;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.access.to.order.DestinationCreationTO;
+import org.opentcs.access.to.order.TransportOrderCreationTO;
+import org.opentcs.data.ObjectExistsException;
+import org.opentcs.data.ObjectUnknownException;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.event.SimpleEventBus;
+
+/**
+ * Unit tests for {@link TransportOrderPool}.
+ *
+ * @author agent
+ */
+public class TransportOrderPoolTest {
+
+  private TCSObjectPool objectPool;
+
+  private TransportOrderPool orderPool;
+
+  @BeforeEach
+  public void setUp() {
+    objectPool = new TCSObjectPool(new SimpleEventBus());
+    objectPool.addObject(new Point("Point-01"));
+    orderPool = new TransportOrderPool(objectPool, to -> to.getName() + "-generated");
+  }
+
+  @Test
+  public void createBatchOfTransportOrders() {
+    List<TransportOrder> orders = orderPool.createTransportOrders(Arrays.asList(
+        createTO("TOrder-01"),
+        createTO("TOrder-02").withDependencyNames(new HashSet<>(Arrays.asList("TOrder-01")))
+    ));
+
+    assertThat(orders.stream().map(order -> order.getName()).toArray(),
+               is(new Object[]{"TOrder-01", "TOrder-02"}));
+    assertThat(orders.get(1).getDependencies(), contains(orders.get(0).getReference()));
+    assertThat(objectPool.getObjectOrNull(TransportOrder.class, "TOrder-02"), is(orders.get(1)));
+  }
+
+  @Test
+  public void createNoneOfBatchIfAnyTransportOrderIsInvalid() {
+    assertThrows(ObjectUnknownException.class,
+                 () -> orderPool.createTransportOrders(Arrays.asList(
+                     createTO("TOrder-01"),
+                     new TransportOrderCreationTO(
+                         "TOrder-02",
+                         Arrays.asList(new DestinationCreationTO("Unknown", "NOP"))
+                     )
+                 )));
+
+    assertThat(objectPool.getObjects(TransportOrder.class), is(empty()));
+  }
+
+  @Test
+  public void createNoneOfBatchWithDuplicateNames() {
+    assertThrows(ObjectExistsException.class,
+                 () -> orderPool.createTransportOrders(Arrays.asList(createTO("TOrder-01"),
+                                                                     createTO("TOrder-01"))));
+
+    assertThat(objectPool.getObjects(TransportOrder.class), is(empty()));
+  }
+
+  private TransportOrderCreationTO createTO(String name) {
+    return new TransportOrderCreationTO(name,
+                                        Arrays.asList(new DestinationCreationTO("Point-01",
+                                                                                "MOVE")));
+  }
+}
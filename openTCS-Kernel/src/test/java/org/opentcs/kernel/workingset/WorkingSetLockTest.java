@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.workingset;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.common.QueuedEventBus;
+import org.opentcs.util.event.EventHandler;
+
+/**
+ * Unit tests for {@link WorkingSetLock}.
+ *
+ * @author agent
+ */
+public class WorkingSetLockTest {
+
+  private WorkingSetLock workingSetLock;
+
+  @BeforeEach
+  public void setUp() {
+    workingSetLock = new WorkingSetLock(new Object());
+  }
+
+  @Test
+  public void executeReadAndWriteAccesses() {
+    assertEquals("read", workingSetLock.read(() -> "read"));
+    assertEquals("written", workingSetLock.write(() -> workingSetLock.read(() -> "written")));
+  }
+
+  @Test
+  public void rejectWriteAccessFromAsynchronousEventHandler()
+      throws Exception {
+    QueuedEventBus eventBus = new QueuedEventBus("testEventBus", 10);
+    CountDownLatch received = new CountDownLatch(1);
+    AtomicReference<Exception> exception = new AtomicReference<>();
+    EventHandler handler = event -> {
+      try {
+        workingSetLock.write(() -> {
+        });
+      }
+      catch (IllegalStateException exc) {
+        exception.set(exc);
+      }
+      received.countDown();
+    };
+    eventBus.subscribe(handler);
+
+    try {
+      eventBus.onEvent("event");
+
+      assertTrue(received.await(5, TimeUnit.SECONDS));
+      assertTrue(exception.get() instanceof IllegalStateException);
+    }
+    finally {
+      eventBus.unsubscribe(handler);
+    }
+  }
+}
@@ -10,6 +10,8 @@ package org.opentcs.kernelcontrolcenter;
 import com.google.inject.TypeLiteral;
 import com.google.inject.assistedinject.FactoryModuleBuilder;
 import java.io.File;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import javax.inject.Singleton;
@@ -30,6 +32,8 @@ import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.customizations.ApplicationHome;
 import org.opentcs.customizations.ConfigurableInjectionModule;
 import org.opentcs.customizations.ServiceCallWrapper;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.Vehicle;
 import org.opentcs.kernelcontrolcenter.exchange.DefaultServiceCallWrapper;
 import org.opentcs.kernelcontrolcenter.exchange.SslConfiguration;
 import org.opentcs.kernelcontrolcenter.util.KernelControlCenterConfiguration;
@@ -104,7 +108,7 @@ public class DefaultKernelControlCenterInjectionModule
     bind(KernelControlCenterConfiguration.class)
         .toInstance(configuration);
     configureKernelControlCenter(configuration);
-    configureSocketConnections();
+    configureSocketConnections(configuration);
 
     bind(CallWrapper.class)
         .annotatedWith(ServiceCallWrapper.class)
@@ -116,7 +120,7 @@ public class DefaultKernelControlCenterInjectionModule
         .toInstance(configuration.connectionBookmarks());
   }
 
-  private void configureSocketConnections() {
+  private void configureSocketConnections(KernelControlCenterConfiguration configuration) {
     SslConfiguration sslConfiguration = getConfigBindingProvider().get(SslConfiguration.PREFIX,
                                                                        SslConfiguration.class);
 
@@ -138,11 +142,16 @@ public class DefaultKernelControlCenterInjectionModule
     }
 
     //Bind socket provider to the kernel portal
+    KernelServicePortalBuilder portalBuilder
+        = new KernelServicePortalBuilder(GuestUserCredentials.USER, GuestUserCredentials.PASSWORD)
+            .setSocketFactoryProvider(socketFactoryProvider);
+    if (configuration.replicateKernelObjects()) {
+      portalBuilder.setReplicatedObjectClasses(
+          new HashSet<>(Arrays.asList(Vehicle.class, Location.class))
+      );
+    }
     bind(KernelServicePortal.class)
-        .toInstance(new KernelServicePortalBuilder(GuestUserCredentials.USER,
-                                                   GuestUserCredentials.PASSWORD)
-            .setSocketFactoryProvider(socketFactoryProvider)
-            .build());
+        .toInstance(portalBuilder.build());
   }
 
   private void configureKernelControlCenter(KernelControlCenterConfiguration configuration) {
@@ -58,4 +58,13 @@ public interface KernelControlCenterConfiguration {
       description = "Whether to enable and show the panel for peripheral drivers.",
       orderKey = "9_misc_1")
   boolean enablePeripheralsPanel();
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {"Whether to keep a local replica of the kernel's vehicles and locations.",
+                     "If 'true', queries for these objects are answered from the replica, which is "
+                     + "kept up to date with the events fetched from the kernel.",
+                     "If 'false', all queries are sent to the kernel."},
+      orderKey = "9_misc_2")
+  boolean replicateKernelObjects();
 }
@@ -32,9 +32,11 @@ import org.opentcs.data.notification.UserNotification;
 import org.opentcs.drivers.vehicle.VehicleProcessModel;
 import org.opentcs.drivers.vehicle.management.AttachmentEvent;
 import org.opentcs.drivers.vehicle.management.AttachmentInformation;
+import org.opentcs.drivers.vehicle.management.ProcessModelDeltaEvent;
 import org.opentcs.drivers.vehicle.management.ProcessModelEvent;
 import org.opentcs.drivers.vehicle.management.VehicleCommAdapterPanel;
 import org.opentcs.drivers.vehicle.management.VehicleCommAdapterPanelFactory;
+import org.opentcs.drivers.vehicle.management.VehicleProcessModelTO;
 import org.opentcs.util.CallWrapper;
 import org.opentcs.util.event.EventHandler;
 import org.opentcs.util.event.EventSource;
@@ -195,6 +197,21 @@ public class DetailPanel
                                                                   event.getUpdatedProcessModel()));
       }
     }
+    if (e instanceof ProcessModelDeltaEvent) {
+      ProcessModelDeltaEvent event = (ProcessModelDeltaEvent) e;
+      if (Objects.equals(vehicleEntry.getVehicleName(), event.getVehicleName())) {
+        // Applying the changes is idempotent, so it doesn't matter whether the vehicle entry pool
+        // has already done it.
+        VehicleProcessModelTO processModel = event.applyTo(vehicleEntry.getProcessModel());
+        for (String attributeChanged : event.getChangedAttributes().keySet()) {
+          updateFromVehicleProcessModel(attributeChanged, processModel);
+
+          // Forward the change to the comm adapter panels
+          customPanelList.forEach(panel -> panel.processModelChange(attributeChanged,
+                                                                    processModel));
+        }
+      }
+    }
   }
 
   /**
@@ -265,18 +282,24 @@ public class DetailPanel
   }
 
   private void updateFromVehicleProcessModel(ProcessModelEvent evt) {
-    if (Objects.equals(evt.getAttributeChanged(), VehicleProcessModel.Attribute.COMM_ADAPTER_ENABLED.name())) {
-      updateCommAdapterEnabled(evt.getUpdatedProcessModel().isCommAdapterEnabled());
+    updateFromVehicleProcessModel(evt.getAttributeChanged(), evt.getUpdatedProcessModel());
+  }
+
+  private void updateFromVehicleProcessModel(String attributeChanged,
+                                             VehicleProcessModelTO processModel) {
+    if (Objects.equals(attributeChanged,
+                       VehicleProcessModel.Attribute.COMM_ADAPTER_ENABLED.name())) {
+      updateCommAdapterEnabled(processModel.isCommAdapterEnabled());
     }
-    else if (Objects.equals(evt.getAttributeChanged(), VehicleProcessModel.Attribute.POSITION.name())) {
-      updateVehiclePosition(evt.getUpdatedProcessModel().getVehiclePosition());
+    else if (Objects.equals(attributeChanged, VehicleProcessModel.Attribute.POSITION.name())) {
+      updateVehiclePosition(processModel.getVehiclePosition());
     }
-    else if (Objects.equals(evt.getAttributeChanged(), VehicleProcessModel.Attribute.STATE.name())) {
-      updateVehicleState(evt.getUpdatedProcessModel().getVehicleState());
+    else if (Objects.equals(attributeChanged, VehicleProcessModel.Attribute.STATE.name())) {
+      updateVehicleState(processModel.getVehicleState());
     }
-    else if (Objects.equals(evt.getAttributeChanged(),
+    else if (Objects.equals(attributeChanged,
                             VehicleProcessModel.Attribute.USER_NOTIFICATION.name())) {
-      updateUserNotification(evt.getUpdatedProcessModel().getNotifications());
+      updateUserNotification(processModel.getNotifications());
     }
   }
 
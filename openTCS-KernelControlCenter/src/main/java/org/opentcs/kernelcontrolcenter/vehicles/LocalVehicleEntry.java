@@ -13,6 +13,7 @@ import static java.util.Objects.requireNonNull;
 import javax.annotation.Nonnull;
 import org.opentcs.drivers.vehicle.VehicleCommAdapterDescription;
 import org.opentcs.drivers.vehicle.management.AttachmentInformation;
+import org.opentcs.drivers.vehicle.management.ProcessModelDeltaEvent;
 import org.opentcs.drivers.vehicle.management.VehicleProcessModelTO;
 
 /**
@@ -94,6 +95,25 @@ public class LocalVehicleEntry {
                            processModel);
   }
 
+  /**
+   * Applies the changes of the given event to the current process model.
+   * <p>
+   * As the process model is modified in place, listeners are notified with an old value of
+   * {@code null}.
+   * </p>
+   *
+   * @param event The event containing the changes.
+   */
+  public void applyProcessModelChanges(@Nonnull ProcessModelDeltaEvent event) {
+    requireNonNull(event, "event");
+
+    event.applyTo(processModel);
+
+    pcs.firePropertyChange(Attribute.PROCESS_MODEL.name(),
+                           null,
+                           processModel);
+  }
+
   /**
    * Enum elements used as notification arguments to specify which argument changed.
    */
@@ -14,13 +14,16 @@ import java.util.TreeMap;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
+import org.opentcs.access.EventBufferOverflowEvent;
 import org.opentcs.access.KernelServicePortal;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.customizations.ServiceCallWrapper;
+import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.drivers.vehicle.management.AttachmentEvent;
 import org.opentcs.drivers.vehicle.management.AttachmentInformation;
+import org.opentcs.drivers.vehicle.management.ProcessModelDeltaEvent;
 import org.opentcs.drivers.vehicle.management.ProcessModelEvent;
 import org.opentcs.drivers.vehicle.management.VehicleProcessModelTO;
 import org.opentcs.util.CallWrapper;
@@ -139,6 +142,14 @@ public class LocalVehicleEntryPool
       }
       entry.setProcessModel(e.getUpdatedProcessModel());
     }
+    else if (event instanceof ProcessModelDeltaEvent) {
+      ProcessModelDeltaEvent e = (ProcessModelDeltaEvent) event;
+      LocalVehicleEntry entry = getEntryFor(e.getVehicleName());
+      if (entry == null) {
+        return;
+      }
+      entry.applyProcessModelChanges(e);
+    }
     else if (event instanceof AttachmentEvent) {
       AttachmentEvent e = (AttachmentEvent) event;
       LocalVehicleEntry entry = getEntryFor(e.getVehicleName());
@@ -147,6 +158,29 @@ public class LocalVehicleEntryPool
       }
       entry.setAttachmentInformation(e.getUpdatedAttachmentInformation());
     }
+    else if (event instanceof EventBufferOverflowEvent) {
+      resynchronizeEntries();
+    }
+  }
+
+  private void resynchronizeEntries() {
+    LOG.info("Events from the kernel have been discarded, retrieving vehicle data again.");
+    for (LocalVehicleEntry entry : entries.values()) {
+      TCSObjectReference<Vehicle> vehicleRef
+          = entry.getAttachmentInformation().getVehicleReference();
+      try {
+        entry.setAttachmentInformation(
+            callWrapper.call(() -> servicePortal.getVehicleService()
+                .fetchAttachmentInformation(vehicleRef))
+        );
+        entry.setProcessModel(
+            callWrapper.call(() -> servicePortal.getVehicleService().fetchProcessModel(vehicleRef))
+        );
+      }
+      catch (Exception ex) {
+        LOG.warn("Error retrieving data for vehicle {}", vehicleRef.getName(), ex);
+      }
+    }
   }
 
   @Nonnull
@@ -279,6 +279,10 @@ public class VehicleTableModel
                        LocalVehicleEntry.Attribute.PROCESS_MODEL.name())) {
       VehicleProcessModelTO oldTo = (VehicleProcessModelTO) evt.getOldValue();
       VehicleProcessModelTO newTo = (VehicleProcessModelTO) evt.getNewValue();
+      if (oldTo == null) {
+        // The process model was modified in place, so we cannot tell what changed.
+        return true;
+      }
       return oldTo.isCommAdapterEnabled() != newTo.isCommAdapterEnabled()
           || oldTo.getVehicleState() != newTo.getVehicleState()
           || !Objects.equals(oldTo.getVehiclePosition(), newTo.getVehiclePosition());
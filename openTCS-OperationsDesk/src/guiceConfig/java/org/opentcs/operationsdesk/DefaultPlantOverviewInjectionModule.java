@@ -9,6 +9,8 @@ package org.opentcs.operationsdesk;
 
 import com.google.inject.TypeLiteral;
 import java.io.File;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import javax.inject.Singleton;
@@ -26,6 +28,15 @@ import org.opentcs.components.plantoverview.LocationTheme;
 import org.opentcs.components.plantoverview.VehicleTheme;
 import org.opentcs.customizations.ApplicationHome;
 import org.opentcs.customizations.plantoverview.PlantOverviewInjectionModule;
+import org.opentcs.data.model.Block;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.LocationType;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.drivers.LowLevelCommunicationEvent;
 import org.opentcs.guing.common.exchange.SslConfiguration;
 import org.opentcs.guing.common.util.PlantOverviewApplicationConfiguration;
@@ -93,14 +104,15 @@ public class DefaultPlantOverviewInjectionModule
         .toInstance(configuration);
     configurePlantOverview(configuration);
     configureThemes(configuration);
-    configureSocketConnections();
+    configureSocketConnections(configuration);
 
     bind(new TypeLiteral<List<ConnectionParamSet>>() {
     })
         .toInstance(baseConfiguration.connectionBookmarks());
   }
 
-  private void configureSocketConnections() {
+  private void configureSocketConnections(
+      PlantOverviewOperatingApplicationConfiguration configuration) {
     SslConfiguration sslConfiguration = getConfigBindingProvider().get(SslConfiguration.PREFIX,
                                                                        SslConfiguration.class);
 
@@ -122,12 +134,25 @@ public class DefaultPlantOverviewInjectionModule
     }
 
     //Bind socket provider to the kernel portal
-    bind(KernelServicePortal.class)
-        .toInstance(new KernelServicePortalBuilder(GuestUserCredentials.USER,
-                                                   GuestUserCredentials.PASSWORD)
+    KernelServicePortalBuilder portalBuilder
+        = new KernelServicePortalBuilder(GuestUserCredentials.USER, GuestUserCredentials.PASSWORD)
             .setSocketFactoryProvider(socketFactoryProvider)
-            .setEventFilter(new ClassMatcher(LowLevelCommunicationEvent.class).negate())
-            .build());
+            .setEventFilter(new ClassMatcher(LowLevelCommunicationEvent.class).negate());
+    if (configuration.replicateKernelObjects()) {
+      portalBuilder.setReplicatedObjectClasses(
+          new HashSet<>(Arrays.asList(Point.class,
+                                      Path.class,
+                                      Location.class,
+                                      LocationType.class,
+                                      Block.class,
+                                      Vehicle.class,
+                                      TransportOrder.class,
+                                      OrderSequence.class,
+                                      PeripheralJob.class))
+      );
+    }
+    bind(KernelServicePortal.class)
+        .toInstance(portalBuilder.build());
   }
 
   private void configureThemes(PlantOverviewOperatingApplicationConfiguration configuration) {
@@ -15,6 +15,7 @@ import org.opentcs.guing.common.components.drawing.DrawingOptions;
 import org.opentcs.guing.common.components.drawing.OpenTCSDrawingEditor;
 import org.opentcs.guing.common.components.drawing.OpenTCSDrawingView;
 import org.opentcs.guing.common.util.CourseObjectFactory;
+import org.opentcs.operationsdesk.components.drawing.figures.VehicleFigureChangeScheduler;
 import org.opentcs.operationsdesk.components.drawing.figures.VehicleFigureFactory;
 import org.opentcs.operationsdesk.util.VehicleCourseObjectFactory;
 import org.opentcs.thirdparty.operationsdesk.components.drawing.OpenTCSDrawingViewOperating;
@@ -30,6 +31,7 @@ public class DrawingInjectionModule
   @Override
   protected void configure() {
     install(new FactoryModuleBuilder().build(VehicleFigureFactory.class));
+    bind(VehicleFigureChangeScheduler.class).in(Singleton.class);
     bind(CourseObjectFactory.class).to(VehicleCourseObjectFactory.class);
 
     bind(OpenTCSDrawingEditorOperating.class).in(Singleton.class);
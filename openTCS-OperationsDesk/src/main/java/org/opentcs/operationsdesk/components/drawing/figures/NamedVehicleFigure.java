@@ -40,14 +40,16 @@ public class NamedVehicleFigure
                             @Assisted VehicleModel model,
                             ToolTipTextGenerator textGenerator,
                             ModelManager modelManager,
-                            ApplicationState applicationState) {
+                            ApplicationState applicationState,
+                            VehicleFigureChangeScheduler changeScheduler) {
     super(vehicleTheme,
           menuFactory,
           appConfig,
           model,
           textGenerator,
           modelManager,
-          applicationState);
+          applicationState,
+          changeScheduler);
   }
 
   @Override
@@ -73,25 +75,17 @@ public class NamedVehicleFigure
     }
     else if (precisePosition != null && !isIgnorePrecisePosition()) {
       // If a precise position exists, it is set in setBounds(), so it doesn't need any coordinates.
-      SwingUtilities.invokeLater(() -> {
-        setVisible(true);
-        setBounds(new Point2D.Double(), null);
-      });
-
-      setFigureDetailsChanged(true);
+      SwingUtilities.invokeLater(() -> updateBounds(new Point2D.Double()));
     }
     else if (point != null) {
       SwingUtilities.invokeLater(() -> {
-        setVisible(true);
         Figure pointFigure = getModelManager().getModel().getFigure(point);
         Rectangle2D.Double r = pointFigure.getBounds();
         Point2D.Double pCenter = new Point2D.Double(r.getCenterX(), r.getCenterY());
         // Draw figure in the center of the node.
         // Angle is set in setBounds().
-        setBounds(pCenter, null);
+        updateBounds(pCenter);
       });
-
-      setFigureDetailsChanged(true);
     }
     else {
       SwingUtilities.invokeLater(() -> setVisible(false));
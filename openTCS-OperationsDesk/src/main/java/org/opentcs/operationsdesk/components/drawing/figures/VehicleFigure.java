@@ -25,7 +25,6 @@ import java.util.LinkedList;
 import java.util.Objects;
 import static java.util.Objects.requireNonNull;
 import javax.inject.Inject;
-import javax.swing.SwingUtilities;
 import org.jhotdraw.draw.DrawingView;
 import org.jhotdraw.draw.Figure;
 import org.jhotdraw.draw.handle.Handle;
@@ -102,6 +101,10 @@ public class VehicleFigure
    * The application's current state.
    */
   private final ApplicationState applicationState;
+  /**
+   * Notifies this figure's listeners about changes.
+   */
+  private final VehicleFigureChangeScheduler changeScheduler;
   /**
    * The angle at which the image is to be drawn.
    */
@@ -133,6 +136,7 @@ public class VehicleFigure
    * @param textGenerator The tool tip text generator.
    * @param modelManager The model manager.
    * @param applicationState The application's current state.
+   * @param changeScheduler Notifies this figure's listeners about changes.
    */
   @Inject
   public VehicleFigure(VehicleTheme vehicleTheme,
@@ -141,13 +145,15 @@ public class VehicleFigure
                        @Assisted VehicleModel model,
                        ToolTipTextGenerator textGenerator,
                        ModelManager modelManager,
-                       ApplicationState applicationState) {
+                       ApplicationState applicationState,
+                       VehicleFigureChangeScheduler changeScheduler) {
     super(model);
     this.vehicleTheme = requireNonNull(vehicleTheme, "vehicleTheme");
     this.menuFactory = requireNonNull(menuFactory, "menuFactory");
     this.textGenerator = requireNonNull(textGenerator, "textGenerator");
     this.modelManager = requireNonNull(modelManager, "modelManager");
     this.applicationState = requireNonNull(applicationState, "applicationState");
+    this.changeScheduler = requireNonNull(changeScheduler, "changeScheduler");
 
     fDisplayBox = new Rectangle((int) LENGTH, (int) WIDTH);
     fZoomPoint = new ZoomPoint(0.5 * LENGTH, 0.5 * WIDTH);
@@ -291,6 +297,30 @@ public class VehicleFigure
     updateVehicleOrientation();
   }
 
+  /**
+   * Shows the figure and draws its center at <code>anchor</code> (see
+   * {@link #setBounds(Point2D.Double, Point2D.Double)}).
+   * Schedules a notification of this figure's listeners only if the figure's position,
+   * orientation or visibility actually changed.
+   *
+   * @param anchor Center of the figure
+   */
+  protected void updateBounds(Point2D.Double anchor) {
+    Rectangle oldDisplayBox = new Rectangle(fDisplayBox);
+    double oldAngle = fAngle;
+    boolean oldVisible = isVisible();
+
+    setVisible(true);
+    setBounds(anchor, null);
+
+    if (!fDisplayBox.equals(oldDisplayBox)
+        || Double.compare(fAngle, oldAngle) != 0
+        || isVisible() != oldVisible) {
+      setFigureDetailsChanged(true);
+      scheduleFigureChanged();
+    }
+  }
+
   private void updateVehicleOrientation() {
     VehicleModel model = getModel();
     // orientation:
@@ -475,30 +505,38 @@ public class VehicleFigure
     updateFigureDetails((VehicleModel) e.getModel());
 
     if (isFigureDetailsChanged()) {
-      SwingUtilities.invokeLater(() -> {
-        // Only call if the figure is visible - will cause NPE in BoundsOutlineHandle otherwise.
-        if (isVisible()) {
-          fireFigureChanged();
-        }
-      });
-
-      setFigureDetailsChanged(false);
+      scheduleFigureChanged();
     }
   }
 
+  /**
+   * Schedules a notification of this figure's listeners about a change of the figure details and
+   * resets the corresponding flag.
+   */
+  protected void scheduleFigureChanged() {
+    setFigureDetailsChanged(false);
+    changeScheduler.figureChanged(this);
+  }
+
   /**
    * Updates the figure details based on the given vehicle model.
    * <p>
    * If figure details do change, call {@link #setFigureDetailsChanged(boolean)} to set the
    * corresponding flag to {@code true}.
+   * Figure details that are only updated later on the event dispatch thread should schedule the
+   * notification themselves, e.g. via {@link #updateBounds(Point2D.Double)}, and only if they
+   * actually changed.
    * When overriding this method, always remember to call the super-implementation.
    * </p>
    *
    * @param model The updated vehicle model.
    */
   protected void updateFigureDetails(VehicleModel model) {
-    fImage = getVehicleTheme().statefulImage(model.getVehicle());
-    setFigureDetailsChanged(true);
+    Image image = getVehicleTheme().statefulImage(model.getVehicle());
+    if (!Objects.equals(image, fImage)) {
+      fImage = image;
+      setFigureDetailsChanged(true);
+    }
   }
 
   @Override
@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.operationsdesk.components.drawing.figures;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import org.opentcs.operationsdesk.util.PlantOverviewOperatingApplicationConfiguration;
+
+/**
+ * Collects vehicle figures whose visual representation changed and notifies their listeners (i.e.
+ * the drawing and its views) about the changes.
+ * <p>
+ * If a maximum frame rate is configured, changed figures are collected in a set of dirty figures
+ * which is flushed at most once per frame.
+ * As all figures are flushed within the same event on the event dispatch thread, the repaint
+ * requests for their areas are merged into a single repaint of the union of these areas.
+ * Without a maximum frame rate, every change is flushed on its own, as soon as possible.
+ * </p>
+ *
+ * @author agent
+ */
+public class VehicleFigureChangeScheduler {
+
+  /**
+   * The figures that changed since the last flush.
+   */
+  private final Set<VehicleFigure> dirtyFigures = new LinkedHashSet<>();
+  /**
+   * Triggers the flush of the dirty figures, or {@code null}, if changes are flushed immediately.
+   */
+  private final Timer flushTimer;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param appConfig The application's configuration.
+   */
+  @Inject
+  public VehicleFigureChangeScheduler(PlantOverviewOperatingApplicationConfiguration appConfig) {
+    this(requireNonNull(appConfig, "appConfig").vehicleFigureMaxFrameRate());
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param maxFrameRate The maximum number of flushes per second, or a value less than or equal to
+   * 0 to flush every change immediately.
+   */
+  public VehicleFigureChangeScheduler(int maxFrameRate) {
+    if (maxFrameRate > 0) {
+      flushTimer = new Timer(Math.max(1, 1000 / maxFrameRate), evt -> flush());
+      flushTimer.setRepeats(false);
+    }
+    else {
+      flushTimer = null;
+    }
+  }
+
+  /**
+   * Marks the given figure as changed.
+   * The figure's listeners will be notified with the next flush.
+   * <p>
+   * This method may be called from any thread.
+   * </p>
+   *
+   * @param figure The figure.
+   */
+  public void figureChanged(@Nonnull VehicleFigure figure) {
+    requireNonNull(figure, "figure");
+
+    boolean flushPending;
+    synchronized (dirtyFigures) {
+      flushPending = !dirtyFigures.isEmpty();
+      dirtyFigures.add(figure);
+    }
+
+    if (flushPending) {
+      return;
+    }
+
+    if (flushTimer == null) {
+      SwingUtilities.invokeLater(() -> flush());
+    }
+    else {
+      flushTimer.start();
+    }
+  }
+
+  /**
+   * Notifies the listeners of all dirty figures about their changes.
+   * <p>
+   * This method is expected to be called on the event dispatch thread.
+   * </p>
+   */
+  void flush() {
+    List<VehicleFigure> figures;
+    synchronized (dirtyFigures) {
+      figures = new ArrayList<>(dirtyFigures);
+      dirtyFigures.clear();
+    }
+
+    for (VehicleFigure figure : figures) {
+      // Only call if the figure is visible - will cause NPE in BoundsOutlineHandle otherwise.
+      if (figure.isVisible()) {
+        figure.fireFigureChanged();
+      }
+    }
+  }
+}
@@ -9,6 +9,7 @@ package org.opentcs.operationsdesk.exchange;
 
 import static java.util.Objects.requireNonNull;
 import javax.inject.Inject;
+import org.opentcs.access.EventBufferOverflowEvent;
 import org.opentcs.access.Kernel;
 import org.opentcs.access.KernelStateTransitionEvent;
 import org.opentcs.access.NotificationPublicationEvent;
@@ -16,10 +17,17 @@ import org.opentcs.access.SharedKernelServicePortal;
 import org.opentcs.access.SharedKernelServicePortalProvider;
 import org.opentcs.common.ClientConnectionMode;
 import org.opentcs.components.Lifecycle;
+import org.opentcs.components.kernel.services.PlantModelService;
 import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.data.TCSObject;
 import org.opentcs.data.TCSObjectEvent;
 import static org.opentcs.data.TCSObjectEvent.Type.OBJECT_MODIFIED;
+import org.opentcs.data.model.Block;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.LocationType;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.guing.base.model.ModelComponent;
@@ -174,6 +182,9 @@ public class OpenTCSEventDispatcher
             KernelStateChangeEvent.convertKernelState(kse.getEnteredState())));
       }
     }
+    else if (event instanceof EventBufferOverflowEvent) {
+      resynchronizeModelComponents();
+    }
     else if (event instanceof NotificationPublicationEvent) {
       messageDisplay.display(((NotificationPublicationEvent) event).getNotification());
     }
@@ -211,6 +222,21 @@ public class OpenTCSEventDispatcher
     }
   }
 
+  private void resynchronizeModelComponents() {
+    if (sharedPortal == null) {
+      return;
+    }
+
+    LOG.info("Events from the kernel have been discarded, retrieving the model's objects again.");
+    PlantModelService plantModelService = sharedPortal.getPortal().getPlantModelService();
+    plantModelService.fetchObjects(Point.class).forEach(this::processObjectModifiedEvent);
+    plantModelService.fetchObjects(Path.class).forEach(this::processObjectModifiedEvent);
+    plantModelService.fetchObjects(LocationType.class).forEach(this::processObjectModifiedEvent);
+    plantModelService.fetchObjects(Location.class).forEach(this::processObjectModifiedEvent);
+    plantModelService.fetchObjects(Block.class).forEach(this::processObjectModifiedEvent);
+    plantModelService.fetchObjects(Vehicle.class).forEach(this::processObjectModifiedEvent);
+  }
+
   private void processObjectModifiedEvent(TCSObject<?> tcsObject) {
     if (tcsObject instanceof TransportOrder
         || tcsObject instanceof OrderSequence) {
@@ -14,6 +14,7 @@ import java.util.Map;
 import static java.util.Objects.requireNonNull;
 import java.util.Set;
 import javax.inject.Inject;
+import org.opentcs.access.EventBufferOverflowEvent;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.SharedKernelServicePortal;
 import org.opentcs.access.SharedKernelServicePortalProvider;
@@ -117,6 +118,9 @@ public class PeripheralJobsContainer
     else if (event instanceof KernelStateChangeEvent) {
       initJobs();
     }
+    else if (event instanceof EventBufferOverflowEvent) {
+      initJobs();
+    }
   }
 
   public void addListener(PeripheralJobsContainerListener listener) {
@@ -16,6 +16,7 @@ import java.util.Optional;
 import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
+import org.opentcs.access.EventBufferOverflowEvent;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.SharedKernelServicePortal;
 import org.opentcs.access.SharedKernelServicePortalProvider;
@@ -119,6 +120,9 @@ public class TransportOrdersContainer
     else if (event instanceof KernelStateChangeEvent) {
       initOrders();
     }
+    else if (event instanceof EventBufferOverflowEvent) {
+      initOrders();
+    }
   }
 
   public void addListener(TransportOrderContainerListener listener) {
@@ -14,6 +14,7 @@ import java.util.Map;
 import static java.util.Objects.requireNonNull;
 import java.util.Set;
 import javax.inject.Inject;
+import org.opentcs.access.EventBufferOverflowEvent;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.SharedKernelServicePortal;
 import org.opentcs.access.SharedKernelServicePortalProvider;
@@ -109,6 +110,9 @@ public class OrderSequencesContainer
     else if (event instanceof KernelStateChangeEvent) {
       initSequences();
     }
+    else if (event instanceof EventBufferOverflowEvent) {
+      initSequences();
+    }
   }
 
   private void initSequences() {
@@ -92,9 +92,32 @@ public interface PlantOverviewOperatingApplicationConfiguration {
       orderKey = "4_behaviour_1")
   boolean ignoreVehicleOrientationAngle();
 
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+        "The maximum number of times per second changed vehicle figures are repainted.",
+        "If greater than 0, changes of vehicle figures are collected and repainted together, at "
+        + "most at this rate.",
+        "If less than or equal to 0, every change of a vehicle figure is repainted on its own."
+      },
+      orderKey = "4_behaviour_2")
+  int vehicleFigureMaxFrameRate();
+
   @ConfigurationEntry(
       type = "Boolean",
       description = "Whether to enable and show the panel for peripheral jobs.",
       orderKey = "9_misc")
   boolean enablePeripheralJobsPanel();
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+        "Whether to keep a local replica of the kernel's plant model elements, vehicles, transport "
+        + "orders, order sequences and peripheral jobs.",
+        "If 'true', queries for these objects are answered from the replica, which is kept up to "
+        + "date with the events fetched from the kernel.",
+        "If 'false', all queries are sent to the kernel."
+      },
+      orderKey = "9_misc_1")
+  boolean replicateKernelObjects();
 }
@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.operationsdesk.components.drawing.figures;
+
+import org.junit.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link VehicleFigureChangeScheduler}.
+ *
+ * @author agent
+ */
+public class VehicleFigureChangeSchedulerTest {
+
+  private VehicleFigureChangeScheduler scheduler;
+
+  @Before
+  public void setUp() {
+    // With a frame rate of 1, the timer would not flush before the test does.
+    scheduler = new VehicleFigureChangeScheduler(1);
+  }
+
+  @Test
+  public void coalesceChangesOfFigureIntoSingleNotification() {
+    VehicleFigure figure = createFigure(true);
+
+    for (int i = 0; i < 100; i++) {
+      scheduler.figureChanged(figure);
+    }
+    scheduler.flush();
+
+    verify(figure, times(1)).fireFigureChanged();
+  }
+
+  @Test
+  public void notifyEachChangedFigureOnce() {
+    VehicleFigure figure1 = createFigure(true);
+    VehicleFigure figure2 = createFigure(true);
+
+    scheduler.figureChanged(figure1);
+    scheduler.figureChanged(figure2);
+    scheduler.figureChanged(figure1);
+    scheduler.flush();
+
+    verify(figure1, times(1)).fireFigureChanged();
+    verify(figure2, times(1)).fireFigureChanged();
+  }
+
+  @Test
+  public void skipInvisibleFigures() {
+    VehicleFigure visibleFigure = createFigure(true);
+    VehicleFigure invisibleFigure = createFigure(false);
+
+    scheduler.figureChanged(visibleFigure);
+    scheduler.figureChanged(invisibleFigure);
+    scheduler.flush();
+
+    verify(visibleFigure, times(1)).fireFigureChanged();
+    verify(invisibleFigure, never()).fireFigureChanged();
+  }
+
+  @Test
+  public void notifyOnlyFiguresChangedSinceLastFlush() {
+    VehicleFigure figure1 = createFigure(true);
+    VehicleFigure figure2 = createFigure(true);
+
+    scheduler.figureChanged(figure1);
+    scheduler.flush();
+    scheduler.figureChanged(figure2);
+    scheduler.flush();
+    scheduler.flush();
+
+    verify(figure1, times(1)).fireFigureChanged();
+    verify(figure2, times(1)).fireFigureChanged();
+  }
+
+  private VehicleFigure createFigure(boolean visible) {
+    VehicleFigure figure = mock(VehicleFigure.class);
+    when(figure.isVisible()).thenReturn(visible);
+    return figure;
+  }
+}
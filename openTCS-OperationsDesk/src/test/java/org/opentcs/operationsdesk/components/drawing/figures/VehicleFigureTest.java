@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.operationsdesk.components.drawing.figures;
+
+import java.awt.Image;
+import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
+import org.junit.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.opentcs.components.plantoverview.VehicleTheme;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.guing.base.components.properties.event.AttributesChangeEvent;
+import org.opentcs.guing.base.components.properties.event.AttributesChangeListener;
+import org.opentcs.guing.base.model.elements.VehicleModel;
+import org.opentcs.guing.common.application.ApplicationState;
+import org.opentcs.guing.common.components.drawing.figures.ToolTipTextGenerator;
+import org.opentcs.guing.common.persistence.ModelManager;
+import org.opentcs.operationsdesk.application.menus.MenuFactory;
+import org.opentcs.operationsdesk.util.PlantOverviewOperatingApplicationConfiguration;
+
+/**
+ * Unit tests for {@link VehicleFigure}.
+ *
+ * @author agent
+ */
+public class VehicleFigureTest {
+
+  private VehicleModel model;
+
+  private VehicleTheme vehicleTheme;
+
+  private VehicleFigureChangeScheduler changeScheduler;
+
+  private VehicleFigure figure;
+
+  @Before
+  public void setUp() {
+    model = mock(VehicleModel.class);
+    when(model.getVehicle()).thenReturn(new Vehicle("Vehicle-01"));
+
+    Image image = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+    vehicleTheme = mock(VehicleTheme.class);
+    when(vehicleTheme.statelessImage(any(Vehicle.class))).thenReturn(image);
+    when(vehicleTheme.statefulImage(any(Vehicle.class))).thenReturn(image);
+
+    // Ignore precise position and orientation angle, so the figure is placed at the given anchor.
+    PlantOverviewOperatingApplicationConfiguration appConfig
+        = mock(PlantOverviewOperatingApplicationConfiguration.class);
+    when(appConfig.ignoreVehiclePrecisePosition()).thenReturn(true);
+    when(appConfig.ignoreVehicleOrientationAngle()).thenReturn(true);
+
+    changeScheduler = mock(VehicleFigureChangeScheduler.class);
+
+    figure = new VehicleFigure(vehicleTheme,
+                               mock(MenuFactory.class),
+                               appConfig,
+                               model,
+                               mock(ToolTipTextGenerator.class),
+                               mock(ModelManager.class),
+                               mock(ApplicationState.class),
+                               changeScheduler);
+  }
+
+  @Test
+  public void scheduleChangeWhenBoundsChange() {
+    figure.updateBounds(new Point2D.Double(100, 100));
+    figure.updateBounds(new Point2D.Double(200, 100));
+
+    verify(changeScheduler, times(2)).figureChanged(figure);
+  }
+
+  @Test
+  public void skipChangeWhenBoundsRemainUnchanged() {
+    figure.updateBounds(new Point2D.Double(100, 100));
+    figure.updateBounds(new Point2D.Double(100, 100));
+    figure.updateBounds(new Point2D.Double(100, 100));
+
+    verify(changeScheduler, times(1)).figureChanged(figure);
+  }
+
+  @Test
+  public void scheduleChangeWhenImageChanges() {
+    when(vehicleTheme.statefulImage(any(Vehicle.class)))
+        .thenReturn(new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB));
+
+    figure.propertiesChanged(new AttributesChangeEvent(mock(AttributesChangeListener.class),
+                                                       model));
+
+    verify(changeScheduler, times(1)).figureChanged(figure);
+  }
+
+  @Test
+  public void skipChangeWhenImageRemainsUnchanged() {
+    figure.propertiesChanged(new AttributesChangeEvent(mock(AttributesChangeListener.class),
+                                                       model));
+
+    verify(changeScheduler, never()).figureChanged(any(VehicleFigure.class));
+  }
+}
@@ -16,6 +16,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
+import org.opentcs.common.VirtualTimeScheduler;
 import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.model.Location;
@@ -48,6 +49,14 @@ public class LoopbackPeripheralCommAdapter
    * The kernel's executor.
    */
   private final ScheduledExecutorService kernelExecutor;
+  /**
+   * The scheduler for simulation tasks in virtual time.
+   */
+  private final VirtualTimeScheduler virtualTimeScheduler;
+  /**
+   * This class's configuration.
+   */
+  private final VirtualPeripheralConfiguration configuration;
   /**
    * The queue of tasks to be executed to simulate the processing of jobs.
    * This queue may contain at most one item at any time.
@@ -69,13 +78,19 @@ public class LoopbackPeripheralCommAdapter
    * @param location The reference to the location this adapter is attached to.
    * @param eventHandler The handler used to send events to.
    * @param kernelExecutor The kernel's executor.
+   * @param virtualTimeScheduler The scheduler for simulation tasks in virtual time.
+   * @param configuration This class's configuration.
    */
   @Inject
   public LoopbackPeripheralCommAdapter(@Assisted TCSResourceReference<Location> location,
                                        @ApplicationEventBus EventHandler eventHandler,
-                                       @KernelExecutor ScheduledExecutorService kernelExecutor) {
+                                       @KernelExecutor ScheduledExecutorService kernelExecutor,
+                                       VirtualTimeScheduler virtualTimeScheduler,
+                                       VirtualPeripheralConfiguration configuration) {
     super(new LoopbackPeripheralProcessModel(location), eventHandler);
     this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    this.virtualTimeScheduler = requireNonNull(virtualTimeScheduler, "virtualTimeScheduler");
+    this.configuration = requireNonNull(configuration, "configuration");
   }
 
   @Override
@@ -129,9 +144,16 @@ public class LoopbackPeripheralCommAdapter
     sendProcessModelChangedEvent(PeripheralProcessModel.Attribute.STATE);
 
     if (!getProcessModel().isManualModeEnabled()) {
-      currentJobFuture = kernelExecutor.schedule(jobTaskQueue.poll(),
-                                                 JOB_PROCESSING_DURATION.getSeconds(),
-                                                 TimeUnit.SECONDS);
+      if (configuration.virtualTime()) {
+        currentJobFuture = virtualTimeScheduler.schedule(jobTaskQueue.poll(),
+                                                         JOB_PROCESSING_DURATION.toMillis(),
+                                                         TimeUnit.MILLISECONDS);
+      }
+      else {
+        currentJobFuture = kernelExecutor.schedule(jobTaskQueue.poll(),
+                                                   JOB_PROCESSING_DURATION.getSeconds(),
+                                                   TimeUnit.SECONDS);
+      }
     }
   }
 
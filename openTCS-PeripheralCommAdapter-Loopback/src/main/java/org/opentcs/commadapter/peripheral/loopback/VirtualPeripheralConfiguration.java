@@ -28,4 +28,12 @@ public interface VirtualPeripheralConfiguration {
       description = "Whether to enable to register/enable the peripheral loopback driver.",
       orderKey = "0_enable")
   boolean enable();
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {"Whether to simulate the processing of jobs in virtual time shared by all "
+                     + "loopback drivers.",
+                     "Should be enabled if and only if 'virtualvehicle.virtualTime' is enabled."},
+      orderKey = "1_behaviour_0")
+  boolean virtualTime();
 }
@@ -7,6 +7,7 @@
  */
 package org.opentcs.strategies.basic.peripherals.dispatching;
 
+import javax.inject.Singleton;
 import org.opentcs.customizations.kernel.KernelInjectionModule;
 import org.opentcs.drivers.peripherals.PeripheralJobCallback;
 
@@ -32,5 +33,6 @@ public class DefaultPeripheralJobDispatcherModule
     bind(PeripheralJobCallback.class).to(DefaultPeripheralJobDispatcher.class);
     bind(PeripheralReleaseStrategy.class).to(DefaultPeripheralReleaseStrategy.class);
     bind(JobSelectionStrategy.class).to(DefaultJobSelectionStrategy.class);
+    bind(PeripheralJobQueues.class).in(Singleton.class);
   }
 }
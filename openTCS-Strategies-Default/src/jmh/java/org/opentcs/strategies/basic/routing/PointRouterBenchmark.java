@@ -0,0 +1,241 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.ObjectHistory;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.strategies.basic.routing.csr.CsrGraphMapper;
+import org.opentcs.strategies.basic.routing.csr.CsrPointRouterFactory;
+import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorComposite;
+import org.opentcs.strategies.basic.routing.jgrapht.DefaultModelGraphMapper;
+import org.opentcs.strategies.basic.routing.jgrapht.DijkstraPointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.ShortestPathConfiguration;
+
+/**
+ * Compares the JGraphT-based {@link DijkstraPointRouterFactory} with the
+ * {@link CsrPointRouterFactory} on synthetic grid models, with respect to both point router
+ * construction and route queries.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PointRouterBenchmark {
+
+  /**
+   * The number of points in each row and column of the grid.
+   */
+  @Param({"30", "100", "200"})
+  public int gridSize;
+  /**
+   * The factory to be benchmarked.
+   */
+  @Param({"JGRAPHT_DIJKSTRA", "CSR_DIJKSTRA"})
+  public String factoryType;
+  /**
+   * The number of random source/destination pairs to be queried per invocation.
+   */
+  private static final int QUERY_COUNT = 100;
+
+  private final Vehicle vehicle = new Vehicle("Vehicle-0001");
+
+  private PointRouterFactory factory;
+
+  private PointRouter pointRouter;
+
+  private Point[] srcPoints;
+
+  private Point[] destPoints;
+
+  @Setup
+  public void setUp() {
+    Set<Point> points = new HashSet<>();
+    Set<Path> paths = new HashSet<>();
+    Point[][] grid = new Point[gridSize][gridSize];
+    for (int x = 0; x < gridSize; x++) {
+      for (int y = 0; y < gridSize; y++) {
+        grid[x][y] = new Point(String.format("Point-%03d-%03d", x, y));
+        points.add(grid[x][y]);
+      }
+    }
+    for (int x = 0; x < gridSize; x++) {
+      for (int y = 0; y < gridSize; y++) {
+        if (x + 1 < gridSize) {
+          paths.add(createPath(grid[x][y], grid[x + 1][y]));
+        }
+        if (y + 1 < gridSize) {
+          paths.add(createPath(grid[x][y], grid[x][y + 1]));
+        }
+      }
+    }
+
+    TCSObjectService objectService = new GridObjectService(points, paths);
+    ShortestPathConfiguration configuration = new BenchmarkConfiguration();
+    EdgeEvaluatorComposite evaluator = new EdgeEvaluatorComposite(configuration, new HashMap<>());
+    factory = "CSR_DIJKSTRA".equals(factoryType)
+        ? new CsrPointRouterFactory(objectService, new CsrGraphMapper(evaluator), configuration)
+        : new DijkstraPointRouterFactory(objectService,
+                                         new DefaultModelGraphMapper(evaluator, configuration),
+                                         configuration);
+    pointRouter = factory.createPointRouter(vehicle);
+
+    List<Point> pointList = new ArrayList<>(points);
+    Random random = new Random(4711);
+    srcPoints = new Point[QUERY_COUNT];
+    destPoints = new Point[QUERY_COUNT];
+    for (int i = 0; i < QUERY_COUNT; i++) {
+      srcPoints[i] = pointList.get(random.nextInt(pointList.size()));
+      destPoints[i] = pointList.get(random.nextInt(pointList.size()));
+    }
+  }
+
+  @Benchmark
+  public PointRouter createPointRouter() {
+    return factory.createPointRouter(vehicle);
+  }
+
+  @Benchmark
+  public long queryCosts() {
+    long result = 0;
+    for (int i = 0; i < QUERY_COUNT; i++) {
+      result += pointRouter.getCosts(srcPoints[i], destPoints[i]);
+    }
+    return result;
+  }
+
+  @Benchmark
+  public int queryRouteSteps() {
+    int result = 0;
+    for (int i = 0; i < QUERY_COUNT; i++) {
+      result += pointRouter.getRouteSteps(srcPoints[i], destPoints[i]).size();
+    }
+    return result;
+  }
+
+  private static Path createPath(Point srcPoint, Point destPoint) {
+    return new Path(srcPoint.getName() + "--" + destPoint.getName(),
+                    srcPoint.getReference(),
+                    destPoint.getReference())
+        .withLength(1000)
+        .withMaxVelocity(1000)
+        .withMaxReverseVelocity(1000);
+  }
+
+  /**
+   * A configuration measuring the algorithms themselves, i.e. without caching or precomputing.
+   */
+  private static class BenchmarkConfiguration
+      implements ShortestPathConfiguration {
+
+    @Override
+    public Algorithm algorithm() {
+      return Algorithm.DIJKSTRA;
+    }
+
+    @Override
+    public List<String> edgeEvaluators() {
+      return Arrays.asList("DISTANCE");
+    }
+
+    @Override
+    public int pathTreeCacheSize() {
+      return 0;
+    }
+
+    @Override
+    public boolean precomputeCostTable() {
+      return false;
+    }
+
+    @Override
+    public int costTableMaxPoints() {
+      return 0;
+    }
+  }
+
+  /**
+   * Provides the points and paths of the grid model.
+   */
+  private static class GridObjectService
+      implements TCSObjectService {
+
+    private final Set<TCSObject<?>> objects = new HashSet<>();
+
+    GridObjectService(Set<Point> points, Set<Path> paths) {
+      objects.addAll(points);
+      objects.addAll(paths);
+    }
+
+    @Override
+    public <T extends TCSObject<T>> T fetchObject(Class<T> clazz, TCSObjectReference<T> ref) {
+      return fetchObject(clazz, ref.getName());
+    }
+
+    @Override
+    public <T extends TCSObject<T>> T fetchObject(Class<T> clazz, String name) {
+      return fetchObjects(clazz, object -> object.getName().equals(name)).stream()
+          .findAny()
+          .orElse(null);
+    }
+
+    @Override
+    public <T extends TCSObject<T>> Set<T> fetchObjects(Class<T> clazz) {
+      return fetchObjects(clazz, object -> true);
+    }
+
+    @Override
+    public <T extends TCSObject<T>> Set<T> fetchObjects(Class<T> clazz,
+                                                        Predicate<? super T> predicate) {
+      return objects.stream()
+          .filter(clazz::isInstance)
+          .map(clazz::cast)
+          .filter(predicate)
+          .collect(Collectors.toSet());
+    }
+
+    @Override
+    public void updateObjectProperty(TCSObjectReference<?> ref, String key, String value) {
+      throw new UnsupportedOperationException("Not supported.");
+    }
+
+    @Override
+    public void appendObjectHistoryEntry(TCSObjectReference<?> ref, ObjectHistory.Entry entry) {
+      throw new UnsupportedOperationException("Not supported.");
+    }
+  }
+}
@@ -0,0 +1,163 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.scheduling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.components.kernel.Scheduler;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.TCSResource;
+
+/**
+ * Measures client-related queries and updates on a {@link ReservationPool} with many clients, each
+ * of them holding a couple of resources, as is the case with large fleets.
+ * <p>
+ * Access to the pool is synchronized on a shared lock, like the scheduler does it with the
+ * kernel's global synchronization object.
+ * </p>
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReservationPoolBenchmark {
+
+  /**
+   * The number of resources known to the pool.
+   */
+  @Param({"5000", "50000"})
+  public int resourceCount;
+  /**
+   * The number of clients allocating resources.
+   */
+  @Param({"300"})
+  public int clientCount;
+  /**
+   * The number of resources allocated by each client.
+   */
+  @Param({"10"})
+  public int resourcesPerClient;
+  /**
+   * The pool.
+   */
+  private ReservationPool pool;
+  /**
+   * The clients.
+   */
+  private final List<Scheduler.Client> clients = new ArrayList<>();
+  /**
+   * The resources allocated by each client, in the same order as the clients.
+   */
+  private final List<List<TCSResource<?>>> clientResources = new ArrayList<>();
+  /**
+   * The lock synchronizing access to the pool.
+   */
+  private final Object syncObject = new Object();
+
+  @Setup
+  public void setUp() {
+    pool = new ReservationPool();
+
+    List<TCSResource<?>> resources = new ArrayList<>(resourceCount);
+    for (int i = 0; i < resourceCount; i++) {
+      resources.add(new Point(String.format("Point-%06d", i)));
+      // Make sure the pool has entries for all resources, as it would after some time of operation.
+      pool.getReservationEntry(resources.get(i));
+    }
+
+    for (int i = 0; i < clientCount; i++) {
+      Scheduler.Client client = new BenchmarkClient("Vehicle-" + i);
+      clients.add(client);
+      List<TCSResource<?>> allocated = new ArrayList<>();
+      for (int j = 0; j < resourcesPerClient; j++) {
+        TCSResource<?> resource = resources.get(i * resourcesPerClient + j);
+        pool.getReservationEntry(resource).allocate(client);
+        allocated.add(resource);
+      }
+      clientResources.add(allocated);
+    }
+  }
+
+  @Benchmark
+  public Set<TCSResource<?>> allocatedResources() {
+    Scheduler.Client client = clients.get(ThreadLocalRandom.current().nextInt(clientCount));
+    synchronized (syncObject) {
+      return pool.allocatedResources(client);
+    }
+  }
+
+  @Benchmark
+  public Map<String, Set<TCSResource<?>>> getAllocationsAfterSingleChange() {
+    int index = ThreadLocalRandom.current().nextInt(clientCount);
+    synchronized (syncObject) {
+      reallocate(index);
+      return pool.getAllocations();
+    }
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void freeAllAndReallocateConcurrently() {
+    int index = ThreadLocalRandom.current().nextInt(clientCount);
+    synchronized (syncObject) {
+      reallocate(index);
+    }
+  }
+
+  private void reallocate(int clientIndex) {
+    Scheduler.Client client = clients.get(clientIndex);
+    pool.freeAll(client);
+    for (TCSResource<?> resource : clientResources.get(clientIndex)) {
+      pool.getReservationEntry(resource).allocate(client);
+    }
+  }
+
+  private static class BenchmarkClient
+      implements Scheduler.Client {
+
+    private final String id;
+
+    BenchmarkClient(String id) {
+      this.id = id;
+    }
+
+    @Override
+    public String getId() {
+      return id;
+    }
+
+    @Override
+    public boolean allocationSuccessful(Set<TCSResource<?>> resources) {
+      return true;
+    }
+
+    @Override
+    public void allocationFailed(Set<TCSResource<?>> resources) {
+    }
+  }
+}
@@ -0,0 +1,212 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching;
+
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import static org.opentcs.util.Assertions.checkArgument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Schedules full dispatch runs, coalescing dispatch requests that arrive while a run is pending.
+ * <p>
+ * At most one dispatch run is pending at any time.
+ * Requests that arrive while a run is pending are merged into it, as the pending run will see the
+ * state that led to the merged requests, anyway.
+ * With a debounce delay greater than zero, the pending run is postponed with every merged request
+ * (so that bursts of requests lead to a single run), but it is never postponed beyond the
+ * configured maximum latency after the first request it serves.
+ * </p>
+ *
+ * @author agent
+ */
+public class CoalescingDispatchScheduler {
+
+  /**
+   * This class's Logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(CoalescingDispatchScheduler.class);
+  /**
+   * Executes the dispatch runs.
+   */
+  private final ScheduledExecutorService executor;
+  /**
+   * The actual dispatch run.
+   */
+  private final Runnable dispatchTask;
+  /**
+   * The time (in ns) to wait for further requests before running a dispatch.
+   */
+  private final long debounceDelay;
+  /**
+   * The maximum time (in ns) between the first request served by a dispatch run and its start.
+   */
+  private final long maxLatency;
+  /**
+   * The pending dispatch run, if any.
+   */
+  private ScheduledFuture<?> pendingRun;
+  /**
+   * The time (in ns) the first request served by the pending dispatch run arrived.
+   */
+  private long firstPendingRequestTime;
+  /**
+   * The number of requests received in total.
+   */
+  private long requestCount;
+  /**
+   * The number of requests that were merged into an already pending dispatch run.
+   */
+  private long mergedRequestCount;
+  /**
+   * The number of dispatch runs performed.
+   */
+  private long runCount;
+  /**
+   * The accumulated time (in ns) from the first request served by a dispatch run to its end.
+   */
+  private long totalLatency;
+  /**
+   * The maximum time (in ns) from the first request served by a dispatch run to its end.
+   */
+  private long maxObservedLatency;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param executor Executes the dispatch runs.
+   * @param dispatchTask The actual dispatch run.
+   * @param debounceDelay The time (in ms) to wait for further requests before running a dispatch.
+   * A value of 0 runs a dispatch as soon as possible.
+   * @param maxLatency The maximum time (in ms) between the first request served by a dispatch run
+   * and its start. Only relevant with a debounce delay greater than 0.
+   */
+  public CoalescingDispatchScheduler(ScheduledExecutorService executor,
+                                     Runnable dispatchTask,
+                                     long debounceDelay,
+                                     long maxLatency) {
+    this.executor = requireNonNull(executor, "executor");
+    this.dispatchTask = requireNonNull(dispatchTask, "dispatchTask");
+    checkArgument(debounceDelay >= 0, "debounceDelay < 0: %s", debounceDelay);
+    checkArgument(maxLatency >= debounceDelay,
+                  "maxLatency < debounceDelay: %s < %s",
+                  maxLatency,
+                  debounceDelay);
+    this.debounceDelay = TimeUnit.MILLISECONDS.toNanos(debounceDelay);
+    this.maxLatency = TimeUnit.MILLISECONDS.toNanos(maxLatency);
+  }
+
+  /**
+   * Requests a dispatch run.
+   * If a run is already pending, the request is merged into it.
+   */
+  public synchronized void requestDispatch() {
+    long now = System.nanoTime();
+    requestCount++;
+
+    if (pendingRun == null) {
+      firstPendingRequestTime = now;
+      pendingRun = executor.schedule(this::runDispatch, debounceDelay, TimeUnit.NANOSECONDS);
+      return;
+    }
+
+    mergedRequestCount++;
+    LOG.debug("Merged dispatch request into pending run.");
+
+    // If the pending run could not be cancelled, it has already started, but has not yet begun the
+    // actual dispatching. It will therefore serve this request, too.
+    if (debounceDelay > 0 && pendingRun.cancel(false)) {
+      long delay = Math.max(0,
+                            Math.min(debounceDelay, firstPendingRequestTime + maxLatency - now));
+      pendingRun = executor.schedule(this::runDispatch, delay, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * Cancels the pending dispatch run, if any.
+   */
+  public synchronized void cancelPendingDispatch() {
+    if (pendingRun != null) {
+      pendingRun.cancel(false);
+      pendingRun = null;
+    }
+  }
+
+  /**
+   * Returns the number of dispatch requests received in total.
+   *
+   * @return The number of dispatch requests received in total.
+   */
+  public synchronized long getRequestCount() {
+    return requestCount;
+  }
+
+  /**
+   * Returns the number of dispatch requests that were merged into an already pending run.
+   *
+   * @return The number of dispatch requests that were merged into an already pending run.
+   */
+  public synchronized long getMergedRequestCount() {
+    return mergedRequestCount;
+  }
+
+  /**
+   * Returns the number of dispatch runs performed.
+   *
+   * @return The number of dispatch runs performed.
+   */
+  public synchronized long getRunCount() {
+    return runCount;
+  }
+
+  /**
+   * Returns the average time (in ms) from the first request served by a dispatch run to its end,
+   * i.e. to the point at which the resulting assignments have been made.
+   *
+   * @return The average latency, or 0, if no dispatch run has been performed, yet.
+   */
+  public synchronized double getAverageLatency() {
+    return runCount == 0 ? 0.0 : (totalLatency / (double) runCount) / 1_000_000.0;
+  }
+
+  /**
+   * Returns the maximum time (in ms) from the first request served by a dispatch run to its end,
+   * i.e. to the point at which the resulting assignments have been made.
+   *
+   * @return The maximum latency, or 0, if no dispatch run has been performed, yet.
+   */
+  public synchronized double getMaxLatency() {
+    return maxObservedLatency / 1_000_000.0;
+  }
+
+  private void runDispatch() {
+    long requestTime;
+    synchronized (this) {
+      // Requests arriving from now on need another run, as this one may not see their causes.
+      pendingRun = null;
+      requestTime = firstPendingRequestTime;
+    }
+
+    dispatchTask.run();
+
+    long latency = System.nanoTime() - requestTime;
+    synchronized (this) {
+      runCount++;
+      totalLatency += latency;
+      maxObservedLatency = Math.max(maxObservedLatency, latency);
+      LOG.debug("Dispatch run took {} ms after request. Requests: {}, merged: {}, runs: {}",
+                TimeUnit.NANOSECONDS.toMillis(latency),
+                requestCount,
+                mergedRequestCount,
+                runCount);
+    }
+  }
+}
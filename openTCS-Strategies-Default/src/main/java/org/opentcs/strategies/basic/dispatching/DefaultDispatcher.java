@@ -18,7 +18,7 @@ import org.opentcs.components.kernel.Dispatcher;
 import org.opentcs.components.kernel.services.InternalTransportOrderService;
 import org.opentcs.components.kernel.services.InternalVehicleService;
 import org.opentcs.customizations.ApplicationEventBus;
-import org.opentcs.customizations.kernel.KernelExecutor;
+import org.opentcs.customizations.kernel.DispatcherExecutor;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
 import static org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration.RerouteTrigger.TOPOLOGY_CHANGE;
@@ -28,6 +28,14 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Dispatches transport orders and vehicles.
+ * <p>
+ * Dispatching tasks are executed on the dispatcher executor in the order they were submitted.
+ * That executor may run concurrently with other kernel tasks, though, so this class does not rely
+ * on it for exclusive access to shared state: Accesses to the kernel's working set are serialized
+ * by the kernel services (via the {@code WorkingSetLock}), and state shared with event handlers
+ * (like the {@link DispatchChangeTracker} and the {@link OrderReservationPool}) is synchronized
+ * by itself.
+ * </p>
  *
  * @author Stefan Walter (Fraunhofer IML)
  */
@@ -59,9 +67,9 @@ public class DefaultDispatcher
    */
   private final EventSource eventSource;
   /**
-   * The kernel's executor.
+   * Executes dispatching tasks.
    */
-  private final ScheduledExecutorService kernelExecutor;
+  private final ScheduledExecutorService dispatcherExecutor;
 
   private final FullDispatchTask fullDispatchTask;
 
@@ -70,12 +78,22 @@ public class DefaultDispatcher
   private final DefaultDispatcherConfiguration configuration;
 
   private final RerouteUtil rerouteUtil;
+  /**
+   * Keeps track of vehicles and transport orders that changed since the last dispatch run.
+   */
+  private final DispatchChangeTracker changeTracker;
+  /**
+   * Schedules full dispatch runs, coalescing requests.
+   */
+  private final CoalescingDispatchScheduler dispatchScheduler;
   /**
    *
    */
   private ImplicitDispatchTrigger implicitDispatchTrigger;
 
   private ScheduledFuture<?> periodicDispatchTaskFuture;
+
+  private ScheduledFuture<?> periodicFullDispatchFuture;
   /**
    * Indicates whether this component is enabled.
    */
@@ -89,11 +107,12 @@ public class DefaultDispatcher
    * @param transportOrderService The transport order service.
    * @param vehicleService The vehicle service.
    * @param eventSource Where this instance registers for application events.
-   * @param kernelExecutor Executes dispatching tasks.
+   * @param dispatcherExecutor Executes dispatching tasks.
    * @param fullDispatchTask The full dispatch task.
    * @param periodicDispatchTaskProvider Provides the periodic vehicle redospatching task.
    * @param configuration The dispatcher configuration.
    * @param rerouteUtil The reroute util.
+   * @param changeTracker Keeps track of vehicles and transport orders that changed.
    */
   @Inject
   public DefaultDispatcher(OrderReservationPool orderReservationPool,
@@ -101,22 +120,28 @@ public class DefaultDispatcher
                            InternalTransportOrderService transportOrderService,
                            InternalVehicleService vehicleService,
                            @ApplicationEventBus EventSource eventSource,
-                           @KernelExecutor ScheduledExecutorService kernelExecutor,
+                           @DispatcherExecutor ScheduledExecutorService dispatcherExecutor,
                            FullDispatchTask fullDispatchTask,
                            Provider<PeriodicVehicleRedispatchingTask> periodicDispatchTaskProvider,
                            DefaultDispatcherConfiguration configuration,
-                           RerouteUtil rerouteUtil) {
+                           RerouteUtil rerouteUtil,
+                           DispatchChangeTracker changeTracker) {
     this.orderReservationPool = requireNonNull(orderReservationPool, "orderReservationPool");
     this.transportOrderUtil = requireNonNull(transportOrderUtil, "transportOrderUtil");
     this.transportOrderService = requireNonNull(transportOrderService, "transportOrderService");
     this.vehicleService = requireNonNull(vehicleService, "vehicleService");
     this.eventSource = requireNonNull(eventSource, "eventSource");
-    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    this.dispatcherExecutor = requireNonNull(dispatcherExecutor, "dispatcherExecutor");
     this.fullDispatchTask = requireNonNull(fullDispatchTask, "fullDispatchTask");
     this.periodicDispatchTaskProvider = requireNonNull(periodicDispatchTaskProvider,
                                                        "periodicDispatchTaskProvider");
     this.configuration = requireNonNull(configuration, "configuration");
     this.rerouteUtil = requireNonNull(rerouteUtil, "rerouteUtil");
+    this.changeTracker = requireNonNull(changeTracker, "changeTracker");
+    this.dispatchScheduler = new CoalescingDispatchScheduler(dispatcherExecutor,
+                                                             fullDispatchTask,
+                                                             configuration.dispatchDebounceDelay(),
+                                                             configuration.maxDispatchLatency());
   }
 
   @Override
@@ -129,6 +154,7 @@ public class DefaultDispatcher
 
     transportOrderUtil.initialize();
     orderReservationPool.clear();
+    changeTracker.clear();
 
     fullDispatchTask.initialize();
 
@@ -137,13 +163,29 @@ public class DefaultDispatcher
 
     LOG.debug("Scheduling periodic dispatch task with interval of {} ms...",
               configuration.idleVehicleRedispatchingInterval());
-    periodicDispatchTaskFuture = kernelExecutor.scheduleAtFixedRate(
+    periodicDispatchTaskFuture = dispatcherExecutor.scheduleAtFixedRate(
         periodicDispatchTaskProvider.get(),
         configuration.idleVehicleRedispatchingInterval(),
         configuration.idleVehicleRedispatchingInterval(),
         TimeUnit.MILLISECONDS
     );
 
+    if (configuration.incrementalDispatching()) {
+      eventSource.subscribe(changeTracker);
+
+      LOG.debug("Scheduling periodic full dispatch with interval of {} ms...",
+                configuration.fullDispatchInterval());
+      periodicFullDispatchFuture = dispatcherExecutor.scheduleAtFixedRate(
+          () -> {
+            changeTracker.requestFullRun();
+            dispatch();
+          },
+          configuration.fullDispatchInterval(),
+          configuration.fullDispatchInterval(),
+          TimeUnit.MILLISECONDS
+      );
+    }
+
     initialized = true;
   }
 
@@ -158,9 +200,24 @@ public class DefaultDispatcher
     periodicDispatchTaskFuture.cancel(false);
     periodicDispatchTaskFuture = null;
 
+    if (periodicFullDispatchFuture != null) {
+      periodicFullDispatchFuture.cancel(false);
+      periodicFullDispatchFuture = null;
+      eventSource.unsubscribe(changeTracker);
+    }
+
     eventSource.unsubscribe(implicitDispatchTrigger);
     implicitDispatchTrigger = null;
 
+    dispatchScheduler.cancelPendingDispatch();
+    LOG.info("Dispatch requests: {}, merged: {}, dispatch runs: {}, "
+        + "request-to-assignment latency: avg {} ms, max {} ms",
+             dispatchScheduler.getRequestCount(),
+             dispatchScheduler.getMergedRequestCount(),
+             dispatchScheduler.getRunCount(),
+             dispatchScheduler.getAverageLatency(),
+             dispatchScheduler.getMaxLatency());
+
     fullDispatchTask.terminate();
 
     initialized = false;
@@ -174,8 +231,8 @@ public class DefaultDispatcher
   @Override
   public void dispatch() {
     LOG.debug("Scheduling dispatch task...");
-    // Schedule this to be executed by the kernel executor.
-    kernelExecutor.submit(fullDispatchTask);
+    // Schedule this to be executed by the dispatcher executor, unless a run is already pending.
+    dispatchScheduler.requestDispatch();
   }
 
   @Override
@@ -183,8 +240,8 @@ public class DefaultDispatcher
     requireNonNull(order, "order");
     checkState(isInitialized(), "Not initialized");
 
-    // Schedule this to be executed by the kernel executor.
-    kernelExecutor.submit(() -> {
+    // Schedule this to be executed by the dispatcher executor.
+    dispatcherExecutor.submit(() -> {
       LOG.debug("Scheduling withdrawal for transport order '{}' (immediate={})...",
                 order.getName(),
                 immediateAbort);
@@ -197,8 +254,8 @@ public class DefaultDispatcher
     requireNonNull(vehicle, "vehicle");
     checkState(isInitialized(), "Not initialized");
 
-    // Schedule this to be executed by the kernel executor.
-    kernelExecutor.submit(() -> {
+    // Schedule this to be executed by the dispatcher executor.
+    dispatcherExecutor.submit(() -> {
       LOG.debug("Scheduling withdrawal for vehicle '{}' (immediate={})...",
                 vehicle.getName(),
                 immediateAbort);
@@ -210,7 +267,7 @@ public class DefaultDispatcher
   public void topologyChanged() {
     if (configuration.rerouteTrigger() == TOPOLOGY_CHANGE) {
       LOG.debug("Scheduling reroute task...");
-      kernelExecutor.submit(() -> {
+      dispatcherExecutor.submit(() -> {
         LOG.debug("Rerouting vehicles due to topology change...");
         rerouteUtil.reroute(vehicleService.fetchObjects(Vehicle.class));
       });
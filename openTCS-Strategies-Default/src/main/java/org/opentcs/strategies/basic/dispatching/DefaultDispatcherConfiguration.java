@@ -76,6 +76,23 @@ public interface DefaultDispatcherConfiguration {
       orderKey = "0_assign_special_0")
   long deadlineAtRiskPeriod();
 
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+        "Whether to compute assignment candidates (i.e. routes for pairs of vehicles and orders) "
+        + "in parallel.",
+        "Assignment results are the same as with sequential computation."},
+      orderKey = "0_assign_special_1")
+  boolean parallelCandidateComputation();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+        "The maximum number of threads used for computing assignment candidates in parallel.",
+        "A value of 0 uses as many threads as there are processors available."},
+      orderKey = "0_assign_special_2")
+  int candidateComputationParallelism();
+
   @ConfigurationEntry(
       type = "Boolean",
       description = "Whether orders to the current position with no operation should be assigned.",
@@ -152,6 +169,39 @@ public interface DefaultDispatcherConfiguration {
       orderKey = "9_misc")
   long idleVehicleRedispatchingInterval();
 
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+        "The time (in ms) to wait for further dispatch requests before performing a dispatch run.",
+        "Requests arriving while a dispatch run is pending are always merged into it.",
+        "A value of 0 performs a dispatch run as soon as possible."},
+      orderKey = "9_misc")
+  long dispatchDebounceDelay();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+        "The maximum time (in ms) a dispatch run may be postponed after the first request it "
+        + "serves.",
+        "Must not be smaller than the debounce delay."},
+      orderKey = "9_misc")
+  long maxDispatchLatency();
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+        "Whether dispatch runs should only consider vehicles and transport orders that changed "
+        + "since the previous run for assignments, parking and recharging.",
+        "Full dispatch runs considering all vehicles and orders are still performed periodically."},
+      orderKey = "9_misc")
+  boolean incrementalDispatching();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The interval (in ms) between full dispatch runs with incremental dispatching.",
+      orderKey = "9_misc")
+  long fullDispatchInterval();
+
   enum RerouteTrigger {
     NONE,
     DRIVE_ORDER_FINISHED,
@@ -0,0 +1,193 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching;
+
+import java.util.Collections;
+import java.util.HashSet;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import javax.inject.Inject;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.event.SynchronousEventHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps track of the vehicles and transport orders that changed since the last dispatch run.
+ * <p>
+ * With incremental dispatching enabled, a dispatch run only considers these vehicles and transport
+ * orders for assignments, parking and recharging, as nothing changed for any of the others.
+ * Changes that may affect all of them (e.g. paths or locations being locked) lead to a full
+ * dispatch run considering all vehicles and transport orders.
+ * </p>
+ *
+ * @author agent
+ */
+public class DispatchChangeTracker
+    implements SynchronousEventHandler {
+
+  /**
+   * This class's Logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(DispatchChangeTracker.class);
+  /**
+   * The dispatcher configuration.
+   */
+  private final DefaultDispatcherConfiguration configuration;
+  /**
+   * The names of vehicles that changed since the start of the last dispatch run.
+   */
+  private final Set<String> changedVehicles = new HashSet<>();
+  /**
+   * The names of transport orders that changed since the start of the last dispatch run.
+   */
+  private final Set<String> changedOrders = new HashSet<>();
+  /**
+   * Whether the next dispatch run needs to consider all vehicles and transport orders.
+   */
+  private boolean fullRunRequested = true;
+  /**
+   * Whether the current dispatch run considers all vehicles and transport orders.
+   */
+  private boolean currentRunFull = true;
+  /**
+   * The names of vehicles considered by the current dispatch run.
+   */
+  private Set<String> currentRunVehicles = Collections.emptySet();
+  /**
+   * The names of transport orders considered by the current dispatch run.
+   */
+  private Set<String> currentRunOrders = Collections.emptySet();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param configuration The dispatcher configuration.
+   */
+  @Inject
+  public DispatchChangeTracker(DefaultDispatcherConfiguration configuration) {
+    this.configuration = requireNonNull(configuration, "configuration");
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    if (!(event instanceof TCSObjectEvent)) {
+      return;
+    }
+
+    TCSObject<?> object = ((TCSObjectEvent) event).getCurrentOrPreviousObjectState();
+    if (object instanceof Vehicle) {
+      markChanged((Vehicle) object);
+    }
+    else if (object instanceof TransportOrder) {
+      markChanged((TransportOrder) object);
+    }
+    else if (object instanceof Path || object instanceof Location) {
+      // Locking or unlocking paths and locations may affect any vehicle and transport order.
+      requestFullRun();
+    }
+  }
+
+  /**
+   * Marks the given vehicle as changed, so the next dispatch run considers it.
+   *
+   * @param vehicle The vehicle.
+   */
+  public synchronized void markChanged(Vehicle vehicle) {
+    requireNonNull(vehicle, "vehicle");
+
+    changedVehicles.add(vehicle.getName());
+  }
+
+  /**
+   * Marks the given transport order as changed, so the next dispatch run considers it.
+   *
+   * @param order The transport order.
+   */
+  public synchronized void markChanged(TransportOrder order) {
+    requireNonNull(order, "order");
+
+    changedOrders.add(order.getName());
+  }
+
+  /**
+   * Requests the next dispatch run to consider all vehicles and transport orders.
+   */
+  public synchronized void requestFullRun() {
+    fullRunRequested = true;
+  }
+
+  /**
+   * Discards all recorded changes and requests the next dispatch run to be a full one.
+   */
+  public synchronized void clear() {
+    changedVehicles.clear();
+    changedOrders.clear();
+    fullRunRequested = true;
+    currentRunFull = true;
+    currentRunVehicles = Collections.emptySet();
+    currentRunOrders = Collections.emptySet();
+  }
+
+  /**
+   * Starts a dispatch run, determining the vehicles and transport orders it should consider from
+   * the changes recorded since the start of the last one.
+   */
+  public synchronized void beginRun() {
+    currentRunFull = fullRunRequested || !configuration.incrementalDispatching();
+    if (currentRunFull) {
+      currentRunVehicles = Collections.emptySet();
+      currentRunOrders = Collections.emptySet();
+    }
+    else {
+      currentRunVehicles = new HashSet<>(changedVehicles);
+      currentRunOrders = new HashSet<>(changedOrders);
+      LOG.debug("Incremental dispatch run for {} vehicles and {} transport orders.",
+                currentRunVehicles.size(),
+                currentRunOrders.size());
+    }
+
+    fullRunRequested = false;
+    changedVehicles.clear();
+    changedOrders.clear();
+  }
+
+  /**
+   * Indicates whether the current dispatch run considers all vehicles and transport orders.
+   *
+   * @return {@code true} if, and only if, the current dispatch run is a full one.
+   */
+  public synchronized boolean isFullRun() {
+    return currentRunFull;
+  }
+
+  /**
+   * Checks whether the current dispatch run should consider the given vehicle.
+   *
+   * @param vehicle The vehicle.
+   * @return {@code true} if, and only if, the current dispatch run should consider the vehicle.
+   */
+  public synchronized boolean isAffected(Vehicle vehicle) {
+    return currentRunFull || currentRunVehicles.contains(vehicle.getName());
+  }
+
+  /**
+   * Checks whether the current dispatch run should consider the given transport order.
+   *
+   * @param order The transport order.
+   * @return {@code true} if, and only if, the current dispatch run should consider the order.
+   */
+  public synchronized boolean isAffected(TransportOrder order) {
+    return currentRunFull || currentRunOrders.contains(order.getName());
+  }
+}
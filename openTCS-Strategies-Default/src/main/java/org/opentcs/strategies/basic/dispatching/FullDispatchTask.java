@@ -47,6 +47,7 @@ public class FullDispatchTask
   private final PrioritizedReparkPhase prioritizedReparkPhase;
   private final PrioritizedParkingPhase prioritizedParkingPhase;
   private final ParkIdleVehiclesPhase parkIdleVehiclesPhase;
+  private final DispatchChangeTracker changeTracker;
   /**
    * Indicates whether this component is enabled.
    */
@@ -62,7 +63,8 @@ public class FullDispatchTask
                           RechargeIdleVehiclesPhase rechargeIdleVehiclesPhase,
                           PrioritizedReparkPhase prioritizedReparkPhase,
                           PrioritizedParkingPhase prioritizedParkingPhase,
-                          ParkIdleVehiclesPhase parkIdleVehiclesPhase) {
+                          ParkIdleVehiclesPhase parkIdleVehiclesPhase,
+                          DispatchChangeTracker changeTracker) {
     this.checkNewOrdersPhase = requireNonNull(checkNewOrdersPhase, "checkNewOrdersPhase");
     this.finishWithdrawalsPhase = requireNonNull(finishWithdrawalsPhase, "finishWithdrawalsPhase");
     this.assignNextDriveOrdersPhase = requireNonNull(assignNextDriveOrdersPhase,
@@ -78,6 +80,7 @@ public class FullDispatchTask
     this.prioritizedParkingPhase = requireNonNull(prioritizedParkingPhase,
                                                   "prioritizedParkingPhase");
     this.parkIdleVehiclesPhase = requireNonNull(parkIdleVehiclesPhase, "parkIdleVehiclesPhase");
+    this.changeTracker = requireNonNull(changeTracker, "changeTracker");
   }
 
   @Override
@@ -127,7 +130,8 @@ public class FullDispatchTask
 
   @Override
   public final void run() {
-    LOG.debug("Starting full dispatch run...");
+    changeTracker.beginRun();
+    LOG.debug("Starting {} dispatch run...", changeTracker.isFullRun() ? "full" : "incremental");
 
     checkNewOrdersPhase.run();
     // Check what vehicles involved in a process should do.
@@ -11,7 +11,7 @@ import static java.util.Objects.requireNonNull;
 import org.opentcs.components.kernel.Dispatcher;
 import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.model.Vehicle;
-import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.SynchronousEventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -21,7 +21,7 @@ import org.slf4j.LoggerFactory;
  * @author Stefan Walter (Fraunhofer IML)
  */
 public class ImplicitDispatchTrigger
-    implements EventHandler {
+    implements SynchronousEventHandler {
 
   /**
    * This class's Logger.
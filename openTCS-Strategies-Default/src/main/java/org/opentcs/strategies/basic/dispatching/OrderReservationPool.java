@@ -70,9 +70,12 @@ public class OrderReservationPool {
 
   public List<TCSObjectReference<TransportOrder>> findReservations(
       @Nonnull TCSObjectReference<Vehicle> vehicleRef) {
-    return orderReservations.entrySet().stream()
-        .filter(entry -> vehicleRef.equals(entry.getValue()))
-        .map(entry -> entry.getKey())
-        .collect(Collectors.toList());
+    // Iterating over a synchronized map's views requires holding the map's lock.
+    synchronized (orderReservations) {
+      return orderReservations.entrySet().stream()
+          .filter(entry -> vehicleRef.equals(entry.getValue()))
+          .map(entry -> entry.getKey())
+          .collect(Collectors.toList());
+    }
   }
 }
@@ -8,6 +8,7 @@
 package org.opentcs.strategies.basic.dispatching;
 
 import static java.util.Objects.requireNonNull;
+import java.util.Set;
 import javax.inject.Inject;
 import org.opentcs.components.kernel.services.DispatcherService;
 import org.opentcs.components.kernel.services.TCSObjectService;
@@ -37,29 +38,38 @@ public class PeriodicVehicleRedispatchingTask
 
   private final TCSObjectService objectService;
 
+  private final DispatchChangeTracker changeTracker;
+
   /**
    * Creates a new instance.
    *
    * @param dispatcherService The dispatcher service used to dispatch vehicles.
    * @param objectService The object service.
+   * @param changeTracker Keeps track of vehicles and transport orders to consider for dispatching.
    */
   @Inject
   public PeriodicVehicleRedispatchingTask(DispatcherService dispatcherService,
-                                          TCSObjectService objectService) {
+                                          TCSObjectService objectService,
+                                          DispatchChangeTracker changeTracker) {
     this.dispatcherService = requireNonNull(dispatcherService, "dispatcherService");
     this.objectService = requireNonNull(objectService, "objectService");
+    this.changeTracker = requireNonNull(changeTracker, "changeTracker");
   }
 
   @Override
   public void run() {
     // If there are any vehicles that could process a transport order,
     // trigger the dispatcher once.
-    objectService.fetchObjects(Vehicle.class, this::couldProcessTransportOrder).stream()
-        .findAny()
-        .ifPresent(vehicle -> {
-          LOG.debug("Vehicle {} could process transport order, triggering dispatcher ...", vehicle);
-          dispatcherService.dispatch();
-        });
+    // With incremental dispatching, these vehicles have not necessarily changed since the last
+    // dispatch run, so explicitly mark them for being considered.
+    Set<Vehicle> vehicles = objectService.fetchObjects(Vehicle.class,
+                                                       this::couldProcessTransportOrder);
+    if (!vehicles.isEmpty()) {
+      LOG.debug("{} vehicle(s) could process transport order, triggering dispatcher ...",
+                vehicles.size());
+      vehicles.forEach(changeTracker::markChanged);
+      dispatcherService.dispatch();
+    }
   }
 
   private boolean couldProcessTransportOrder(Vehicle vehicle) {
@@ -8,7 +8,6 @@
 package org.opentcs.strategies.basic.dispatching.phase.assignment;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -17,6 +16,11 @@ import java.util.Map;
 import java.util.Objects;
 import static java.util.Objects.requireNonNull;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
 import org.opentcs.components.kernel.Router;
@@ -30,6 +34,8 @@ import static org.opentcs.data.order.TransportOrderHistoryCodes.ORDER_DISPATCHIN
 import static org.opentcs.data.order.TransportOrderHistoryCodes.ORDER_DISPATCHING_RESUMED;
 import static org.opentcs.data.order.TransportOrderHistoryCodes.ORDER_RESERVED_FOR_VEHICLE;
 import org.opentcs.strategies.basic.dispatching.AssignmentCandidate;
+import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.DispatchChangeTracker;
 import org.opentcs.strategies.basic.dispatching.OrderReservationPool;
 import org.opentcs.strategies.basic.dispatching.Phase;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
@@ -108,7 +114,19 @@ public class AssignFreeOrdersPhase
   private final CompositeAssignmentCandidateSelectionFilter assignmentCandidateSelectionFilter;
 
   private final TransportOrderUtil transportOrderUtil;
-
+  /**
+   * The dispatcher configuration.
+   */
+  private final DefaultDispatcherConfiguration configuration;
+  /**
+   * Keeps track of the vehicles and transport orders to consider.
+   */
+  private final DispatchChangeTracker changeTracker;
+  /**
+   * The pool used for computing assignment candidates in parallel, or {@code null}, if candidates
+   * are computed sequentially.
+   */
+  private ForkJoinPool candidateComputationPool;
   /**
    * Indicates whether this component is initialized.
    */
@@ -128,7 +146,9 @@ public class AssignFreeOrdersPhase
       IsFreelyDispatchableToAnyVehicle isFreelyDispatchableToAnyVehicle,
       CompositeTransportOrderSelectionFilter transportOrderSelectionFilter,
       CompositeAssignmentCandidateSelectionFilter assignmentCandidateSelectionFilter,
-      TransportOrderUtil transportOrderUtil) {
+      TransportOrderUtil transportOrderUtil,
+      DefaultDispatcherConfiguration configuration,
+      DispatchChangeTracker changeTracker) {
     this.router = requireNonNull(router, "router");
     this.objectService = requireNonNull(objectService, "objectService");
     this.orderReservationPool = requireNonNull(orderReservationPool, "orderReservationPool");
@@ -147,6 +167,8 @@ public class AssignFreeOrdersPhase
     this.assignmentCandidateSelectionFilter = requireNonNull(assignmentCandidateSelectionFilter,
                                                              "assignmentCandidateSelectionFilter");
     this.transportOrderUtil = requireNonNull(transportOrderUtil, "transportOrderUtil");
+    this.configuration = requireNonNull(configuration, "configuration");
+    this.changeTracker = requireNonNull(changeTracker, "changeTracker");
   }
 
   @Override
@@ -154,6 +176,15 @@ public class AssignFreeOrdersPhase
     if (isInitialized()) {
       return;
     }
+
+    if (configuration.parallelCandidateComputation()) {
+      int parallelism = configuration.candidateComputationParallelism() > 0
+          ? configuration.candidateComputationParallelism()
+          : Runtime.getRuntime().availableProcessors();
+      LOG.debug("Computing assignment candidates with parallelism {}.", parallelism);
+      candidateComputationPool = new ForkJoinPool(parallelism);
+    }
+
     initialized = true;
   }
 
@@ -167,6 +198,12 @@ public class AssignFreeOrdersPhase
     if (!isInitialized()) {
       return;
     }
+
+    if (candidateComputationPool != null) {
+      candidateComputationPool.shutdown();
+      candidateComputationPool = null;
+    }
+
     initialized = false;
   }
 
@@ -210,7 +247,20 @@ public class AssignFreeOrdersPhase
               availableVehicles.size());
 
     AssignmentState assignmentState = new AssignmentState();
-    if (availableVehicles.size() < availableOrders.size()) {
+    if (!changeTracker.isFullRun()) {
+      // Only pairs involving a changed vehicle or a changed order can lead to a different result
+      // than in the previous dispatch run.
+      availableVehicles.stream()
+          .filter(changeTracker::isAffected)
+          .sorted(vehicleComparator)
+          .forEach(vehicle -> tryAssignOrder(vehicle, availableOrders, assignmentState));
+      availableOrders.stream()
+          .filter(changeTracker::isAffected)
+          .filter(order -> !assignmentState.wasAssignedToVehicle(order))
+          .sorted(orderComparator)
+          .forEach(order -> tryAssignVehicle(order, availableVehicles, assignmentState));
+    }
+    else if (availableVehicles.size() < availableOrders.size()) {
       availableVehicles.stream()
           .sorted(vehicleComparator)
           .forEach(vehicle -> tryAssignOrder(vehicle, availableOrders, assignmentState));
@@ -229,6 +279,8 @@ public class AssignFreeOrdersPhase
     availableOrders.stream()
         .filter(order -> (!assignmentState.wasFiltered(order)
                           && !assignmentState.wasAssignedToVehicle(order)))
+        // Orders not considered in an incremental run may still be filtered.
+        .filter(changeTracker::isAffected)
         .filter(this::markedAsFiltered)
         .forEach(this::doUnmarkAsFiltered);
   }
@@ -245,11 +297,8 @@ public class AssignFreeOrdersPhase
   }
 
   private Optional<ObjectHistory.Entry> lastRelevantDeferredHistoryEntry(TransportOrder order) {
-    return order.getHistory().getEntries().stream()
-        .filter(entry -> equalsAny(entry.getEventCode(),
-                                   ORDER_DISPATCHING_DEFERRED,
-                                   ORDER_DISPATCHING_RESUMED))
-        .reduce((firstEntry, secondEntry) -> secondEntry)
+    return Optional.ofNullable(order.getHistory().getLatestEntry(ORDER_DISPATCHING_DEFERRED,
+                                                                 ORDER_DISPATCHING_RESUMED))
         .filter(entry -> entry.getEventCode().equals(ORDER_DISPATCHING_DEFERRED));
   }
 
@@ -284,11 +333,6 @@ public class AssignFreeOrdersPhase
     );
   }
 
-  private boolean equalsAny(String string, String... others) {
-    return Arrays.asList(others).stream()
-        .anyMatch(other -> string.equals(other));
-  }
-
   private void tryAssignOrder(Vehicle vehicle,
                               Collection<TransportOrder> availableOrders,
                               AssignmentState assignmentState) {
@@ -296,13 +340,14 @@ public class AssignFreeOrdersPhase
 
     Point vehiclePosition = objectService.fetchObject(Point.class, vehicle.getCurrentPosition());
 
+    List<Supplier<Optional<AssignmentCandidate>>> candidateComputations = availableOrders.stream()
+        .filter(order -> (!assignmentState.wasAssignedToVehicle(order)
+                          && orderAssignableToVehicle(order, vehicle)))
+        .map(order -> candidateComputation(vehicle, vehiclePosition, order))
+        .collect(Collectors.toList());
+
     Map<Boolean, List<CandidateFilterResult>> ordersSplitByFilter
-        = availableOrders.stream()
-            .filter(order -> (!assignmentState.wasAssignedToVehicle(order)
-                              && orderAssignableToVehicle(order, vehicle)))
-            .map(order -> computeCandidate(vehicle, vehiclePosition, order))
-            .filter(optCandidate -> optCandidate.isPresent())
-            .map(optCandidate -> optCandidate.get())
+        = computeCandidates(candidateComputations).stream()
             .map(candidate -> new CandidateFilterResult(candidate, assignmentCandidateSelectionFilter.apply(candidate)))
             .collect(Collectors.partitioningBy(filterResult -> !filterResult.isFiltered()));
 
@@ -322,16 +367,17 @@ public class AssignFreeOrdersPhase
                                 AssignmentState assignmentState) {
     LOG.debug("Trying to find vehicle for transport order '{}'...", order.getName());
 
-    Map<Boolean, List<CandidateFilterResult>> ordersSplitByFilter
-        = availableVehicles.stream()
-            .filter(vehicle -> (!assignmentState.wasAssignedToOrder(vehicle)
-                                && orderAssignableToVehicle(order, vehicle)))
-            .map(vehicle -> computeCandidate(vehicle,
+    List<Supplier<Optional<AssignmentCandidate>>> candidateComputations = availableVehicles.stream()
+        .filter(vehicle -> (!assignmentState.wasAssignedToOrder(vehicle)
+                            && orderAssignableToVehicle(order, vehicle)))
+        .map(vehicle -> candidateComputation(vehicle,
                                              objectService.fetchObject(Point.class,
                                                                        vehicle.getCurrentPosition()),
                                              order))
-            .filter(optCandidate -> optCandidate.isPresent())
-            .map(optCandidate -> optCandidate.get())
+        .collect(Collectors.toList());
+
+    Map<Boolean, List<CandidateFilterResult>> ordersSplitByFilter
+        = computeCandidates(candidateComputations).stream()
             .map(candidate -> new CandidateFilterResult(candidate, assignmentCandidateSelectionFilter.apply(candidate)))
             .collect(Collectors.partitioningBy(filterResult -> !filterResult.isFiltered()));
 
@@ -387,13 +433,56 @@ public class AssignFreeOrdersPhase
     );
   }
 
-  private Optional<AssignmentCandidate> computeCandidate(Vehicle vehicle,
-                                                         Point vehiclePosition,
-                                                         TransportOrder order) {
-    return router.getRoute(vehicle, vehiclePosition, order)
+  private Supplier<Optional<AssignmentCandidate>> candidateComputation(Vehicle vehicle,
+                                                                       Point vehiclePosition,
+                                                                       TransportOrder order) {
+    return () -> router.getRoute(vehicle, vehiclePosition, order)
         .map(driveOrders -> new AssignmentCandidate(vehicle, order, driveOrders));
   }
 
+  /**
+   * Performs the given candidate computations, either sequentially or in parallel.
+   * <p>
+   * The resulting candidates are returned in the order of the given computations regardless of
+   * how they are computed, so assignment results do not depend on the mode of computation.
+   * </p>
+   *
+   * @param computations The candidate computations.
+   * @return The computed candidates, excluding those for which no route exists.
+   */
+  private List<AssignmentCandidate> computeCandidates(
+      List<Supplier<Optional<AssignmentCandidate>>> computations) {
+    List<AssignmentCandidate> result = new ArrayList<>(computations.size());
+
+    if (candidateComputationPool == null || computations.size() < 2) {
+      for (Supplier<Optional<AssignmentCandidate>> computation : computations) {
+        computation.get().ifPresent(result::add);
+      }
+      return result;
+    }
+
+    List<Callable<Optional<AssignmentCandidate>>> tasks = computations.stream()
+        .map(computation -> (Callable<Optional<AssignmentCandidate>>) computation::get)
+        .collect(Collectors.toList());
+    try {
+      for (Future<Optional<AssignmentCandidate>> future : candidateComputationPool.invokeAll(tasks)) {
+        future.get().ifPresent(result::add);
+      }
+    }
+    catch (InterruptedException exc) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Unexpectedly interrupted", exc);
+    }
+    catch (ExecutionException exc) {
+      if (exc.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) exc.getCause();
+      }
+      throw new IllegalStateException("Exception computing assignment candidates", exc.getCause());
+    }
+
+    return result;
+  }
+
   private boolean orderAssignableToVehicle(TransportOrder order, Vehicle vehicle) {
     return order.getIntendedVehicle() == null
         || Objects.equals(order.getIntendedVehicle(), vehicle.getReference());
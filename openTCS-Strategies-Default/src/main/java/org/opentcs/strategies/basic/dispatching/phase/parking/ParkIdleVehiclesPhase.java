@@ -13,6 +13,7 @@ import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.services.InternalTransportOrderService;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.DispatchChangeTracker;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
 import org.opentcs.strategies.basic.dispatching.selection.candidates.CompositeAssignmentCandidateSelectionFilter;
 import org.opentcs.strategies.basic.dispatching.selection.vehicles.CompositeParkVehicleSelectionFilter;
@@ -37,6 +38,10 @@ public class ParkIdleVehiclesPhase
    * A filter for selecting vehicles that may be parked.
    */
   private final CompositeParkVehicleSelectionFilter vehicleSelectionFilter;
+  /**
+   * Keeps track of the vehicles to consider.
+   */
+  private final DispatchChangeTracker changeTracker;
 
   @Inject
   public ParkIdleVehiclesPhase(
@@ -46,7 +51,8 @@ public class ParkIdleVehiclesPhase
       CompositeAssignmentCandidateSelectionFilter assignmentCandidateSelectionFilter,
       TransportOrderUtil transportOrderUtil,
       DefaultDispatcherConfiguration configuration,
-      CompositeParkVehicleSelectionFilter vehicleSelectionFilter) {
+      CompositeParkVehicleSelectionFilter vehicleSelectionFilter,
+      DispatchChangeTracker changeTracker) {
     super(orderService,
           parkingPosSupplier,
           router,
@@ -54,6 +60,7 @@ public class ParkIdleVehiclesPhase
           transportOrderUtil,
           configuration);
     this.vehicleSelectionFilter = requireNonNull(vehicleSelectionFilter, "vehicleSelectionFilter");
+    this.changeTracker = requireNonNull(changeTracker, "changeTracker");
   }
 
   @Override
@@ -65,6 +72,7 @@ public class ParkIdleVehiclesPhase
     LOG.debug("Looking for vehicles to send to parking positions...");
 
     getOrderService().fetchObjects(Vehicle.class).stream()
+        .filter(changeTracker::isAffected)
         .filter(vehicle -> vehicleSelectionFilter.apply(vehicle).isEmpty())
         .forEach(vehicle -> createParkingOrder(vehicle));
   }
@@ -13,6 +13,7 @@ import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.services.InternalTransportOrderService;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.DispatchChangeTracker;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
 import org.opentcs.strategies.basic.dispatching.selection.candidates.CompositeAssignmentCandidateSelectionFilter;
 import org.opentcs.strategies.basic.dispatching.selection.vehicles.CompositeParkVehicleSelectionFilter;
@@ -36,6 +37,10 @@ public class PrioritizedParkingPhase
    * A filter for selecting vehicles that may be parked.
    */
   private final CompositeParkVehicleSelectionFilter vehicleSelectionFilter;
+  /**
+   * Keeps track of the vehicles to consider.
+   */
+  private final DispatchChangeTracker changeTracker;
 
   @Inject
   public PrioritizedParkingPhase(
@@ -45,7 +50,8 @@ public class PrioritizedParkingPhase
       CompositeAssignmentCandidateSelectionFilter assignmentCandidateSelectionFilter,
       TransportOrderUtil transportOrderUtil,
       DefaultDispatcherConfiguration configuration,
-      CompositeParkVehicleSelectionFilter vehicleSelectionFilter) {
+      CompositeParkVehicleSelectionFilter vehicleSelectionFilter,
+      DispatchChangeTracker changeTracker) {
     super(orderService,
           parkingPosSupplier,
           router,
@@ -53,6 +59,7 @@ public class PrioritizedParkingPhase
           transportOrderUtil,
           configuration);
     this.vehicleSelectionFilter = requireNonNull(vehicleSelectionFilter, "vehicleSelectionFilter");
+    this.changeTracker = requireNonNull(changeTracker, "changeTracker");
   }
 
   @Override
@@ -65,6 +72,7 @@ public class PrioritizedParkingPhase
     LOG.debug("Looking for vehicles to send to prioritized parking positions...");
 
     getOrderService().fetchObjects(Vehicle.class).stream()
+        .filter(changeTracker::isAffected)
         .filter(vehicle -> vehicleSelectionFilter.apply(vehicle).isEmpty())
         .forEach(vehicle -> createParkingOrder(vehicle));
   }
@@ -22,6 +22,7 @@ import org.opentcs.data.order.DriveOrder;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.strategies.basic.dispatching.AssignmentCandidate;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.DispatchChangeTracker;
 import org.opentcs.strategies.basic.dispatching.Phase;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
 import org.opentcs.strategies.basic.dispatching.selection.candidates.CompositeAssignmentCandidateSelectionFilter;
@@ -65,6 +66,10 @@ public class RechargeIdleVehiclesPhase
    * The dispatcher configuration.
    */
   private final DefaultDispatcherConfiguration configuration;
+  /**
+   * Keeps track of the vehicles to consider.
+   */
+  private final DispatchChangeTracker changeTracker;
   /**
    * Indicates whether this component is initialized.
    */
@@ -78,7 +83,8 @@ public class RechargeIdleVehiclesPhase
       CompositeAssignmentCandidateSelectionFilter assignmentCandidateSelectionFilter,
       CompositeRechargeVehicleSelectionFilter vehicleSelectionFilter,
       TransportOrderUtil transportOrderUtil,
-      DefaultDispatcherConfiguration configuration) {
+      DefaultDispatcherConfiguration configuration,
+      DispatchChangeTracker changeTracker) {
     this.router = requireNonNull(router, "router");
     this.orderService = requireNonNull(orderService, "orderService");
     this.rechargePosSupplier = requireNonNull(rechargePosSupplier, "rechargePosSupplier");
@@ -87,6 +93,7 @@ public class RechargeIdleVehiclesPhase
     this.vehicleSelectionFilter = requireNonNull(vehicleSelectionFilter, "vehicleSelectionFilter");
     this.transportOrderUtil = requireNonNull(transportOrderUtil, "transportOrderUtil");
     this.configuration = requireNonNull(configuration, "configuration");
+    this.changeTracker = requireNonNull(changeTracker, "changeTracker");
   }
 
   @Override
@@ -123,6 +130,7 @@ public class RechargeIdleVehiclesPhase
     }
 
     orderService.fetchObjects(Vehicle.class).stream()
+        .filter(changeTracker::isAffected)
         .filter(vehicle -> vehicleSelectionFilter.apply(vehicle).isEmpty())
         .forEach(vehicle -> createRechargeOrder(vehicle));
   }
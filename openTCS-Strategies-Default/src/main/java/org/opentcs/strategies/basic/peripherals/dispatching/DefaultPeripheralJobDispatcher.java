@@ -17,16 +17,25 @@ import javax.inject.Provider;
 import org.opentcs.components.kernel.PeripheralJobDispatcher;
 import org.opentcs.components.kernel.services.InternalPeripheralJobService;
 import org.opentcs.components.kernel.services.InternalPeripheralService;
-import org.opentcs.customizations.kernel.KernelExecutor;
+import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.customizations.kernel.DispatcherExecutor;
 import org.opentcs.data.model.Location;
 import org.opentcs.data.model.PeripheralInformation;
 import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.drivers.peripherals.PeripheralJobCallback;
+import org.opentcs.util.event.EventSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Dispatches peripheral jobs and peripheral devices represented by locations.
+ * <p>
+ * Dispatching tasks are executed on the dispatcher executor in the order they were submitted.
+ * That executor may run concurrently with other kernel tasks, though, so this class does not rely
+ * on it for exclusive access to shared state: Accesses to the kernel's working set are serialized
+ * by the kernel services (via the {@code WorkingSetLock}), and the {@link PeripheralJobQueues}
+ * synchronize accesses to themselves.
+ * </p>
  *
  * @author Martin Grzenia (Fraunhofer IML)
  */
@@ -47,9 +56,9 @@ public class DefaultPeripheralJobDispatcher
    */
   private final InternalPeripheralJobService peripheralJobService;
   /**
-   * The kernel's executor.
+   * Executes dispatching tasks.
    */
-  private final ScheduledExecutorService kernelExecutor;
+  private final ScheduledExecutorService dispatcherExecutor;
   /**
    * Performs a full dispatch run.
    */
@@ -62,6 +71,14 @@ public class DefaultPeripheralJobDispatcher
    * The peripheral job dispatcher's configuration.
    */
   private final DefaultPeripheralJobDispatcherConfiguration configuration;
+  /**
+   * Where we register for application events.
+   */
+  private final EventSource eventSource;
+  /**
+   * Keeps track of the jobs to be processed by each peripheral device.
+   */
+  private final PeripheralJobQueues jobQueues;
   /**
    * The future for the periodic dispatch task.
    */
@@ -76,26 +93,32 @@ public class DefaultPeripheralJobDispatcher
    *
    * @param peripheralService The peripheral service to use.
    * @param peripheralJobService The peripheral job service to use.
-   * @param kernelExecutor Executes dispatching tasks.
+   * @param dispatcherExecutor Executes dispatching tasks.
    * @param fullDispatchTask Performs a full dispatch run.
    * @param periodicDispatchTaskProvider A task to periodically trigger the job dispatcher.
    * @param configuration The peripheral job dispatcher's configuration.
+   * @param eventSource Where this instance registers for application events.
+   * @param jobQueues Keeps track of the jobs to be processed by each peripheral device.
    */
   @Inject
   public DefaultPeripheralJobDispatcher(
       InternalPeripheralService peripheralService,
       InternalPeripheralJobService peripheralJobService,
-      @KernelExecutor ScheduledExecutorService kernelExecutor,
+      @DispatcherExecutor ScheduledExecutorService dispatcherExecutor,
       FullDispatchTask fullDispatchTask,
       Provider<PeriodicPeripheralRedispatchingTask> periodicDispatchTaskProvider,
-      DefaultPeripheralJobDispatcherConfiguration configuration) {
+      DefaultPeripheralJobDispatcherConfiguration configuration,
+      @ApplicationEventBus EventSource eventSource,
+      PeripheralJobQueues jobQueues) {
     this.peripheralService = requireNonNull(peripheralService, "peripheralService");
     this.peripheralJobService = requireNonNull(peripheralJobService, "peripheralJobService");
-    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    this.dispatcherExecutor = requireNonNull(dispatcherExecutor, "dispatcherExecutor");
     this.fullDispatchTask = requireNonNull(fullDispatchTask, "fullDispatchTask");
     this.periodicDispatchTaskProvider = requireNonNull(periodicDispatchTaskProvider,
                                                        "periodicDispatchTaskProvider");
     this.configuration = requireNonNull(configuration, "configuration");
+    this.eventSource = requireNonNull(eventSource, "eventSource");
+    this.jobQueues = requireNonNull(jobQueues, "jobQueues");
   }
 
   @Override
@@ -105,11 +128,18 @@ public class DefaultPeripheralJobDispatcher
     }
 
     LOG.debug("Initializing...");
+    // Subscribe before fetching the jobs, so no job is missed.
+    eventSource.subscribe(jobQueues);
+    jobQueues.reset(peripheralJobService.fetchObjects(
+        PeripheralJob.class,
+        job -> job.getState() == PeripheralJob.State.TO_BE_PROCESSED
+    ));
+
     fullDispatchTask.initialize();
 
     LOG.debug("Scheduling periodic peripheral job dispatch task with interval of {} ms...",
               configuration.idlePeripheralRedispatchingInterval());
-    periodicDispatchTaskFuture = kernelExecutor.scheduleAtFixedRate(
+    periodicDispatchTaskFuture = dispatcherExecutor.scheduleAtFixedRate(
         periodicDispatchTaskProvider.get(),
         configuration.idlePeripheralRedispatchingInterval(),
         configuration.idlePeripheralRedispatchingInterval(),
@@ -132,6 +162,9 @@ public class DefaultPeripheralJobDispatcher
 
     fullDispatchTask.terminate();
 
+    eventSource.unsubscribe(jobQueues);
+    jobQueues.clear();
+
     initialized = false;
   }
 
@@ -143,8 +176,8 @@ public class DefaultPeripheralJobDispatcher
   @Override
   public void dispatch() {
     LOG.debug("Scheduling dispatch task...");
-    // Schedule this to be executed by the kernel executor.
-    kernelExecutor.submit(fullDispatchTask);
+    // Schedule this to be executed by the dispatcher executor.
+    dispatcherExecutor.submit(fullDispatchTask);
   }
 
   @Override
@@ -152,8 +185,8 @@ public class DefaultPeripheralJobDispatcher
     requireNonNull(location, "location");
     checkState(isInitialized(), "Not initialized");
 
-    // Schedule this to be executed by the kernel executor.
-    kernelExecutor.submit(() -> {
+    // Schedule this to be executed by the dispatcher executor.
+    dispatcherExecutor.submit(() -> {
       LOG.debug("Scheduling withdrawal for location '{}'...", location.getName());
 
       // TODO Abort peripheral job
@@ -162,7 +195,7 @@ public class DefaultPeripheralJobDispatcher
 
   @Override
   public void peripheralJobFinished(PeripheralJob job) {
-    kernelExecutor.submit(() -> {
+    dispatcherExecutor.submit(() -> {
       peripheralJobService.updatePeripheralJobState(job.getReference(),
                                                     PeripheralJob.State.FINISHED);
       peripheralService.updatePeripheralProcState(job.getPeripheralOperation().getLocation(),
@@ -175,7 +208,7 @@ public class DefaultPeripheralJobDispatcher
 
   @Override
   public void peripheralJobFailed(PeripheralJob job) {
-    kernelExecutor.submit(() -> {
+    dispatcherExecutor.submit(() -> {
       peripheralJobService.updatePeripheralJobState(job.getReference(),
                                                     PeripheralJob.State.FAILED);
       peripheralService.updatePeripheralProcState(job.getPeripheralOperation().getLocation(),
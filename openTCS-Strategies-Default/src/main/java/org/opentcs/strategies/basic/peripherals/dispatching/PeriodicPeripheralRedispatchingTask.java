@@ -8,6 +8,7 @@
 package org.opentcs.strategies.basic.peripherals.dispatching;
 
 import static java.util.Objects.requireNonNull;
+import java.util.Set;
 import javax.inject.Inject;
 import org.opentcs.components.kernel.services.PeripheralDispatcherService;
 import org.opentcs.components.kernel.services.TCSObjectService;
@@ -33,30 +34,42 @@ public class PeriodicPeripheralRedispatchingTask
 
   private final TCSObjectService objectService;
 
+  private final PeripheralJobQueues jobQueues;
+
   /**
    * Creates a new instance.
    *
    * @param dispatcherService The dispatcher service used to dispatch peripheral devices.
    * @param objectService The object service.
+   * @param jobQueues Keeps track of the jobs to be processed by each peripheral device.
    */
   @Inject
   public PeriodicPeripheralRedispatchingTask(PeripheralDispatcherService dispatcherService,
-                                             TCSObjectService objectService) {
+                                             TCSObjectService objectService,
+                                             PeripheralJobQueues jobQueues) {
     this.dispatcherService = requireNonNull(dispatcherService, "dispatcherService");
     this.objectService = requireNonNull(objectService, "objectService");
+    this.jobQueues = requireNonNull(jobQueues, "jobQueues");
   }
 
   @Override
   public void run() {
     // If there are any peripheral devices that could process a peripheral job,
     // trigger the dispatcher once.
-    objectService.fetchObjects(Location.class, this::couldProcessJob).stream()
-        .findAny()
-        .ifPresent(location -> {
-          LOG.debug("Peripheral {} could process peripheral job, triggering dispatcher ...",
-                    location);
-          dispatcherService.dispatch();
-        });
+    Set<Location> locations = objectService.fetchObjects(Location.class, this::couldProcessJob);
+    if (locations.isEmpty()) {
+      return;
+    }
+
+    // Peripheral devices may have refused jobs before without any change being visible to the
+    // dispatcher, so have the ones with jobs waiting for them checked again.
+    locations.stream()
+        .filter(location -> jobQueues.hasJobs(location))
+        .forEach(location -> jobQueues.markChanged(location));
+
+    LOG.debug("Peripheral {} could process peripheral job, triggering dispatcher ...",
+              locations.iterator().next());
+    dispatcherService.dispatch();
   }
 
   private boolean couldProcessJob(Location location) {
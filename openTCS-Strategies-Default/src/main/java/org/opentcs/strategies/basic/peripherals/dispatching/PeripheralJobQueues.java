@@ -0,0 +1,221 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.peripherals.dispatching;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.peripherals.PeripheralJob;
+import org.opentcs.util.Comparators;
+import org.opentcs.util.event.SynchronousEventHandler;
+
+/**
+ * Keeps track of the peripheral jobs waiting to be processed, per location, and of the locations
+ * that changed since they were last checked for jobs to be assigned.
+ * <p>
+ * The queues are kept up to date based on the kernel's object events:
+ * </p>
+ * <ul>
+ * <li>A peripheral job in state {@link PeripheralJob.State#TO_BE_PROCESSED} is added to the queue
+ * of the location of its operation, and the location is marked as changed.</li>
+ * <li>A peripheral job in any other state (or a removed one) is removed from its queue.</li>
+ * <li>A modified location (e.g. one that became idle or lost its reservation token) is marked as
+ * changed.</li>
+ * </ul>
+ * <p>
+ * This way, a dispatch run only needs to look at the locations marked as changed and only at the
+ * jobs queued for these locations.
+ * </p>
+ *
+ * @author agent
+ */
+public class PeripheralJobQueues
+    implements SynchronousEventHandler {
+
+  /**
+   * The queued peripheral jobs, mapped by their names.
+   */
+  private final Map<String, PeripheralJob> jobsByName = new HashMap<>();
+  /**
+   * The queued peripheral jobs, mapped by the names of their operations' locations and ordered by
+   * age.
+   */
+  private final Map<String, TreeSet<PeripheralJob>> jobsByLocationName = new HashMap<>();
+  /**
+   * The names of locations that changed since they were last checked.
+   */
+  private final Set<String> changedLocations = new HashSet<>();
+
+  /**
+   * Creates a new instance.
+   */
+  @Inject
+  public PeripheralJobQueues() {
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    if (!(event instanceof TCSObjectEvent)) {
+      return;
+    }
+
+    TCSObjectEvent objectEvent = (TCSObjectEvent) event;
+    TCSObject<?> object = objectEvent.getCurrentOrPreviousObjectState();
+    if (object instanceof PeripheralJob) {
+      if (objectEvent.getType() == TCSObjectEvent.Type.OBJECT_REMOVED) {
+        remove((PeripheralJob) object);
+      }
+      else {
+        update((PeripheralJob) object);
+      }
+    }
+    else if (object instanceof Location
+        && objectEvent.getType() != TCSObjectEvent.Type.OBJECT_REMOVED) {
+      markChanged((Location) object);
+    }
+  }
+
+  /**
+   * Clears all queues and adds the given peripheral jobs to them.
+   * All locations the given jobs are queued for are marked as changed.
+   *
+   * @param jobs The peripheral jobs. Jobs not waiting to be processed are ignored.
+   */
+  public synchronized void reset(@Nonnull Collection<PeripheralJob> jobs) {
+    requireNonNull(jobs, "jobs");
+
+    clear();
+    for (PeripheralJob job : jobs) {
+      update(job);
+    }
+  }
+
+  /**
+   * Clears all queues and changed locations.
+   */
+  public synchronized void clear() {
+    jobsByName.clear();
+    jobsByLocationName.clear();
+    changedLocations.clear();
+  }
+
+  /**
+   * Updates the queues with the given peripheral job's current state.
+   * If the job is waiting to be processed, it is added to the queue of its operation's location
+   * and the location is marked as changed; otherwise, it is removed from its queue.
+   *
+   * @param job The peripheral job.
+   */
+  public synchronized void update(@Nonnull PeripheralJob job) {
+    requireNonNull(job, "job");
+
+    if (job.getState() != PeripheralJob.State.TO_BE_PROCESSED) {
+      remove(job);
+      return;
+    }
+
+    String locationName = job.getPeripheralOperation().getLocation().getName();
+    PeripheralJob previousJob = jobsByName.put(job.getName(), job);
+    TreeSet<PeripheralJob> queue = jobsByLocationName.computeIfAbsent(
+        locationName,
+        name -> new TreeSet<>(Comparators.jobsByAge())
+    );
+    if (previousJob != null) {
+      // The ordering only depends on the job's creation time and name, so this replaces the
+      // previous state of the job.
+      queue.remove(previousJob);
+    }
+    queue.add(job);
+    changedLocations.add(locationName);
+  }
+
+  /**
+   * Removes the given peripheral job from its queue.
+   *
+   * @param job The peripheral job.
+   */
+  public synchronized void remove(@Nonnull PeripheralJob job) {
+    requireNonNull(job, "job");
+
+    PeripheralJob previousJob = jobsByName.remove(job.getName());
+    if (previousJob == null) {
+      return;
+    }
+
+    String locationName = previousJob.getPeripheralOperation().getLocation().getName();
+    TreeSet<PeripheralJob> queue = jobsByLocationName.get(locationName);
+    queue.remove(previousJob);
+    if (queue.isEmpty()) {
+      jobsByLocationName.remove(locationName);
+    }
+  }
+
+  /**
+   * Marks the given location as changed, so it is checked for jobs to be assigned again.
+   *
+   * @param location The location.
+   */
+  public synchronized void markChanged(@Nonnull Location location) {
+    requireNonNull(location, "location");
+
+    changedLocations.add(location.getName());
+  }
+
+  /**
+   * Returns the names of the locations that changed since they were last checked and that have
+   * jobs queued, and forgets about the changes.
+   *
+   * @return The names of the changed locations with jobs queued.
+   */
+  public synchronized Set<String> takeChangedLocationsWithJobs() {
+    Set<String> result = new HashSet<>();
+    for (String locationName : changedLocations) {
+      if (jobsByLocationName.containsKey(locationName)) {
+        result.add(locationName);
+      }
+    }
+    changedLocations.clear();
+    return result;
+  }
+
+  /**
+   * Checks whether there are any jobs queued for the given location.
+   *
+   * @param location The location.
+   * @return {@code true} if, and only if, there are jobs queued for the given location.
+   */
+  public synchronized boolean hasJobs(@Nonnull Location location) {
+    requireNonNull(location, "location");
+
+    return jobsByLocationName.containsKey(location.getName());
+  }
+
+  /**
+   * Returns the jobs queued for the given location.
+   *
+   * @param location The location.
+   * @return The jobs queued for the given location, ordered by age (oldest first).
+   */
+  public synchronized List<PeripheralJob> getJobs(@Nonnull Location location) {
+    requireNonNull(location, "location");
+
+    TreeSet<PeripheralJob> queue = jobsByLocationName.get(location.getName());
+    return queue == null ? new ArrayList<>() : new ArrayList<>(queue);
+  }
+}
@@ -7,12 +7,9 @@
  */
 package org.opentcs.strategies.basic.peripherals.dispatching.phase;
 
-import java.util.Collection;
-import java.util.Objects;
 import static java.util.Objects.requireNonNull;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 import javax.inject.Inject;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Location;
@@ -21,6 +18,7 @@ import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.drivers.peripherals.PeripheralControllerPool;
 import org.opentcs.strategies.basic.peripherals.dispatching.JobSelectionStrategy;
 import org.opentcs.strategies.basic.peripherals.dispatching.PeripheralDispatcherPhase;
+import org.opentcs.strategies.basic.peripherals.dispatching.PeripheralJobQueues;
 import org.opentcs.strategies.basic.peripherals.dispatching.PeripheralJobUtil;
 import org.opentcs.util.ExplainedBoolean;
 import org.slf4j.Logger;
@@ -29,6 +27,10 @@ import org.slf4j.LoggerFactory;
 /**
  * Assigns peripheral jobs to peripheral devices that are currently not processing any and are
  * not reserved for any reservation token.
+ * <p>
+ * Only peripheral devices that changed or received new jobs since they were last checked are
+ * considered, and only the jobs queued for them.
+ * </p>
  *
  * @author Martin Grzenia (Fraunhofer IML)
  */
@@ -55,6 +57,10 @@ public class AssignFreePeripheralsPhase
    * Provides service functions for working with peripheral jobs and their states.
    */
   private final PeripheralJobUtil peripheralJobUtil;
+  /**
+   * Keeps track of the jobs to be processed by each peripheral device.
+   */
+  private final PeripheralJobQueues jobQueues;
   /**
    * Indicates whether this component is initialized.
    */
@@ -64,12 +70,14 @@ public class AssignFreePeripheralsPhase
   public AssignFreePeripheralsPhase(TCSObjectService objectService,
                                     JobSelectionStrategy jobSelectionStrategy,
                                     PeripheralControllerPool peripheralControllerPool,
-                                    PeripheralJobUtil peripheralJobUtil) {
+                                    PeripheralJobUtil peripheralJobUtil,
+                                    PeripheralJobQueues jobQueues) {
     this.objectService = requireNonNull(objectService, "objectService");
     this.jobSelectionStrategy = requireNonNull(jobSelectionStrategy, "jobSelectionStrategy");
     this.peripheralControllerPool = requireNonNull(peripheralControllerPool,
                                                    "peripheralControllerPool");
     this.peripheralJobUtil = requireNonNull(peripheralJobUtil, "peripheralJobUtil");
+    this.jobQueues = requireNonNull(jobQueues, "jobQueues");
   }
 
   @Override
@@ -95,20 +103,19 @@ public class AssignFreePeripheralsPhase
 
   @Override
   public void run() {
-    Set<Location> availablePeripherals = objectService.fetchObjects(Location.class,
-                                                                    this::availableForAnyJob);
-    if (availablePeripherals.isEmpty()) {
-      LOG.debug("No peripherals available, skipping potentially expensive fetching of jobs.");
+    Set<String> changedLocations = jobQueues.takeChangedLocationsWithJobs();
+    if (changedLocations.isEmpty()) {
+      LOG.debug("No changed peripherals with jobs to be processed, skipping.");
       return;
     }
-    Set<PeripheralJob> jobsToBeProcessed = objectService.fetchObjects(PeripheralJob.class,
-                                                                      this::toBeProcessed);
-    LOG.debug("Available for dispatching: {} peripheral jobs and {} peripheral devices.",
-              jobsToBeProcessed.size(),
-              availablePeripherals.size());
-
-    for (Location location : availablePeripherals) {
-      tryAssignJob(location, jobsToBeProcessed);
+    LOG.debug("Checking {} changed peripheral devices for jobs to be processed.",
+              changedLocations.size());
+
+    for (String locationName : changedLocations) {
+      Location location = objectService.fetchObject(Location.class, locationName);
+      if (location != null && availableForAnyJob(location)) {
+        tryAssignJob(location);
+      }
     }
   }
 
@@ -127,18 +134,10 @@ public class AssignFreePeripheralsPhase
     return location.getPeripheralInformation().getReservationToken() != null;
   }
 
-  private boolean toBeProcessed(PeripheralJob job) {
-    return job.getState() == PeripheralJob.State.TO_BE_PROCESSED;
-  }
-
-  private void tryAssignJob(Location location, Collection<PeripheralJob> availableJobs) {
+  private void tryAssignJob(Location location) {
     LOG.debug("Trying to find job for peripheral '{}'...", location.getName());
-    Optional<PeripheralJob> selectedJob = jobSelectionStrategy.select(
-        availableJobs.stream()
-            .filter(job -> matchesLocation(job, location))
-            .collect(Collectors.toList()),
-        location
-    );
+    Optional<PeripheralJob> selectedJob = jobSelectionStrategy.select(jobQueues.getJobs(location),
+                                                                      location);
     if (selectedJob.isEmpty()) {
       return;
     }
@@ -155,11 +154,6 @@ public class AssignFreePeripheralsPhase
     assignJob(selectedJob.get(), location);
   }
 
-  private boolean matchesLocation(PeripheralJob job, Location location) {
-    return Objects.equals(job.getPeripheralOperation().getLocation(),
-                          location.getReference());
-  }
-
   private ExplainedBoolean canProcess(Location location, PeripheralJob job) {
     return peripheralControllerPool
         .getPeripheralController(location.getReference()).canProcess(job);
@@ -16,8 +16,8 @@ import org.opentcs.data.model.PeripheralInformation;
 import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.drivers.peripherals.PeripheralControllerPool;
 import org.opentcs.strategies.basic.peripherals.dispatching.PeripheralDispatcherPhase;
+import org.opentcs.strategies.basic.peripherals.dispatching.PeripheralJobQueues;
 import org.opentcs.strategies.basic.peripherals.dispatching.PeripheralJobUtil;
-import org.opentcs.util.Comparators;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,6 +47,10 @@ public class AssignReservedPeripheralsPhase
    * Provides service functions for working with peripheral jobs and their states.
    */
   private final PeripheralJobUtil peripheralJobUtil;
+  /**
+   * Keeps track of the jobs to be processed by each peripheral device.
+   */
+  private final PeripheralJobQueues jobQueues;
   /**
    * Indicates whether this component is initialized.
    */
@@ -55,11 +59,13 @@ public class AssignReservedPeripheralsPhase
   @Inject
   public AssignReservedPeripheralsPhase(TCSObjectService objectService,
                                         PeripheralControllerPool peripheralControllerPool,
-                                        PeripheralJobUtil peripheralJobUtil) {
+                                        PeripheralJobUtil peripheralJobUtil,
+                                        PeripheralJobQueues jobQueues) {
     this.objectService = requireNonNull(objectService, "objectService");
     this.peripheralControllerPool = requireNonNull(peripheralControllerPool,
                                                    "peripheralControllerPool");
     this.peripheralJobUtil = requireNonNull(peripheralJobUtil, "peripheralJobUtil");
+    this.jobQueues = requireNonNull(jobQueues, "jobQueues");
   }
 
   @Override
@@ -107,29 +113,19 @@ public class AssignReservedPeripheralsPhase
   }
 
   private void checkForReservedJobs(Location location) {
-    objectService.fetchObjects(PeripheralJob.class, this::toBeProcessed).stream()
+    // The queued jobs are already ordered by age.
+    jobQueues.getJobs(location).stream()
         .filter(job -> matchesReservationToken(job, location))
-        .filter(job -> matchesLocation(job, location))
         .filter(job -> canProcess(location, job))
-        .sorted(Comparators.jobsByAge())
         .findFirst()
         .ifPresent(job -> assignJob(job, location));
   }
 
-  private boolean toBeProcessed(PeripheralJob job) {
-    return job.getState() == PeripheralJob.State.TO_BE_PROCESSED;
-  }
-
   private boolean matchesReservationToken(PeripheralJob job, Location location) {
     return Objects.equals(job.getReservationToken(),
                           location.getPeripheralInformation().getReservationToken());
   }
 
-  private boolean matchesLocation(PeripheralJob job, Location location) {
-    return Objects.equals(job.getPeripheralOperation().getLocation(),
-                          location.getReference());
-  }
-
   private boolean canProcess(Location location, PeripheralJob job) {
     return peripheralControllerPool.getPeripheralController(location.getReference())
         .canProcess(job).getValue();
@@ -37,6 +37,12 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A basic {@link Router} implementation.
+ * <p>
+ * Route and cost queries do not modify any state apart from lazily creating point routers, and
+ * the point routers used are required to support concurrent queries.
+ * Queries may thus be performed concurrently, e.g. for computing assignment candidates in parallel.
+ * Creation of point routers and modification of selected routes are synchronized.
+ * </p>
  *
  * @author Stefan Walter (Fraunhofer IML)
  */
@@ -137,29 +143,25 @@ public class DefaultRouter
   public Set<Vehicle> checkRoutability(TransportOrder order) {
     requireNonNull(order, "order");
 
-    synchronized (this) {
-      Set<Vehicle> result = new HashSet<>();
-      List<DriveOrder> driveOrderList = order.getFutureDriveOrders();
-      DriveOrder[] driveOrders
-          = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
-
-      // Since point routers get reset on topology changes, make sure there are point routers for 
-      // all routing groups.
-      createMissingPointRouters();
-
-      for (Map.Entry<String, PointRouter> curEntry : pointRoutersByVehicleGroup.entrySet()) {
-        // Get all points at the first location at which a vehicle of the current
-        // type can execute the desired operation and check if an acceptable route
-        // originating in one of them exists.
-        for (Point curStartPoint : getDestinationPoints(driveOrders[0])) {
-          if (isRoutable(curStartPoint, driveOrders, 1, curEntry.getValue())) {
-            result.addAll(getVehiclesByRoutingGroup(curEntry.getKey()));
-            break;
-          }
+    Set<Vehicle> result = new HashSet<>();
+    List<DriveOrder> driveOrderList = order.getFutureDriveOrders();
+    DriveOrder[] driveOrders
+        = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
+
+    // Since point routers get reset on topology changes, make sure there are point routers for 
+    // all routing groups.
+    for (Map.Entry<String, PointRouter> curEntry : createMissingPointRouters().entrySet()) {
+      // Get all points at the first location at which a vehicle of the current
+      // type can execute the desired operation and check if an acceptable route
+      // originating in one of them exists.
+      for (Point curStartPoint : getDestinationPoints(driveOrders[0])) {
+        if (isRoutable(curStartPoint, driveOrders, 1, curEntry.getValue())) {
+          result.addAll(getVehiclesByRoutingGroup(curEntry.getKey()));
+          break;
         }
       }
-      return result;
     }
+    return result;
   }
 
   @Override
@@ -170,17 +172,15 @@ public class DefaultRouter
     requireNonNull(sourcePoint, "sourcePoint");
     requireNonNull(transportOrder, "transportOrder");
 
-    synchronized (this) {
-      List<DriveOrder> driveOrderList = transportOrder.getFutureDriveOrders();
-      DriveOrder[] driveOrders = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
-      PointRouter pointRouter = getPointRouterForVehicle(vehicle);
-      OrderRouteParameterStruct params = new OrderRouteParameterStruct(driveOrders, pointRouter);
-      OrderRouteResultStruct resultStruct = new OrderRouteResultStruct(driveOrderList.size());
-      computeCheapestOrderRoute(sourcePoint, params, 0, resultStruct);
-      return (resultStruct.bestCosts == Long.MAX_VALUE)
-          ? Optional.empty()
-          : Optional.of(Arrays.asList(resultStruct.bestRoute));
-    }
+    List<DriveOrder> driveOrderList = transportOrder.getFutureDriveOrders();
+    DriveOrder[] driveOrders = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
+    PointRouter pointRouter = getPointRouterForVehicle(vehicle);
+    OrderRouteParameterStruct params = new OrderRouteParameterStruct(driveOrders, pointRouter);
+    OrderRouteResultStruct resultStruct = new OrderRouteResultStruct(driveOrderList.size());
+    computeCheapestOrderRoute(sourcePoint, params, 0, resultStruct);
+    return (resultStruct.bestCosts == Long.MAX_VALUE)
+        ? Optional.empty()
+        : Optional.of(Arrays.asList(resultStruct.bestRoute));
   }
 
   @Override
@@ -191,20 +191,18 @@ public class DefaultRouter
     requireNonNull(sourcePoint, "sourcePoint");
     requireNonNull(destinationPoint, "destinationPoint");
 
-    synchronized (this) {
-      PointRouter pointRouter = getPointRouterForVehicle(vehicle);
-      long costs = pointRouter.getCosts(sourcePoint, destinationPoint);
-      if (costs == INFINITE_COSTS) {
-        return Optional.empty();
-      }
-      List<Route.Step> steps = pointRouter.getRouteSteps(sourcePoint, destinationPoint);
-      if (steps.isEmpty()) {
-        // If the list of steps is empty, we're already at the destination point
-        // Create a single step without a path.
-        steps.add(new Route.Step(null, null, sourcePoint, Vehicle.Orientation.UNDEFINED, 0));
-      }
-      return Optional.of(new Route(steps, costs));
+    PointRouter pointRouter = getPointRouterForVehicle(vehicle);
+    long costs = pointRouter.getCosts(sourcePoint, destinationPoint);
+    if (costs == INFINITE_COSTS) {
+      return Optional.empty();
+    }
+    List<Route.Step> steps = pointRouter.getRouteSteps(sourcePoint, destinationPoint);
+    if (steps.isEmpty()) {
+      // If the list of steps is empty, we're already at the destination point
+      // Create a single step without a path.
+      steps.add(new Route.Step(null, null, sourcePoint, Vehicle.Orientation.UNDEFINED, 0));
     }
+    return Optional.of(new Route(steps, costs));
   }
 
   @Override
@@ -215,9 +213,7 @@ public class DefaultRouter
     requireNonNull(sourcePoint, "sourcePoint");
     requireNonNull(destinationPoint, "destinationPoint");
 
-    synchronized (this) {
-      return getPointRouterForVehicle(vehicle).getCosts(sourcePoint, destinationPoint);
-    }
+    return getPointRouterForVehicle(vehicle).getCosts(sourcePoint, destinationPoint);
   }
 
   @Override
@@ -228,9 +224,7 @@ public class DefaultRouter
     requireNonNull(srcPointRef, "srcPointRef");
     requireNonNull(dstPointRef, "dstPointRef");
 
-    synchronized (this) {
-      return getPointRouterForVehicle(vehicle).getCosts(srcPointRef, dstPointRef);
-    }
+    return getPointRouterForVehicle(vehicle).getCosts(srcPointRef, dstPointRef);
   }
 
   @Override
@@ -267,14 +261,23 @@ public class DefaultRouter
     }
   }
 
-  private void createMissingPointRouters() {
+  /**
+   * Creates point routers for all routing groups that do not have one, yet.
+   *
+   * @return The point routers for all routing groups, mapped by routing group.
+   */
+  private Map<String, PointRouter> createMissingPointRouters() {
     Map<String, Vehicle> distinctRoutingGroups = new HashMap<>();
     for (Vehicle vehicle : objectService.fetchObjects(Vehicle.class)) {
       distinctRoutingGroups.putIfAbsent(routingGroupMapper.apply(vehicle), vehicle);
     }
 
     // Lazily create point routers if they don't exist.
-    distinctRoutingGroups.forEach((routingGroup, vehicle) -> getPointRouterForVehicle(vehicle));
+    Map<String, PointRouter> result = new HashMap<>();
+    distinctRoutingGroups.forEach(
+        (routingGroup, vehicle) -> result.put(routingGroup, getPointRouterForVehicle(vehicle))
+    );
+    return result;
   }
 
   /**
@@ -285,12 +288,18 @@ public class DefaultRouter
    */
   private PointRouter getPointRouterForVehicle(Vehicle vehicle) {
     String routingGroup = routingGroupMapper.apply(vehicle);
-    if (!pointRoutersByVehicleGroup.containsKey(routingGroup)) {
-      pointRoutersByVehicleGroup.put(routingGroup,
-                                     pointRouterFactory.createPointRouter(vehicle));
+    PointRouter pointRouter = pointRoutersByVehicleGroup.get(routingGroup);
+    if (pointRouter != null) {
+      return pointRouter;
     }
 
-    return pointRoutersByVehicleGroup.get(routingGroup);
+    // Create point routers one at a time, as edge evaluators are not required to be thread-safe.
+    synchronized (this) {
+      return pointRoutersByVehicleGroup.computeIfAbsent(
+          routingGroup,
+          group -> pointRouterFactory.createPointRouter(vehicle)
+      );
+    }
   }
 
   /**
@@ -15,6 +15,9 @@ import org.opentcs.data.order.Route;
 
 /**
  * Computes routes between points.
+ * <p>
+ * Implementations are expected to support concurrent route and cost queries.
+ * </p>
  *
  * @author Stefan Walter (Fraunhofer IML)
  */
@@ -0,0 +1,226 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.csr;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import javax.annotation.Nonnull;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.model.Point;
+import static org.opentcs.util.Assertions.checkArgument;
+
+/**
+ * An immutable, weighted and directed graph in compressed sparse row (CSR) format.
+ * <p>
+ * Vertices are identified by dense indices in the range {@code [0, getVertexCount())}.
+ * The outgoing edges of vertex {@code v} are stored at the edge indices
+ * {@code [getEdgeOffset(v), getEdgeOffset(v + 1))}.
+ * </p>
+ *
+ * @author agent
+ */
+public class CsrGraph {
+
+  /**
+   * The points represented by the vertices, indexed by vertex.
+   */
+  private final Point[] points;
+  /**
+   * Maps point names to vertex indices.
+   */
+  private final Map<String, Integer> vertexIndices;
+  /**
+   * The offsets of each vertex's outgoing edges, indexed by vertex.
+   * Contains one additional element marking the end of the last vertex's edges.
+   */
+  private final int[] edgeOffsets;
+  /**
+   * The source vertices of the edges, indexed by edge.
+   */
+  private final int[] edgeSources;
+  /**
+   * The target vertices of the edges, indexed by edge.
+   */
+  private final int[] edgeTargets;
+  /**
+   * The weights of the edges, indexed by edge.
+   */
+  private final double[] edgeWeights;
+  /**
+   * The model edges, indexed by edge.
+   */
+  private final Edge[] edges;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param points The points represented by the vertices, in vertex order.
+   * @param edges The edges of the graph.
+   * Each edge's source and target points must be contained in the given list of points.
+   * @param edgeWeights The weights of the given edges, in the same order.
+   */
+  public CsrGraph(@Nonnull List<Point> points,
+                  @Nonnull List<Edge> edges,
+                  @Nonnull double[] edgeWeights) {
+    requireNonNull(points, "points");
+    requireNonNull(edges, "edges");
+    requireNonNull(edgeWeights, "edgeWeights");
+    checkArgument(edges.size() == edgeWeights.length,
+                  "Number of edges (%s) and weights (%s) differ",
+                  edges.size(),
+                  edgeWeights.length);
+
+    this.points = points.toArray(new Point[points.size()]);
+    Map<String, Integer> indices = new HashMap<>();
+    for (int i = 0; i < this.points.length; i++) {
+      indices.put(this.points[i].getName(), i);
+    }
+    this.vertexIndices = Collections.unmodifiableMap(indices);
+
+    int edgeCount = edges.size();
+    int[] unsortedSources = new int[edgeCount];
+    int[] unsortedTargets = new int[edgeCount];
+    this.edgeOffsets = new int[this.points.length + 1];
+    for (int i = 0; i < edgeCount; i++) {
+      unsortedSources[i] = requireVertex(sourcePointName(edges.get(i)));
+      unsortedTargets[i] = requireVertex(targetPointName(edges.get(i)));
+      edgeOffsets[unsortedSources[i] + 1]++;
+    }
+    for (int v = 0; v < this.points.length; v++) {
+      edgeOffsets[v + 1] += edgeOffsets[v];
+    }
+
+    // Counting sort of the edges by their source vertices, preserving the given order otherwise.
+    this.edgeSources = new int[edgeCount];
+    this.edgeTargets = new int[edgeCount];
+    this.edgeWeights = new double[edgeCount];
+    this.edges = new Edge[edgeCount];
+    int[] nextPositions = new int[this.points.length];
+    System.arraycopy(edgeOffsets, 0, nextPositions, 0, this.points.length);
+    for (int i = 0; i < edgeCount; i++) {
+      int position = nextPositions[unsortedSources[i]]++;
+      this.edgeSources[position] = unsortedSources[i];
+      this.edgeTargets[position] = unsortedTargets[i];
+      this.edgeWeights[position] = edgeWeights[i];
+      this.edges[position] = edges.get(i);
+    }
+  }
+
+  /**
+   * Returns the number of vertices in this graph.
+   *
+   * @return The number of vertices in this graph.
+   */
+  public int getVertexCount() {
+    return points.length;
+  }
+
+  /**
+   * Returns the number of edges in this graph.
+   *
+   * @return The number of edges in this graph.
+   */
+  public int getEdgeCount() {
+    return edges.length;
+  }
+
+  /**
+   * Returns the index of the vertex representing the point with the given name.
+   *
+   * @param pointName The name of the point.
+   * @return The index of the vertex, or {@code -1}, if this graph does not contain such a vertex.
+   */
+  public int getVertex(@Nonnull String pointName) {
+    Integer index = vertexIndices.get(pointName);
+    return index == null ? -1 : index;
+  }
+
+  /**
+   * Returns the point represented by the given vertex.
+   *
+   * @param vertex The vertex.
+   * @return The point represented by the given vertex.
+   */
+  @Nonnull
+  public Point getPoint(int vertex) {
+    return points[vertex];
+  }
+
+  /**
+   * Returns the index of the first outgoing edge of the given vertex.
+   * Passing {@link #getVertexCount()} returns the total number of edges.
+   *
+   * @param vertex The vertex.
+   * @return The index of the first outgoing edge of the given vertex.
+   */
+  public int getEdgeOffset(int vertex) {
+    return edgeOffsets[vertex];
+  }
+
+  /**
+   * Returns the source vertex of the given edge.
+   *
+   * @param edge The edge index.
+   * @return The source vertex of the given edge.
+   */
+  public int getEdgeSource(int edge) {
+    return edgeSources[edge];
+  }
+
+  /**
+   * Returns the target vertex of the given edge.
+   *
+   * @param edge The edge index.
+   * @return The target vertex of the given edge.
+   */
+  public int getEdgeTarget(int edge) {
+    return edgeTargets[edge];
+  }
+
+  /**
+   * Returns the weight of the given edge.
+   *
+   * @param edge The edge index.
+   * @return The weight of the given edge.
+   */
+  public double getEdgeWeight(int edge) {
+    return edgeWeights[edge];
+  }
+
+  /**
+   * Returns the model edge for the given edge index.
+   *
+   * @param edge The edge index.
+   * @return The model edge.
+   */
+  @Nonnull
+  public Edge getEdge(int edge) {
+    return edges[edge];
+  }
+
+  private int requireVertex(String pointName) {
+    Integer index = vertexIndices.get(pointName);
+    checkArgument(index != null, "Unknown point: %s", pointName);
+    return index;
+  }
+
+  private static String sourcePointName(Edge edge) {
+    return edge.isTravellingReverse()
+        ? edge.getPath().getDestinationPoint().getName()
+        : edge.getPath().getSourcePoint().getName();
+  }
+
+  private static String targetPointName(Edge edge) {
+    return edge.isTravellingReverse()
+        ? edge.getPath().getSourcePoint().getName()
+        : edge.getPath().getDestinationPoint().getName();
+  }
+}
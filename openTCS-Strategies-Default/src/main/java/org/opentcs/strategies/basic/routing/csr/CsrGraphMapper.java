@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.csr;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorComposite;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Mapper to translate a collection of points and paths into a {@link CsrGraph}.
+ * <p>
+ * Edges are evaluated exactly like with the JGraphT-based
+ * {@link org.opentcs.strategies.basic.routing.jgrapht.DefaultModelGraphMapper}.
+ * As the graph is meant to be used with Dijkstra's algorithm, edges with negative weights are
+ * always ignored.
+ * </p>
+ *
+ * @author agent
+ */
+public class CsrGraphMapper {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(CsrGraphMapper.class);
+  /**
+   * Computes the weight of single edges in the graph.
+   */
+  private final EdgeEvaluatorComposite edgeEvaluator;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param edgeEvaluator Computes the weight of single edges in the graph.
+   */
+  @Inject
+  public CsrGraphMapper(@Nonnull EdgeEvaluatorComposite edgeEvaluator) {
+    this.edgeEvaluator = requireNonNull(edgeEvaluator, "edgeEvaluator");
+  }
+
+  /**
+   * Translates the given points and paths to a weighted graph.
+   *
+   * @param points The points of the model.
+   * @param paths The paths of the model.
+   * @param vehicle The vehicle for which to build the graph.
+   * @return A weighted graph representing the topology to be used for the given vehicle.
+   */
+  public CsrGraph translateModel(@Nonnull Collection<Point> points,
+                                 @Nonnull Collection<Path> paths,
+                                 @Nonnull Vehicle vehicle) {
+    requireNonNull(points, "points");
+    requireNonNull(paths, "paths");
+    requireNonNull(vehicle, "vehicle");
+
+    edgeEvaluator.onGraphComputationStart(vehicle);
+
+    List<Edge> edges = new ArrayList<>(paths.size() * 2);
+    double[] weights = new double[paths.size() * 2];
+
+    for (Path path : paths) {
+      if (shouldAddForwardEdge(path, vehicle)) {
+        Edge edge = new Edge(path, false);
+        double weight = edgeEvaluator.computeWeight(edge, vehicle);
+        if (isAcceptable(edge, weight)) {
+          weights[edges.size()] = weight;
+          edges.add(edge);
+        }
+      }
+
+      if (shouldAddReverseEdge(path, vehicle)) {
+        Edge edge = new Edge(path, true);
+        double weight = edgeEvaluator.computeWeight(edge, vehicle);
+        if (isAcceptable(edge, weight)) {
+          weights[edges.size()] = weight;
+          edges.add(edge);
+        }
+      }
+    }
+
+    edgeEvaluator.onGraphComputationEnd(vehicle);
+
+    double[] edgeWeights = new double[edges.size()];
+    System.arraycopy(weights, 0, edgeWeights, 0, edgeWeights.length);
+    return new CsrGraph(new ArrayList<>(points), edges, edgeWeights);
+  }
+
+  /**
+   * Returns <code>true</code> if and only if the graph should contain an edge from the source
+   * of the path to its destination for the given vehicle.
+   *
+   * @param path The path
+   * @param vehicle The vehicle
+   * @return <code>true</code> if and only if the graph should contain the edge
+   */
+  protected boolean shouldAddForwardEdge(Path path, Vehicle vehicle) {
+    return path.isNavigableForward();
+  }
+
+  /**
+   * Returns <code>true</code> if and only if the graph should contain an edge from the destination
+   * of the path to its source for the given vehicle.
+   *
+   * @param path The path
+   * @param vehicle The vehicle
+   * @return <code>true</code> if and only if the graph should contain the edge
+   */
+  protected boolean shouldAddReverseEdge(Path path, Vehicle vehicle) {
+    return path.isNavigableReverse();
+  }
+
+  private boolean isAcceptable(Edge edge, double weight) {
+    if (weight < 0) {
+      LOG.warn("Edge {} with weight {} ignored. Algorithm cannot handle negative weights.",
+               edge,
+               weight);
+      return false;
+    }
+    else if (weight == Double.POSITIVE_INFINITY) {
+      LOG.debug("Edge {} with infinite weight ignored.", edge);
+      return false;
+    }
+    return true;
+  }
+}
@@ -0,0 +1,319 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.csr;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import static java.util.Objects.requireNonNull;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
+import org.opentcs.strategies.basic.routing.PointRouter;
+import static org.opentcs.util.Assertions.checkArgument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Computes routes between points using Dijkstra's algorithm on a {@link CsrGraph}.
+ * <p>
+ * The graph is never modified, and all state required for a single query is allocated per query,
+ * so instances of this class may be queried concurrently.
+ * Like {@link org.opentcs.strategies.basic.routing.jgrapht.ShortestPathPointRouter}, this
+ * implementation optionally caches shortest path trees per source point and precomputes the costs
+ * for routes between all pairs of points.
+ * </p>
+ *
+ * @author agent
+ */
+public class CsrPointRouter
+    implements PointRouter {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(CsrPointRouter.class);
+  /**
+   * The maximum number of points for which costs for routes between all pairs of points can be
+   * precomputed, as a table with one entry per pair needs to be indexable with an {@code int}.
+   */
+  static final int MAX_COST_TABLE_POINTS = 46340;
+  /**
+   * The graph to compute routes on.
+   */
+  private final CsrGraph graph;
+  /**
+   * The cached shortest path trees, mapped by their source vertices, in access order.
+   * May be {@code null} if caching is disabled.
+   */
+  private final Map<Integer, PathTree> pathTreeCache;
+  /**
+   * The precomputed costs for routes between all pairs of vertices, with the costs for the route
+   * from vertex {@code i} to vertex {@code j} stored at {@code i * vertexCount + j}.
+   * May be {@code null} if costs are not precomputed.
+   */
+  private final long[] costTable;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param graph The graph to compute routes on.
+   * @param pathTreeCacheSize The maximum number of shortest path trees to be cached.
+   * A value of 0 disables caching.
+   * @param precomputeCosts Whether to eagerly precompute the costs for routes between all pairs of
+   * points.
+   * @throws IllegalArgumentException If costs are to be precomputed for more points than a cost
+   * table indexable with an {@code int} can hold.
+   */
+  public CsrPointRouter(CsrGraph graph, int pathTreeCacheSize, boolean precomputeCosts) {
+    this.graph = requireNonNull(graph, "graph");
+    checkArgument(pathTreeCacheSize >= 0, "pathTreeCacheSize is negative: %s", pathTreeCacheSize);
+    checkArgument(!precomputeCosts || graph.getVertexCount() <= MAX_COST_TABLE_POINTS,
+                  "Too many points to precompute costs for: %s",
+                  graph.getVertexCount());
+
+    this.pathTreeCache = pathTreeCacheSize == 0 ? null : new PathTreeCache(pathTreeCacheSize);
+    this.costTable = precomputeCosts ? computeCostTable() : null;
+  }
+
+  @Override
+  public List<Route.Step> getRouteSteps(Point srcPoint, Point destPoint) {
+    requireNonNull(srcPoint, "srcPoint");
+    requireNonNull(destPoint, "destPoint");
+
+    long timeBefore = System.currentTimeMillis();
+    if (Objects.equals(srcPoint.getName(), destPoint.getName())) {
+      return new ArrayList<>();
+    }
+
+    int destVertex = vertexOf(destPoint.getName());
+    PathTree pathTree = getPathTree(vertexOf(srcPoint.getName()), destVertex);
+    if (!pathTree.isReachable(destVertex)) {
+      return null;
+    }
+
+    List<Route.Step> result = translateToSteps(pathTree, destVertex);
+
+    LOG.debug("Looking up route from {} to {} took {} milliseconds.",
+              srcPoint.getName(),
+              destPoint.getName(),
+              System.currentTimeMillis() - timeBefore);
+
+    return result;
+  }
+
+  @Override
+  public long getCosts(TCSObjectReference<Point> srcPointRef,
+                       TCSObjectReference<Point> destPointRef) {
+    requireNonNull(srcPointRef, "srcPointRef");
+    requireNonNull(destPointRef, "destPointRef");
+
+    if (Objects.equals(srcPointRef.getName(), destPointRef.getName())) {
+      return 0;
+    }
+
+    int srcVertex = vertexOf(srcPointRef.getName());
+    int destVertex = vertexOf(destPointRef.getName());
+    if (costTable != null) {
+      return costTable[srcVertex * graph.getVertexCount() + destVertex];
+    }
+
+    return getPathTree(srcVertex, destVertex).getCosts(destVertex);
+  }
+
+  private int vertexOf(String pointName) {
+    int vertex = graph.getVertex(pointName);
+    checkArgument(vertex >= 0, "Graph does not contain point %s", pointName);
+    return vertex;
+  }
+
+  /**
+   * Returns a shortest path tree for the given source vertex containing at least the shortest path
+   * to the given destination vertex.
+   * If caching is enabled, the returned tree is a complete one.
+   *
+   * @param srcVertex The source vertex.
+   * @param destVertex The destination vertex.
+   * @return The shortest path tree.
+   */
+  private PathTree getPathTree(int srcVertex, int destVertex) {
+    if (pathTreeCache == null) {
+      return computePathTree(srcVertex, destVertex);
+    }
+
+    synchronized (pathTreeCache) {
+      PathTree pathTree = pathTreeCache.get(srcVertex);
+      if (pathTree != null) {
+        return pathTree;
+      }
+    }
+    // Compute the tree without holding the lock, so other queries are not blocked meanwhile.
+    PathTree pathTree = computePathTree(srcVertex, -1);
+    synchronized (pathTreeCache) {
+      pathTreeCache.put(srcVertex, pathTree);
+    }
+    return pathTree;
+  }
+
+  /**
+   * Computes the shortest path tree for the given source vertex using Dijkstra's algorithm.
+   *
+   * @param srcVertex The source vertex.
+   * @param destVertex The destination vertex at which to stop the computation, or {@code -1} to
+   * compute the complete tree.
+   * @return The shortest path tree.
+   */
+  private PathTree computePathTree(int srcVertex, int destVertex) {
+    int vertexCount = graph.getVertexCount();
+    double[] distances = new double[vertexCount];
+    int[] predecessorEdges = new int[vertexCount];
+    Arrays.fill(distances, Double.POSITIVE_INFINITY);
+    Arrays.fill(predecessorEdges, -1);
+
+    VertexHeap heap = new VertexHeap(distances);
+    distances[srcVertex] = 0.0;
+    heap.add(srcVertex);
+
+    while (!heap.isEmpty()) {
+      int vertex = heap.poll();
+      if (vertex == destVertex) {
+        break;
+      }
+      double vertexDistance = distances[vertex];
+      for (int edge = graph.getEdgeOffset(vertex); edge < graph.getEdgeOffset(vertex + 1); edge++) {
+        int target = graph.getEdgeTarget(edge);
+        double targetDistance = vertexDistance + graph.getEdgeWeight(edge);
+        if (targetDistance < distances[target]) {
+          distances[target] = targetDistance;
+          predecessorEdges[target] = edge;
+          if (heap.contains(target)) {
+            heap.decreased(target);
+          }
+          else {
+            heap.add(target);
+          }
+        }
+      }
+    }
+
+    return new PathTree(distances, predecessorEdges);
+  }
+
+  private long[] computeCostTable() {
+    long timeBefore = System.currentTimeMillis();
+
+    int vertexCount = graph.getVertexCount();
+    long[] result = new long[vertexCount * vertexCount];
+    for (int srcVertex = 0; srcVertex < vertexCount; srcVertex++) {
+      PathTree pathTree = computePathTree(srcVertex, -1);
+      for (int destVertex = 0; destVertex < vertexCount; destVertex++) {
+        result[srcVertex * vertexCount + destVertex]
+            = srcVertex == destVertex ? 0 : pathTree.getCosts(destVertex);
+      }
+    }
+
+    LOG.debug("Precomputing costs for {} points took {} milliseconds.",
+              vertexCount,
+              System.currentTimeMillis() - timeBefore);
+
+    return result;
+  }
+
+  private List<Route.Step> translateToSteps(PathTree pathTree, int destVertex) {
+    List<Integer> edges = new ArrayList<>();
+    for (int edge = pathTree.predecessorEdges[destVertex];
+         edge >= 0;
+         edge = pathTree.predecessorEdges[graph.getEdgeSource(edge)]) {
+      edges.add(edge);
+    }
+
+    List<Route.Step> result = new ArrayList<>(edges.size());
+    int routeIndex = 0;
+    for (int i = edges.size() - 1; i >= 0; i--) {
+      int edge = edges.get(i);
+      Point sourcePoint = graph.getPoint(graph.getEdgeSource(edge));
+      Point destPoint = graph.getPoint(graph.getEdgeTarget(edge));
+
+      result.add(new Route.Step(graph.getEdge(edge).getPath(),
+                                sourcePoint,
+                                destPoint,
+                                orientation(graph.getEdge(edge), sourcePoint),
+                                routeIndex));
+      routeIndex++;
+    }
+
+    return result;
+  }
+
+  private Vehicle.Orientation orientation(Edge edge, Point graphSourcePoint) {
+    return Objects.equals(edge.getPath().getSourcePoint(), graphSourcePoint.getReference())
+        ? Vehicle.Orientation.FORWARD
+        : Vehicle.Orientation.BACKWARD;
+  }
+
+  /**
+   * A (possibly partial) shortest path tree for a single source vertex.
+   */
+  private static class PathTree {
+
+    /**
+     * The distances of all vertices from the source vertex, indexed by vertex.
+     */
+    private final double[] distances;
+    /**
+     * The edges via which vertices are reached on their shortest paths, indexed by vertex, or
+     * {@code -1} for the source vertex and unreached vertices.
+     */
+    private final int[] predecessorEdges;
+
+    PathTree(double[] distances, int[] predecessorEdges) {
+      this.distances = distances;
+      this.predecessorEdges = predecessorEdges;
+    }
+
+    boolean isReachable(int vertex) {
+      return distances[vertex] != Double.POSITIVE_INFINITY;
+    }
+
+    long getCosts(int vertex) {
+      return isReachable(vertex) ? (long) distances[vertex] : INFINITE_COSTS;
+    }
+  }
+
+  /**
+   * A size-bounded cache for shortest path trees, evicting the least recently used entries.
+   */
+  private static class PathTreeCache
+      extends LinkedHashMap<Integer, PathTree> {
+
+    /**
+     * The maximum number of entries in this cache.
+     */
+    private final int maxSize;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param maxSize The maximum number of entries in this cache.
+     */
+    PathTreeCache(int maxSize) {
+      super(16, 0.75f, true);
+      this.maxSize = maxSize;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Integer, PathTree> eldest) {
+      return size() > maxSize;
+    }
+  }
+}
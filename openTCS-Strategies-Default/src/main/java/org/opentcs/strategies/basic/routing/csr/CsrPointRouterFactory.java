@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.csr;
+
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.strategies.basic.routing.PointRouter;
+import org.opentcs.strategies.basic.routing.PointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.ShortestPathConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates {@link PointRouter} instances based on Dijkstra's algorithm working on a compact,
+ * array-based graph representation.
+ *
+ * @author agent
+ */
+public class CsrPointRouterFactory
+    implements PointRouterFactory {
+
+  /**
+   * This class's Logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(CsrPointRouterFactory.class);
+  /**
+   * The object service providing the model data.
+   */
+  private final TCSObjectService objectService;
+  /**
+   * Maps the plant model to a graph.
+   */
+  private final CsrGraphMapper mapper;
+  /**
+   * The configuration.
+   */
+  private final ShortestPathConfiguration configuration;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param objectService The object service providing model data.
+   * @param mapper Maps the plant model to a graph.
+   * @param configuration The configuration.
+   */
+  @Inject
+  public CsrPointRouterFactory(@Nonnull TCSObjectService objectService,
+                               @Nonnull CsrGraphMapper mapper,
+                               @Nonnull ShortestPathConfiguration configuration) {
+    this.objectService = requireNonNull(objectService, "objectService");
+    this.mapper = requireNonNull(mapper, "mapper");
+    this.configuration = requireNonNull(configuration, "configuration");
+  }
+
+  @Override
+  public PointRouter createPointRouter(Vehicle vehicle) {
+    requireNonNull(vehicle, "vehicle");
+
+    long timeStampBefore = System.currentTimeMillis();
+
+    Set<Point> points = objectService.fetchObjects(Point.class);
+    CsrGraph graph = mapper.translateModel(points,
+                                           objectService.fetchObjects(Path.class),
+                                           vehicle);
+
+    int costTableMaxPoints = Math.min(configuration.costTableMaxPoints(),
+                                      CsrPointRouter.MAX_COST_TABLE_POINTS);
+    boolean precomputeCosts = configuration.precomputeCostTable()
+        && points.size() <= costTableMaxPoints;
+    if (configuration.precomputeCostTable() && !precomputeCosts) {
+      LOG.info("Not precomputing costs for {} points (maximum is {}).",
+               points.size(),
+               costTableMaxPoints);
+    }
+
+    PointRouter router = new CsrPointRouter(graph,
+                                            configuration.pathTreeCacheSize(),
+                                            precomputeCosts);
+
+    LOG.debug("Created point router for {} in {} milliseconds.",
+              vehicle.getName(),
+              System.currentTimeMillis() - timeStampBefore);
+
+    return router;
+  }
+}
@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.csr;
+
+import java.util.Arrays;
+
+/**
+ * An indexed binary min-heap of vertices, ordered by keys kept in an external array.
+ * <p>
+ * Supports decreasing a contained vertex's key, which must be followed by a call to
+ * {@link #decreased(int)}.
+ * </p>
+ *
+ * @author agent
+ */
+class VertexHeap {
+
+  /**
+   * The keys of all vertices, indexed by vertex.
+   */
+  private final double[] keys;
+  /**
+   * The vertices in heap order.
+   */
+  private final int[] heap;
+  /**
+   * The position of each vertex in the heap, or {@code -1}, if a vertex is not contained.
+   */
+  private final int[] positions;
+  /**
+   * The number of vertices in the heap.
+   */
+  private int size;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param keys The keys of all vertices, indexed by vertex.
+   */
+  VertexHeap(double[] keys) {
+    this.keys = keys;
+    this.heap = new int[keys.length];
+    this.positions = new int[keys.length];
+    Arrays.fill(positions, -1);
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  boolean contains(int vertex) {
+    return positions[vertex] >= 0;
+  }
+
+  /**
+   * Adds the given vertex to the heap.
+   *
+   * @param vertex The vertex.
+   */
+  void add(int vertex) {
+    heap[size] = vertex;
+    positions[vertex] = size;
+    size++;
+    siftUp(size - 1);
+  }
+
+  /**
+   * Restores the heap order after the key of the given (contained) vertex has been decreased.
+   *
+   * @param vertex The vertex.
+   */
+  void decreased(int vertex) {
+    siftUp(positions[vertex]);
+  }
+
+  /**
+   * Removes and returns the vertex with the smallest key.
+   *
+   * @return The vertex with the smallest key.
+   */
+  int poll() {
+    int result = heap[0];
+    positions[result] = -1;
+    size--;
+    if (size > 0) {
+      heap[0] = heap[size];
+      positions[heap[0]] = 0;
+      siftDown(0);
+    }
+    return result;
+  }
+
+  private void siftUp(int position) {
+    int vertex = heap[position];
+    double key = keys[vertex];
+    while (position > 0) {
+      int parentPosition = (position - 1) >>> 1;
+      int parent = heap[parentPosition];
+      if (keys[parent] <= key) {
+        break;
+      }
+      heap[position] = parent;
+      positions[parent] = position;
+      position = parentPosition;
+    }
+    heap[position] = vertex;
+    positions[vertex] = position;
+  }
+
+  private void siftDown(int position) {
+    int vertex = heap[position];
+    double key = keys[vertex];
+    int half = size >>> 1;
+    while (position < half) {
+      int childPosition = 2 * position + 1;
+      int rightPosition = childPosition + 1;
+      if (rightPosition < size && keys[heap[rightPosition]] < keys[heap[childPosition]]) {
+        childPosition = rightPosition;
+      }
+      int child = heap[childPosition];
+      if (key <= keys[child]) {
+        break;
+      }
+      heap[position] = child;
+      positions[child] = position;
+      position = childPosition;
+    }
+    heap[position] = vertex;
+    positions[vertex] = position;
+  }
+}
@@ -43,17 +43,24 @@ public abstract class AbstractPointRouterFactory
    * Maps the plant model to a graph.
    */
   private final ModelGraphMapper mapper;
+  /**
+   * The configuration.
+   */
+  private final ShortestPathConfiguration configuration;
 
   /**
    * Creates a new instance.
    *
    * @param objectService The object service providing model data.
    * @param mapper Maps the plant model to a graph.
+   * @param configuration The configuration.
    */
   public AbstractPointRouterFactory(@Nonnull TCSObjectService objectService,
-                                    @Nonnull ModelGraphMapper mapper) {
+                                    @Nonnull ModelGraphMapper mapper,
+                                    @Nonnull ShortestPathConfiguration configuration) {
     this.objectService = requireNonNull(objectService, "objectService");
     this.mapper = requireNonNull(mapper, "mapper");
+    this.configuration = requireNonNull(configuration, "configuration");
   }
 
   @Override
@@ -67,7 +74,20 @@ public abstract class AbstractPointRouterFactory
                                                            objectService.fetchObjects(Path.class),
                                                            vehicle);
 
-    PointRouter router = new ShortestPathPointRouter(createShortestPathAlgorithm(graph), points);
+    int costTableMaxPoints = Math.min(configuration.costTableMaxPoints(),
+                                      ShortestPathPointRouter.MAX_COST_TABLE_POINTS);
+    boolean precomputeCosts = configuration.precomputeCostTable()
+        && points.size() <= costTableMaxPoints;
+    if (configuration.precomputeCostTable() && !precomputeCosts) {
+      LOG.info("Not precomputing costs for {} points (maximum is {}).",
+               points.size(),
+               costTableMaxPoints);
+    }
+
+    PointRouter router = new ShortestPathPointRouter(createShortestPathAlgorithm(graph),
+                                                     points,
+                                                     configuration.pathTreeCacheSize(),
+                                                     precomputeCosts);
     // Make a single request for a route from one point to a different one to make sure the
     // point router is primed. (Some implementations are initialized lazily.)
     if (points.size() >= 2) {
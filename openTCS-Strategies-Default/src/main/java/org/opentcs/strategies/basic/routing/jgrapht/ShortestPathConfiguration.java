@@ -30,7 +30,9 @@ public interface ShortestPathConfiguration {
         "The routing algorithm to be used. Valid values:",
         "'DIJKSTRA': Routes are computed using Dijkstra's algorithm.",
         "'BELLMAN_FORD': Routes are computed using the Bellman-Ford algorithm.",
-        "'FLOYD_WARSHALL': Routes are computed using the Floyd-Warshall algorithm."})
+        "'FLOYD_WARSHALL': Routes are computed using the Floyd-Warshall algorithm.",
+        "'DIJKSTRA_CSR': Routes are computed using Dijkstra's algorithm working on a compact, "
+        + "array-based graph representation (not based on JGraphT)."})
   Algorithm algorithm();
 
   @ConfigurationEntry(
@@ -46,10 +48,38 @@ public interface ShortestPathConfiguration {
       })
   List<String> edgeEvaluators();
 
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+        "The maximum number of shortest path trees (one per source point) to be cached per routing "
+        + "group.",
+        "Cached trees are discarded whenever the topology changes, e.g. when paths are locked.",
+        "A value of 0 disables caching."})
+  int pathTreeCacheSize();
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+        "Whether to eagerly precompute the costs for routes between all pairs of points.",
+        "Precomputing is skipped for models with more points than configured with "
+        + "'costTableMaxPoints'."})
+  boolean precomputeCostTable();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+        "The maximum number of points in a model for which the costs for routes between all pairs "
+        + "of points are precomputed.",
+        "Note that the memory required for precomputed costs grows quadratically with the number "
+        + "of points (8 bytes per pair of points and routing group).",
+        "Values greater than 46340 are treated as 46340."})
+  int costTableMaxPoints();
+
   enum Algorithm {
     DIJKSTRA(false),
     BELLMAN_FORD(true),
-    FLOYD_WARSHALL(false);
+    FLOYD_WARSHALL(false),
+    DIJKSTRA_CSR(false);
 
     private final boolean handlingNegativeCosts;
 
@@ -10,18 +10,21 @@ package org.opentcs.strategies.basic.routing.jgrapht;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import static java.util.Objects.requireNonNull;
 import org.jgrapht.GraphPath;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.SingleSourcePaths;
 import org.opentcs.components.kernel.routing.Edge;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.Route;
 import org.opentcs.strategies.basic.routing.PointRouter;
+import static org.opentcs.util.Assertions.checkArgument;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,6 +33,18 @@ import org.slf4j.LoggerFactory;
  * <p>
  * <em>Note that this implementation does not integrate static routes.</em>
  * </p>
+ * <p>
+ * Optionally, the shortest path trees computed for source points are cached, so that subsequent
+ * queries originating in the same point do not require running the algorithm again.
+ * Additionally, the costs for routes between all pairs of points may be precomputed eagerly.
+ * As point routers are created per routing group and discarded when the topology changes, cached
+ * data is implicitly kept per routing group and invalidated with topology changes.
+ * </p>
+ * <p>
+ * Instances of this class may be queried concurrently, provided the given shortest path algorithm
+ * supports concurrent queries after it has been primed with an initial query.
+ * This is the case for the JGraphT algorithms used by the point router factories in this package.
+ * </p>
  *
  * @author Stefan Walter (Fraunhofer IML)
  */
@@ -40,20 +55,71 @@ public class ShortestPathPointRouter
    * This class's logger.
    */
   private static final Logger LOG = LoggerFactory.getLogger(ShortestPathPointRouter.class);
+  /**
+   * The maximum number of points for which costs for routes between all pairs of points can be
+   * precomputed, as a table with one entry per pair needs to be indexable with an {@code int}.
+   */
+  static final int MAX_COST_TABLE_POINTS = 46340;
 
   private final ShortestPathAlgorithm<String, Edge> algo;
 
   private final Map<String, Point> points = new HashMap<>();
+  /**
+   * The cached shortest path trees, mapped by the names of their source points, in access order.
+   * May be {@code null} if caching is disabled.
+   */
+  private final Map<String, SingleSourcePaths<String, Edge>> pathTreeCache;
+  /**
+   * Maps point names to dense indices into the cost table.
+   */
+  private final Map<String, Integer> pointIndices = new HashMap<>();
+  /**
+   * The precomputed costs for routes between all pairs of points, with the costs for the route
+   * from point {@code i} to point {@code j} stored at {@code i * pointCount + j}.
+   * May be {@code null} if costs are not precomputed.
+   */
+  private final long[] costTable;
 
+  /**
+   * Creates a new instance that neither caches shortest path trees nor precomputes costs.
+   *
+   * @param algo The shortest path algorithm.
+   * @param points The points in the model.
+   */
   public ShortestPathPointRouter(ShortestPathAlgorithm<String, Edge> algo,
                                  Collection<Point> points) {
+    this(algo, points, 0, false);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param algo The shortest path algorithm.
+   * @param points The points in the model.
+   * @param pathTreeCacheSize The maximum number of shortest path trees to be cached.
+   * A value of 0 disables caching.
+   * @param precomputeCosts Whether to eagerly precompute the costs for routes between all pairs of
+   * points.
+   * @throws IllegalArgumentException If costs are to be precomputed for more points than a cost
+   * table indexable with an {@code int} can hold.
+   */
+  public ShortestPathPointRouter(ShortestPathAlgorithm<String, Edge> algo,
+                                 Collection<Point> points,
+                                 int pathTreeCacheSize,
+                                 boolean precomputeCosts) {
     this.algo = requireNonNull(algo, "algo");
     requireNonNull(points, "points");
+    checkArgument(pathTreeCacheSize >= 0, "pathTreeCacheSize is negative: %s", pathTreeCacheSize);
+    checkArgument(!precomputeCosts || points.size() <= MAX_COST_TABLE_POINTS,
+                  "Too many points to precompute costs for: %s",
+                  points.size());
 
     for (Point point : points) {
       this.points.put(point.getName(), point);
     }
 
+    this.pathTreeCache = pathTreeCacheSize == 0 ? null : new PathTreeCache(pathTreeCacheSize);
+    this.costTable = precomputeCosts ? computeCostTable() : null;
   }
 
   @Override
@@ -66,7 +132,9 @@ public class ShortestPathPointRouter
       return new ArrayList<>();
     }
 
-    GraphPath<String, Edge> graphPath = algo.getPath(srcPoint.getName(), destPoint.getName());
+    GraphPath<String, Edge> graphPath = pathTreeCache == null
+        ? algo.getPath(srcPoint.getName(), destPoint.getName())
+        : getPathTree(srcPoint.getName()).getPath(destPoint.getName());
     if (graphPath == null) {
       return null;
     }
@@ -91,8 +159,20 @@ public class ShortestPathPointRouter
       return 0;
     }
 
+    if (costTable != null) {
+      Integer srcIndex = pointIndices.get(srcPointRef.getName());
+      Integer destIndex = pointIndices.get(destPointRef.getName());
+      if (srcIndex != null && destIndex != null) {
+        return costTable[srcIndex * pointIndices.size() + destIndex];
+      }
+    }
+
+    if (pathTreeCache != null) {
+      return toCosts(getPathTree(srcPointRef.getName()).getWeight(destPointRef.getName()));
+    }
+
     GraphPath<String, Edge> graphPath = algo.getPath(srcPointRef.getName(),
-                                                          destPointRef.getName());
+                                                     destPointRef.getName());
     if (graphPath == null) {
       return INFINITE_COSTS;
     }
@@ -100,6 +180,57 @@ public class ShortestPathPointRouter
     return (long) graphPath.getWeight();
   }
 
+  /**
+   * Returns the shortest path tree for the given source point, either from the cache or by
+   * computing (and caching) it.
+   *
+   * @param srcPointName The name of the source point.
+   * @return The shortest path tree.
+   */
+  private SingleSourcePaths<String, Edge> getPathTree(String srcPointName) {
+    synchronized (pathTreeCache) {
+      SingleSourcePaths<String, Edge> pathTree = pathTreeCache.get(srcPointName);
+      if (pathTree != null) {
+        return pathTree;
+      }
+    }
+    // Compute the tree without holding the lock, so other queries are not blocked meanwhile.
+    SingleSourcePaths<String, Edge> pathTree = algo.getPaths(srcPointName);
+    synchronized (pathTreeCache) {
+      pathTreeCache.put(srcPointName, pathTree);
+    }
+    return pathTree;
+  }
+
+  private long[] computeCostTable() {
+    long timeBefore = System.currentTimeMillis();
+
+    List<String> pointNames = new ArrayList<>(points.keySet());
+    int pointCount = pointNames.size();
+    for (int i = 0; i < pointCount; i++) {
+      pointIndices.put(pointNames.get(i), i);
+    }
+
+    long[] result = new long[pointCount * pointCount];
+    for (int srcIndex = 0; srcIndex < pointCount; srcIndex++) {
+      SingleSourcePaths<String, Edge> pathTree = algo.getPaths(pointNames.get(srcIndex));
+      for (int destIndex = 0; destIndex < pointCount; destIndex++) {
+        result[srcIndex * pointCount + destIndex]
+            = srcIndex == destIndex ? 0 : toCosts(pathTree.getWeight(pointNames.get(destIndex)));
+      }
+    }
+
+    LOG.debug("Precomputing costs for {} points took {} milliseconds.",
+              pointCount,
+              System.currentTimeMillis() - timeBefore);
+
+    return result;
+  }
+
+  private long toCosts(double weight) {
+    return weight == Double.POSITIVE_INFINITY ? INFINITE_COSTS : (long) weight;
+  }
+
   private List<Route.Step> translateToSteps(GraphPath<String, Edge> graphPath) {
     List<Edge> edges = graphPath.getEdgeList();
     List<Route.Step> result = new ArrayList<>(edges.size());
@@ -125,4 +256,31 @@ public class ShortestPathPointRouter
         ? Vehicle.Orientation.FORWARD
         : Vehicle.Orientation.BACKWARD;
   }
+
+  /**
+   * A size-bounded cache for shortest path trees, evicting the least recently used entries.
+   */
+  private static class PathTreeCache
+      extends LinkedHashMap<String, SingleSourcePaths<String, Edge>> {
+
+    /**
+     * The maximum number of entries in this cache.
+     */
+    private final int maxSize;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param maxSize The maximum number of entries in this cache.
+     */
+    PathTreeCache(int maxSize) {
+      super(16, 0.75f, true);
+      this.maxSize = maxSize;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, SingleSourcePaths<String, Edge>> eldest) {
+      return size() > maxSize;
+    }
+  }
 }
@@ -121,18 +121,57 @@ abstract class AllocatorCommand
       extends AllocatorCommand {
 
     /**
-     * Creates a new instance.
+     * The resources that were released, or <code>null</code>, if all deferred allocations should
+     * be retried.
+     */
+    private final Set<TCSResource<?>> releasedResources;
+
+    /**
+     * Creates a new instance that retries all deferred allocations.
      *
      * @param client The scheduler client this command is associated with.
      */
     public RetryAllocates(Client client) {
       super(3, client);
+      this.releasedResources = null;
+    }
+
+    /**
+     * Creates a new instance that retries only the deferred allocations affected by the given
+     * released resources.
+     *
+     * @param client The scheduler client this command is associated with.
+     * @param releasedResources The resources that were released.
+     */
+    public RetryAllocates(Client client, Set<TCSResource<?>> releasedResources) {
+      super(3, client);
+      this.releasedResources = requireNonNull(releasedResources, "releasedResources");
+    }
+
+    /**
+     * Indicates whether all deferred allocations should be retried.
+     *
+     * @return <code>true</code> if, and only if, all deferred allocations should be retried.
+     */
+    public boolean isRetryingAll() {
+      return releasedResources == null;
+    }
+
+    /**
+     * Returns the resources that were released.
+     *
+     * @return The resources that were released, or <code>null</code>, if all deferred allocations
+     * should be retried.
+     */
+    public Set<TCSResource<?>> getReleasedResources() {
+      return releasedResources;
     }
 
     @Override
     public String toString() {
       return "RetryAllocates{"
           + "client=" + getClient()
+          + ", releasedResources=" + releasedResources
           + '}';
     }
   }
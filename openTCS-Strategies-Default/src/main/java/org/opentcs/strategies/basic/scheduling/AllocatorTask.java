@@ -7,16 +7,18 @@
  */
 package org.opentcs.strategies.basic.scheduling;
 
+import java.util.List;
 import static java.util.Objects.requireNonNull;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import org.opentcs.components.kernel.Scheduler;
 import org.opentcs.components.kernel.Scheduler.Client;
 import org.opentcs.components.kernel.services.InternalPlantModelService;
 import org.opentcs.customizations.kernel.GlobalSyncObject;
 import org.opentcs.data.model.TCSResource;
+import org.opentcs.data.model.TCSResourceReference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,11 +47,11 @@ class AllocatorTask
   /**
    * Allocations deferred because they couldn't be granted, yet.
    */
-  private final Queue<AllocatorCommand.Allocate> deferredAllocations;
+  private final DeferredAllocations deferredAllocations;
   /**
    * Executes tasks.
    */
-  private final ScheduledExecutorService kernelExecutor;
+  private final ScheduledExecutorService schedulerExecutor;
   /**
    * A global object to be used for synchronization within the kernel.
    */
@@ -64,16 +66,16 @@ class AllocatorTask
    */
   public AllocatorTask(@Nonnull InternalPlantModelService plantModelService,
                        @Nonnull ReservationPool reservationPool,
-                       @Nonnull Queue<AllocatorCommand.Allocate> deferredAllocations,
+                       @Nonnull DeferredAllocations deferredAllocations,
                        @Nonnull Scheduler.Module allocationAdvisor,
-                       @Nonnull ScheduledExecutorService kernelExecutor,
+                       @Nonnull ScheduledExecutorService schedulerExecutor,
                        @Nonnull @GlobalSyncObject Object globalSyncObject,
                        @Nonnull AllocatorCommand command) {
     this.plantModelService = requireNonNull(plantModelService, "plantModelService");
     this.reservationPool = requireNonNull(reservationPool, "reservationPool");
     this.deferredAllocations = requireNonNull(deferredAllocations, "deferredAllocations");
     this.allocationAdvisor = requireNonNull(allocationAdvisor, "allocationAdvisor");
-    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    this.schedulerExecutor = requireNonNull(schedulerExecutor, "schedulerExecutor");
     this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
     this.command = requireNonNull(command, "command");
   }
@@ -86,7 +88,7 @@ class AllocatorTask
       processAllocate((AllocatorCommand.Allocate) command);
     }
     else if (command instanceof AllocatorCommand.RetryAllocates) {
-      scheduleRetryWaitingAllocations();
+      retryAllocates((AllocatorCommand.RetryAllocates) command);
     }
     else if (command instanceof AllocatorCommand.CheckAllocationsPrepared) {
       checkAllocationsPrepared((AllocatorCommand.CheckAllocationsPrepared) command);
@@ -102,10 +104,11 @@ class AllocatorTask
   private void processAllocate(AllocatorCommand.Allocate command) {
     if (!tryAllocate(command)) {
       LOG.debug("{}: Resources unavailable, deferring allocation...", command.getClient().getId());
-      deferredAllocations.add(command);
+      deferredAllocations.add(command, wakeUpResources(command.getResources()));
       return;
     }
 
+    deferredAllocations.granted(command);
     checkAllocationsPrepared(command.getClient(), command.getResources());
   }
 
@@ -130,7 +133,7 @@ class AllocatorTask
                resources);
       undoAllocate(client, resources);
       // See if others want the resources this one didn't, then.
-      scheduleRetryWaitingAllocations();
+      scheduleRetryWaitingAllocations(deferredAllocations.takeAffectedBy(resources));
     }
     // Notify modules about the changes in claimed/allocated resources for this client.
     allocationAdvisor.setAllocationState(client,
@@ -202,19 +205,45 @@ class AllocatorTask
     }
   }
 
+  private void retryAllocates(AllocatorCommand.RetryAllocates command) {
+    List<AllocatorCommand.Allocate> allocates = command.isRetryingAll()
+        ? deferredAllocations.takeAll()
+        : deferredAllocations.takeAffectedBy(command.getReleasedResources());
+    scheduleRetryWaitingAllocations(allocates);
+    LOG.debug("Retrying {} deferred allocation(s), {}", allocates.size(), deferredAllocations);
+  }
+
+  /**
+   * Returns the resources whose release may allow the given resources to be allocated.
+   * <p>
+   * Besides the resources themselves, these are the members of blocks containing any of them, as
+   * modules may refuse allocations depending on the allocation state of whole blocks.
+   * </p>
+   *
+   * @param resources The resources to be allocated.
+   * @return The resources whose release may allow the given resources to be allocated.
+   */
+  private Set<TCSResource<?>> wakeUpResources(Set<TCSResource<?>> resources) {
+    Set<TCSResourceReference<?>> refs = resources.stream()
+        .map(resource -> resource.getReference())
+        .collect(Collectors.toSet());
+    return plantModelService.expandResources(refs);
+  }
+
   /**
-   * Moves all waiting allocations back into the incoming queue so they can be rechecked.
+   * Moves the given waiting allocations back into the incoming queue so they can be rechecked.
+   *
+   * @param allocates The waiting allocations, ordered by the time they have been waiting.
    */
-  private void scheduleRetryWaitingAllocations() {
-    for (AllocatorCommand.Allocate allocate : deferredAllocations) {
-      kernelExecutor.submit(new AllocatorTask(plantModelService,
-                                              reservationPool,
-                                              deferredAllocations,
-                                              allocationAdvisor,
-                                              kernelExecutor,
-                                              globalSyncObject,
-                                              allocate));
+  private void scheduleRetryWaitingAllocations(List<AllocatorCommand.Allocate> allocates) {
+    for (AllocatorCommand.Allocate allocate : allocates) {
+      schedulerExecutor.submit(new AllocatorTask(plantModelService,
+                                                 reservationPool,
+                                                 deferredAllocations,
+                                                 allocationAdvisor,
+                                                 schedulerExecutor,
+                                                 globalSyncObject,
+                                                 allocate));
     }
-    deferredAllocations.clear();
   }
 }
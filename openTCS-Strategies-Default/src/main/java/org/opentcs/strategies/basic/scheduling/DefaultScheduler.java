@@ -14,10 +14,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import static java.util.Objects.requireNonNull;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
@@ -27,7 +25,7 @@ import org.opentcs.components.kernel.Scheduler;
 import org.opentcs.components.kernel.services.InternalPlantModelService;
 import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.customizations.kernel.GlobalSyncObject;
-import org.opentcs.customizations.kernel.KernelExecutor;
+import org.opentcs.customizations.kernel.SchedulerExecutor;
 import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.model.TCSResource;
 import org.opentcs.data.model.Vehicle;
@@ -37,20 +35,27 @@ import org.opentcs.strategies.basic.scheduling.AllocatorCommand.CheckAllocations
 import org.opentcs.strategies.basic.scheduling.AllocatorCommand.RetryAllocates;
 import static org.opentcs.util.Assertions.checkArgument;
 import org.opentcs.util.event.EventBus;
-import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.SynchronousEventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Implements a basic simple scheduler strategy for resources used by vehicles, preventing
  * collisions.
+ * <p>
+ * Allocation tasks are executed on the scheduler executor in the order they were submitted.
+ * That executor may run concurrently with other kernel tasks, though, so accesses to the
+ * reservation pool and the deferred allocations are still serialized via the kernel's global
+ * synchronization object, and accesses to the kernel's working set via the kernel services (which
+ * use the {@code WorkingSetLock}).
+ * </p>
  *
  * @author Iryna Felko (Fraunhofer IML)
  * @author Stefan Walter (Fraunhofer IML)
  */
 public class DefaultScheduler
     implements Scheduler,
-               EventHandler {
+               SynchronousEventHandler {
 
   /**
    * This class's Logger.
@@ -71,11 +76,11 @@ public class DefaultScheduler
   /**
    * Allocations deferred because they couldn't be granted, yet.
    */
-  private final Queue<AllocatorCommand.Allocate> deferredAllocations = new LinkedBlockingQueue<>();
+  private final DeferredAllocations deferredAllocations = new DeferredAllocations();
   /**
    * Executes scheduling tasks.
    */
-  private final ScheduledExecutorService kernelExecutor;
+  private final ScheduledExecutorService schedulerExecutor;
   /**
    * The kernel's event bus.
    */
@@ -85,7 +90,7 @@ public class DefaultScheduler
    */
   private final Object globalSyncObject;
   /**
-   * Allocations that are scheduled for execution on the kernel executor.
+   * Allocations that are scheduled for execution on the scheduler executor.
    */
   private final Map<Client, List<Future<?>>> allocateFutures = new HashMap<>();
   /**
@@ -99,7 +104,7 @@ public class DefaultScheduler
    * @param plantModelService The plant model service.
    * @param allocationAdvisor Takes care of modules.
    * @param reservationPool The reservation pool to be used.
-   * @param kernelExecutor Executes scheduling tasks.
+   * @param schedulerExecutor Executes scheduling tasks.
    * @param eventBus The kernel's event bus.
    * @param globalSyncObject The kernel threads' global synchronization object.
    */
@@ -107,13 +112,13 @@ public class DefaultScheduler
   public DefaultScheduler(InternalPlantModelService plantModelService,
                           AllocationAdvisor allocationAdvisor,
                           ReservationPool reservationPool,
-                          @KernelExecutor ScheduledExecutorService kernelExecutor,
+                          @SchedulerExecutor ScheduledExecutorService schedulerExecutor,
                           @ApplicationEventBus EventBus eventBus,
                           @GlobalSyncObject Object globalSyncObject) {
     this.plantModelService = requireNonNull(plantModelService, "plantModelService");
     this.allocationAdvisor = requireNonNull(allocationAdvisor, "allocationAdvisor");
     this.reservationPool = requireNonNull(reservationPool, "reservationPool");
-    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    this.schedulerExecutor = requireNonNull(schedulerExecutor, "schedulerExecutor");
     this.eventBus = requireNonNull(eventBus, "eventBus");
     this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
   }
@@ -188,12 +193,12 @@ public class DefaultScheduler
                     "Not the next claimed resources: %s",
                     resources);
 
-      Future<?> allocateFuture = kernelExecutor.submit(
+      Future<?> allocateFuture = schedulerExecutor.submit(
           new AllocatorTask(plantModelService,
                             reservationPool,
                             deferredAllocations,
                             allocationAdvisor,
-                            kernelExecutor,
+                            schedulerExecutor,
                             globalSyncObject,
                             new Allocate(client, resources))
       );
@@ -251,51 +256,52 @@ public class DefaultScheduler
       Set<TCSResource<?>> completelyFreeResources = resources.stream()
           .filter(resource -> reservationPool.getReservationEntry(resource).isFree())
           .collect(Collectors.toCollection(HashSet::new));
-      kernelExecutor.submit(new AllocatorTask(plantModelService,
-                                              reservationPool,
-                                              deferredAllocations,
-                                              allocationAdvisor,
-                                              kernelExecutor,
-                                              globalSyncObject,
-                                              new AllocationsReleased(client,
-                                                                      completelyFreeResources)));
+      schedulerExecutor.submit(new AllocatorTask(plantModelService,
+                                                 reservationPool,
+                                                 deferredAllocations,
+                                                 allocationAdvisor,
+                                                 schedulerExecutor,
+                                                 globalSyncObject,
+                                                 new AllocationsReleased(client,
+                                                                         completelyFreeResources)));
     }
-    kernelExecutor.submit(new AllocatorTask(plantModelService,
-                                            reservationPool,
-                                            deferredAllocations,
-                                            allocationAdvisor,
-                                            kernelExecutor,
-                                            globalSyncObject,
-                                            new RetryAllocates(client)));
+    schedulerExecutor.submit(new AllocatorTask(plantModelService,
+                                               reservationPool,
+                                               deferredAllocations,
+                                               allocationAdvisor,
+                                               schedulerExecutor,
+                                               globalSyncObject,
+                                               new RetryAllocates(client, resources)));
   }
 
   @Override
   public void freeAll(Client client) {
     requireNonNull(client, "client");
 
+    Set<TCSResource<?>> freedResources;
     synchronized (globalSyncObject) {
-      Set<TCSResource<?>> freedResources = reservationPool.allocatedResources(client);
+      freedResources = reservationPool.allocatedResources(client);
 
       LOG.debug("{}: Releasing all resources...", client.getId());
       reservationPool.freeAll(client);
       clearPendingAllocations(client);
 
-      kernelExecutor.submit(new AllocatorTask(plantModelService,
-                                              reservationPool,
-                                              deferredAllocations,
-                                              allocationAdvisor,
-                                              kernelExecutor,
-                                              globalSyncObject,
-                                              new AllocationsReleased(client,
-                                                                      freedResources)));
+      schedulerExecutor.submit(new AllocatorTask(plantModelService,
+                                                 reservationPool,
+                                                 deferredAllocations,
+                                                 allocationAdvisor,
+                                                 schedulerExecutor,
+                                                 globalSyncObject,
+                                                 new AllocationsReleased(client,
+                                                                         freedResources)));
     }
-    kernelExecutor.submit(new AllocatorTask(plantModelService,
-                                            reservationPool,
-                                            deferredAllocations,
-                                            allocationAdvisor,
-                                            kernelExecutor,
-                                            globalSyncObject,
-                                            new RetryAllocates(client)));
+    schedulerExecutor.submit(new AllocatorTask(plantModelService,
+                                               reservationPool,
+                                               deferredAllocations,
+                                               allocationAdvisor,
+                                               schedulerExecutor,
+                                               globalSyncObject,
+                                               new RetryAllocates(client, freedResources)));
   }
 
   @Override
@@ -310,13 +316,13 @@ public class DefaultScheduler
 
   @Override
   public void reschedule() {
-    kernelExecutor.submit(new AllocatorTask(plantModelService,
-                                            reservationPool,
-                                            deferredAllocations,
-                                            allocationAdvisor,
-                                            kernelExecutor,
-                                            globalSyncObject,
-                                            new RetryAllocates(new DummyClient())));
+    schedulerExecutor.submit(new AllocatorTask(plantModelService,
+                                               reservationPool,
+                                               deferredAllocations,
+                                               allocationAdvisor,
+                                               schedulerExecutor,
+                                               globalSyncObject,
+                                               new RetryAllocates(new DummyClient())));
   }
 
   @Override
@@ -334,13 +340,13 @@ public class DefaultScheduler
     requireNonNull(client, "client");
     requireNonNull(resources, "resources");
 
-    kernelExecutor.submit(new AllocatorTask(plantModelService,
-                                            reservationPool,
-                                            deferredAllocations,
-                                            allocationAdvisor,
-                                            kernelExecutor,
-                                            globalSyncObject,
-                                            new CheckAllocationsPrepared(client, resources)));
+    schedulerExecutor.submit(new AllocatorTask(plantModelService,
+                                               reservationPool,
+                                               deferredAllocations,
+                                               allocationAdvisor,
+                                               schedulerExecutor,
+                                               globalSyncObject,
+                                               new CheckAllocationsPrepared(client, resources)));
   }
 
   @Override
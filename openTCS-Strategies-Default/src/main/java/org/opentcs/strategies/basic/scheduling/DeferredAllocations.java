@@ -0,0 +1,317 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.scheduling;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import org.opentcs.data.model.TCSResource;
+
+/**
+ * Keeps track of allocations that were deferred because they couldn't be granted, yet.
+ * <p>
+ * Deferred allocations are indexed by the resources whose release may allow them to be granted.
+ * This way, when resources are freed, only the allocations actually affected by them need to be
+ * retried.
+ * Allocations are always returned in the order in which they were first deferred, i.e. the one
+ * waiting the longest comes first.
+ * </p>
+ * <p>
+ * Additionally, this class collects some metrics about the deferred allocations: the time the
+ * allocations have been waiting for until they were granted and the number of allocations that
+ * were retried vs. the number of those that could actually be granted after being retried.
+ * </p>
+ *
+ * @author agent
+ */
+class DeferredAllocations {
+
+  /**
+   * Orders entries by the time they were first deferred.
+   */
+  private static final Comparator<Entry> ENTRY_ORDER
+      = Comparator.comparingLong((Entry entry) -> entry.deferredSince)
+          .thenComparingLong(entry -> entry.sequenceNumber);
+  /**
+   * The deferred allocations, ordered by the time they were first deferred.
+   */
+  private final Set<Entry> entries = new TreeSet<>(ENTRY_ORDER);
+  /**
+   * The deferred allocations, mapped by the names of the resources they are waiting for.
+   */
+  private final Map<String, Set<Entry>> entriesByResourceName = new HashMap<>();
+  /**
+   * Allocations that were retried and whose outcome is not known, yet, mapped to the points of
+   * time they were first deferred.
+   */
+  private final Map<AllocatorCommand.Allocate, Long> retriedAllocations = new IdentityHashMap<>();
+  /**
+   * The sequence number for the next entry.
+   */
+  private long nextSequenceNumber;
+  /**
+   * The number of allocations that were retried.
+   */
+  private long retriedCount;
+  /**
+   * The number of allocations that were granted after being retried.
+   */
+  private long grantedAfterRetryCount;
+  /**
+   * The accumulated time allocations granted after being retried had been waiting (in ns).
+   */
+  private long totalWaitTime;
+  /**
+   * The longest time an allocation granted after being retried had been waiting (in ns).
+   */
+  private long maxWaitTime;
+
+  /**
+   * Creates a new instance.
+   */
+  DeferredAllocations() {
+  }
+
+  /**
+   * Adds a deferred allocation.
+   *
+   * @param allocate The allocation.
+   * @param wakeUpResources The resources whose release may allow the allocation to be granted.
+   * Usually, these are the requested resources and the members of blocks containing them.
+   */
+  public synchronized void add(@Nonnull AllocatorCommand.Allocate allocate,
+                               @Nonnull Set<TCSResource<?>> wakeUpResources) {
+    requireNonNull(allocate, "allocate");
+    requireNonNull(wakeUpResources, "wakeUpResources");
+
+    // If the allocation is deferred again after being retried, keep the time it was first
+    // deferred.
+    Long deferredSince = retriedAllocations.remove(allocate);
+    Entry entry = new Entry(allocate,
+                            wakeUpResources.stream()
+                                .map(resource -> resource.getName())
+                                .collect(Collectors.toSet()),
+                            deferredSince == null ? System.nanoTime() : deferredSince,
+                            nextSequenceNumber++);
+    entries.add(entry);
+    for (String resourceName : entry.wakeUpResourceNames) {
+      entriesByResourceName.computeIfAbsent(resourceName, name -> new HashSet<>()).add(entry);
+    }
+  }
+
+  /**
+   * Removes and returns all deferred allocations.
+   *
+   * @return All deferred allocations, ordered by the time they were first deferred.
+   */
+  public synchronized List<AllocatorCommand.Allocate> takeAll() {
+    return take(new ArrayList<>(entries));
+  }
+
+  /**
+   * Removes and returns all deferred allocations waiting for any of the given resources.
+   *
+   * @param resources The resources.
+   * @return The deferred allocations waiting for any of the given resources, ordered by the time
+   * they were first deferred.
+   */
+  public synchronized List<AllocatorCommand.Allocate> takeAffectedBy(
+      @Nonnull Set<TCSResource<?>> resources) {
+    requireNonNull(resources, "resources");
+
+    Set<Entry> affectedEntries = new TreeSet<>(ENTRY_ORDER);
+    for (TCSResource<?> resource : resources) {
+      Set<Entry> resourceEntries = entriesByResourceName.get(resource.getName());
+      if (resourceEntries != null) {
+        affectedEntries.addAll(resourceEntries);
+      }
+    }
+    return take(affectedEntries);
+  }
+
+  /**
+   * Removes all deferred allocations matching the given predicate.
+   *
+   * @param predicate The predicate.
+   */
+  public synchronized void removeIf(@Nonnull Predicate<AllocatorCommand.Allocate> predicate) {
+    requireNonNull(predicate, "predicate");
+
+    for (Iterator<Entry> iter = entries.iterator(); iter.hasNext();) {
+      Entry entry = iter.next();
+      if (predicate.test(entry.allocate)) {
+        iter.remove();
+        removeFromResourceIndex(entry);
+      }
+    }
+    retriedAllocations.keySet().removeIf(predicate);
+  }
+
+  /**
+   * Records that the given allocation has been granted.
+   * If the allocation had been deferred before, its waiting time is recorded.
+   *
+   * @param allocate The allocation.
+   */
+  public synchronized void granted(@Nonnull AllocatorCommand.Allocate allocate) {
+    requireNonNull(allocate, "allocate");
+
+    Long deferredSince = retriedAllocations.remove(allocate);
+    if (deferredSince == null) {
+      return;
+    }
+
+    long waitTime = System.nanoTime() - deferredSince;
+    grantedAfterRetryCount++;
+    totalWaitTime += waitTime;
+    maxWaitTime = Math.max(maxWaitTime, waitTime);
+  }
+
+  /**
+   * Returns the number of currently deferred allocations.
+   *
+   * @return The number of currently deferred allocations.
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * Returns the number of allocations that were retried.
+   *
+   * @return The number of allocations that were retried.
+   */
+  public synchronized long getRetriedCount() {
+    return retriedCount;
+  }
+
+  /**
+   * Returns the number of allocations that were granted after being retried.
+   *
+   * @return The number of allocations that were granted after being retried.
+   */
+  public synchronized long getGrantedAfterRetryCount() {
+    return grantedAfterRetryCount;
+  }
+
+  /**
+   * Returns the ratio of retried allocations that could actually be granted.
+   *
+   * @return The ratio of retried allocations that could actually be granted, or 0, if no
+   * allocations were retried, yet.
+   */
+  public synchronized double getRetryEfficiency() {
+    return retriedCount == 0 ? 0.0 : (double) grantedAfterRetryCount / retriedCount;
+  }
+
+  /**
+   * Returns the average time deferred allocations had been waiting for until they were granted.
+   *
+   * @return The average waiting time (in ms).
+   */
+  public synchronized double getAverageWaitTime() {
+    return grantedAfterRetryCount == 0
+        ? 0.0
+        : toMillis(totalWaitTime) / grantedAfterRetryCount;
+  }
+
+  /**
+   * Returns the longest time a deferred allocation had been waiting for until it was granted.
+   *
+   * @return The longest waiting time (in ms).
+   */
+  public synchronized double getMaxWaitTime() {
+    return toMillis(maxWaitTime);
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "DeferredAllocations{"
+        + "deferred=" + entries.size()
+        + ", retried=" + retriedCount
+        + ", grantedAfterRetry=" + grantedAfterRetryCount
+        + ", retryEfficiency=" + getRetryEfficiency()
+        + ", averageWaitTime=" + getAverageWaitTime()
+        + ", maxWaitTime=" + getMaxWaitTime()
+        + '}';
+  }
+
+  private List<AllocatorCommand.Allocate> take(Collection<Entry> entriesToTake) {
+    List<AllocatorCommand.Allocate> result = new ArrayList<>(entriesToTake.size());
+    for (Entry entry : entriesToTake) {
+      entries.remove(entry);
+      removeFromResourceIndex(entry);
+      retriedAllocations.put(entry.allocate, entry.deferredSince);
+      result.add(entry.allocate);
+    }
+    retriedCount += result.size();
+    return result;
+  }
+
+  private void removeFromResourceIndex(Entry entry) {
+    for (String resourceName : entry.wakeUpResourceNames) {
+      Set<Entry> resourceEntries = entriesByResourceName.get(resourceName);
+      if (resourceEntries != null) {
+        resourceEntries.remove(entry);
+        if (resourceEntries.isEmpty()) {
+          entriesByResourceName.remove(resourceName);
+        }
+      }
+    }
+  }
+
+  private static double toMillis(long nanos) {
+    return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+  /**
+   * A deferred allocation.
+   */
+  private static class Entry {
+
+    /**
+     * The allocation.
+     */
+    private final AllocatorCommand.Allocate allocate;
+    /**
+     * The names of the resources whose release may allow the allocation to be granted.
+     */
+    private final Set<String> wakeUpResourceNames;
+    /**
+     * The point of time the allocation was first deferred (in ns, see System.nanoTime()).
+     */
+    private final long deferredSince;
+    /**
+     * The entry's sequence number, for ordering entries deferred at the same point of time.
+     */
+    private final long sequenceNumber;
+
+    Entry(AllocatorCommand.Allocate allocate,
+          Set<String> wakeUpResourceNames,
+          long deferredSince,
+          long sequenceNumber) {
+      this.allocate = allocate;
+      this.wakeUpResourceNames = wakeUpResourceNames;
+      this.deferredSince = deferredSince;
+      this.sequenceNumber = sequenceNumber;
+    }
+  }
+}
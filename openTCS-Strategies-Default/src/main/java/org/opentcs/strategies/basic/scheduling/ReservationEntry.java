@@ -31,6 +31,10 @@ public class ReservationEntry {
    * Instance of resource that vehicle may claim for exclusive usage.
    */
   private final TCSResource<?> resource;
+  /**
+   * Notified whenever the client allocating the resource changes.
+   */
+  private final ClientChangeListener clientChangeListener;
   /**
    * The client for which the resource is currently reserved.
    */
@@ -48,7 +52,20 @@ public class ReservationEntry {
    * @param reqResource The resource.
    */
   public ReservationEntry(final TCSResource<?> reqResource) {
+    this(reqResource, (entry, oldClient, newClient) -> {
+    });
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param reqResource The resource.
+   * @param clientChangeListener Notified whenever the client allocating the resource changes.
+   */
+  ReservationEntry(final TCSResource<?> reqResource,
+                   final ClientChangeListener clientChangeListener) {
     this.resource = requireNonNull(reqResource, "reqResource");
+    this.clientChangeListener = requireNonNull(clientChangeListener, "clientChangeListener");
   }
 
   /**
@@ -81,6 +98,7 @@ public class ReservationEntry {
     if (this.client == null) {
       LOG.debug("Allocating resource {} for client {}", resource, client.getId());
       this.client = client;
+      clientChangeListener.clientChanged(this, null, client);
     }
     else if (this.client != client) {
       // The resource is already allocated by someone else - may not happen.
@@ -104,7 +122,9 @@ public class ReservationEntry {
     checkState(counter > 0, "counter is already less than 1");
     counter--;
     if (counter == 0) {
+      Client oldClient = client;
       client = null;
+      clientChangeListener.clientChanged(this, oldClient, null);
     }
   }
 
@@ -113,8 +133,12 @@ public class ReservationEntry {
    * to <code>null</code>.
    */
   void freeCompletely() {
+    Client oldClient = client;
     counter = 0;
     client = null;
+    if (oldClient != null) {
+      clientChangeListener.clientChanged(this, oldClient, null);
+    }
   }
 
   /**
@@ -146,4 +170,19 @@ public class ReservationEntry {
         + ", counter=" + counter
         + '}';
   }
+
+  /**
+   * Notified whenever the client allocating a resource changes.
+   */
+  interface ClientChangeListener {
+
+    /**
+     * Called when the client allocating the resource of the given entry changed.
+     *
+     * @param entry The reservation entry.
+     * @param oldClient The client that allocated the resource before, or {@code null}.
+     * @param newClient The client that allocates the resource now, or {@code null}.
+     */
+    void clientChanged(ReservationEntry entry, Client oldClient, Client newClient);
+  }
 }
@@ -7,6 +7,7 @@
  */
 package org.opentcs.strategies.basic.scheduling;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -43,6 +44,18 @@ public class ReservationPool {
    * <code>ReservationEntry</code> instances for each <code>TCSResource</code>.
    */
   private final Map<TCSResource<?>, ReservationEntry> reservations = new HashMap<>();
+  /**
+   * The resources currently allocated by each client.
+   */
+  private final Map<Scheduler.Client, Set<TCSResource<?>>> allocationsByClient = new HashMap<>();
+  /**
+   * The clients whose allocations changed since the last allocations snapshot was created.
+   */
+  private final Set<Scheduler.Client> clientsWithChangedAllocations = new HashSet<>();
+  /**
+   * The last allocations snapshot created, mapped by client ID.
+   */
+  private Map<String, Set<TCSResource<?>>> allocationsSnapshot = Collections.emptyMap();
 
   /**
    * Creates a new instance.
@@ -63,7 +76,7 @@ public class ReservationPool {
 
     ReservationEntry entry = reservations.get(resource);
     if (entry == null) {
-      entry = new ReservationEntry(resource);
+      entry = new ReservationEntry(resource, this::allocatingClientChanged);
       reservations.put(resource, entry);
     }
     return entry;
@@ -161,10 +174,8 @@ public class ReservationPool {
   public Set<TCSResource<?>> allocatedResources(@Nonnull Scheduler.Client client) {
     requireNonNull(client, "client");
 
-    return reservations.entrySet().stream()
-        .filter(entry -> entry.getValue().isAllocatedBy(client))
-        .map(entry -> entry.getKey())
-        .collect(Collectors.toSet());
+    Set<TCSResource<?>> resources = allocationsByClient.get(client);
+    return resources == null ? new HashSet<>() : new HashSet<>(resources);
   }
 
   /**
@@ -204,32 +215,69 @@ public class ReservationPool {
   public void freeAll(@Nonnull Scheduler.Client client) {
     requireNonNull(client, "client");
 
-    reservations.values().stream()
-        .filter(reservationEntry -> reservationEntry.isAllocatedBy(client))
-        .forEach(reservationEntry -> reservationEntry.freeCompletely());
+    // Freeing the resources modifies the set we would be iterating over, so iterate over a copy.
+    for (TCSResource<?> resource : allocatedResources(client)) {
+      reservations.get(resource).freeCompletely();
+    }
   }
 
+  /**
+   * Returns the resources currently allocated by all clients, mapped by client ID.
+   * <p>
+   * The returned map is a snapshot and unmodifiable.
+   * Snapshots are updated incrementally, i.e. only the allocations of clients whose allocations
+   * changed since the last snapshot are copied.
+   * </p>
+   *
+   * @return The resources currently allocated by all clients, mapped by client ID.
+   */
   @Nonnull
   public Map<String, Set<TCSResource<?>>> getAllocations() {
-    final Map<String, Set<TCSResource<?>>> result = new HashMap<>();
-    for (Map.Entry<TCSResource<?>, ReservationEntry> curEntry : reservations.entrySet()) {
-      final TCSResource<?> curResource = curEntry.getKey();
-      final Scheduler.Client curUser = curEntry.getValue().getClient();
-      if (curUser != null) {
-        Set<TCSResource<?>> userResources = result.get(curUser.getId());
-        if (userResources == null) {
-          userResources = new HashSet<>();
-        }
-        userResources.add(curResource);
-        result.put(curUser.getId(), userResources);
+    if (clientsWithChangedAllocations.isEmpty()) {
+      return allocationsSnapshot;
+    }
+
+    Map<String, Set<TCSResource<?>>> result = new HashMap<>(allocationsSnapshot);
+    for (Scheduler.Client client : clientsWithChangedAllocations) {
+      Set<TCSResource<?>> resources = allocationsByClient.get(client);
+      if (resources == null) {
+        result.remove(client.getId());
+      }
+      else {
+        result.put(client.getId(), Collections.unmodifiableSet(new HashSet<>(resources)));
       }
     }
-    return result;
+    clientsWithChangedAllocations.clear();
+    allocationsSnapshot = Collections.unmodifiableMap(result);
+    return allocationsSnapshot;
   }
 
   public void clear() {
     claimsByClient.clear();
     reservations.clear();
+    allocationsByClient.clear();
+    clientsWithChangedAllocations.clear();
+    allocationsSnapshot = Collections.emptyMap();
+  }
+
+  private void allocatingClientChanged(ReservationEntry entry,
+                                       Scheduler.Client oldClient,
+                                       Scheduler.Client newClient) {
+    if (oldClient != null) {
+      Set<TCSResource<?>> resources = allocationsByClient.get(oldClient);
+      if (resources != null) {
+        resources.remove(entry.getResource());
+        if (resources.isEmpty()) {
+          allocationsByClient.remove(oldClient);
+        }
+      }
+      clientsWithChangedAllocations.add(oldClient);
+    }
+    if (newClient != null) {
+      allocationsByClient.computeIfAbsent(newClient, client -> new HashSet<>())
+          .add(entry.getResource());
+      clientsWithChangedAllocations.add(newClient);
+    }
   }
 
   /**
@@ -16,6 +16,7 @@ import java.util.Objects;
 import static java.util.Objects.requireNonNull;
 import java.util.Queue;
 import java.util.Set;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
@@ -26,6 +27,7 @@ import org.opentcs.customizations.kernel.GlobalSyncObject;
 import org.opentcs.data.model.Block;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.TCSResource;
+import org.opentcs.data.model.TCSResourceReference;
 import org.opentcs.strategies.basic.scheduling.ReservationPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -195,17 +197,12 @@ public class SameDirectionBlockModule
 
   private Set<Block> filterBlocksContainingResources(Set<TCSResource<?>> resources,
                                                      Block.Type type) {
-    Set<Block> result = new HashSet<>();
-    Set<Block> blocks = plantModelService.fetchObjects(Block.class,
-                                                       block -> block.getType() == type);
-    for (TCSResource<?> resource : resources) {
-      for (Block block : blocks) {
-        if (block.getMembers().contains(resource.getReference())) {
-          result.add(block);
-        }
-      }
-    }
-    return result;
+    Set<TCSResourceReference<?>> refs = resources.stream()
+        .map(resource -> resource.getReference())
+        .collect(Collectors.toSet());
+    return plantModelService.fetchBlocksContaining(refs).stream()
+        .filter(block -> block.getType() == type)
+        .collect(Collectors.toSet());
   }
 
   @Nullable
@@ -7,7 +7,6 @@
  */
 package org.opentcs.strategies.basic.scheduling.modules;
 
-import java.util.HashSet;
 import java.util.List;
 import static java.util.Objects.requireNonNull;
 import java.util.Set;
@@ -140,17 +139,12 @@ public class SingleVehicleBlockModule
 
   private Set<Block> filterBlocksContainingResources(Set<TCSResource<?>> resources,
                                                      Block.Type type) {
-    Set<Block> result = new HashSet<>();
-    Set<Block> blocks = plantModelService.fetchObjects(Block.class,
-                                                       block -> block.getType() == type);
-    for (TCSResource<?> resource : resources) {
-      for (Block block : blocks) {
-        if (block.getMembers().contains(resource.getReference())) {
-          result.add(block);
-        }
-      }
-    }
-    return result;
+    Set<TCSResourceReference<?>> refs = resources.stream()
+        .map(resource -> resource.getReference())
+        .collect(Collectors.toSet());
+    return plantModelService.fetchBlocksContaining(refs).stream()
+        .filter(block -> block.getType() == type)
+        .collect(Collectors.toSet());
   }
 
   private Set<TCSResource<?>> filterRelevantResources(Set<TCSResource<?>> resources,
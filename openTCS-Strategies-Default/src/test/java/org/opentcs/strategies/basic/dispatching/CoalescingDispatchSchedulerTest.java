@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import org.junit.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for {@link CoalescingDispatchScheduler}.
+ *
+ * @author agent
+ */
+public class CoalescingDispatchSchedulerTest {
+
+  private ScheduledExecutorService executor;
+
+  private AtomicInteger runs;
+
+  private List<Long> runStartTimes;
+
+  @Before
+  public void setUp() {
+    executor = Executors.newSingleThreadScheduledExecutor();
+    runs = new AtomicInteger();
+    runStartTimes = new CopyOnWriteArrayList<>();
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void mergeRequestsWhileRunIsPending()
+      throws Exception {
+    CoalescingDispatchScheduler scheduler
+        = new CoalescingDispatchScheduler(executor, runs::incrementAndGet, 0, 0);
+
+    // Block the executor so that all requests arrive while the first run is pending.
+    CountDownLatch blocker = new CountDownLatch(1);
+    executor.submit(() -> {
+      blocker.await();
+      return null;
+    });
+
+    for (int i = 0; i < 30; i++) {
+      scheduler.requestDispatch();
+    }
+    blocker.countDown();
+    awaitExecutorIdle();
+
+    assertThat(runs.get(), is(1));
+    assertThat(scheduler.getRequestCount(), is(30L));
+    assertThat(scheduler.getMergedRequestCount(), is(29L));
+    assertThat(scheduler.getRunCount(), is(1L));
+  }
+
+  @Test
+  public void runAgainForRequestsAfterRun()
+      throws Exception {
+    CoalescingDispatchScheduler scheduler
+        = new CoalescingDispatchScheduler(executor, runs::incrementAndGet, 0, 0);
+
+    scheduler.requestDispatch();
+    awaitExecutorIdle();
+    scheduler.requestDispatch();
+    awaitExecutorIdle();
+
+    assertThat(runs.get(), is(2));
+    assertThat(scheduler.getMergedRequestCount(), is(0L));
+  }
+
+  @Test
+  public void debounceRequestsWithinMaxLatency()
+      throws Exception {
+    CoalescingDispatchScheduler scheduler
+        = new CoalescingDispatchScheduler(executor, this::recordRun, 50, 200);
+
+    long firstRequestTime = System.nanoTime();
+    for (int i = 0; i < 10; i++) {
+      scheduler.requestDispatch();
+    }
+    Thread.sleep(400);
+
+    // The whole burst is served by a single run that waited for the debounce delay.
+    assertThat(runStartTimes.size(), is(1));
+    assertThat(runStartTimes.get(0) - firstRequestTime,
+               is(greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50))));
+    assertThat(scheduler.getMergedRequestCount(), is(9L));
+  }
+
+  @Test
+  public void keepMaxLatencyWithContinuousRequests()
+      throws Exception {
+    CoalescingDispatchScheduler scheduler
+        = new CoalescingDispatchScheduler(executor, this::recordRun, 50, 100);
+
+    // Keep requesting more often than the debounce delay for longer than the maximum latency.
+    long firstRequestTime = System.nanoTime();
+    long lastRequestTime = firstRequestTime;
+    for (int i = 0; i < 30; i++) {
+      lastRequestTime = System.nanoTime();
+      scheduler.requestDispatch();
+      Thread.sleep(10);
+    }
+
+    // The first run must not have been postponed until the requests stopped, but must have started
+    // within the maximum latency (plus some tolerance for scheduling) after the first request.
+    assertThat(runStartTimes.isEmpty(), is(false));
+    assertThat(runStartTimes.get(0), is(lessThan(lastRequestTime)));
+    assertThat(runStartTimes.get(0) - firstRequestTime,
+               is(lessThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100 + 100))));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectMaxLatencySmallerThanDebounceDelay() {
+    new CoalescingDispatchScheduler(executor, runs::incrementAndGet, 100, 50);
+  }
+
+  private void recordRun() {
+    runs.incrementAndGet();
+    runStartTimes.add(System.nanoTime());
+  }
+
+  private void awaitExecutorIdle()
+      throws Exception {
+    executor.submit(() -> null).get(1, TimeUnit.SECONDS);
+  }
+}
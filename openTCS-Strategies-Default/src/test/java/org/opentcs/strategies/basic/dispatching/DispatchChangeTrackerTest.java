@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching;
+
+import java.util.Arrays;
+import org.junit.*;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.TransportOrder;
+
+/**
+ * Unit tests for {@link DispatchChangeTracker}.
+ *
+ * @author agent
+ */
+public class DispatchChangeTrackerTest {
+
+  private DefaultDispatcherConfiguration configuration;
+
+  private DispatchChangeTracker tracker;
+
+  private Vehicle vehicle1;
+
+  private Vehicle vehicle2;
+
+  private TransportOrder order;
+
+  @Before
+  public void setUp() {
+    configuration = mock(DefaultDispatcherConfiguration.class);
+    when(configuration.incrementalDispatching()).thenReturn(true);
+    tracker = new DispatchChangeTracker(configuration);
+
+    vehicle1 = new Vehicle("vehicle1");
+    vehicle2 = new Vehicle("vehicle2");
+    order = new TransportOrder(
+        "order",
+        Arrays.asList(new DriveOrder(new DriveOrder.Destination(new Point("point").getReference())))
+    );
+  }
+
+  @Test
+  public void considerEverythingInFirstRun() {
+    tracker.beginRun();
+
+    assertTrue(tracker.isFullRun());
+    assertTrue(tracker.isAffected(vehicle1));
+    assertTrue(tracker.isAffected(order));
+  }
+
+  @Test
+  public void considerOnlyChangedObjectsInIncrementalRun() {
+    tracker.beginRun();
+    tracker.onEvent(new TCSObjectEvent(vehicle1.withEnergyLevel(50),
+                                       vehicle1,
+                                       TCSObjectEvent.Type.OBJECT_MODIFIED));
+    tracker.beginRun();
+
+    assertFalse(tracker.isFullRun());
+    assertTrue(tracker.isAffected(vehicle1));
+    assertFalse(tracker.isAffected(vehicle2));
+    assertFalse(tracker.isAffected(order));
+  }
+
+  @Test
+  public void forgetChangesAfterRun() {
+    tracker.beginRun();
+    tracker.markChanged(order);
+    tracker.beginRun();
+    assertTrue(tracker.isAffected(order));
+
+    tracker.beginRun();
+    assertFalse(tracker.isAffected(order));
+  }
+
+  @Test
+  public void considerEverythingAfterPathChange() {
+    Path path = new Path("path",
+                         new Point("point1").getReference(),
+                         new Point("point2").getReference());
+
+    tracker.beginRun();
+    tracker.onEvent(new TCSObjectEvent(path.withLocked(true),
+                                       path,
+                                       TCSObjectEvent.Type.OBJECT_MODIFIED));
+    tracker.beginRun();
+
+    assertTrue(tracker.isFullRun());
+    assertTrue(tracker.isAffected(vehicle2));
+  }
+
+  @Test
+  public void considerEverythingWithIncrementalDispatchingDisabled() {
+    when(configuration.incrementalDispatching()).thenReturn(false);
+
+    tracker.beginRun();
+    tracker.markChanged(vehicle1);
+    tracker.beginRun();
+
+    assertTrue(tracker.isFullRun());
+    assertTrue(tracker.isAffected(vehicle2));
+  }
+}
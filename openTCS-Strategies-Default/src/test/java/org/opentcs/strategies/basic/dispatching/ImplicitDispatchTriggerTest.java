@@ -13,6 +13,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import org.opentcs.components.kernel.Dispatcher;
 import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Triple;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderSequence;
 
@@ -64,6 +65,24 @@ public class ImplicitDispatchTriggerTest {
     verify(dispatcher, never()).dispatch();
   }
 
+  @Test
+  public void noDispatchWhenOnlyPrecisePositionAndOrientationAngleChanged() {
+    Vehicle vehicleOld = new Vehicle("someVehicle")
+        .withIntegrationLevel(Vehicle.IntegrationLevel.TO_BE_UTILIZED)
+        .withProcState(Vehicle.ProcState.IDLE)
+        .withState(Vehicle.State.IDLE)
+        .withPrecisePosition(new Triple(0, 0, 0))
+        .withOrientationAngle(0.0);
+    Vehicle vehicleNew = vehicleOld.withPrecisePosition(new Triple(100, 0, 0))
+        .withOrientationAngle(5.0);
+
+    listener.onEvent(new TCSObjectEvent(vehicleNew,
+                                        vehicleOld,
+                                        TCSObjectEvent.Type.OBJECT_MODIFIED));
+
+    verify(dispatcher, never()).dispatch();
+  }
+
   @Test
   public void dispatchWhenProcStateBecameIdle() {
     Vehicle vehicleOld = new Vehicle("someVehicle")
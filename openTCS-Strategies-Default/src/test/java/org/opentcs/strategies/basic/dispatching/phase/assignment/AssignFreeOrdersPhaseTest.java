@@ -0,0 +1,202 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+import org.junit.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.opentcs.components.kernel.Router;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.Route;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.dispatching.AssignmentCandidate;
+import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.DispatchChangeTracker;
+import org.opentcs.strategies.basic.dispatching.OrderReservationPool;
+import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeOrderCandidateComparator;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeOrderComparator;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeVehicleCandidateComparator;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeVehicleComparator;
+import org.opentcs.strategies.basic.dispatching.selection.candidates.CompositeAssignmentCandidateSelectionFilter;
+import org.opentcs.strategies.basic.dispatching.selection.orders.CompositeTransportOrderSelectionFilter;
+import org.opentcs.strategies.basic.dispatching.selection.orders.IsFreelyDispatchableToAnyVehicle;
+import org.opentcs.strategies.basic.dispatching.selection.vehicles.CompositeVehicleSelectionFilter;
+import org.opentcs.strategies.basic.dispatching.selection.vehicles.IsAvailableForAnyOrder;
+
+/**
+ * Unit tests for {@link AssignFreeOrdersPhase}.
+ *
+ * @author agent
+ */
+public class AssignFreeOrdersPhaseTest {
+
+  /**
+   * The key of the candidate comparator preferring lower routing costs.
+   */
+  private static final String BY_COSTS = "BY_COSTS";
+
+  private Point point;
+
+  private TCSObjectService objectService;
+
+  private Router router;
+
+  private DefaultDispatcherConfiguration configuration;
+
+  @Before
+  public void setUp() {
+    point = new Point("Point-01");
+    objectService = mock(TCSObjectService.class);
+    when(objectService.fetchObject(eq(Point.class), any(TCSObjectReference.class)))
+        .thenReturn(point);
+
+    router = mock(Router.class);
+    when(router.getRoute(any(Vehicle.class), any(Point.class), any(TransportOrder.class)))
+        .then(invocation -> route(invocation.getArgument(0), invocation.getArgument(2)));
+
+    configuration = mock(DefaultDispatcherConfiguration.class);
+    when(configuration.orderCandidatePriorities()).thenReturn(Arrays.asList(BY_COSTS));
+    when(configuration.vehicleCandidatePriorities()).thenReturn(Arrays.asList(BY_COSTS));
+    when(configuration.candidateComputationParallelism()).thenReturn(4);
+  }
+
+  @Test
+  public void assignSameOrdersInParallelAsSequentiallyWithFewerVehicles() {
+    assertSameAssignments(createVehicles(6), createOrders(10));
+  }
+
+  @Test
+  public void assignSameOrdersInParallelAsSequentiallyWithFewerOrders() {
+    assertSameAssignments(createVehicles(10), createOrders(6));
+  }
+
+  private void assertSameAssignments(Set<Vehicle> vehicles, Set<TransportOrder> orders) {
+    when(objectService.fetchObjects(eq(Vehicle.class), any(Predicate.class)))
+        .thenReturn(vehicles);
+    when(objectService.fetchObjects(eq(TransportOrder.class), any(Predicate.class)))
+        .thenReturn(orders);
+
+    List<String> sequentialAssignments = runPhase(false);
+    List<String> parallelAssignments = runPhase(true);
+
+    assertFalse(sequentialAssignments.isEmpty());
+    assertEquals(sequentialAssignments, parallelAssignments);
+  }
+
+  private List<String> runPhase(boolean parallel) {
+    when(configuration.parallelCandidateComputation()).thenReturn(parallel);
+
+    List<String> assignments = Collections.synchronizedList(new ArrayList<>());
+    TransportOrderUtil transportOrderUtil = mock(TransportOrderUtil.class);
+    doAnswer(invocation -> {
+      Vehicle vehicle = invocation.getArgument(0);
+      TransportOrder order = invocation.getArgument(1);
+      assignments.add(vehicle.getName() + " -> " + order.getName());
+      return null;
+    }).when(transportOrderUtil).assignTransportOrder(any(Vehicle.class),
+                                                     any(TransportOrder.class),
+                                                     any());
+
+    Map<String, Comparator<AssignmentCandidate>> candidateComparators = new HashMap<>();
+    candidateComparators.put(BY_COSTS,
+                             Comparator.comparingLong(AssignmentCandidate::getCompleteRoutingCosts));
+
+    DispatchChangeTracker changeTracker = new DispatchChangeTracker(configuration);
+    changeTracker.beginRun();
+
+    AssignFreeOrdersPhase phase = new AssignFreeOrdersPhase(
+        objectService,
+        router,
+        new OrderReservationPool(),
+        new CompositeVehicleComparator(configuration, new HashMap<>()),
+        new CompositeOrderComparator(configuration, new HashMap<>()),
+        new CompositeOrderCandidateComparator(configuration, candidateComparators),
+        new CompositeVehicleCandidateComparator(configuration, candidateComparators),
+        new CompositeVehicleSelectionFilter(new HashSet<>()),
+        mock(IsAvailableForAnyOrder.class),
+        mock(IsFreelyDispatchableToAnyVehicle.class),
+        new CompositeTransportOrderSelectionFilter(new HashSet<>()),
+        new CompositeAssignmentCandidateSelectionFilter(new HashSet<>()),
+        transportOrderUtil,
+        configuration,
+        changeTracker
+    );
+    phase.initialize();
+    try {
+      phase.run();
+    }
+    finally {
+      phase.terminate();
+    }
+
+    return assignments;
+  }
+
+  private Set<Vehicle> createVehicles(int count) {
+    Set<Vehicle> vehicles = new HashSet<>();
+    for (int i = 0; i < count; i++) {
+      vehicles.add(new Vehicle("Vehicle-" + i).withCurrentPosition(point.getReference()));
+    }
+    return vehicles;
+  }
+
+  private Set<TransportOrder> createOrders(int count) {
+    Set<TransportOrder> orders = new HashSet<>();
+    for (int i = 0; i < count; i++) {
+      orders.add(new TransportOrder(
+          "TOrder-" + i,
+          Arrays.asList(new DriveOrder(new DriveOrder.Destination(point.getReference())))
+      ));
+    }
+    return orders;
+  }
+
+  /**
+   * Returns a route for the given vehicle and order with costs depending only on them, after a
+   * random delay to vary the order in which parallel computations complete.
+   */
+  private Optional<List<DriveOrder>> route(Vehicle vehicle, TransportOrder order)
+      throws InterruptedException {
+    Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+
+    long costs = Math.floorMod(vehicle.getName().hashCode() * 31 + order.getName().hashCode(),
+                               97);
+    if (costs % 10 == 0) {
+      // Leave some orders unroutable for some vehicles.
+      return Optional.empty();
+    }
+
+    Route route = new Route(
+        Arrays.asList(new Route.Step(null, null, point, Vehicle.Orientation.UNDEFINED, 0)),
+        costs
+    );
+    return Optional.of(Arrays.asList(order.getAllDriveOrders().get(0).withRoute(route)));
+  }
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.peripherals.dispatching;
+
+import java.time.Instant;
+import java.util.Arrays;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.LocationType;
+import org.opentcs.data.peripherals.PeripheralJob;
+import org.opentcs.data.peripherals.PeripheralOperation;
+import org.opentcs.data.peripherals.PeripheralOperation.ExecutionTrigger;
+
+/**
+ * Unit tests for {@link PeripheralJobQueues}.
+ *
+ * @author agent
+ */
+public class PeripheralJobQueuesTest {
+
+  private PeripheralJobQueues jobQueues;
+
+  private Location location1;
+
+  private Location location2;
+
+  @BeforeEach
+  public void setUp() {
+    jobQueues = new PeripheralJobQueues();
+    LocationType locationType = new LocationType("LocationType-01");
+    location1 = new Location("Location-01", locationType.getReference());
+    location2 = new Location("Location-02", locationType.getReference());
+  }
+
+  @Test
+  public void queueJobsPerLocationOrderedByAge() {
+    PeripheralJob job1 = createJob("Job-01", location1, 3000);
+    PeripheralJob job2 = createJob("Job-02", location1, 1000);
+    PeripheralJob job3 = createJob("Job-03", location2, 2000);
+
+    jobQueues.reset(Arrays.asList(job1, job2, job3));
+
+    assertThat(jobQueues.getJobs(location1), contains(job2, job1));
+    assertThat(jobQueues.getJobs(location2), contains(job3));
+  }
+
+  @Test
+  public void removeJobsNoLongerToBeProcessed() {
+    PeripheralJob job1 = createJob("Job-01", location1, 1000);
+    PeripheralJob job2 = createJob("Job-02", location1, 2000);
+    jobQueues.reset(Arrays.asList(job1, job2));
+
+    PeripheralJob assignedJob = job1.withState(PeripheralJob.State.BEING_PROCESSED);
+    jobQueues.onEvent(new TCSObjectEvent(assignedJob, job1, TCSObjectEvent.Type.OBJECT_MODIFIED));
+    assertThat(jobQueues.getJobs(location1), contains(job2));
+
+    jobQueues.onEvent(new TCSObjectEvent(null, job2, TCSObjectEvent.Type.OBJECT_REMOVED));
+    assertThat(jobQueues.getJobs(location1), is(empty()));
+    assertThat(jobQueues.hasJobs(location1), is(false));
+  }
+
+  @Test
+  public void replacePreviousStateOfModifiedJob() {
+    PeripheralJob job = createJob("Job-01", location1, 1000);
+    jobQueues.reset(Arrays.asList(job));
+
+    PeripheralJob modifiedJob = job.withProperty("key", "value");
+    jobQueues.onEvent(new TCSObjectEvent(modifiedJob, job, TCSObjectEvent.Type.OBJECT_MODIFIED));
+
+    assertThat(jobQueues.getJobs(location1).size(), is(1));
+    assertThat(jobQueues.getJobs(location1).get(0).getProperty("key"), is("value"));
+  }
+
+  @Test
+  public void reportChangedLocationsWithJobsOnlyOnce() {
+    jobQueues.reset(Arrays.asList(createJob("Job-01", location1, 1000)));
+
+    assertThat(jobQueues.takeChangedLocationsWithJobs(), contains(location1.getName()));
+    assertThat(jobQueues.takeChangedLocationsWithJobs(), is(empty()));
+
+    // Locations without jobs are not reported.
+    jobQueues.onEvent(new TCSObjectEvent(location1,
+                                         location1,
+                                         TCSObjectEvent.Type.OBJECT_MODIFIED));
+    jobQueues.onEvent(new TCSObjectEvent(location2,
+                                         location2,
+                                         TCSObjectEvent.Type.OBJECT_MODIFIED));
+    assertThat(jobQueues.takeChangedLocationsWithJobs(), contains(location1.getName()));
+
+    PeripheralJob job2 = createJob("Job-02", location2, 2000);
+    jobQueues.onEvent(new TCSObjectEvent(job2, null, TCSObjectEvent.Type.OBJECT_CREATED));
+    jobQueues.markChanged(location1);
+    assertThat(jobQueues.takeChangedLocationsWithJobs(),
+               containsInAnyOrder(location1.getName(), location2.getName()));
+  }
+
+  private PeripheralJob createJob(String name, Location location, long creationTime) {
+    PeripheralOperation operation = new PeripheralOperation(location.getReference(),
+                                                            "Operation",
+                                                            ExecutionTrigger.BEFORE_MOVEMENT,
+                                                            false);
+    return new PeripheralJob(name, "Token", operation)
+        .withCreationTime(Instant.ofEpochMilli(creationTime));
+  }
+}
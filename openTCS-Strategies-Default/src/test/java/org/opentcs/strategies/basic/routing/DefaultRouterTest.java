@@ -7,9 +7,18 @@
  */
 package org.opentcs.strategies.basic.routing;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.*;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -23,8 +32,10 @@ import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.routing.GroupMapper;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
 
 /**
  * Test cases for the {@link DefaultRouter}.
@@ -130,6 +141,63 @@ public class DefaultRouterTest {
     verify(builder, times(15)).createPointRouter(any());
   }
 
+  @Test
+  public void shouldOnlyUseCompletePointRoutersDuringTopologyChanges()
+      throws Exception {
+    Point sourcePoint = new Point("Some source point");
+    Point destinationPoint = new Point("Some destination point");
+    // The topology version the point routers are created for.
+    AtomicLong topologyVersion = new AtomicLong();
+    // The latest topology version for which a topology change has been completed.
+    AtomicLong completedTopologyVersion = new AtomicLong();
+    when(builder.createPointRouter(any())).then(invocation -> {
+      long version = topologyVersion.get();
+      // Give other threads a chance to see a router map that is being rebuilt.
+      Thread.sleep(1);
+      return new VersionPointRouter(version);
+    });
+    Router concurrentRouter
+        = new DefaultRouter(objectService, builder, routingGroupMapper, configuration);
+    concurrentRouter.initialize();
+
+    Vehicle vehicle1 = createVehicle("Vehicle-001", 1);
+    Vehicle vehicle2 = createVehicle("Vehicle-002", 2);
+    AtomicBoolean done = new AtomicBoolean();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<?>> queries = new ArrayList<>();
+      for (Vehicle vehicle : new Vehicle[]{vehicle1, vehicle2, vehicle1}) {
+        queries.add(executor.submit((Callable<Void>) () -> {
+          while (!done.get()) {
+            long minVersion = completedTopologyVersion.get();
+            long costs = concurrentRouter.getCosts(vehicle, sourcePoint, destinationPoint);
+            // The point router must be complete and not be older than the last completed
+            // topology change.
+            assertTrue(costs > minVersion);
+          }
+          return null;
+        }));
+      }
+
+      for (int i = 0; i < 50; i++) {
+        topologyVersion.incrementAndGet();
+        concurrentRouter.topologyChanged();
+        completedTopologyVersion.set(topologyVersion.get());
+        Thread.sleep(1);
+      }
+
+      done.set(true);
+      for (Future<?> query : queries) {
+        // Propagates any assertion error or exception from the queries.
+        query.get();
+      }
+    }
+    finally {
+      done.set(true);
+      executor.shutdownNow();
+    }
+  }
+
   /**
    * Creates a vehicle with a unique id, the given name and the given routing group.
    * If the routing group is negative no property will be added.
@@ -188,4 +256,28 @@ public class DefaultRouterTest {
   private boolean filterByName(String name, TCSObject<?> object) {
     return name.equals(object.getName());
   }
+
+  /**
+   * A point router reporting the topology version it was created for, plus one, as its costs.
+   */
+  private static class VersionPointRouter
+      implements PointRouter {
+
+    private final long costs;
+
+    VersionPointRouter(long topologyVersion) {
+      this.costs = topologyVersion + 1;
+    }
+
+    @Override
+    public List<Route.Step> getRouteSteps(Point srcPoint, Point destPoint) {
+      return new ArrayList<>();
+    }
+
+    @Override
+    public long getCosts(TCSObjectReference<Point> srcPointRef,
+                         TCSObjectReference<Point> destPointRef) {
+      return costs;
+    }
+  }
 }
@@ -0,0 +1,165 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.csr;
+
+import java.util.ArrayList;
+import java.util.List;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
+import org.junit.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.strategies.basic.routing.PointRouter;
+import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorComposite;
+import org.opentcs.strategies.basic.routing.jgrapht.DefaultModelGraphMapper;
+import org.opentcs.strategies.basic.routing.jgrapht.ShortestPathConfiguration;
+import org.opentcs.strategies.basic.routing.jgrapht.ShortestPathPointRouter;
+
+/**
+ * Compares results of the {@link CsrPointRouter} with those of the JGraphT-based
+ * {@link ShortestPathPointRouter}.
+ *
+ * @author agent
+ */
+public class CsrPointRouterTest {
+
+  private static final int GRID_SIZE = 4;
+
+  private List<Point> points;
+
+  private List<Path> paths;
+
+  private Vehicle vehicle;
+
+  private EdgeEvaluatorComposite evaluator;
+
+  private ShortestPathPointRouter referenceRouter;
+
+  @Before
+  public void setUp() {
+    points = new ArrayList<>();
+    paths = new ArrayList<>();
+    for (int y = 0; y < GRID_SIZE; y++) {
+      for (int x = 0; x < GRID_SIZE; x++) {
+        points.add(new Point("Point-" + x + "-" + y));
+      }
+    }
+    // Use distinct powers of two as path lengths, so all shortest routes are unique.
+    for (int y = 0; y < GRID_SIZE; y++) {
+      for (int x = 0; x < GRID_SIZE; x++) {
+        if (x + 1 < GRID_SIZE) {
+          addPath(pointAt(x, y), pointAt(x + 1, y), (x + y) % 2 == 0);
+        }
+        if (y + 1 < GRID_SIZE) {
+          addPath(pointAt(x, y), pointAt(x, y + 1), (x + y) % 3 != 0);
+        }
+      }
+    }
+
+    vehicle = new Vehicle("someVehicle");
+
+    evaluator = mock(EdgeEvaluatorComposite.class);
+    when(evaluator.computeWeight(any(Edge.class), any(Vehicle.class)))
+        .thenAnswer(invocation -> {
+          Edge edge = invocation.getArgument(0);
+          return (double) edge.getPath().getLength();
+        });
+
+    ShortestPathConfiguration configuration = mock(ShortestPathConfiguration.class);
+    when(configuration.algorithm()).thenReturn(ShortestPathConfiguration.Algorithm.DIJKSTRA);
+    referenceRouter = new ShortestPathPointRouter(
+        new DijkstraShortestPath<>(new DefaultModelGraphMapper(evaluator, configuration)
+            .translateModel(points, paths, vehicle)),
+        points
+    );
+  }
+
+  @Test
+  public void returnZeroCostsAndEmptyRouteIfDestinationIsSource() {
+    CsrPointRouter router = createRouter(0, false);
+
+    assertEquals(0, router.getCosts(points.get(0).getReference(), points.get(0).getReference()));
+    assertThat(router.getRouteSteps(points.get(0), points.get(0)), is(empty()));
+  }
+
+  @Test
+  public void returnInfiniteCostsAndNullIfNoRouteExists() {
+    Point isolatedPoint = new Point("Isolated");
+    points.add(isolatedPoint);
+    CsrPointRouter router = createRouter(0, false);
+
+    assertEquals(PointRouter.INFINITE_COSTS,
+                 router.getCosts(points.get(0).getReference(), isolatedPoint.getReference()));
+    assertNull(router.getRouteSteps(points.get(0), isolatedPoint));
+  }
+
+  @Test
+  public void returnSameResultsAsReferenceRouter() {
+    assertSameResultsAsReferenceRouter(createRouter(0, false));
+  }
+
+  @Test
+  public void returnSameResultsAsReferenceRouterWithCachedPathTrees() {
+    assertSameResultsAsReferenceRouter(createRouter(3, false));
+  }
+
+  @Test
+  public void returnSameResultsAsReferenceRouterWithPrecomputedCosts() {
+    assertSameResultsAsReferenceRouter(createRouter(0, true));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void refuseToPrecomputeCostsForTooManyPoints() {
+    points.clear();
+    paths.clear();
+    for (int i = 0; i <= CsrPointRouter.MAX_COST_TABLE_POINTS; i++) {
+      points.add(new Point("Point-" + i));
+    }
+
+    createRouter(0, true);
+  }
+
+  private void assertSameResultsAsReferenceRouter(CsrPointRouter router) {
+    for (Point srcPoint : points) {
+      for (Point destPoint : points) {
+        assertEquals(referenceRouter.getCosts(srcPoint, destPoint),
+                     router.getCosts(srcPoint, destPoint));
+        assertEquals(referenceRouter.getRouteSteps(srcPoint, destPoint),
+                     router.getRouteSteps(srcPoint, destPoint));
+      }
+    }
+  }
+
+  private CsrPointRouter createRouter(int pathTreeCacheSize, boolean precomputeCosts) {
+    return new CsrPointRouter(new CsrGraphMapper(evaluator).translateModel(points, paths, vehicle),
+                              pathTreeCacheSize,
+                              precomputeCosts);
+  }
+
+  private Point pointAt(int x, int y) {
+    return points.get(y * GRID_SIZE + x);
+  }
+
+  private void addPath(Point srcPoint, Point destPoint, boolean bidirectional) {
+    paths.add(new Path(srcPoint.getName() + "--" + destPoint.getName(),
+                       srcPoint.getReference(),
+                       destPoint.getReference())
+        .withLength(1L << paths.size())
+        .withMaxVelocity(1000)
+        .withMaxReverseVelocity(bidirectional ? 1000 : 0));
+  }
+}
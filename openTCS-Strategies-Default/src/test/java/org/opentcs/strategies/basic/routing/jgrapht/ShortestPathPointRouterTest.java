@@ -7,6 +7,7 @@
  */
 package org.opentcs.strategies.basic.routing.jgrapht;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -43,6 +44,10 @@ public class ShortestPathPointRouterTest {
 
   private ShortestPathPointRouter pointRouter;
 
+  private ShortestPathPointRouter cachingPointRouter;
+
+  private ShortestPathPointRouter precomputingPointRouter;
+
   @Before
   public void setUp() {
     pointA = new Point("A");
@@ -64,6 +69,16 @@ public class ShortestPathPointRouterTest {
 
     pointRouter = new ShortestPathPointRouter(new DijkstraShortestPath<>(graph),
                                               new HashSet<>(Arrays.asList(pointA, pointB, pointC)));
+    cachingPointRouter
+        = new ShortestPathPointRouter(new DijkstraShortestPath<>(graph),
+                                      new HashSet<>(Arrays.asList(pointA, pointB, pointC)),
+                                      1,
+                                      false);
+    precomputingPointRouter
+        = new ShortestPathPointRouter(new DijkstraShortestPath<>(graph),
+                                      new HashSet<>(Arrays.asList(pointA, pointB, pointC)),
+                                      0,
+                                      true);
   }
 
   @Test
@@ -102,4 +117,53 @@ public class ShortestPathPointRouterTest {
     assertThat(steps, is(not(empty())));
   }
 
+  @Test
+  public void returnSameCostsWithCachedPathTrees() {
+    assertEquals(0, cachingPointRouter.getCosts(pointA.getReference(), pointA.getReference()));
+    assertEquals(1234, cachingPointRouter.getCosts(pointA.getReference(), pointC.getReference()));
+    assertEquals(PointRouter.INFINITE_COSTS,
+                 cachingPointRouter.getCosts(pointA.getReference(), pointB.getReference()));
+    assertEquals(PointRouter.INFINITE_COSTS,
+                 cachingPointRouter.getCosts(pointC.getReference(), pointA.getReference()));
+    // Evicts the tree for C, which should then be recomputed.
+    assertEquals(1234, cachingPointRouter.getCosts(pointA.getReference(), pointC.getReference()));
+    assertEquals(PointRouter.INFINITE_COSTS,
+                 cachingPointRouter.getCosts(pointC.getReference(), pointA.getReference()));
+  }
+
+  @Test
+  public void returnSameStepsWithCachedPathTrees() {
+    assertThat(cachingPointRouter.getRouteSteps(pointA, pointA), is(empty()));
+    assertNull(cachingPointRouter.getRouteSteps(pointA, pointB));
+    assertEquals(pointRouter.getRouteSteps(pointA, pointC),
+                 cachingPointRouter.getRouteSteps(pointA, pointC));
+  }
+
+  @Test
+  public void returnSameCostsWithPrecomputedCosts() {
+    assertEquals(0,
+                 precomputingPointRouter.getCosts(pointA.getReference(), pointA.getReference()));
+    assertEquals(1234,
+                 precomputingPointRouter.getCosts(pointA.getReference(), pointC.getReference()));
+    assertEquals(PointRouter.INFINITE_COSTS,
+                 precomputingPointRouter.getCosts(pointA.getReference(), pointB.getReference()));
+    assertEquals(PointRouter.INFINITE_COSTS,
+                 precomputingPointRouter.getCosts(pointC.getReference(), pointA.getReference()));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void refuseToPrecomputeCostsForTooManyPoints() {
+    List<Point> points = new ArrayList<>();
+    for (int i = 0; i <= ShortestPathPointRouter.MAX_COST_TABLE_POINTS; i++) {
+      points.add(new Point("Point-" + i));
+    }
+
+    Graph<String, Edge> graph = new DirectedWeightedMultigraph<>(Edge.class);
+    for (Point point : points) {
+      graph.addVertex(point.getName());
+    }
+
+    new ShortestPathPointRouter(new DijkstraShortestPath<>(graph), points, 0, true);
+  }
+
 }
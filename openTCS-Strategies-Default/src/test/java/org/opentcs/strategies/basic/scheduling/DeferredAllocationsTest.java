@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.scheduling;
+
+import java.util.Set;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.Scheduler;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.TCSResource;
+
+/**
+ * Unit tests for {@link DeferredAllocations}.
+ *
+ * @author agent
+ */
+public class DeferredAllocationsTest {
+
+  private DeferredAllocations deferredAllocations;
+
+  private Scheduler.Client client1;
+
+  private Scheduler.Client client2;
+
+  private Point point1;
+
+  private Point point2;
+
+  private Point point3;
+
+  @BeforeEach
+  public void setUp() {
+    deferredAllocations = new DeferredAllocations();
+    client1 = new TestClient("client1");
+    client2 = new TestClient("client2");
+    point1 = new Point("point1");
+    point2 = new Point("point2");
+    point3 = new Point("point3");
+  }
+
+  @Test
+  public void takeOnlyAllocationsAffectedByReleasedResources() {
+    AllocatorCommand.Allocate allocate1 = allocate(client1, point1);
+    AllocatorCommand.Allocate allocate2 = allocate(client2, point2);
+    deferredAllocations.add(allocate1, Set.of(point1));
+    deferredAllocations.add(allocate2, Set.of(point2));
+
+    assertThat(deferredAllocations.takeAffectedBy(Set.of(point3)), is(empty()));
+    assertThat(deferredAllocations.takeAffectedBy(Set.of(point2)), contains(allocate2));
+    assertThat(deferredAllocations.size(), is(1));
+    assertThat(deferredAllocations.takeAffectedBy(Set.of(point2)), is(empty()));
+  }
+
+  @Test
+  public void takeAllocationsWaitingForBlockMembers() {
+    AllocatorCommand.Allocate allocate1 = allocate(client1, point1);
+    deferredAllocations.add(allocate1, Set.of(point1, point2));
+
+    assertThat(deferredAllocations.takeAffectedBy(Set.of(point2)), contains(allocate1));
+  }
+
+  @Test
+  public void takeAllocationsOrderedByTimeFirstDeferred() {
+    AllocatorCommand.Allocate allocate1 = allocate(client1, point1);
+    AllocatorCommand.Allocate allocate2 = allocate(client2, point1);
+    deferredAllocations.add(allocate1, Set.of(point1));
+    deferredAllocations.add(allocate2, Set.of(point1, point2));
+
+    assertThat(deferredAllocations.takeAll(), contains(allocate1, allocate2));
+
+    // Deferring them again in reverse order should not change the order.
+    deferredAllocations.add(allocate2, Set.of(point1, point2));
+    deferredAllocations.add(allocate1, Set.of(point1));
+
+    assertThat(deferredAllocations.takeAffectedBy(Set.of(point1, point2)),
+               contains(allocate1, allocate2));
+  }
+
+  @Test
+  public void removeAllocationsMatchingPredicate() {
+    AllocatorCommand.Allocate allocate1 = allocate(client1, point1);
+    AllocatorCommand.Allocate allocate2 = allocate(client2, point1);
+    deferredAllocations.add(allocate1, Set.of(point1));
+    deferredAllocations.add(allocate2, Set.of(point1));
+
+    deferredAllocations.removeIf(allocate -> client1.equals(allocate.getClient()));
+
+    assertThat(deferredAllocations.takeAffectedBy(Set.of(point1)), contains(allocate2));
+  }
+
+  @Test
+  public void recordRetryMetrics() {
+    AllocatorCommand.Allocate allocate1 = allocate(client1, point1);
+    AllocatorCommand.Allocate allocate2 = allocate(client2, point2);
+    deferredAllocations.add(allocate1, Set.of(point1));
+    deferredAllocations.add(allocate2, Set.of(point2));
+
+    deferredAllocations.takeAll();
+    deferredAllocations.granted(allocate1);
+    deferredAllocations.add(allocate2, Set.of(point2));
+    // Allocations granted without having been deferred do not count.
+    deferredAllocations.granted(allocate(client1, point3));
+
+    assertThat(deferredAllocations.getRetriedCount(), is(2L));
+    assertThat(deferredAllocations.getGrantedAfterRetryCount(), is(1L));
+    assertThat(deferredAllocations.getRetryEfficiency(), is(0.5));
+  }
+
+  private AllocatorCommand.Allocate allocate(Scheduler.Client client, Point point) {
+    return new AllocatorCommand.Allocate(client, Set.<TCSResource<?>>of(point));
+  }
+
+  private static class TestClient
+      implements Scheduler.Client {
+
+    private final String id;
+
+    TestClient(String id) {
+      this.id = id;
+    }
+
+    @Override
+    public String getId() {
+      return id;
+    }
+
+    @Override
+    public boolean allocationSuccessful(Set<TCSResource<?>> resources) {
+      return false;
+    }
+
+    @Override
+    public void allocationFailed(Set<TCSResource<?>> resources) {
+    }
+  }
+}
@@ -7,15 +7,27 @@
  */
 package org.opentcs.strategies.basic.scheduling;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.collection.IsMapWithSize.anEmptyMap;
 import org.junit.jupiter.api.*;
 import org.opentcs.components.kernel.Scheduler;
@@ -125,15 +137,118 @@ public class ReservationPoolTest {
     assertThat(reservationPool.getAllocations(), is(anEmptyMap()));
   }
 
+  @Test
+  public void reflectPartiallyFreedResources() {
+    Point point1 = new Point("point1");
+    Point point2 = new Point("point2");
+    reservationPool.getReservationEntry(point1).allocate(client);
+    reservationPool.getReservationEntry(point2).allocate(client);
+    reservationPool.getReservationEntry(point2).allocate(client);
+
+    reservationPool.free(client, Set.of(point1, point2));
+
+    assertThat(reservationPool.allocatedResources(client), contains(point2));
+    assertThat(reservationPool.getAllocations().get(client.getId()), contains(point2));
+  }
+
+  @Test
+  public void reuseAllocationsSnapshotWhileAllocationsUnchanged() {
+    reservationPool.getReservationEntry(new Point("point1")).allocate(client);
+
+    Map<String, Set<TCSResource<?>>> snapshot = reservationPool.getAllocations();
+
+    assertThat(reservationPool.getAllocations(), is(sameInstance(snapshot)));
+
+    reservationPool.getReservationEntry(new Point("point2")).allocate(client);
+
+    assertThat(reservationPool.getAllocations(), is(not(sameInstance(snapshot))));
+    assertThat(reservationPool.getAllocations().get(client.getId()), hasSize(2));
+    assertThat(snapshot.get(client.getId()), hasSize(1));
+  }
+
+  @Test
+  public void keepAllocationsConsistentWithManyConcurrentClients()
+      throws Exception {
+    // Simulate many vehicles allocating and freeing resources concurrently, synchronizing access to
+    // the pool like the scheduler does.
+    int clientCount = 200;
+    int resourceCount = 1000;
+    List<TCSResource<?>> resources = new ArrayList<>();
+    for (int i = 0; i < resourceCount; i++) {
+      resources.add(new Point("point" + i));
+    }
+    List<Scheduler.Client> clients = new ArrayList<>();
+    for (int i = 0; i < clientCount; i++) {
+      clients.add(new TestClient("client" + i));
+    }
+    Object syncObject = new Object();
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (Scheduler.Client curClient : clients) {
+        futures.add(executor.submit(() -> {
+          Random random = new Random(curClient.getId().hashCode());
+          for (int i = 0; i < 500; i++) {
+            TCSResource<?> resource = resources.get(random.nextInt(resourceCount));
+            synchronized (syncObject) {
+              if (i % 50 == 25) {
+                reservationPool.freeAll(curClient);
+              }
+              else if (reservationPool.getReservationEntry(resource).isAllocatedBy(curClient)) {
+                reservationPool.free(curClient, Set.of(resource));
+              }
+              else if (reservationPool.getReservationEntry(resource).isFree()) {
+                reservationPool.getReservationEntry(resource).allocate(curClient);
+              }
+              if (i % 10 == 0) {
+                reservationPool.getAllocations();
+              }
+            }
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    }
+    finally {
+      executor.shutdownNow();
+    }
+
+    Map<String, Set<TCSResource<?>>> expected = new HashMap<>();
+    for (TCSResource<?> resource : resources) {
+      Scheduler.Client allocatingClient = reservationPool.getReservationEntry(resource).getClient();
+      if (allocatingClient != null) {
+        expected.computeIfAbsent(allocatingClient.getId(), id -> new HashSet<>()).add(resource);
+      }
+    }
+    for (Scheduler.Client curClient : clients) {
+      assertThat(reservationPool.allocatedResources(curClient),
+                 is(expected.getOrDefault(curClient.getId(), Set.of())));
+    }
+    assertThat(reservationPool.getAllocations(), is(expected));
+  }
+
   /**
    * A dummy client for cases in which we need to provide a client but do not have a real one.
    */
   private static class TestClient
       implements Scheduler.Client {
 
+    private final String id;
+
+    TestClient() {
+      this(TestClient.class.getName());
+    }
+
+    TestClient(String id) {
+      this.id = id;
+    }
+
     @Override
     public String getId() {
-      return getClass().getName();
+      return id;
     }
 
     @Override
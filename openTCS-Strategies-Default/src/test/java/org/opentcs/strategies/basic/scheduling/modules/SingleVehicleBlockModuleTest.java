@@ -14,7 +14,6 @@ import org.junit.*;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import org.opentcs.components.kernel.Scheduler;
@@ -60,7 +59,7 @@ public class SingleVehicleBlockModuleTest {
     Scheduler.Client client = new SampleClient();
     ModelData model = new ModelData();
 
-    when(plantModelService.fetchObjects(eq(Block.class), any())).thenReturn(new HashSet<>());
+    when(plantModelService.fetchBlocksContaining(any())).thenReturn(new HashSet<>());
     assertTrue(module.mayAllocate(client, model.resourcesToAllocate));
   }
 
@@ -69,7 +68,7 @@ public class SingleVehicleBlockModuleTest {
     Scheduler.Client client = new SampleClient();
     ModelData model = new ModelData();
 
-    when(plantModelService.fetchObjects(eq(Block.class), any()))
+    when(plantModelService.fetchBlocksContaining(any()))
         .thenReturn(new HashSet<>(Arrays.asList(model.getBlock())));
     when(plantModelService.expandResources(any())).thenReturn(model.getBlockResources());
     when(reservationPool.resourcesAvailableForUser(model.getBlockResources(), client))
@@ -82,7 +81,7 @@ public class SingleVehicleBlockModuleTest {
     Scheduler.Client client = new SampleClient();
     ModelData model = new ModelData();
 
-    when(plantModelService.fetchObjects(eq(Block.class), any()))
+    when(plantModelService.fetchBlocksContaining(any()))
         .thenReturn(new HashSet<>(Arrays.asList(model.getBlock())));
     when(plantModelService.expandResources(any())).thenReturn(model.getBlockResources());
     when(reservationPool.resourcesAvailableForUser(model.getBlockResources(), client))